@@ -31,6 +31,7 @@ import org.jaudiotagger.tag.reference.ID3V2Version;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.RandomAccessFile;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -197,7 +198,7 @@ public class AudioFile {
      */
     public String toString() {
         return "AudioFile " + getFile().getAbsolutePath()
-                + "  --------\n" + audioHeader.toString() + "\n" + ((tag == null) ? "" : tag.toString()) + "\n-------------------";
+                + "  --------\n" + ((audioHeader == null) ? "" : audioHeader.toString()) + "\n" + ((tag == null) ? "" : tag.toString()) + "\n-------------------";
     }
 
     /**
@@ -207,7 +208,9 @@ public class AudioFile {
      * @throws FileNotFoundException if file not found
      */
     public void checkFileExists(File file) throws FileNotFoundException {
-        logger.config("Reading file:" + "path" + file.getPath() + ":abs:" + file.getAbsolutePath());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Reading file:" + "path" + file.getPath() + ":abs:" + file.getAbsolutePath());
+        }
         if (!file.exists()) {
             logger.severe("Unable to find:" + file.getPath());
             throw new FileNotFoundException(ErrorMessage.UNABLE_TO_FIND_FILE.getMsg(file.getPath()));
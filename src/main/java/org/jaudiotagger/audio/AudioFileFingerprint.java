@@ -0,0 +1,236 @@
+package org.jaudiotagger.audio;
+
+import org.jaudiotagger.audio.generic.TagRegionLocator;
+import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.utils.ByteBufferAllocator;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Identifies the state of the metadata of a file so a later scan can tell whether it needs to be read again, without
+ * parsing it.
+ *
+ * A fingerprint holds the size and modification time of the file together with the position of each region holding
+ * metadata, as found by {@link TagRegionLocator}, and a hash of the bytes of those regions only. If the size and
+ * modification time are unchanged the file is assumed to be unchanged without reading it at all. Otherwise only the
+ * headers leading to the metadata and the metadata itself are read to compute a new fingerprint, and the file is
+ * considered changed if the metadata bytes or the amount of other data, mostly audio, are different.
+ *
+ * @see AudioFileIO#getFingerprint(java.io.File)
+ * @see AudioFileIO#hasChanged(java.io.File, AudioFileFingerprint)
+ */
+public class AudioFileFingerprint {
+
+    private static final String HASH_ALGORITHM = "MD5";
+    private static final int HASH_BUFFER_SIZE = 16 * 1024;
+
+    /**
+     * Version of the format written by {@link #write(DataOutput)}
+     */
+    private static final int SERIAL_VERSION = 1;
+
+    private final String ext;
+    private final long size;
+    private final long lastModified;
+    private final long[] tagRegions;
+    private final byte[] tagHash;
+
+    /**
+     * @param ext          extension of the format of the file
+     * @param size         size of the file in bytes
+     * @param lastModified modification time of the file in milliseconds
+     * @param tagRegions   offset and length of each region holding metadata, in pairs
+     * @param tagHash      hash of the bytes of the regions
+     */
+    public AudioFileFingerprint(String ext, long size, long lastModified, long[] tagRegions, byte[] tagHash) {
+        this.ext = ext;
+        this.size = size;
+        this.lastModified = lastModified;
+        this.tagRegions = tagRegions.clone();
+        this.tagHash = tagHash.clone();
+    }
+
+    /**
+     * Compute the fingerprint of a file, reading only its metadata and the headers leading to it
+     *
+     * @param fc           the file, its position is not changed
+     * @param ext          extension of the format of the file
+     * @param lastModified modification time of the file in milliseconds
+     * @return the fingerprint
+     * @throws IOException if the file cannot be read
+     */
+    public static AudioFileFingerprint compute(FileChannel fc, String ext, long lastModified) throws IOException {
+        long[] regions = TagRegionLocator.locate(fc, ext);
+        MessageDigest digest = newDigest();
+        ByteBufferAllocator allocator = TagOptionSingleton.getInstance().getByteBufferAllocator();
+        ByteBuffer buffer = allocator.acquire(HASH_BUFFER_SIZE, false);
+        try {
+            for (int i = 0; i < regions.length; i += 2) {
+                long position = regions[i];
+                long end = regions[i] + regions[i + 1];
+                while (position < end) {
+                    buffer.clear();
+                    buffer.limit((int) Math.min(HASH_BUFFER_SIZE, end - position));
+                    int n = fc.read(buffer, position);
+                    if (n < 0) {
+                        throw new IOException("Unexpected end of file at:" + position);
+                    }
+                    digest.update(buffer.array(), 0, n);
+                    position += n;
+                }
+            }
+        } finally {
+            allocator.release(buffer);
+        }
+        return new AudioFileFingerprint(ext, fc.size(), lastModified, regions, digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            //Every Java platform is required to support MD5
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String getExt() {
+        return ext;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return offset and length of each region holding metadata, in pairs
+     */
+    public long[] getTagRegions() {
+        return tagRegions.clone();
+    }
+
+    /**
+     * @return hash of the bytes of the regions holding metadata
+     */
+    public byte[] getTagHash() {
+        return tagHash.clone();
+    }
+
+    /**
+     * @return total length in bytes of the regions holding metadata
+     */
+    public long getTagLength() {
+        long length = 0;
+        for (int i = 1; i < tagRegions.length; i += 2) {
+            length += tagRegions[i];
+        }
+        return length;
+    }
+
+    /**
+     * @return true if the file still has the size and modification time it had when this fingerprint was computed, in
+     * which case it is assumed to be unchanged
+     */
+    public boolean isUnmodified(long size, long lastModified) {
+        return this.size == size && this.lastModified == lastModified;
+    }
+
+    /**
+     * Compare with the fingerprint of the same file computed earlier
+     *
+     * @param previous the earlier fingerprint
+     * @return true if the metadata, or the length of the rest of the file, has changed since the earlier fingerprint
+     */
+    public boolean hasChanged(AudioFileFingerprint previous) {
+        return !ext.equals(previous.ext)
+                || size - getTagLength() != previous.size - previous.getTagLength()
+                || !MessageDigest.isEqual(tagHash, previous.tagHash);
+    }
+
+    /**
+     * Write the fingerprint so it can be stored between scans
+     *
+     * @see #read(DataInput)
+     */
+    public void write(DataOutput out) throws IOException {
+        out.writeByte(SERIAL_VERSION);
+        out.writeUTF(ext);
+        out.writeLong(size);
+        out.writeLong(lastModified);
+        out.writeInt(tagRegions.length);
+        for (long value : tagRegions) {
+            out.writeLong(value);
+        }
+        out.writeByte(tagHash.length);
+        out.write(tagHash);
+    }
+
+    /**
+     * Read a fingerprint written by {@link #write(DataOutput)}
+     *
+     * @throws IOException if the data cannot be read or was not written by a compatible version
+     */
+    public static AudioFileFingerprint read(DataInput in) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version != SERIAL_VERSION) {
+            throw new IOException("Unsupported fingerprint version:" + version);
+        }
+        String ext = in.readUTF();
+        long size = in.readLong();
+        long lastModified = in.readLong();
+        int regionCount = in.readInt();
+        if (regionCount < 0 || regionCount % 2 != 0) {
+            throw new IOException("Invalid fingerprint region count:" + regionCount);
+        }
+        long[] tagRegions = new long[regionCount];
+        for (int i = 0; i < regionCount; i++) {
+            tagRegions[i] = in.readLong();
+        }
+        byte[] tagHash = new byte[in.readUnsignedByte()];
+        in.readFully(tagHash);
+        return new AudioFileFingerprint(ext, size, lastModified, tagRegions, tagHash);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AudioFileFingerprint)) {
+            return false;
+        }
+        AudioFileFingerprint that = (AudioFileFingerprint) o;
+        return size == that.size && lastModified == that.lastModified && ext.equals(that.ext)
+                && Arrays.equals(tagRegions, that.tagRegions) && Arrays.equals(tagHash, that.tagHash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(tagHash);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(ext).append(":size:").append(size).append(":modified:").append(lastModified).append(":tags:");
+        for (int i = 0; i < tagRegions.length; i += 2) {
+            sb.append(tagRegions[i]).append('+').append(tagRegions[i + 1]).append(',');
+        }
+        sb.append(":hash:");
+        for (byte b : tagHash) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
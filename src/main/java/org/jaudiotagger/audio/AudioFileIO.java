@@ -41,14 +41,17 @@ import org.jaudiotagger.audio.real.RealFileReader;
 import org.jaudiotagger.audio.wav.WavFileReader;
 import org.jaudiotagger.audio.wav.WavFileWriter;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.ParseTrace;
 import org.jaudiotagger.tag.TagException;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -206,6 +209,54 @@ public class AudioFileIO {
         getDefaultAudioFileIO().writeFile(f, targetPath);
     }
 
+    /**
+     * Work out how the tag contained in the audioFile would be written by {@link #write(AudioFile)}, without
+     * modifying the file on disk.
+     *
+     * @param f The AudioFile to be written
+     * @return how the tag would be written
+     * @throws CannotWriteException If the file could not be read, or the extension wasn't recognized
+     */
+    public static WritePlan planWrite(AudioFile f) throws CannotWriteException {
+        return getDefaultAudioFileIO().planWriteFile(f);
+    }
+
+    /**
+     * Compute the fingerprint of the metadata of the given file, reading only the metadata and the headers leading to
+     * it.
+     *
+     * @param f The file to fingerprint, its format is taken from its extension
+     * @return the fingerprint, to be stored and passed to {@link #hasChanged(File, AudioFileFingerprint)} later
+     * @throws IOException If the file could not be read
+     */
+    public static AudioFileFingerprint getFingerprint(File f) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(f, "r");
+        try {
+            return AudioFileFingerprint.compute(raf.getChannel(), Utils.getExtension(f), f.lastModified());
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Check whether the metadata of the given file has changed since its fingerprint was computed, so it only needs
+     * to be read again if it has.
+     *
+     * The file is not opened at all if its size and modification time are unchanged, otherwise only its metadata is
+     * read and compared.
+     *
+     * @param f        The file to check
+     * @param previous The fingerprint computed by {@link #getFingerprint(File)} when the file was last read
+     * @return true if the metadata has changed
+     * @throws IOException If the file could not be read
+     */
+    public static boolean hasChanged(File f, AudioFileFingerprint previous) throws IOException {
+        if (previous.isUnmodified(f.length(), f.lastModified())) {
+            return false;
+        }
+        return getFingerprint(f).hasChanged(previous);
+    }
+
     /**
      * This member is used to broadcast modification events to registered
      */
@@ -321,9 +372,7 @@ public class AudioFileIO {
         if (afr == null) {
             throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
         }
-        AudioFile tempFile = afr.read(f);
-        tempFile.setExt(ext);
-        return tempFile;
+        return readWith(afr, f, ext);
     }
 
     /**
@@ -348,10 +397,7 @@ public class AudioFileIO {
             throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
         }
 
-        AudioFile tempFile = afr.read(f);
-        tempFile.setExt(ext);
-        return tempFile;
-
+        return readWith(afr, f, ext);
     }
 
     /**
@@ -377,10 +423,24 @@ public class AudioFileIO {
             throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
         }
 
-        AudioFile tempFile = afr.read(f);
-        tempFile.setExt(ext);
-        return tempFile;
+        return readWith(afr, f, ext);
+    }
 
+    /**
+     * Read the file with the reader, reporting a {@link ParseTrace#FILE} event if a trace listener is set
+     */
+    private AudioFile readWith(AudioFileReader afr, File f, String ext)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException {
+        long start = ParseTrace.startFile(f.getPath());
+        try {
+            AudioFile tempFile = afr.read(f);
+            tempFile.setExt(ext);
+            return tempFile;
+        } finally {
+            if (ParseTrace.isTracing(start)) {
+                ParseTrace.endFile(ext, f.length(), start);
+            }
+        }
     }
 
     /**
@@ -390,7 +450,9 @@ public class AudioFileIO {
      * @throws java.io.FileNotFoundException
      */
     public void checkFileExists(File file) throws FileNotFoundException {
-        logger.config("Reading file:" + "path" + file.getPath() + ":abs:" + file.getAbsolutePath());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Reading file:" + "path" + file.getPath() + ":abs:" + file.getAbsolutePath());
+        }
         if (!file.exists()) {
             logger.severe("Unable to find:" + file.getPath());
             throw new FileNotFoundException(ErrorMessage.UNABLE_TO_FIND_FILE.getMsg(file.getPath()));
@@ -437,4 +499,20 @@ public class AudioFileIO {
         afw.write(f);
     }
 
+    /**
+     * Work out how the tag contained in the audioFile would be written by {@link #writeFile(AudioFile, String)},
+     * without modifying the file on disk.
+     *
+     * @param f The AudioFile to be written
+     * @return how the tag would be written
+     * @throws CannotWriteException If the file could not be read, or the extension wasn't recognized
+     */
+    public WritePlan planWriteFile(AudioFile f) throws CannotWriteException {
+        String ext = f.getExt();
+        AudioFileWriter afw = writers.get(ext);
+        if (afw == null) {
+            throw new CannotWriteException(ErrorMessage.NO_WRITER_FOR_THIS_FORMAT.getMsg(ext));
+        }
+        return afw.planWrite(f);
+    }
 }
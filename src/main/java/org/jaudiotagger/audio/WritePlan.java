@@ -0,0 +1,106 @@
+package org.jaudiotagger.audio;
+
+/**
+ * How the metadata of an {@link AudioFile} would be written, as worked out by {@link AudioFileIO#planWrite(AudioFile)}
+ * without modifying the file.
+ *
+ * This allows writes that need the audio data to be moved or the whole file to be copied to be recognised in advance,
+ * so they can be scheduled separately from writes that only need the metadata itself to be written.
+ */
+public class WritePlan {
+
+    /**
+     * The ways metadata can be written, from the least to the most expensive
+     */
+    public enum Strategy {
+        /**
+         * The metadata is overwritten within the space it already uses, nothing else in the file is changed
+         */
+        IN_PLACE,
+        /**
+         * The metadata is written at the end of the file, such as an ID3v1 tag or a trailing chunk, the audio data
+         * is not moved
+         */
+        APPEND,
+        /**
+         * The audio data is moved within the file to make room for the metadata
+         */
+        MOVE_AUDIO,
+        /**
+         * The whole file is copied to a new file
+         */
+        REWRITE
+    }
+
+    private final Strategy strategy;
+    private final long metadataSize;
+    private final long availableSize;
+    private final long bytesMoved;
+
+    /**
+     * @param strategy      how the metadata would be written
+     * @param metadataSize  size in bytes of the new metadata, -1 if not known
+     * @param availableSize size in bytes of the space currently available for the metadata, -1 if not known
+     * @param bytesMoved    number of bytes other than the metadata that would be copied
+     */
+    public WritePlan(Strategy strategy, long metadataSize, long availableSize, long bytesMoved) {
+        this.strategy = strategy;
+        this.metadataSize = metadataSize;
+        this.availableSize = availableSize;
+        this.bytesMoved = bytesMoved;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return size in bytes of the new metadata including any padding added, or -1 if not known
+     */
+    public long getMetadataSize() {
+        return metadataSize;
+    }
+
+    /**
+     * @return size in bytes of the space currently available for the metadata including any padding, or -1 if not
+     * known
+     */
+    public long getAvailableSize() {
+        return availableSize;
+    }
+
+    /**
+     * @return number of bytes other than the metadata, mostly audio data, that would be copied
+     */
+    public long getBytesMoved() {
+        return bytesMoved;
+    }
+
+    /**
+     * @return true if the audio data would be moved or copied
+     */
+    public boolean isAudioMoved() {
+        return strategy == Strategy.MOVE_AUDIO || strategy == Strategy.REWRITE;
+    }
+
+    /**
+     * Combine with the plan for another part of the metadata of the same file
+     *
+     * @return a plan using the more expensive of the two strategies and the total of the sizes
+     */
+    public WritePlan and(WritePlan other) {
+        return new WritePlan(strategy.compareTo(other.strategy) >= 0 ? strategy : other.strategy,
+                addSize(metadataSize, other.metadataSize),
+                addSize(availableSize, other.availableSize),
+                Math.max(bytesMoved, other.bytesMoved));
+    }
+
+    private static long addSize(long size, long otherSize) {
+        return size < 0 || otherSize < 0 ? -1 : size + otherSize;
+    }
+
+    @Override
+    public String toString() {
+        return strategy + ":metadata:" + metadataSize + ":available:" + availableSize + ":moved:" + bytesMoved;
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.jaudiotagger.audio.aiff;
 
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.AudioFileWriter2;
 import org.jaudiotagger.tag.Tag;
@@ -42,6 +43,11 @@ public class AiffFileWriter extends AudioFileWriter2 {
         tw.delete(tag, channel, fileName);
     }
 
+    @Override
+    protected WritePlan planWriteTag(Tag tag, FileChannel channel, final String fileName) throws CannotWriteException {
+        return tw.plan(tag, channel, fileName);
+    }
+
 
 }
 
@@ -16,6 +16,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -59,15 +60,19 @@ public class AiffTagReader extends AiffChunkReader {
      * @return {@code false}, if we were not able to read a valid chunk id
      */
     private boolean readChunk(FileChannel fc, AiffTag aiffTag, String fileName) throws IOException {
-        logger.config(fileName + " Reading Tag Chunk");
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(fileName + " Reading Tag Chunk");
+        }
 
         ChunkHeader chunkHeader = new ChunkHeader(ByteOrder.BIG_ENDIAN);
         if (!chunkHeader.readHeader(fc)) {
             return false;
         }
-        logger.config(fileName + " Reading Chunk:" + chunkHeader.getID() + ":starting at:"
-                + Hex.asDecAndHex(chunkHeader.getStartLocationInFile())
-                + ":sizeIncHeader:" + (chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(fileName + " Reading Chunk:" + chunkHeader.getID() + ":starting at:"
+                    + Hex.asDecAndHex(chunkHeader.getStartLocationInFile())
+                    + ":sizeIncHeader:" + (chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        }
 
         long startLocationOfId3TagInFile = fc.position();
         AiffChunkType chunkType = AiffChunkType.get(chunkHeader.getID());
@@ -119,7 +124,9 @@ public class AiffTagReader extends AiffChunkReader {
             fc.position(fc.position() - (ChunkHeader.CHUNK_HEADER_SIZE - 1));
             return true;
         } else {
-            logger.config(fileName + "Skipping Chunk:" + chunkHeader.getID() + ":" + chunkHeader.getSize());
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(fileName + "Skipping Chunk:" + chunkHeader.getID() + ":" + chunkHeader.getSize());
+            }
             aiffTag.addChunkSummary(new ChunkSummary(chunkHeader.getID(), chunkHeader.getStartLocationInFile(), chunkHeader.getSize()));
             fc.position(fc.position() + chunkHeader.getSize());
         }
@@ -18,6 +18,7 @@
  */
 package org.jaudiotagger.audio.aiff;
 
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.aiff.chunk.AiffChunkSummary;
 import org.jaudiotagger.audio.aiff.chunk.AiffChunkType;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
@@ -25,6 +26,7 @@ import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.iff.Chunk;
 import org.jaudiotagger.audio.iff.ChunkHeader;
+import org.jaudiotagger.audio.iff.ChunkPlacement;
 import org.jaudiotagger.audio.iff.ChunkSummary;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
 import org.jaudiotagger.tag.Tag;
@@ -263,27 +265,31 @@ public class AiffTagWriter {
                     final ChunkHeader chunkHeader = seekToStartOfMetadata(fc, existingTag, fileName);
                     logger.info(fileName + "Current Space allocated:" + existingTag.getSizeOfID3TagOnly() + ":NewTagRequires:" + bb.limit());
 
-                    //Usual case ID3 is last chunk
-                    if (isAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
-                        writeDataToFile(fc, bb);
-                    }
-                    //Unusual Case where ID3 is not last chunk
-                    else {
-                        deleteTagChunk(fc, existingTag, chunkHeader, fileName);
-                        fc.position(fc.size());
-                        writeExtraByteIfChunkOddSize(fc, fc.size());
-                        writeDataToFile(fc, bb);
+                    switch (placeID3Chunk(existingTag, fc, chunkHeader, bb)) {
+                        //Usual case ID3 is last chunk
+                        case AT_END:
+                            writeDataToFile(fc, bb);
+                            break;
+                        //ID3 is not last chunk but new tag fits in the existing chunk so chunks after it need not be moved
+                        case FITS:
+                            writeDataToFile(fc, bb, chunkHeader.getSize());
+                            break;
+                        //Unusual Case where ID3 is not last chunk
+                        default:
+                            deleteTagChunk(fc, existingTag, chunkHeader, fileName);
+                            fc.position(fc.size());
+                            writeExtraByteIfChunkOddSize(fc, fc.size());
+                            writeDataToFile(fc, bb);
                     }
                 }
                 //Existing ID3 tag is incorrectly aligned so if we can lets delete it and any subsequentially added
                 //ID3 tags as we only want one ID3 tag.
-                else if (AiffChunkSummary.isOnlyMetadataTagsAfterStartingMetadataTag(existingTag)) {
+                else {
+                    checkCanRealign(existingTag, fileName);
                     deleteRemainderOfFile(fc, existingTag, fileName);
                     fc.position(fc.size());
                     writeExtraByteIfChunkOddSize(fc, fc.size());
                     writeDataToFile(fc, bb);
-                } else {
-                    throw new CannotWriteException(fileName + " Metadata tags are corrupted and not at end of fc so cannot be fixed");
                 }
             }
             //New Tag
@@ -303,6 +309,61 @@ public class AiffTagWriter {
         }
     }
 
+    /**
+     * Work out how {@link #write(Tag, FileChannel, String)} would write the tag, without modifying the file
+     *
+     * @param tag
+     * @param fc
+     * @param fileName
+     * @return the plan
+     * @throws CannotWriteException
+     */
+    public WritePlan plan(final Tag tag, FileChannel fc, final String fileName) throws CannotWriteException {
+        try {
+            AiffTag existingTag = getExistingMetadata(fc, fileName);
+            final ByteBuffer bb = convert((AiffTag) tag, existingTag);
+            if (existingTag.isExistingId3Tag() && existingTag.getID3Tag().getStartLocationInFile() != null) {
+                if (!existingTag.isIncorrectlyAlignedTag()) {
+                    final ChunkHeader chunkHeader = seekToStartOfMetadata(fc, existingTag, fileName);
+                    return placeID3Chunk(existingTag, fc, chunkHeader, bb).plan(bb.limit(), chunkHeader.getSize(), fc.size() - existingTag.getID3Tag().getEndLocationInFile());
+                }
+                checkCanRealign(existingTag, fileName);
+                return new WritePlan(WritePlan.Strategy.APPEND, bb.limit(), -1, 0);
+            }
+            return new WritePlan(WritePlan.Strategy.APPEND, bb.limit(), 0, 0);
+        } catch (IOException ioe) {
+            throw new CannotWriteException(fileName + ":" + ioe.getMessage());
+        }
+    }
+
+    /**
+     * Decide where the new ID3 chunk is written, used by both {@link #write(Tag, FileChannel, String)} and
+     * {@link #plan(Tag, FileChannel, String)}
+     *
+     * @param existingTag
+     * @param fc
+     * @param chunkHeader header of the existing ID3 chunk
+     * @param bb          the new ID3 chunk
+     * @return
+     * @throws IOException
+     */
+    private ChunkPlacement placeID3Chunk(AiffTag existingTag, FileChannel fc, ChunkHeader chunkHeader, ByteBuffer bb) throws IOException {
+        return ChunkPlacement.place(isAtEndOfFileAllowingForPaddingByte(existingTag, fc), chunkHeader.getSize() >= bb.limit());
+    }
+
+    /**
+     * Check that an incorrectly aligned ID3 tag can be fixed by truncating it and writing the new chunk at the end
+     *
+     * @param existingTag
+     * @param fileName
+     * @throws CannotWriteException if there are other chunks after the metadata so it cannot be fixed
+     */
+    private void checkCanRealign(AiffTag existingTag, String fileName) throws CannotWriteException {
+        if (!AiffChunkSummary.isOnlyMetadataTagsAfterStartingMetadataTag(existingTag)) {
+            throw new CannotWriteException(fileName + " Metadata tags are corrupted and not at end of fc so cannot be fixed");
+        }
+    }
+
     /**
      * Rewrite RAF header to reflect new file length
      *
@@ -329,12 +390,28 @@ public class AiffTagWriter {
      */
     private void writeDataToFile(FileChannel fc, final ByteBuffer bb)
             throws IOException {
+        writeDataToFile(fc, bb, bb.limit());
+    }
+
+    /**
+     * Write tag to file within a chunk of the given size, any space in the chunk after the tag is filled with zeros
+     *
+     * @param fc
+     * @param bb
+     * @param chunkSize chunk size, at least the size of the tag
+     * @throws IOException
+     */
+    private void writeDataToFile(FileChannel fc, final ByteBuffer bb, final long chunkSize)
+            throws IOException {
         final ChunkHeader ch = new ChunkHeader(ByteOrder.BIG_ENDIAN);
         ch.setID(AiffChunkType.TAG.getCode());
-        ch.setSize(bb.limit());
+        ch.setSize(chunkSize);
         fc.write(ch.writeHeader());
         fc.write(bb);
-        writeExtraByteIfChunkOddSize(fc, bb.limit());
+        if (chunkSize > bb.limit()) {
+            fc.write(ByteBuffer.allocate((int) (chunkSize - bb.limit())));
+        }
+        writeExtraByteIfChunkOddSize(fc, chunkSize);
     }
 
     /**
@@ -20,7 +20,6 @@ package org.jaudiotagger.audio.asf.data;
 
 import org.jaudiotagger.audio.asf.util.Utils;
 
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -258,10 +257,16 @@ public final class GUID {
     private int[] guidData = null;
 
     /**
-     * Stores the hash code of the object.<br>
-     * <code>&quot;-1&quot;</code> if not determined yet.
+     * The first 8 bytes of {@link #guidData}, with {@link #low} the 128 bit
+     * value of the GUID, so GUIDs can be compared and hashed without looking
+     * at the array.<br>
      */
-    private int hash;
+    private long high;
+
+    /**
+     * The last 8 bytes of {@link #guidData}.<br>
+     */
+    private long low;
 
     /**
      * Creates an instance and assigns given <code>value</code>.<br>
@@ -327,7 +332,7 @@ public final class GUID {
         boolean result = false;
         if (obj instanceof GUID) {
             final GUID other = (GUID) obj;
-            result = Arrays.equals(this.getGUID(), other.getGUID());
+            result = this.high == other.high && this.low == other.low;
         }
         return result;
     }
@@ -389,14 +394,8 @@ public final class GUID {
      */
     @Override
     public int hashCode() {
-        if (this.hash == -1) {
-            int tmp = 0;
-            for (final int curr : getGUID()) {
-                tmp = tmp * 31 + curr;
-            }
-            this.hash = tmp;
-        }
-        return this.hash;
+        final long tmp = this.high * 31 + this.low;
+        return (int) (tmp ^ (tmp >>> 32));
     }
 
     /**
@@ -438,6 +437,10 @@ public final class GUID {
         if (assertGUID(value)) {
             this.guidData = new int[GUID_LENGTH];
             System.arraycopy(value, 0, this.guidData, 0, GUID_LENGTH);
+            for (int i = 0; i < 8; i++) {
+                this.high = this.high << 8 | (value[i] & 0xFF);
+                this.low = this.low << 8 | (value[i + 8] & 0xFF);
+            }
         } else {
             throw new IllegalArgumentException("The given guidData doesn't match the GUID specification.");
         }
@@ -24,6 +24,7 @@ import org.jaudiotagger.audio.asf.util.Utils;
 
 import java.io.*;
 import java.math.BigInteger;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -86,17 +87,6 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader> {
         FULL_READER.setExtendedHeaderReader(extReader2);
     }
 
-    /**
-     * Creates a Stream that will read from the specified
-     * {@link RandomAccessFile};<br>
-     *
-     * @param raf data source to read from.
-     * @return a stream which accesses the source.
-     */
-    private static InputStream createStream(final RandomAccessFile raf) {
-        return new FullRequestInputStream(new BufferedInputStream(new RandomAccessFileInputstream(raf)));
-    }
-
     /**
      * This method extracts the full ASF-Header from the given file.<br>
      * If no header could be extracted <code>null</code> is returned. <br>
@@ -107,10 +97,12 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader> {
      * @throws IOException on I/O Errors.
      */
     public static AsfHeader readHeader(final File file) throws IOException {
-        final InputStream stream = new FileInputStream(file);
-        final AsfHeader result = FULL_READER.read(Utils.readGUID(stream), stream, 0);
-        stream.close();
-        return result;
+        final FileInputStream stream = new FileInputStream(file);
+        try {
+            return FULL_READER.read(stream.getChannel(), 0);
+        } finally {
+            stream.close();
+        }
     }
 
     /**
@@ -123,8 +115,7 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader> {
      * @throws IOException Read errors
      */
     public static AsfHeader readHeader(final RandomAccessFile file) throws IOException {
-        final InputStream stream = createStream(file);
-        return FULL_READER.read(Utils.readGUID(stream), stream, 0);
+        return readHeader(file.getChannel());
     }
 
     /**
@@ -138,8 +129,7 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader> {
      * @throws IOException Read errors
      */
     public static AsfHeader readInfoHeader(final RandomAccessFile file) throws IOException {
-        final InputStream stream = createStream(file);
-        return INFO_READER.read(Utils.readGUID(stream), stream, 0);
+        return readInfoHeader(file.getChannel());
     }
 
     /**
@@ -153,8 +143,47 @@ public class AsfHeaderReader extends ChunkContainerReader<AsfHeader> {
      * @throws IOException Read errors
      */
     public static AsfHeader readTagHeader(final RandomAccessFile file) throws IOException {
-        final InputStream stream = createStream(file);
-        return TAG_READER.read(Utils.readGUID(stream), stream, 0);
+        return readTagHeader(file.getChannel());
+    }
+
+    /**
+     * This method tries to extract a full ASF-header from the current position
+     * of the given channel. <br>
+     * Chunks are read from the channel without an intermediate stream, the
+     * ones that are not needed are skipped without reading them.<br>
+     *
+     * @param channel channel which contains the ASF header.
+     * @return AsfHeader-Wrapper, or <code>null</code> if no supported ASF
+     * header was found.
+     * @throws IOException Read errors
+     */
+    public static AsfHeader readHeader(final FileChannel channel) throws IOException {
+        return FULL_READER.read(channel, channel.position());
+    }
+
+    /**
+     * Like {@link #readHeader(FileChannel)}, but only extracts information
+     * about the audio stream.<br>
+     *
+     * @param channel channel which contains the ASF header.
+     * @return AsfHeader-Wrapper, or <code>null</code> if no supported ASF
+     * header was found.
+     * @throws IOException Read errors
+     */
+    public static AsfHeader readInfoHeader(final FileChannel channel) throws IOException {
+        return INFO_READER.read(channel, channel.position());
+    }
+
+    /**
+     * Like {@link #readHeader(FileChannel)}, but only extracts metadata.<br>
+     *
+     * @param channel channel which contains the ASF header.
+     * @return AsfHeader-Wrapper, or <code>null</code> if no supported ASF
+     * header was found.
+     * @throws IOException Read errors
+     */
+    public static AsfHeader readTagHeader(final FileChannel channel) throws IOException {
+        return TAG_READER.read(channel, channel.position());
     }
 
     /**
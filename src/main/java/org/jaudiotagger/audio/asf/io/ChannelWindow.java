@@ -0,0 +1,101 @@
+package org.jaudiotagger.audio.asf.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Reads ranges of a channel by absolute position through a window, so that
+ * reading the many small chunks of an ASF header takes few reads of the
+ * channel, while a range larger than the window is read directly into its own
+ * buffer. Ranges that are never asked for, such as chunks that are skipped,
+ * are only read if they happen to be within the window.<br>
+ * The position of the channel is not changed.
+ */
+final class ChannelWindow {
+
+    /**
+     * The channel to read from.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Holds the bytes of the channel from {@link #windowStart}.
+     */
+    private final byte[] window;
+
+    /**
+     * Position in the channel of the first byte of {@link #window}.
+     */
+    private long windowStart;
+
+    /**
+     * Number of valid bytes in {@link #window}.
+     */
+    private int windowLength;
+
+    /**
+     * Creates an instance.
+     *
+     * @param channel    channel to read from.
+     * @param windowSize size of the window, ranges up to this size are read
+     *                   through the window.
+     */
+    ChannelWindow(final FileChannel channel, final int windowSize) {
+        this.channel = channel;
+        this.window = new byte[windowSize];
+    }
+
+    /**
+     * Reads <code>length</code> bytes at <code>position</code>.
+     *
+     * @param position position in the channel to read from.
+     * @param length   number of bytes to read.
+     * @return a buffer backed by an array, its remaining bytes are the requested
+     * range. It may share the window, so is only valid until the next call.
+     * @throws EOFException if the channel ends before all bytes could be read,
+     *                      this is checked before any memory is allocated for
+     *                      the range.
+     * @throws IOException  on I/O errors.
+     */
+    ByteBuffer read(final long position, final int length) throws IOException {
+        if (length > this.window.length) {
+            if (length > this.channel.size() - position) {
+                throw new EOFException();
+            }
+            final ByteBuffer buffer = ByteBuffer.allocate(length);
+            if (fill(position, buffer) < length) {
+                throw new EOFException();
+            }
+            buffer.flip();
+            return buffer;
+        }
+        if (position < this.windowStart || position + length > this.windowStart + this.windowLength) {
+            this.windowStart = position;
+            this.windowLength = fill(position, ByteBuffer.wrap(this.window));
+            if (this.windowLength < length) {
+                throw new EOFException();
+            }
+        }
+        return ByteBuffer.wrap(this.window, (int) (position - this.windowStart), length);
+    }
+
+    /**
+     * Reads from <code>position</code> until the buffer is full or the channel
+     * ends.
+     *
+     * @return the number of bytes read.
+     */
+    private int fill(final long position, final ByteBuffer buffer) throws IOException {
+        long current = position;
+        while (buffer.hasRemaining()) {
+            final int read = this.channel.read(buffer, current);
+            if (read == -1) {
+                break;
+            }
+            current += read;
+        }
+        return (int) (current - position);
+    }
+}
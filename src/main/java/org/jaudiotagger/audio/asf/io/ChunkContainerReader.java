@@ -5,9 +5,13 @@ import org.jaudiotagger.audio.asf.data.ChunkContainer;
 import org.jaudiotagger.audio.asf.data.GUID;
 import org.jaudiotagger.audio.asf.util.Utils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -31,6 +35,17 @@ abstract class ChunkContainerReader<ChunkType extends ChunkContainer> implements
      */
     public final static int READ_LIMIT = 8192;
 
+    /**
+     * Length of the GUID and size at the start of each chunk.
+     */
+    private final static int CHUNK_HEADER_LENGTH = 24;
+
+    /**
+     * Maximum number of bytes {@link #createContainer(long, BigInteger, InputStream)}
+     * reads before the list of chunks starts, when reading from a channel.
+     */
+    private final static int CONTAINER_HEADER_LIMIT = 64;
+
     /**
      * If <code>true</code> each chunk type will only be read once.<br>
      */
@@ -184,6 +199,97 @@ abstract class ChunkContainerReader<ChunkType extends ChunkContainer> implements
         return result;
     }
 
+    /**
+     * This Method reads a chunk container from a channel, like
+     * {@link #read(GUID, InputStream, long)}.<br>
+     * Only the chunks with a {@linkplain #register(Class) registered} reader
+     * are read. Other chunks, and chunks already read if {@link #eachChunkOnce}
+     * is set, are skipped by moving on to the next chunk without reading their
+     * content, unless it is within the same {@link #READ_LIMIT} bytes as
+     * chunks that are read.<br>
+     * A chunk whose reader {@linkplain ChunkReader#canFail() fails} is skipped.
+     *
+     * @param channel    Channel which contains the chunk container, it is read
+     *                   with absolute positions, so its position is not changed.
+     * @param chunkStart The position of the chunk container in the channel.
+     * @return the chunk container.
+     * @throws IOException              Read errors, or the container is invalid.
+     * @throws IllegalArgumentException If the chunk at <code>chunkStart</code>
+     *                                  is not supported by this reader.
+     */
+    public ChunkType read(final FileChannel channel, final long chunkStart) throws IOException, IllegalArgumentException {
+        return read(new ChannelWindow(channel, READ_LIMIT), chunkStart);
+    }
+
+    private ChunkType read(final ChannelWindow channel, final long chunkStart) throws IOException, IllegalArgumentException {
+        ByteBuffer header = channel.read(chunkStart, CHUNK_HEADER_LENGTH);
+        final GUID guid = Utils.readGUID(header);
+        if (!Arrays.asList(getApplyingIds()).contains(guid)) {
+            throw new IllegalArgumentException("provided GUID is not supported by this reader.");
+        }
+        final long chunkLen = readChunkLength(header);
+        final ByteBuffer containerHeader = channel.read(chunkStart + CHUNK_HEADER_LENGTH, (int) Math.min(chunkLen - CHUNK_HEADER_LENGTH, CONTAINER_HEADER_LIMIT));
+        final CountingInputStream cis = new CountingInputStream(toStream(containerHeader));
+        final ChunkType result = createContainer(chunkStart, BigInteger.valueOf(chunkLen), cis);
+        long currentPosition = chunkStart + CHUNK_HEADER_LENGTH + cis.getReadCount();
+
+        final HashSet<GUID> alreadyRead = new HashSet<GUID>();
+        while (currentPosition < result.getChunkEnd()) {
+            header = channel.read(currentPosition, CHUNK_HEADER_LENGTH);
+            final GUID currentGUID = Utils.readGUID(header);
+            final long currentLen = readChunkLength(header);
+            if (currentLen > result.getChunkEnd() - currentPosition) {
+                throw new IOException("Chunk at " + currentPosition + " of size " + currentLen + " extends past the end of its container");
+            }
+            final boolean skip = this.eachChunkOnce && (!isReaderAvailable(currentGUID) || !alreadyRead.add(currentGUID));
+            if (!skip) {
+                final Chunk chunk;
+                final ChunkReader reader = getReader(currentGUID);
+                if (reader instanceof ChunkContainerReader) {
+                    chunk = ((ChunkContainerReader<?>) reader).read(channel, currentPosition);
+                } else if (reader != null) {
+                    if (currentLen > Integer.MAX_VALUE) {
+                        throw new IOException("Chunk too large to read: " + currentLen);
+                    }
+                    // The reader reads the size again, only the GUID has been read
+                    final ByteBuffer data = channel.read(currentPosition + GUID.GUID_LENGTH, (int) currentLen - GUID.GUID_LENGTH);
+                    chunk = reader.read(currentGUID, toStream(data), currentPosition);
+                } else {
+                    chunk = new Chunk(currentGUID, currentPosition, BigInteger.valueOf(currentLen));
+                }
+                if (chunk != null) {
+                    result.addChunk(chunk);
+                }
+            }
+            currentPosition += currentLen;
+        }
+
+        return result;
+    }
+
+    /**
+     * Reads the size of a chunk following its GUID.
+     *
+     * @param header the chunk header, positioned at the size.
+     * @return the size of the chunk.
+     * @throws IOException if the size is too small to be valid.
+     */
+    private static long readChunkLength(final ByteBuffer header) throws IOException {
+        final long chunkLen = header.order(ByteOrder.LITTLE_ENDIAN).getLong();
+        if (chunkLen < CHUNK_HEADER_LENGTH) {
+            throw new IOException("Invalid chunk size: " + chunkLen);
+        }
+        return chunkLen;
+    }
+
+    /**
+     * @param buffer buffer backed by an array.
+     * @return a stream of the remaining bytes of the buffer.
+     */
+    private static InputStream toStream(final ByteBuffer buffer) {
+        return new ByteArrayInputStream(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+
     /**
      * Registers the given reader.<br>
      *
@@ -276,22 +276,18 @@ public class Utils {
      * @throws IOException read errors
      */
     public static String readCharacterSizedString(InputStream stream) throws IOException {
-        StringBuilder result = new StringBuilder();
         int strLen = readUINT16(stream);
-        int character = stream.read();
-        character |= stream.read() << 8;
-        do {
-            if (character != 0) {
-                result.append((char) character);
-                character = stream.read();
-                character |= stream.read() << 8;
-            }
+        byte[] buf = new byte[strLen * 2];
+        int read = stream.read(buf);
+        // The only zero character must be the terminating one
+        int length = 0;
+        while (length < strLen && (buf[length * 2] != 0 || buf[length * 2 + 1] != 0)) {
+            length++;
         }
-        while (character != 0 || (result.length() + 1) > strLen);
-        if (strLen != (result.length() + 1)) {
+        if (strLen == 0 || read != buf.length || length != strLen - 1) {
             throw new IllegalStateException("Invalid Data for current interpretation"); //$NON-NLS-1$
         }
-        return result.toString();
+        return new String(buf, 0, length * 2, AsfHeader.ASF_CHARSET);
     }
 
     /**
@@ -310,18 +306,11 @@ public class Utils {
         byte[] strBytes = new byte[strLen];
         int read = stream.read(strBytes);
         if (read == strBytes.length) {
-            if (strBytes.length >= 2) {
-                /*
-                 * Zero termination is recommended but optional. So check and
-                 * if, remove.
-                 */
-                if (strBytes[strBytes.length - 1] == 0 && strBytes[strBytes.length - 2] == 0) {
-                    byte[] copy = new byte[strBytes.length - 2];
-                    System.arraycopy(strBytes, 0, copy, 0, strBytes.length - 2);
-                    strBytes = copy;
-                }
-            }
-            return new String(strBytes, StandardCharsets.UTF_16LE);
+            /*
+             * Zero termination is recommended but optional. So check and
+             * if, remove.
+             */
+            return new String(strBytes, 0, lengthWithoutTerminator(strBytes), StandardCharsets.UTF_16LE);
         }
         throw new IllegalStateException("Couldn't read the necessary amount of bytes.");
     }
@@ -341,13 +330,35 @@ public class Utils {
         if (stream == null) {
             throw new IllegalArgumentException("Argument must not be null"); //$NON-NLS-1$
         }
+        byte[] bytes = new byte[GUID.GUID_LENGTH];
+        int read = 0;
+        while (read < bytes.length) {
+            int count = stream.read(bytes, read, bytes.length - read);
+            if (count == -1) {
+                break;
+            }
+            read += count;
+        }
         int[] binaryGuid = new int[GUID.GUID_LENGTH];
         for (int i = 0; i < binaryGuid.length; i++) {
-            binaryGuid[i] = stream.read();
+            binaryGuid[i] = i < read ? bytes[i] & 0xFF : -1;
         }
         return new GUID(binaryGuid);
     }
 
+    /**
+     * This Method reads a GUID (which is a 16 byte long sequence) from the
+     * current position of the given <code>buffer</code> and creates a wrapper.<br>
+     *
+     * @param buffer buffer holding at least 16 bytes.
+     * @return A class wrapping the guid.
+     */
+    public static GUID readGUID(ByteBuffer buffer) {
+        byte[] bytes = new byte[GUID.GUID_LENGTH];
+        buffer.get(bytes);
+        return new GUID(bytes);
+    }
+
     /**
      * Reads 2 bytes from stream and interprets them as UINT16.<br>
      *
@@ -416,18 +427,23 @@ public class Utils {
             /*
              * Check on zero termination
              */
-            if (buf.length >= 2) {
-                if (buf[buf.length - 1] == 0 && buf[buf.length - 2] == 0) {
-                    byte[] copy = new byte[buf.length - 2];
-                    System.arraycopy(buf, 0, copy, 0, buf.length - 2);
-                    buf = copy;
-                }
-            }
-            return new String(buf, AsfHeader.ASF_CHARSET.name());
+            return new String(buf, 0, lengthWithoutTerminator(buf), AsfHeader.ASF_CHARSET);
         }
         throw new IllegalStateException("Invalid Data for current interpretation"); //$NON-NLS-1$
     }
 
+    /**
+     * @param utf16 UTF-16 encoded bytes.
+     * @return the number of bytes without the terminating zero character, if
+     * there is one.
+     */
+    private static int lengthWithoutTerminator(byte[] utf16) {
+        if (utf16.length >= 2 && utf16[utf16.length - 1] == 0 && utf16[utf16.length - 2] == 0) {
+            return utf16.length - 2;
+        }
+        return utf16.length;
+    }
+
     /**
      * Writes the given value as UINT16 into the stream.
      *
@@ -0,0 +1,247 @@
+package org.jaudiotagger.audio.cache;
+
+import org.jaudiotagger.audio.AudioHeader;
+
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The values of an {@link AudioHeader} as stored in a {@link MetadataCache}, every value is returned exactly as it was
+ * returned by the header of the file when it was read
+ */
+public class CachedAudioHeader implements AudioHeader {
+
+    private final String encodingType;
+    private final Integer byteRate;
+    private final String bitRate;
+    private final long bitRateAsNumber;
+    private final Long audioDataLength;
+    private final Long audioDataStartPosition;
+    private final Long audioDataEndPosition;
+    private final String sampleRate;
+    private final int sampleRateAsNumber;
+    private final String format;
+    private final String channels;
+    private final boolean variableBitRate;
+    private final int trackLength;
+    private final double preciseTrackLength;
+    private final int bitsPerSample;
+    private final boolean lossless;
+    private final Long noOfSamples;
+
+    /**
+     * Copy the values of a header
+     *
+     * @throws RuntimeException if the header is missing a value it cannot return
+     */
+    CachedAudioHeader(AudioHeader header) {
+        encodingType = header.getEncodingType();
+        byteRate = header.getByteRate();
+        bitRate = header.getBitRate();
+        bitRateAsNumber = header.getBitRateAsNumber();
+        audioDataLength = header.getAudioDataLength();
+        audioDataStartPosition = header.getAudioDataStartPosition();
+        audioDataEndPosition = header.getAudioDataEndPosition();
+        sampleRate = header.getSampleRate();
+        sampleRateAsNumber = header.getSampleRateAsNumber();
+        format = header.getFormat();
+        channels = header.getChannels();
+        variableBitRate = header.isVariableBitRate();
+        trackLength = header.getTrackLength();
+        preciseTrackLength = header.getPreciseTrackLength();
+        bitsPerSample = header.getBitsPerSample();
+        lossless = header.isLossless();
+        noOfSamples = header.getNoOfSamples();
+    }
+
+    /**
+     * Read the values written by {@link #write(DataOutput)}
+     */
+    CachedAudioHeader(DataInputStream in) throws IOException {
+        encodingType = readString(in);
+        byteRate = in.readBoolean() ? in.readInt() : null;
+        bitRate = readString(in);
+        bitRateAsNumber = in.readLong();
+        audioDataLength = readLong(in);
+        audioDataStartPosition = readLong(in);
+        audioDataEndPosition = readLong(in);
+        sampleRate = readString(in);
+        sampleRateAsNumber = in.readInt();
+        format = readString(in);
+        channels = readString(in);
+        variableBitRate = in.readBoolean();
+        trackLength = in.readInt();
+        preciseTrackLength = in.readDouble();
+        bitsPerSample = in.readInt();
+        lossless = in.readBoolean();
+        noOfSamples = readLong(in);
+    }
+
+    void write(DataOutput out) throws IOException {
+        writeString(out, encodingType);
+        out.writeBoolean(byteRate != null);
+        if (byteRate != null) {
+            out.writeInt(byteRate);
+        }
+        writeString(out, bitRate);
+        out.writeLong(bitRateAsNumber);
+        writeLong(out, audioDataLength);
+        writeLong(out, audioDataStartPosition);
+        writeLong(out, audioDataEndPosition);
+        writeString(out, sampleRate);
+        out.writeInt(sampleRateAsNumber);
+        writeString(out, format);
+        writeString(out, channels);
+        out.writeBoolean(variableBitRate);
+        out.writeInt(trackLength);
+        out.writeDouble(preciseTrackLength);
+        out.writeInt(bitsPerSample);
+        out.writeBoolean(lossless);
+        writeLong(out, noOfSamples);
+    }
+
+    /**
+     * Strings are written as their length in UTF-8 followed by the bytes, or -1 for null, as values such as lyrics may
+     * be too long for {@link DataOutput#writeUTF(String)}
+     */
+    static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[readCount(in, length, 1)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Check a count read from a record is possible, so a damaged record cannot make the reader allocate more than the
+     * record holds
+     *
+     * @param in           stream over the rest of the record
+     * @param count        number of items the record claims to hold
+     * @param minItemBytes smallest number of bytes one item takes in the record
+     * @return the count
+     * @throws IOException if the rest of the record is too short to hold that many items
+     */
+    static int readCount(DataInputStream in, int count, int minItemBytes) throws IOException {
+        if (count < 0 || count > in.available() / minItemBytes) {
+            throw new IOException("Invalid count:" + count + " with " + in.available() + " bytes left in record");
+        }
+        return count;
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static void writeLong(DataOutput out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    @Override
+    public String getEncodingType() {
+        return encodingType;
+    }
+
+    @Override
+    public Integer getByteRate() {
+        return byteRate;
+    }
+
+    @Override
+    public String getBitRate() {
+        return bitRate;
+    }
+
+    @Override
+    public long getBitRateAsNumber() {
+        return bitRateAsNumber;
+    }
+
+    @Override
+    public Long getAudioDataLength() {
+        return audioDataLength;
+    }
+
+    @Override
+    public Long getAudioDataStartPosition() {
+        return audioDataStartPosition;
+    }
+
+    @Override
+    public Long getAudioDataEndPosition() {
+        return audioDataEndPosition;
+    }
+
+    @Override
+    public String getSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public int getSampleRateAsNumber() {
+        return sampleRateAsNumber;
+    }
+
+    @Override
+    public String getFormat() {
+        return format;
+    }
+
+    @Override
+    public String getChannels() {
+        return channels;
+    }
+
+    @Override
+    public boolean isVariableBitRate() {
+        return variableBitRate;
+    }
+
+    @Override
+    public int getTrackLength() {
+        return trackLength;
+    }
+
+    @Override
+    public double getPreciseTrackLength() {
+        return preciseTrackLength;
+    }
+
+    @Override
+    public int getBitsPerSample() {
+        return bitsPerSample;
+    }
+
+    @Override
+    public boolean isLossless() {
+        return lossless;
+    }
+
+    @Override
+    public Long getNoOfSamples() {
+        return noOfSamples;
+    }
+
+    @Override
+    public String toString() {
+        return "Encoding:" + encodingType + ":BitRate:" + bitRate + ":SampleRate:" + sampleRate
+                + ":Channels:" + channels + ":Length:" + preciseTrackLength;
+    }
+}
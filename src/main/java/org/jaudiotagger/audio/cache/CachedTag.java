@@ -0,0 +1,381 @@
+package org.jaudiotagger.audio.cache;
+
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.KeyNotFoundException;
+import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.TagField;
+import org.jaudiotagger.tag.TagTextField;
+import org.jaudiotagger.tag.images.Artwork;
+
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A read only view of the values of a {@link Tag} as stored in a {@link MetadataCache}
+ *
+ * Only the text values of the generic {@link FieldKey}s are stored, so fields are identified by the name of their
+ * {@link FieldKey} rather than the id used by the format, and artwork is not available. Methods that would modify the
+ * tag throw {@link UnsupportedOperationException}, the file must be read with {@link org.jaudiotagger.audio.AudioFileIO}
+ * to change its tag.
+ */
+public class CachedTag implements Tag {
+
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.cache");
+
+    private final Map<FieldKey, List<String>> values;
+
+    private CachedTag(Map<FieldKey, List<String>> values) {
+        this.values = values;
+    }
+
+    /**
+     * Copy the text values of a tag, keys the tag does not support are skipped
+     *
+     * @param tag the tag, may be null for a file without a tag
+     */
+    static CachedTag copyOf(Tag tag) {
+        Map<FieldKey, List<String>> values = new EnumMap<FieldKey, List<String>>(FieldKey.class);
+        if (tag != null) {
+            for (FieldKey key : FieldKey.values()) {
+                if (key == FieldKey.COVER_ART) {
+                    continue;
+                }
+                List<String> all;
+                try {
+                    all = tag.getAll(key);
+                } catch (KeyNotFoundException | UnsupportedOperationException e) {
+                    continue;
+                }
+                List<String> nonEmpty = new ArrayList<String>(all.size());
+                for (String value : all) {
+                    if (value != null && !value.isEmpty()) {
+                        nonEmpty.add(value);
+                    }
+                }
+                if (!nonEmpty.isEmpty()) {
+                    values.put(key, Collections.unmodifiableList(nonEmpty));
+                }
+            }
+        }
+        return new CachedTag(values);
+    }
+
+    /**
+     * Read the values written by {@link #write(DataOutput)}
+     */
+    static CachedTag read(DataInputStream in) throws IOException {
+        Map<FieldKey, List<String>> values = new EnumMap<FieldKey, List<String>>(FieldKey.class);
+        //Each key takes at least its name length and value count, each value at least its length
+        int keyCount = CachedAudioHeader.readCount(in, in.readInt(), 8);
+        for (int i = 0; i < keyCount; i++) {
+            String name = CachedAudioHeader.readString(in);
+            int valueCount = CachedAudioHeader.readCount(in, in.readInt(), 4);
+            List<String> keyValues = new ArrayList<String>(valueCount);
+            for (int j = 0; j < valueCount; j++) {
+                keyValues.add(CachedAudioHeader.readString(in));
+            }
+            try {
+                values.put(FieldKey.valueOf(name), Collections.unmodifiableList(keyValues));
+            } catch (IllegalArgumentException e) {
+                //Written by a version with keys this version does not have
+                if (logger.isLoggable(Level.FINE)) {
+                    logger.fine("Ignoring unknown key in cache:" + name);
+                }
+            }
+        }
+        return new CachedTag(values);
+    }
+
+    void write(DataOutput out) throws IOException {
+        out.writeInt(values.size());
+        for (Map.Entry<FieldKey, List<String>> entry : values.entrySet()) {
+            CachedAudioHeader.writeString(out, entry.getKey().name());
+            out.writeInt(entry.getValue().size());
+            for (String value : entry.getValue()) {
+                CachedAudioHeader.writeString(out, value);
+            }
+        }
+    }
+
+    private static FieldKey toKey(String id) {
+        try {
+            return FieldKey.valueOf(id);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public List<String> getAll(FieldKey id) throws KeyNotFoundException {
+        List<String> keyValues = values.get(id);
+        return keyValues != null ? keyValues : Collections.<String>emptyList();
+    }
+
+    @Override
+    public String getFirst(FieldKey id) throws KeyNotFoundException {
+        return getValue(id, 0);
+    }
+
+    @Override
+    public String getFirst(String id) {
+        FieldKey key = toKey(id);
+        return key != null ? getFirst(key) : "";
+    }
+
+    @Override
+    public String getValue(FieldKey id, int n) {
+        List<String> keyValues = getAll(id);
+        return n >= 0 && n < keyValues.size() ? keyValues.get(n) : "";
+    }
+
+    @Override
+    public List<TagField> getFields(FieldKey id) throws KeyNotFoundException {
+        List<TagField> fields = new ArrayList<TagField>();
+        for (String value : getAll(id)) {
+            fields.add(new CachedTagField(id.name(), value));
+        }
+        return fields;
+    }
+
+    @Override
+    public List<TagField> getFields(String id) {
+        FieldKey key = toKey(id);
+        return key != null ? getFields(key) : new ArrayList<TagField>();
+    }
+
+    @Override
+    public Iterator<TagField> getFields() {
+        List<TagField> fields = new ArrayList<TagField>();
+        for (FieldKey key : values.keySet()) {
+            fields.addAll(getFields(key));
+        }
+        return fields.iterator();
+    }
+
+    @Override
+    public TagField getFirstField(FieldKey id) {
+        List<String> keyValues = getAll(id);
+        return keyValues.isEmpty() ? null : new CachedTagField(id.name(), keyValues.get(0));
+    }
+
+    @Override
+    public TagField getFirstField(String id) {
+        FieldKey key = toKey(id);
+        return key != null ? getFirstField(key) : null;
+    }
+
+    @Override
+    public boolean hasCommonFields() {
+        return !values.isEmpty();
+    }
+
+    @Override
+    public boolean hasField(FieldKey fieldKey) {
+        return values.containsKey(fieldKey);
+    }
+
+    @Override
+    public boolean hasField(String id) {
+        FieldKey key = toKey(id);
+        return key != null && hasField(key);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    @Override
+    public int getFieldCount() {
+        return getFieldCountIncludingSubValues();
+    }
+
+    @Override
+    public int getFieldCountIncludingSubValues() {
+        int count = 0;
+        for (List<String> keyValues : values.values()) {
+            count += keyValues.size();
+        }
+        return count;
+    }
+
+    /**
+     * Artwork is not stored in the cache
+     *
+     * @return an empty list
+     */
+    @Override
+    public List<Artwork> getArtworkList() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Artwork is not stored in the cache
+     *
+     * @return null
+     */
+    @Override
+    public Artwork getFirstArtwork() {
+        return null;
+    }
+
+    @Override
+    public void setField(FieldKey genericKey, String... value) {
+        throw new UnsupportedOperationException("Cached tag is read only");
+    }
+
+    @Override
+    public void addField(FieldKey genericKey, String... value) {
+        throw new UnsupportedOperationException("Cached tag is read only");
+    }
+
+    @Override
+    public void deleteField(FieldKey fieldKey) {
+        throw new UnsupportedOperationException("Cached tag is read only");
+    }
+
+    @Override
+    public void deleteField(String key) {
+        throw new UnsupportedOperationException("Cached tag is read only");
+    }
+
+    @Override
+    public boolean setEncoding(Charset enc) {
+        throw new UnsupportedOperationException("Cached tag is read only");
+    }
+
+    @Override
+    public void deleteArtworkField() {
+        throw new UnsupportedOperationException("Cached tag is read only");
+    }
+
+    @Override
+    public TagField createField(Artwork artwork) {
+        throw new UnsupportedOperationException("Cached tag is read only");
+    }
+
+    @Override
+    public void setField(Artwork artwork) {
+        throw new UnsupportedOperationException("Cached tag is read only");
+    }
+
+    @Override
+    public void addField(Artwork artwork) {
+        throw new UnsupportedOperationException("Cached tag is read only");
+    }
+
+    @Override
+    public void setField(TagField field) {
+        throw new UnsupportedOperationException("Cached tag is read only");
+    }
+
+    @Override
+    public void addField(TagField field) {
+        throw new UnsupportedOperationException("Cached tag is read only");
+    }
+
+    @Override
+    public TagField createField(FieldKey genericKey, String... value) {
+        throw new UnsupportedOperationException("Cached tag is read only");
+    }
+
+    @Override
+    public TagField createCompilationField(boolean value) {
+        throw new UnsupportedOperationException("Cached tag is read only");
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder("Cached Tag:\n");
+        for (Map.Entry<FieldKey, List<String>> entry : values.entrySet()) {
+            for (String value : entry.getValue()) {
+                out.append("\t").append(entry.getKey()).append(":").append(value).append("\n");
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * A read only text field of a cached tag
+     */
+    private static class CachedTagField implements TagTextField {
+        private final String id;
+        private final String content;
+
+        private CachedTagField(String id, String content) {
+            this.id = id;
+            this.content = content;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public String getContent() {
+            return content;
+        }
+
+        @Override
+        public Charset getEncoding() {
+            return StandardCharsets.UTF_8;
+        }
+
+        @Override
+        public byte[] getRawContent() {
+            return content.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean isBinary() {
+            return false;
+        }
+
+        @Override
+        public boolean isCommon() {
+            return true;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return content.isEmpty();
+        }
+
+        @Override
+        public void copyContent(TagField field) {
+            throw new UnsupportedOperationException("Cached tag is read only");
+        }
+
+        @Override
+        public void isBinary(boolean b) {
+            throw new UnsupportedOperationException("Cached tag is read only");
+        }
+
+        @Override
+        public void setContent(String content) {
+            throw new UnsupportedOperationException("Cached tag is read only");
+        }
+
+        @Override
+        public void setEncoding(Charset encoding) {
+            throw new UnsupportedOperationException("Cached tag is read only");
+        }
+
+        @Override
+        public String toString() {
+            return content;
+        }
+    }
+}
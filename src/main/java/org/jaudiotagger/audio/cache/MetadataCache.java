@@ -0,0 +1,474 @@
+package org.jaudiotagger.audio.cache;
+
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.AudioHeader;
+import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
+import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
+import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.TagException;
+import org.jaudiotagger.utils.DirectByteBufferUtils;
+import org.jaudiotagger.x.XAudioFile;
+import org.jaudiotagger.x.XAudioFileIO;
+import org.jaudiotagger.x.stream.ChannelCompat;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps the audio header and tag values of files read with {@link AudioFileIO} or {@link XAudioFileIO} in a file, so
+ * they can be returned on later runs without reading the audio files again.
+ *
+ * Entries are keyed by the path of the audio file and are only used while its size and modification time are the same
+ * as when it was read, otherwise the entry is discarded and the file is read again. When the total size of the entries
+ * would exceed the maximum size, the entries least recently used are discarded.
+ *
+ * The cache file is mapped into memory when the cache is opened and each entry is only decoded when it is requested,
+ * so opening a large cache costs little more than reading the paths it holds. Changes are written to the cache file by
+ * {@link #flush()} and {@link #close()}, which replace the whole file.
+ *
+ * A file found in the cache is returned with a {@link CachedAudioHeader} and a read only {@link CachedTag} holding
+ * the text values of the tag, without artwork. A file that is not found is read in full and returned as read.
+ *
+ * All methods are thread safe.
+ */
+public class MetadataCache implements Closeable {
+
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.cache");
+
+    /**
+     * Default maximum size of the cache file
+     */
+    public static final long DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+
+    private static final int MAGIC = 0x4A415443;
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 4;
+
+    /**
+     * An entry of the cache, its record is held either in memory or in the mapped cache file
+     */
+    private static class Entry {
+        private final String key;
+        private final long size;
+        private final long lastModified;
+        private final int length;
+        private byte[] record;
+        private int offset;
+
+        private Entry(String key, long size, long lastModified, byte[] record, int offset, int length) {
+            this.key = key;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.record = record;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * The decoded values of an entry
+     */
+    private static class Values {
+        private final String ext;
+        private final CachedAudioHeader audioHeader;
+        private final CachedTag tag;
+
+        private Values(String ext, CachedAudioHeader audioHeader, CachedTag tag) {
+            this.ext = ext;
+            this.audioHeader = audioHeader;
+            this.tag = tag;
+        }
+    }
+
+    private final File cacheFile;
+    private final long maxSize;
+
+    /**
+     * Entries in the order they were last used, least recently used first
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    private MappedByteBuffer mapped;
+    private long byteSize = FILE_HEADER_SIZE;
+    private boolean dirty;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Open the cache held in the given file with the {@link #DEFAULT_MAX_SIZE}
+     *
+     * @see #open(File, long)
+     */
+    public static MetadataCache open(File cacheFile) throws IOException {
+        return open(cacheFile, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Open the cache held in the given file, creating an empty cache if the file does not exist. If the file is not a
+     * cache file, or is damaged, the entries that cannot be read are discarded.
+     *
+     * @param cacheFile the file holding the cache
+     * @param maxSize   maximum size in bytes of the cache file
+     * @return the cache, which must be closed to save changes
+     * @throws IOException if the file exists but cannot be read
+     */
+    public static MetadataCache open(File cacheFile, long maxSize) throws IOException {
+        MetadataCache cache = new MetadataCache(cacheFile, maxSize);
+        cache.load();
+        return cache;
+    }
+
+    private MetadataCache(File cacheFile, long maxSize) {
+        if (maxSize <= FILE_HEADER_SIZE) {
+            throw new IllegalArgumentException("maxSize too small:" + maxSize);
+        }
+        this.cacheFile = cacheFile;
+        this.maxSize = Math.min(maxSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Read the file, from the cache if it has not changed since it was cached
+     *
+     * @param f The file to read.
+     * @return The AudioFile with a {@link CachedAudioHeader} and {@link CachedTag} if found in the cache, otherwise
+     * as returned by {@link AudioFileIO#read(File)}
+     * @throws CannotReadException        If the file is not in the cache and could not be read
+     * @throws IOException
+     * @throws TagException
+     * @throws ReadOnlyFileException
+     * @throws InvalidAudioFrameException
+     */
+    public AudioFile read(File f)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException {
+        String key = f.getAbsolutePath();
+        long size = f.length();
+        long lastModified = f.lastModified();
+        Values values = get(key, size, lastModified);
+        if (values != null) {
+            AudioFile audioFile = new AudioFile(f, values.audioHeader, values.tag);
+            audioFile.setExt(values.ext);
+            return audioFile;
+        }
+        AudioFile audioFile = AudioFileIO.read(f);
+        put(key, size, lastModified, audioFile.getExt(), audioFile.getAudioHeader(), audioFile.getTag());
+        return audioFile;
+    }
+
+    /**
+     * Read the source, from the cache if it has not changed since it was cached
+     *
+     * @param f            the source
+     * @param ext          extension of the format of the source
+     * @param key          identifies the source, such as its path or uri
+     * @param lastModified modification time of the source in milliseconds
+     * @return The XAudioFile with a {@link CachedAudioHeader} and {@link CachedTag} if found in the cache, otherwise
+     * as returned by {@link XAudioFileIO#read(ChannelCompat, String)}
+     */
+    public XAudioFile read(ChannelCompat f, String ext, String key, long lastModified)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException {
+        long size = f.size();
+        Values values = get(key, size, lastModified);
+        if (values != null) {
+            XAudioFile audioFile = new XAudioFile(values.audioHeader, values.tag);
+            audioFile.setExt(values.ext);
+            return audioFile;
+        }
+        XAudioFile audioFile = XAudioFileIO.read(f, ext);
+        put(key, size, lastModified, audioFile.getExt(), audioFile.getAudioHeader(), audioFile.getTag());
+        return audioFile;
+    }
+
+    /**
+     * @return the values cached for the key, or null if there are none or they are out of date
+     */
+    private synchronized Values get(String key, long size, long lastModified) {
+        Entry entry = entries.get(key);
+        if (entry != null && (entry.size != size || entry.lastModified != lastModified)) {
+            if (logger.isLoggable(Level.FINER)) {
+                logger.finer("Discarding out of date entry:" + key);
+            }
+            removeEntry(key);
+            entry = null;
+        }
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(getRecord(entry)));
+            //Skip the key, size and modification time, already known
+            in.skipBytes(in.readInt() + 16);
+            String ext = CachedAudioHeader.readString(in);
+            CachedAudioHeader audioHeader = new CachedAudioHeader(in);
+            CachedTag tag = CachedTag.read(in);
+            hitCount++;
+            return new Values(ext, audioHeader, tag);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Discarding damaged entry:" + key, e);
+            removeEntry(key);
+            missCount++;
+            return null;
+        }
+    }
+
+    private void put(String key, long size, long lastModified, String ext, AudioHeader audioHeader, Tag tag) {
+        byte[] record;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            CachedAudioHeader.writeString(out, key);
+            out.writeLong(size);
+            out.writeLong(lastModified);
+            CachedAudioHeader.writeString(out, ext);
+            new CachedAudioHeader(audioHeader).write(out);
+            CachedTag.copyOf(tag).write(out);
+            out.close();
+            record = bytes.toByteArray();
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.FINE, "Unable to cache:" + key, e);
+            return;
+        }
+        if (FILE_HEADER_SIZE + RECORD_HEADER_SIZE + record.length > maxSize) {
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("Too large to cache:" + key);
+            }
+            return;
+        }
+
+        synchronized (this) {
+            removeEntry(key);
+            entries.put(key, new Entry(key, size, lastModified, record, 0, record.length));
+            byteSize += RECORD_HEADER_SIZE + record.length;
+            dirty = true;
+            evict();
+        }
+    }
+
+    /**
+     * Discard the entry for the key, if any
+     *
+     * @param key path of the file, as returned by {@link File#getAbsolutePath()}, or the key given when reading a
+     *            {@link ChannelCompat}
+     */
+    public synchronized void remove(String key) {
+        removeEntry(key);
+    }
+
+    private void removeEntry(String key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            byteSize -= RECORD_HEADER_SIZE + entry.length;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Discard the entries least recently used until the cache is no larger than its maximum size
+     */
+    private void evict() {
+        Iterator<Entry> i = entries.values().iterator();
+        while (byteSize > maxSize && i.hasNext()) {
+            Entry entry = i.next();
+            i.remove();
+            byteSize -= RECORD_HEADER_SIZE + entry.length;
+            dirty = true;
+            if (logger.isLoggable(Level.FINER)) {
+                logger.finer("Evicting:" + entry.key);
+            }
+        }
+    }
+
+    /**
+     * Discard every entry
+     */
+    public synchronized void clear() {
+        entries.clear();
+        byteSize = FILE_HEADER_SIZE;
+        dirty = true;
+    }
+
+    /**
+     * @return number of files in the cache
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return size in bytes the cache file will have once flushed
+     */
+    public synchronized long getByteSize() {
+        return byteSize;
+    }
+
+    /**
+     * @return number of reads returned from the cache
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return number of reads that had to read the file
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    private byte[] getRecord(Entry entry) {
+        if (entry.record != null) {
+            return entry.record;
+        }
+        byte[] record = new byte[entry.length];
+        ByteBuffer buffer = mapped.duplicate();
+        buffer.position(entry.offset);
+        buffer.get(record);
+        return record;
+    }
+
+    /**
+     * Index the entries of the cache file, leaving their values in the mapped file until they are requested
+     */
+    private void load() throws IOException {
+        if (!cacheFile.isFile() || cacheFile.length() <= FILE_HEADER_SIZE) {
+            return;
+        }
+        map();
+        ByteBuffer buffer = mapped.duplicate();
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            logger.warning("Ignoring cache file of unknown format:" + cacheFile);
+            release();
+            dirty = true;
+            return;
+        }
+        int position = FILE_HEADER_SIZE;
+        while (position + RECORD_HEADER_SIZE <= buffer.limit()) {
+            int length = buffer.getInt(position);
+            int offset = position + RECORD_HEADER_SIZE;
+            if (length <= 0 || length > buffer.limit() - offset) {
+                logger.warning("Ignoring damaged end of cache file:" + cacheFile + " at:" + position);
+                dirty = true;
+                break;
+            }
+            int keyLength = buffer.getInt(offset);
+            if (keyLength < 0 || keyLength > length - 20) {
+                logger.warning("Ignoring damaged end of cache file:" + cacheFile + " at:" + position);
+                dirty = true;
+                break;
+            }
+            byte[] key = new byte[keyLength];
+            ByteBuffer keyBuffer = buffer.duplicate();
+            keyBuffer.position(offset + 4);
+            keyBuffer.get(key);
+            long size = buffer.getLong(offset + 4 + keyLength);
+            long lastModified = buffer.getLong(offset + 12 + keyLength);
+            String path = new String(key, StandardCharsets.UTF_8);
+            entries.put(path, new Entry(path, size, lastModified, null, offset, length));
+            byteSize += RECORD_HEADER_SIZE + length;
+            position = offset + length;
+        }
+        evict();
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Loaded " + entries.size() + " entries from:" + cacheFile);
+        }
+    }
+
+    private void map() throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(cacheFile, "r");
+        try {
+            //The mapping stays valid once the file is closed
+            mapped = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+        } finally {
+            raf.close();
+        }
+    }
+
+    private void release() {
+        if (mapped != null) {
+            DirectByteBufferUtils.release(mapped);
+            mapped = null;
+        }
+    }
+
+    /**
+     * Write the entries to the cache file if they have changed since it was last written, replacing the file
+     *
+     * @throws IOException if the cache file cannot be written
+     */
+    public synchronized void flush() throws IOException {
+        if (!dirty) {
+            return;
+        }
+        File tempFile = new File(cacheFile.getPath() + ".tmp");
+        int[] offsets = new int[entries.size()];
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            int position = FILE_HEADER_SIZE;
+            int i = 0;
+            for (Entry entry : entries.values()) {
+                out.writeInt(entry.length);
+                out.write(getRecord(entry));
+                offsets[i++] = position + RECORD_HEADER_SIZE;
+                position += RECORD_HEADER_SIZE + entry.length;
+            }
+        } finally {
+            out.close();
+        }
+
+        //The old file must be unmapped before it can be replaced on some platforms
+        release();
+        if (!tempFile.renameTo(cacheFile) && !(cacheFile.delete() && tempFile.renameTo(cacheFile))) {
+            //Entries not held in memory are still in the old file if it could not be deleted
+            if (cacheFile.isFile()) {
+                map();
+            } else {
+                clear();
+            }
+            throw new IOException("Unable to replace cache file:" + cacheFile);
+        }
+        map();
+        int i = 0;
+        for (Entry entry : entries.values()) {
+            entry.record = null;
+            entry.offset = offsets[i++];
+        }
+        dirty = false;
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Saved " + entries.size() + " entries to:" + cacheFile);
+        }
+    }
+
+    /**
+     * Write any changes to the cache file and release the mapping of the file, the cache must not be used afterwards
+     *
+     * @throws IOException if the cache file cannot be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            release();
+        }
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.jaudiotagger.audio.dsf;
 
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.AudioFileWriter2;
 import org.jaudiotagger.audio.generic.Utils;
@@ -39,15 +40,17 @@ public class DsfFileWriter extends AudioFileWriter2 {
             DsdChunk dsd = DsdChunk.readChunk(Utils.readFileDataIntoBufferLE(fc, DsdChunk.DSD_HEADER_LENGTH));
             if (dsd != null) {
                 if (dsd.getMetadataOffset() > 0) {
+                    checkExistingID3Chunk(fc, dsd, fileName);
+                    //Metadata is always the last chunk so the existing tag is just overwritten in place
                     fc.position(dsd.getMetadataOffset());
-                    ID3Chunk id3Chunk = ID3Chunk.readChunk(Utils.readFileDataIntoBufferLE(fc, (int) (fc.size() - fc.position())));
-                    if (id3Chunk != null) {
-                        //Remove Existing tag
-                        fc.position(dsd.getMetadataOffset());
-                        final ByteBuffer bb = convert((AbstractID3v2Tag) tag);
-                        fc.write(bb);
-                    } else {
-                        throw new CannotWriteException(fileName + "Could not find existing ID3v2 Tag");
+                    final ByteBuffer bb = convert((AbstractID3v2Tag) tag);
+                    fc.write(bb);
+                    //Remove any remainder of a larger existing tag and keep the file length correct
+                    if (fc.position() != fc.size() || dsd.getFileLength() != fc.size()) {
+                        fc.truncate(fc.position());
+                        dsd.setFileLength(fc.size());
+                        fc.position(0);
+                        fc.write(dsd.write());
                     }
                 } else {
                     //Write new tag and new offset and size
@@ -65,6 +68,41 @@ public class DsfFileWriter extends AudioFileWriter2 {
         }
     }
 
+    /**
+     * The metadata is always the last chunk, so it is either overwritten or extended at the end of the file
+     */
+    @Override
+    protected WritePlan planWriteTag(Tag tag, FileChannel fc, final String fileName) throws CannotWriteException, IOException {
+        DsdChunk dsd = DsdChunk.readChunk(Utils.readFileDataIntoBufferLE(fc, DsdChunk.DSD_HEADER_LENGTH));
+        if (dsd == null) {
+            throw new CannotWriteException(fileName + " Not a valid dsf file");
+        }
+        long newSize = convert((AbstractID3v2Tag) tag).limit();
+        if (dsd.getMetadataOffset() > 0) {
+            checkExistingID3Chunk(fc, dsd, fileName);
+            long existingSize = fc.size() - dsd.getMetadataOffset();
+            return new WritePlan(newSize <= existingSize ? WritePlan.Strategy.IN_PLACE : WritePlan.Strategy.APPEND, newSize, existingSize, 0);
+        }
+        return new WritePlan(WritePlan.Strategy.APPEND, newSize, 0, 0);
+    }
+
+    /**
+     * Check the metadata offset of the dsd chunk points to an ID3v2 tag
+     *
+     * @param fc
+     * @param dsd
+     * @param fileName
+     * @throws CannotWriteException if there is no ID3v2 tag at the metadata offset
+     * @throws IOException
+     */
+    private void checkExistingID3Chunk(FileChannel fc, DsdChunk dsd, final String fileName) throws CannotWriteException, IOException {
+        fc.position(dsd.getMetadataOffset());
+        ID3Chunk id3Chunk = ID3Chunk.readChunk(Utils.readFileDataIntoBufferLE(fc, (int) (fc.size() - fc.position())));
+        if (id3Chunk == null) {
+            throw new CannotWriteException(fileName + "Could not find existing ID3v2 Tag");
+        }
+    }
+
     /**
      * Convert ID3 tag into a ByteBuffer, also ensures always even to avoid problems
      *
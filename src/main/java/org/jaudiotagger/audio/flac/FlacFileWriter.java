@@ -18,10 +18,12 @@
  */
 package org.jaudiotagger.audio.flac;
 
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.AudioFileWriter2;
 import org.jaudiotagger.tag.Tag;
 
+import java.io.IOException;
 import java.nio.channels.FileChannel;
 
 
@@ -42,6 +44,10 @@ public class FlacFileWriter extends AudioFileWriter2 {
         tw.delete(tag, channel, fileName);
     }
 
+    @Override
+    protected WritePlan planWriteTag(Tag tag, FileChannel channel, final String fileName) throws CannotWriteException, IOException {
+        return tw.plan(tag, channel, fileName);
+    }
 
 }
 
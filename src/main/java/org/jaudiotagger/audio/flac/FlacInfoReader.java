@@ -28,6 +28,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.channels.FileChannel;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -39,7 +40,9 @@ public class FlacInfoReader {
 
 
     public FlacAudioHeader read(FileChannel fc, final String fileName) throws CannotReadException, IOException {
-        logger.config(fileName + ":start");
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(fileName + ":start");
+        }
         FlacStreamReader flacStream = new FlacStreamReader(fc, fileName + " ");
         flacStream.findStream();
 
@@ -108,7 +111,9 @@ public class FlacInfoReader {
             int count = 0;
             while (!isLastBlock) {
                 MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(fc);
-                logger.config(f + ":Found block:" + mbh.getBlockType());
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(f + ":Found block:" + mbh.getBlockType());
+                }
                 fc.position(fc.position() + mbh.getDataLength());
                 isLastBlock = mbh.isLastBlock();
                 count++;
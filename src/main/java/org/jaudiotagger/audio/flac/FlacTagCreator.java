@@ -30,6 +30,7 @@ import org.jaudiotagger.tag.vorbiscomment.VorbisCommentCreator;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.util.ListIterator;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -39,7 +40,10 @@ public class FlacTagCreator extends AbstractTagCreator<ByteBuffer> {
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.flac");
 
-    //TODO make an option
+    /**
+     * Default padding, the padding actually used when writing is set by
+     * {@link org.jaudiotagger.tag.TagOptionSingleton#getWritePaddingSize()}
+     */
     public static final int DEFAULT_PADDING = 4000;
 
     private static final VorbisCommentCreator creator = new VorbisCommentCreator();
@@ -51,7 +55,9 @@ public class FlacTagCreator extends AbstractTagCreator<ByteBuffer> {
      * @throws UnsupportedEncodingException
      */
     public ByteBuffer convert(Tag tag, int paddingSize) throws UnsupportedEncodingException {
-        logger.config("Convert flac tag:padding:" + paddingSize);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Convert flac tag:padding:" + paddingSize);
+        }
         FlacTag flacTag = (FlacTag) tag;
 
         int tagLength = 0;
@@ -64,7 +70,9 @@ public class FlacTagCreator extends AbstractTagCreator<ByteBuffer> {
             tagLength += image.getBytes().limit() + MetadataBlockHeader.HEADER_LENGTH;
         }
 
-        logger.config("Convert flac tag:taglength:" + tagLength);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Convert flac tag:taglength:" + tagLength);
+        }
         ByteBuffer buf = ByteBuffer.allocate(tagLength + paddingSize);
 
         MetadataBlockHeader vorbisHeader;
@@ -95,7 +103,9 @@ public class FlacTagCreator extends AbstractTagCreator<ByteBuffer> {
         }
 
         //Padding
-        logger.config("Convert flac tag at" + buf.position());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Convert flac tag at" + buf.position());
+        }
         if (paddingSize > 0) {
             int paddingDataSize = paddingSize - MetadataBlockHeader.HEADER_LENGTH;
             MetadataBlockHeader paddingHeader = new MetadataBlockHeader(true, BlockType.PADDING, paddingDataSize);
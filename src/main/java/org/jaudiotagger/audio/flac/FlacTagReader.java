@@ -21,12 +21,18 @@ package org.jaudiotagger.audio.flac;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockHeader;
+import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.logging.ParseTrace;
 import org.jaudiotagger.tag.InvalidFrameException;
+import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.flac.FlacTag;
+import org.jaudiotagger.tag.images.ImageDataReference;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentReader;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
+import org.jaudiotagger.utils.ByteBufferAllocator;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
@@ -46,6 +52,11 @@ public class FlacTagReader {
 
 
     public FlacTag read(FileChannel fc, final String path) throws CannotReadException, IOException {
+        ImageDataReference.Source imageSource = null;
+        if (TagOptionSingleton.getInstance().isLoadArtworkLazily()) {
+            imageSource = new ImageDataReference.FileSource(new File(path));
+        }
+
         FlacStreamReader flacStream = new FlacStreamReader(fc, path + " ");
         flacStream.findStream();
 
@@ -60,6 +71,9 @@ public class FlacTagReader {
                 logger.config(path + " Looking for MetaBlockHeader at:" + fc.position());
             }
 
+            long traceStart = ParseTrace.start();
+            long blockStart = ParseTrace.isTracing(traceStart) ? fc.position() : -1;
+
             //Read the header
             MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(fc);
             if (mbh == null) {
@@ -77,14 +91,27 @@ public class FlacTagReader {
                 switch (mbh.getBlockType()) {
                     //We got a vorbiscomment comment block, parse it
                     case VORBIS_COMMENT:
-                        ByteBuffer commentHeaderRawPacket = ByteBuffer.allocate(mbh.getDataLength());
-                        fc.read(commentHeaderRawPacket);
-                        tag = vorbisCommentReader.read(commentHeaderRawPacket.array(), false);
+                        ByteBufferAllocator allocator = TagOptionSingleton.getInstance().getByteBufferAllocator();
+                        ByteBuffer commentHeaderRawPacket = allocator.acquire(mbh.getDataLength(), false);
+                        try {
+                            //The buffer is pooled so must be filled, a short read would leave bytes of a previous file
+                            if (Utils.readFromChannel(fc, commentHeaderRawPacket) < mbh.getDataLength()) {
+                                throw new CannotReadException(path + " Vorbis comment block truncated, expected " + mbh.getDataLength() + " bytes");
+                            }
+                            tag = vorbisCommentReader.read(commentHeaderRawPacket.array(), mbh.getDataLength(), false);
+                        } finally {
+                            allocator.release(commentHeaderRawPacket);
+                        }
                         break;
 
                     case PICTURE:
                         try {
-                            MetadataBlockDataPicture mbdp = new MetadataBlockDataPicture(mbh, fc);
+                            MetadataBlockDataPicture mbdp;
+                            if (imageSource != null) {
+                                mbdp = new MetadataBlockDataPicture(mbh, fc, imageSource);
+                            } else {
+                                mbdp = new MetadataBlockDataPicture(mbh, fc);
+                            }
                             images.add(mbdp);
                         } catch (IOException ioe) {
                             logger.warning(path + "Unable to read picture metablock, ignoring:" + ioe.getMessage());
@@ -104,8 +131,14 @@ public class FlacTagReader {
                 }
             }
             isLastBlock = mbh.isLastBlock();
+            if (ParseTrace.isTracing(traceStart)) {
+                ParseTrace.event(ParseTrace.FLAC_BLOCK, String.valueOf(mbh.getBlockType()), blockStart,
+                        MetadataBlockHeader.HEADER_LENGTH + mbh.getDataLength(), traceStart);
+            }
+        }
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Audio should start at:" + Hex.asHex(fc.position()));
         }
-        logger.config("Audio should start at:" + Hex.asHex(fc.position()));
 
         //Note there may not be either a tag or any images, no problem this is valid however to make it easier we
         //just initialize Flac with an empty VorbisTag
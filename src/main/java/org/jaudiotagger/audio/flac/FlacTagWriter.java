@@ -18,29 +18,23 @@
  */
 package org.jaudiotagger.audio.flac;
 
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.flac.metadatablock.*;
+import org.jaudiotagger.audio.generic.AudioDataShifter;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.flac.FlacTag;
-import org.jaudiotagger.utils.DirectByteBufferUtils;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
-import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
-import java.nio.channels.FileChannel.MapMode;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static org.jaudiotagger.utils.PrimitiveUtils.safeLongToInt;
-
 
 /**
  * Write Flac Tag
@@ -77,66 +71,21 @@ public class FlacTagWriter {
      * @throws CannotWriteException
      */
     public void write(Tag tag, FileChannel fc, final String fileName) throws CannotWriteException {
-        logger.config(fileName + " Writing tag");
-        try {
-            MetadataBlockInfo blockInfo = new MetadataBlockInfo();
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(fileName + " Writing tag");
+        }
 
-            //Read existing data
-            FlacStreamReader flacStream = new FlacStreamReader(fc, fileName + " ");
-            try {
-                flacStream.findStream();
-            } catch (CannotReadException cre) {
-                throw new CannotWriteException(cre.getMessage());
+        //Images read lazily are still held in the file so must be read before it is modified
+        if (tag instanceof FlacTag) {
+            for (MetadataBlockDataPicture image : ((FlacTag) tag).getImages()) {
+                image.loadImageData();
             }
+        }
 
-            boolean isLastBlock = false;
-            while (!isLastBlock) {
-                try {
-                    MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(fc);
-                    if (mbh.getBlockType() != null) {
-                        switch (mbh.getBlockType()) {
-                            case STREAMINFO: {
-                                blockInfo.streamInfoBlock = new MetadataBlock(mbh, new MetadataBlockDataStreamInfo(mbh, fc));
-                                break;
-                            }
-
-                            case VORBIS_COMMENT:
-                            case PADDING:
-                            case PICTURE: {
-                                //All these will be replaced by the new metadata so we just treat as padding in order
-                                //to determine how much space is already allocated in the file
-                                fc.position(fc.position() + mbh.getDataLength());
-                                MetadataBlockData mbd = new MetadataBlockDataPadding(mbh.getDataLength());
-                                blockInfo.metadataBlockPadding.add(new MetadataBlock(mbh, mbd));
-                                break;
-                            }
-                            case APPLICATION: {
-                                MetadataBlockData mbd = new MetadataBlockDataApplication(mbh, fc);
-                                blockInfo.metadataBlockApplication.add(new MetadataBlock(mbh, mbd));
-                                break;
-                            }
-                            case SEEKTABLE: {
-                                MetadataBlockData mbd = new MetadataBlockDataSeekTable(mbh, fc);
-                                blockInfo.metadataBlockSeekTable.add(new MetadataBlock(mbh, mbd));
-                                break;
-                            }
-                            case CUESHEET: {
-                                MetadataBlockData mbd = new MetadataBlockDataCueSheet(mbh, fc);
-                                blockInfo.metadataBlockCueSheet.add(new MetadataBlock(mbh, mbd));
-                                break;
-                            }
-                            default: {
-                                //What are the consequences of doing this
-                                fc.position(fc.position() + mbh.getDataLength());
-                                break;
-                            }
-                        }
-                    }
-                    isLastBlock = mbh.isLastBlock();
-                } catch (CannotReadException cre) {
-                    throw new CannotWriteException(cre.getMessage());
-                }
-            }
+        try {
+            //Read existing data
+            FlacStreamReader flacStream = new FlacStreamReader(fc, fileName + " ");
+            MetadataBlockInfo blockInfo = readMetadataBlocks(fc, flacStream);
 
             //Number of bytes in the existing file available before audio data
             int availableRoom = computeAvailableRoom(blockInfo);
@@ -153,12 +102,16 @@ public class FlacTagWriter {
             //Go to start of Flac within file
             fc.position(flacStream.getStartOfFlacInFile());
 
-            logger.config(fileName + ":Writing tag available bytes:" + availableRoom + ":needed bytes:" + neededRoom);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(fileName + ":Writing tag available bytes:" + availableRoom + ":needed bytes:" + neededRoom);
+            }
 
             //There is enough room to fit the tag without moving the audio just need to
             //adjust padding accordingly need to allow space for padding header if padding required
-            if ((availableRoom == neededRoom) || (availableRoom > neededRoom + MetadataBlockHeader.HEADER_LENGTH)) {
-                logger.config(fileName + " Room to Rewrite");
+            if (isRoomToRewrite(availableRoom, neededRoom)) {
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(fileName + " Room to Rewrite");
+                }
                 //Jump over Id3 (if exists) and flac header
                 fc.position(flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
 
@@ -170,9 +123,11 @@ public class FlacTagWriter {
             }
             //Need to move audio
             else {
-                logger.config(fileName + ":Audio must be shifted " + "NewTagSize:" + newTagSize + ":AvailableRoom:" + availableRoom + ":MinimumAdditionalRoomRequired:" + (neededRoom - availableRoom));
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(fileName + ":Audio must be shifted " + "NewTagSize:" + newTagSize + ":AvailableRoom:" + availableRoom + ":MinimumAdditionalRoomRequired:" + (neededRoom - availableRoom));
+                }
                 //As we are having to both anyway may as well put in the default padding
-                insertUsingChunks(fileName, tag, fc, blockInfo, flacStream, neededRoom + FlacTagCreator.DEFAULT_PADDING, availableRoom);
+                insertUsingShift(fileName, tag, fc, blockInfo, flacStream, neededRoom + getPaddingSize(), availableRoom);
             }
         } catch (IOException ioe) {
             logger.log(Level.SEVERE, ioe.getMessage(), ioe);
@@ -181,220 +136,156 @@ public class FlacTagWriter {
     }
 
     /**
-     * Insert metadata into space that is not large enough, so have to shift existing audio data by copying into buffer
-     * and the reinserting after adding the metadata
-     * <p>
-     * However this method requires a contiguous amount of memory equal to the size of the audio to be available and this
-     * can cause a failure on low memory systems, so no longer used.
+     * Work out how {@link #write(Tag, FileChannel, String)} would write the tag, without modifying the file
      *
      * @param tag
      * @param fc
-     * @param blockInfo
-     * @param flacStream
-     * @param availableRoom
+     * @param fileName
+     * @return in place if the tag fits in the space used by the existing metadata blocks, otherwise moving the audio
+     * @throws CannotWriteException
      * @throws IOException
-     * @throws UnsupportedEncodingException
      */
-    private void insertUsingDirectBuffer(String fileName, Tag tag, FileChannel fc, MetadataBlockInfo blockInfo, FlacStreamReader flacStream, int availableRoom) throws IOException {
-        //Find end of metadata blocks (start of Audio), i.e start of Flac + 4 bytes for 'fLaC', 4 bytes for streaminfo header and
-        //34 bytes for streaminfo and then size of all the other existing blocks
-        fc.position(flacStream.getStartOfFlacInFile()
-                + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH
-                + MetadataBlockHeader.HEADER_LENGTH
-                + MetadataBlockDataStreamInfo.STREAM_INFO_DATA_LENGTH
-                + availableRoom);
-
-        //And copy into Buffer, because direct buffer doesnt use heap
-        ByteBuffer audioData = ByteBuffer.allocateDirect((int) (fc.size() - fc.position()));
-        fc.read(audioData);
-        audioData.flip();
-
-        //Jump over Id3 (if exists) Flac Header
-        fc.position(flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
-        writeOtherMetadataBlocks(fc, blockInfo);
-
-        //Write tag (and add some default padding)
-        fc.write(tc.convert(tag, FlacTagCreator.DEFAULT_PADDING));
-
-        //Write Audio
-        fc.write(audioData);
+    public WritePlan plan(Tag tag, FileChannel fc, final String fileName) throws CannotWriteException, IOException {
+        FlacStreamReader flacStream = new FlacStreamReader(fc, fileName + " ");
+        MetadataBlockInfo blockInfo = readMetadataBlocks(fc, flacStream);
+        int availableRoom = computeAvailableRoom(blockInfo);
+        int neededRoom = tc.convert(tag).limit() + computeNeededRoom(blockInfo);
+        if (isRoomToRewrite(availableRoom, neededRoom)) {
+            return new WritePlan(WritePlan.Strategy.IN_PLACE, availableRoom, availableRoom, 0);
+        }
+        return new WritePlan(WritePlan.Strategy.MOVE_AUDIO, neededRoom + getPaddingSize(), availableRoom, fc.size() - getAudioStart(flacStream, availableRoom));
     }
 
-
     /**
-     * Insert metadata into space that is not large enough
-     * <p>
-     * We do this by reading/writing chunks of data allowing it to work on low memory systems
-     * <p>
-     * Chunk size defined by TagOptionSingleton.getInstance().getWriteChunkSize()
-     *
-     * @param tag
-     * @param fc
-     * @param blockInfo
-     * @param flacStream
-     * @param neededRoom
-     * @param availableRoom
-     * @throws IOException
-     * @throws UnsupportedEncodingException
+     * @return true if the new metadata fits exactly in the available room, or leaves enough room for a padding block
      */
-    private void insertUsingChunks(String file, Tag tag, FileChannel fc, MetadataBlockInfo blockInfo, FlacStreamReader flacStream, int neededRoom, int availableRoom) throws IOException, UnsupportedEncodingException {
-        long originalFileSize = fc.size();
+    private static boolean isRoomToRewrite(int availableRoom, int neededRoom) {
+        return (availableRoom == neededRoom) || (availableRoom > neededRoom + MetadataBlockHeader.HEADER_LENGTH);
+    }
 
-        //Find end of metadata blocks (start of Audio), i.e start of Flac + 4 bytes for 'fLaC', 4 bytes for streaminfo header and
-        //34 bytes for streaminfo and then size of all the other existing blocks
-        long audioStart = flacStream.getStartOfFlacInFile()
+    /**
+     * @return end of metadata blocks (start of Audio), i.e start of Flac + 4 bytes for 'fLaC', 4 bytes for streaminfo
+     * header and 34 bytes for streaminfo and then size of all the other existing blocks
+     */
+    private static long getAudioStart(FlacStreamReader flacStream, int availableRoom) {
+        return flacStream.getStartOfFlacInFile()
                 + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH
                 + MetadataBlockHeader.HEADER_LENGTH
                 + MetadataBlockDataStreamInfo.STREAM_INFO_DATA_LENGTH
                 + availableRoom;
-
-        //Extra Space Required for larger metadata block
-        int extraSpaceRequired = neededRoom - availableRoom;
-        logger.config(file + " Audio needs shifting:" + extraSpaceRequired);
-
-        //ChunkSize must be at least as large as the extra space required to write the metadata
-        int chunkSize = (int) TagOptionSingleton.getInstance().getWriteChunkSize();
-        if (chunkSize < extraSpaceRequired) {
-            chunkSize = extraSpaceRequired;
-        }
-
-        Queue<ByteBuffer> queue = new LinkedBlockingQueue<>();
-
-        //Read first chunk of audio
-        fc.position(audioStart);
-        {
-            ByteBuffer audioBuffer = ByteBuffer.allocateDirect(chunkSize);
-            fc.read(audioBuffer);
-            audioBuffer.flip();
-            queue.add(audioBuffer);
-        }
-        long readPosition = fc.position();
-
-        //Jump over Id3 (if exists) and Flac Header
-        fc.position(flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
-        writeOtherMetadataBlocks(fc, blockInfo);
-        fc.write(tc.convert(tag, FlacTagCreator.DEFAULT_PADDING));
-        long writePosition = fc.position();
-
-
-        fc.position(readPosition);
-        while (fc.position() < originalFileSize) {
-            //Read next chunk
-            ByteBuffer audioBuffer = ByteBuffer.allocateDirect(chunkSize);
-            fc.read(audioBuffer);
-            readPosition = fc.position();
-            audioBuffer.flip();
-            queue.add(audioBuffer);
-
-            //Write previous chunk
-            fc.position(writePosition);
-            fc.write(queue.remove());
-            writePosition = fc.position();
-
-            fc.position(readPosition);
-        }
-        fc.position(writePosition);
-        fc.write(queue.remove());
     }
 
     /**
-     * Insert new metadata into file by using memory mapped file, and if fails write in chunks
-     * <p>
-     * But this is problematic on 32bit systems for large flac files may not be able to map a contiguous address space large enough
-     * for a large audio size , so no longer used since better to go straight to using chunks
+     * Read the existing metadata blocks, leaving the channel positioned at the start of the audio
      *
-     * @param tag
      * @param fc
-     * @param blockInfo
      * @param flacStream
-     * @param neededRoom
-     * @param availableRoom
+     * @return the blocks, with the tag, picture and padding blocks all treated as padding
      * @throws IOException
-     * @throws UnsupportedEncodingException
+     * @throws CannotWriteException
      */
-    private void insertTagAndShift(String fileName, Tag tag, FileChannel fc, MetadataBlockInfo blockInfo, FlacStreamReader flacStream, int neededRoom, int availableRoom) throws IOException, UnsupportedEncodingException {
-        int headerLength = flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH + MetadataBlockHeader.HEADER_LENGTH // this should be the length of the block header for the stream info
-                + MetadataBlockDataStreamInfo.STREAM_INFO_DATA_LENGTH;
-        long targetSizeBeforeAudioData = headerLength + neededRoom + FlacTagCreator.DEFAULT_PADDING;
-        long remainderTargetSize = fc.size() - (headerLength + availableRoom);
-        long totalTargetSize = targetSizeBeforeAudioData + remainderTargetSize;
-
-        MappedByteBuffer mappedFile = null;
+    private MetadataBlockInfo readMetadataBlocks(FileChannel fc, FlacStreamReader flacStream) throws IOException, CannotWriteException {
+        MetadataBlockInfo blockInfo = new MetadataBlockInfo();
         try {
-            //Use ByteBuffer
-            mappedFile = fc.map(MapMode.READ_WRITE, 0, totalTargetSize);
-            insertTagAndShiftViaMappedByteBuffer(tag, mappedFile, fc, targetSizeBeforeAudioData, totalTargetSize, blockInfo, flacStream, neededRoom, availableRoom);
-        } catch (IOException ioe) {
-            //#175: Flac Map error on write
-            if (mappedFile == null) {
-                insertUsingChunks(fileName, tag, fc, blockInfo, flacStream, neededRoom + FlacTagCreator.DEFAULT_PADDING, availableRoom);
-            } else {
-                logger.log(Level.SEVERE, ioe.getMessage(), ioe);
-                throw ioe;
+            flacStream.findStream();
+        } catch (CannotReadException cre) {
+            throw new CannotWriteException(cre.getMessage());
+        }
+
+        boolean isLastBlock = false;
+        while (!isLastBlock) {
+            try {
+                MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(fc);
+                if (mbh.getBlockType() != null) {
+                    switch (mbh.getBlockType()) {
+                        case STREAMINFO: {
+                            blockInfo.streamInfoBlock = new MetadataBlock(mbh, new MetadataBlockDataStreamInfo(mbh, fc));
+                            break;
+                        }
+
+                        case VORBIS_COMMENT:
+                        case PADDING:
+                        case PICTURE: {
+                            //All these will be replaced by the new metadata so we just treat as padding in order
+                            //to determine how much space is already allocated in the file
+                            fc.position(fc.position() + mbh.getDataLength());
+                            MetadataBlockData mbd = new MetadataBlockDataPadding(mbh.getDataLength());
+                            blockInfo.metadataBlockPadding.add(new MetadataBlock(mbh, mbd));
+                            break;
+                        }
+                        case APPLICATION: {
+                            MetadataBlockData mbd = new MetadataBlockDataApplication(mbh, fc);
+                            blockInfo.metadataBlockApplication.add(new MetadataBlock(mbh, mbd));
+                            break;
+                        }
+                        case SEEKTABLE: {
+                            MetadataBlockData mbd = new MetadataBlockDataSeekTable(mbh, fc);
+                            blockInfo.metadataBlockSeekTable.add(new MetadataBlock(mbh, mbd));
+                            break;
+                        }
+                        case CUESHEET: {
+                            MetadataBlockData mbd = new MetadataBlockDataCueSheet(mbh, fc);
+                            blockInfo.metadataBlockCueSheet.add(new MetadataBlock(mbh, mbd));
+                            break;
+                        }
+                        default: {
+                            //What are the consequences of doing this
+                            fc.position(fc.position() + mbh.getDataLength());
+                            break;
+                        }
+                    }
+                }
+                isLastBlock = mbh.isLastBlock();
+            } catch (CannotReadException cre) {
+                throw new CannotWriteException(cre.getMessage());
             }
         }
+        return blockInfo;
     }
 
     /**
-     * Insert new metadata into file by using memory mapped file
+     * Insert metadata into space that is not large enough, by moving the audio data further into the file and then
+     * writing the metadata in front of it
      * <p>
-     * But this is problematic on 32bit systems for large flac files may not be able to map a contiguous address space large enough
-     * for a large audio size , so no longer used
+     * The audio is moved in place through a single buffer of at most TagOptionSingleton.getInstance().getWriteChunkSize()
+     * bytes so this works for files of any size on low memory systems
      *
      * @param tag
-     * @param mappedFile
      * @param fc
-     * @param targetSizeBeforeAudioData
-     * @param totalTargetSize
      * @param blockInfo
      * @param flacStream
      * @param neededRoom
      * @param availableRoom
      * @throws IOException
-     * @throws UnsupportedEncodingException
      */
-    private void insertTagAndShiftViaMappedByteBuffer(Tag tag, MappedByteBuffer mappedFile, FileChannel fc, long targetSizeBeforeAudioData, long totalTargetSize, MetadataBlockInfo blockInfo, FlacStreamReader flacStream, int neededRoom, int availableRoom) throws IOException, UnsupportedEncodingException {
-        //Find end of metadata blacks (start of Audio)
-        int currentEndOfFilePosition = safeLongToInt(fc.size());
-        /*
-         * First shift data to the 'right' of the tag to the end of the file, whose position is currentEndOfTagsPosition
-         */
-        int currentEndOfTagsPosition = safeLongToInt((targetSizeBeforeAudioData - FlacTagCreator.DEFAULT_PADDING) - neededRoom + availableRoom);
-        int lengthDiff = safeLongToInt(totalTargetSize - currentEndOfFilePosition);
-        final int BLOCK_SIZE = safeLongToInt(TagOptionSingleton.getInstance().getWriteChunkSize());
-        int currentPos = currentEndOfFilePosition - BLOCK_SIZE;
-        byte[] buffer = new byte[BLOCK_SIZE];
-        for (; currentPos >= currentEndOfTagsPosition; currentPos -= BLOCK_SIZE) {
-            mappedFile.position(currentPos);
-            mappedFile.get(buffer, 0, BLOCK_SIZE);
-            mappedFile.position(currentPos + lengthDiff);
-            mappedFile.put(buffer, 0, BLOCK_SIZE);
-        }
+    private void insertUsingShift(String file, Tag tag, FileChannel fc, MetadataBlockInfo blockInfo, FlacStreamReader flacStream, int neededRoom, int availableRoom) throws IOException {
+        long audioStart = getAudioStart(flacStream, availableRoom);
 
-        /*
-         * Final movement of start bytes. This also covers cases where BLOCK_SIZE is larger than the audio data
-         */
-        int remainder = (currentPos + BLOCK_SIZE) - currentEndOfTagsPosition;
-        if (remainder > 0) {
-            mappedFile.position(currentEndOfTagsPosition);
-            mappedFile.get(buffer, 0, remainder);
-            mappedFile.position(currentEndOfTagsPosition + lengthDiff);
-            mappedFile.put(buffer, 0, remainder);
+        //Extra Space Required for larger metadata block
+        int extraSpaceRequired = neededRoom - availableRoom;
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(file + " Audio needs shifting:" + extraSpaceRequired);
         }
 
-        DirectByteBufferUtils.release(mappedFile);
-
-        /* Now overwrite the tag */
+        new AudioDataShifter().shift(fc, audioStart, fc.size(), extraSpaceRequired);
         writeTags(tag, fc, blockInfo, flacStream);
     }
 
+    /**
+     * @return padding to add after the tag when the audio has to be moved, always at least a padding block header so
+     * the audio is never moved backwards
+     */
+    private static int getPaddingSize() {
+        return Math.max(TagOptionSingleton.getInstance().getWritePaddingSize(), MetadataBlockHeader.HEADER_LENGTH);
+    }
+
     private void writeTags(Tag tag, FileChannel fc, MetadataBlockInfo blockInfo, FlacStreamReader flacStream) throws IOException {
         //Jump over Id3 (if exists) Flac Header
         fc.position(flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
         writeOtherMetadataBlocks(fc, blockInfo);
 
         //Write tag (and add some default padding)
-        fc.write(tc.convert(tag, FlacTagCreator.DEFAULT_PADDING));
+        fc.write(tc.convert(tag, getPaddingSize()));
     }
 
     /**
@@ -4,14 +4,17 @@ import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.TagField;
+import org.jaudiotagger.tag.images.ImageDataReference;
 import org.jaudiotagger.tag.reference.PictureTypes;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 
@@ -43,6 +46,12 @@ import java.util.logging.Logger;
 public class MetadataBlockDataPicture implements MetadataBlockData, TagField {
     public static final String IMAGE_IS_URL = "-->";
 
+    /**
+     * Number of bytes read to find the fields before the image data when reading lazily, enough for all but
+     * very long descriptions
+     */
+    private static final int LAZY_READ_LENGTH = 4096;
+
     private int pictureType;
     private String mimeType = "";
     private String description;
@@ -52,11 +61,27 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField {
     private int indexedColouredCount;
     private int lengthOfPictureInBytes;
     private byte[] imageData;
+    private ImageDataReference imageDataReference;
 
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.flac.MetadataBlockDataPicture");
 
     private void initFromByteBuffer(ByteBuffer rawdata) throws IOException, InvalidFrameException {
+        initFieldsFromByteBuffer(rawdata);
+
+        //ImageData
+        imageData = new byte[lengthOfPictureInBytes];
+        rawdata.get(imageData);
+
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Read image:" + this.toString());
+        }
+    }
+
+    /**
+     * Read the fields that come before the image data
+     */
+    private void initFieldsFromByteBuffer(ByteBuffer rawdata) throws IOException, InvalidFrameException {
         //Picture Type
         pictureType = rawdata.getInt();
         if (pictureType >= PictureTypes.getInstanceOf().getSize()) {
@@ -84,11 +109,6 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField {
         indexedColouredCount = rawdata.getInt();
 
         lengthOfPictureInBytes = rawdata.getInt();
-        //ImageData
-        imageData = new byte[lengthOfPictureInBytes];
-        rawdata.get(imageData);
-
-        logger.config("Read image:" + this.toString());
     }
 
     /**
@@ -123,6 +143,56 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField {
 
     }
 
+    /**
+     * Construct picture block by reading from file, but only read the fields before the image data, the position
+     * of the image data is recorded so it can be read from the source when it is needed
+     *
+     * @param header
+     * @param fc
+     * @param source the file being read, used to read the image data later
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.tag.InvalidFrameException
+     */
+    public MetadataBlockDataPicture(MetadataBlockHeader header, FileChannel fc, ImageDataReference.Source source) throws IOException, InvalidFrameException {
+        long start = fc.position();
+        long end = start + header.getDataLength();
+        ByteBuffer rawdata = ByteBuffer.allocate(Math.min(header.getDataLength(), LAZY_READ_LENGTH));
+        int bytesRead = fc.read(rawdata);
+        if (bytesRead < rawdata.capacity()) {
+            throw new IOException("Unable to read required number of databytes read:" + bytesRead + ":required:" + rawdata.capacity());
+        }
+        rawdata.rewind();
+        try {
+            initFieldsFromByteBuffer(rawdata);
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            //Fields do not fit in what we have read so read the whole block
+            fc.position(start);
+            rawdata = ByteBuffer.allocate(header.getDataLength());
+            bytesRead = fc.read(rawdata);
+            if (bytesRead < header.getDataLength()) {
+                throw new IOException("Unable to read required number of databytes read:" + bytesRead + ":required:" + header.getDataLength());
+            }
+            rawdata.rewind();
+            initFromByteBuffer(rawdata);
+            return;
+        }
+
+        long imageStart = start + rawdata.position();
+        if (lengthOfPictureInBytes < 0 || imageStart + lengthOfPictureInBytes > end) {
+            throw new InvalidFrameException("Picture length:" + lengthOfPictureInBytes + " is larger than the picture block");
+        }
+        if (isImageUrl()) {
+            imageData = new byte[lengthOfPictureInBytes];
+            fc.read(ByteBuffer.wrap(imageData), imageStart);
+        } else {
+            imageDataReference = new ImageDataReference(source, imageStart, lengthOfPictureInBytes);
+        }
+        fc.position(end);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Read image:" + this.toString());
+        }
+    }
+
     /**
      * Construct new MetadataPicture block
      *
@@ -176,6 +246,7 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField {
             baos.write(Utils.getSizeBEInt32(height));
             baos.write(Utils.getSizeBEInt32(colourDepth));
             baos.write(Utils.getSizeBEInt32(indexedColouredCount));
+            byte[] imageData = getImageData();
             baos.write(Utils.getSizeBEInt32(imageData.length));
             baos.write(imageData);
             return ByteBuffer.wrap(baos.toByteArray());
@@ -217,10 +288,38 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField {
         return indexedColouredCount;
     }
 
+    /**
+     * @return the image data, read from the file if the picture was read lazily
+     */
     public byte[] getImageData() {
+        if (imageData == null && imageDataReference != null) {
+            try {
+                return imageDataReference.load();
+            } catch (IOException ioe) {
+                throw new RuntimeException(ioe);
+            }
+        }
         return imageData;
     }
 
+    /**
+     * @return the position of the image data within the file if the picture was read lazily, otherwise null
+     */
+    public ImageDataReference getImageDataReference() {
+        return imageDataReference;
+    }
+
+    /**
+     * Read the image data into memory if the picture was read lazily, must be done before the file the image data
+     * is held in is modified
+     */
+    public void loadImageData() {
+        if (imageDataReference != null) {
+            imageData = getImageData();
+            imageDataReference = null;
+        }
+    }
+
     /**
      * @return true if imagedata  is held as a url rather than actually being imagedata
      */
@@ -241,7 +340,7 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField {
 
     public String toString() {
         return PictureTypes.getInstanceOf().getValueForId(pictureType) + ":" + mimeType + ":" + description + ":" + "width:" + width + ":height:" + height + ":colourdepth:" + colourDepth + ":indexedColourCount:" + indexedColouredCount
-                + ":image size in bytes:" + lengthOfPictureInBytes + "/" + imageData.length;
+                + ":image size in bytes:" + lengthOfPictureInBytes + "/" + (imageData != null ? imageData.length : lengthOfPictureInBytes);
     }
 
     /**
@@ -0,0 +1,112 @@
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.tag.TagOptionSingleton;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Moves a region of a file, such as the audio data following the metadata, forwards or backwards within the same
+ * file so the metadata in front of it can grow or shrink.
+ *
+ * Data is copied through one buffer that is allocated once and reused for every chunk, so memory use never exceeds
+ * {@link TagOptionSingleton#getWriteChunkSize()} however large the file and however far the data is moved. When
+ * moving forwards the region is copied from its end, and when moving backwards from its start, so data is never
+ * overwritten before it has been read.
+ *
+ * Only positional reads and writes are used, the position of the channel is not changed.
+ */
+public class AudioDataShifter {
+
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.generic");
+
+    /**
+     * Notified as data is moved
+     *
+     * @see TagOptionSingleton#setWriteProgressListener(ProgressListener)
+     */
+    public interface ProgressListener {
+        /**
+         * @param bytesMoved number of bytes moved so far
+         * @param totalBytes number of bytes to be moved
+         */
+        void onProgress(long bytesMoved, long totalBytes);
+    }
+
+    private final ByteBuffer buffer;
+    private final ProgressListener progressListener;
+
+    /**
+     * Create a shifter using the chunk size and progress listener set in {@link TagOptionSingleton}
+     */
+    public AudioDataShifter() {
+        this(TagOptionSingleton.getInstance().getWriteChunkSize(), TagOptionSingleton.getInstance().getWriteProgressListener());
+    }
+
+    /**
+     * @param maxBufferSize    maximum size in bytes of the buffer used to copy data
+     * @param progressListener notified as data is moved, may be null
+     */
+    public AudioDataShifter(long maxBufferSize, ProgressListener progressListener) {
+        if (maxBufferSize <= 0) {
+            throw new IllegalArgumentException("maxBufferSize must be positive");
+        }
+        this.buffer = ByteBuffer.allocate((int) Math.min(maxBufferSize, Integer.MAX_VALUE));
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Move the data from {@code start} up to {@code end} by {@code offset} bytes, the file grows if data is moved
+     * past its end but is never truncated
+     *
+     * @param fc     the file
+     * @param start  start of the data to move
+     * @param end    end of the data to move
+     * @param offset number of bytes to move the data by, negative to move it towards the start of the file
+     * @throws IOException if the data cannot be read or written
+     */
+    public void shift(FileChannel fc, long start, long end, long offset) throws IOException {
+        if (start < 0 || end < start || start + offset < 0) {
+            throw new IllegalArgumentException("Cannot move data from " + start + " to " + end + " by " + offset);
+        }
+        long total = end - start;
+        if (offset == 0 || total == 0) {
+            return;
+        }
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Moving " + total + " bytes at " + start + " by " + offset + " using a buffer of " + buffer.capacity());
+        }
+
+        long moved = 0;
+        while (moved < total) {
+            int length = (int) Math.min(buffer.capacity(), total - moved);
+            long readPosition = offset > 0 ? end - moved - length : start + moved;
+            buffer.clear();
+            buffer.limit(length);
+            readFully(fc, readPosition);
+            buffer.flip();
+            writeFully(fc, readPosition + offset);
+            moved += length;
+            if (progressListener != null) {
+                progressListener.onProgress(moved, total);
+            }
+        }
+    }
+
+    private void readFully(FileChannel fc, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (fc.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file at:" + (position + buffer.position()));
+            }
+        }
+    }
+
+    private void writeFully(FileChannel fc, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            fc.write(buffer, position + buffer.position());
+        }
+    }
+}
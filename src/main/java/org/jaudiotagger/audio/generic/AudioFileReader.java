@@ -24,6 +24,7 @@ import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.exceptions.NoReadPermissionsException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.ParseTrace;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
 
@@ -71,6 +72,35 @@ public abstract class AudioFileReader {
      */
     protected abstract Tag getTag(RandomAccessFile raf) throws CannotReadException, IOException;
 
+    /*
+     * Parses the structure of the file that both the encoding info and the tag are read from, so a reader
+     * whose format has such a structure only parses it once per read. The default parses nothing.
+     *
+     * @param raf The RandomAccessFile associated with the current file
+     * @return the parsed structure, or null if the reader reads the encoding info and tag directly from the file
+     * @exception IOException is thrown when the RandomAccessFile operations throw it (you should never throw them manually)
+     * @exception CannotReadException when an error occured during the parsing of the file
+     */
+    protected Object parse(RandomAccessFile raf) throws CannotReadException, IOException {
+        return null;
+    }
+
+    /*
+     * Returns the encoding info using the structure returned by {@link #parse(RandomAccessFile)},
+     * the default ignores it and reads the encoding info from the file.
+     */
+    protected GenericAudioHeader getEncodingInfo(RandomAccessFile raf, Object parsed) throws CannotReadException, IOException {
+        return getEncodingInfo(raf);
+    }
+
+    /*
+     * Returns the tag using the structure returned by {@link #parse(RandomAccessFile)},
+     * the default ignores it and reads the tag from the file.
+     */
+    protected Tag getTag(RandomAccessFile raf, Object parsed) throws CannotReadException, IOException {
+        return getTag(raf);
+    }
+
     /*
      * Reads the given file, and return an AudioFile object containing the Tag
      * and the encoding infos present in the file. If the file has no tag, an
@@ -98,9 +128,15 @@ public abstract class AudioFileReader {
             raf = new RandomAccessFile(f, "r");
             raf.seek(0);
 
-            GenericAudioHeader info = getEncodingInfo(raf);
+            long start = ParseTrace.start();
+            Object parsed = parse(raf);
+            raf.seek(0);
+            GenericAudioHeader info = getEncodingInfo(raf, parsed);
+            ParseTrace.event(ParseTrace.HEADER, null, -1, -1, start);
             raf.seek(0);
-            Tag tag = getTag(raf);
+            start = ParseTrace.start();
+            Tag tag = getTag(raf, parsed);
+            ParseTrace.event(ParseTrace.TAG, null, -1, -1, start);
             return new AudioFile(f, info, tag);
 
         } catch (CannotReadException cre) {
@@ -5,7 +5,9 @@ import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.exceptions.NoReadPermissionsException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
+import org.jaudiotagger.audio.io.MappedFileChannel;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.ParseTrace;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
 
@@ -44,11 +46,15 @@ public abstract class AudioFileReader2 extends AudioFileReader {
             throw new CannotReadException(ErrorMessage.GENERAL_READ_FAILED_FILE_TOO_SMALL.getMsg(f));
         }
 
-        try (FileChannel channel = new RandomAccessFile(f, "r").getChannel()) {
+        try (FileChannel channel = MappedFileChannel.open(f)) {
             final String absolutePath = f.getAbsolutePath();
+            long start = ParseTrace.start();
             GenericAudioHeader info = getEncodingInfo(channel, absolutePath);
+            ParseTrace.event(ParseTrace.HEADER, null, -1, -1, start);
             channel.position(0);
+            start = ParseTrace.start();
             Tag tag = getTag(channel, absolutePath);
+            ParseTrace.event(ParseTrace.TAG, null, -1, -1, start);
             return new AudioFile(f, info, tag);
         } catch (IllegalArgumentException e) {
             logger.warning(ErrorMessage.GENERAL_READ_FAILED_DO_NOT_HAVE_PERMISSION_TO_READ_FILE.getMsg(f));
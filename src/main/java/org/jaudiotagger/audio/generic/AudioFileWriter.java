@@ -19,6 +19,7 @@
 package org.jaudiotagger.audio.generic;
 
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.exceptions.ModifyVetoException;
@@ -244,6 +245,42 @@ public abstract class AudioFileWriter {
         }
     }
 
+    /**
+     * Work out how the tag would be written by {@link #write(AudioFile)}, without modifying the file
+     *
+     * @param af The file we want to process
+     * @return the plan
+     * @throws CannotWriteException if the file cannot be read
+     */
+    public WritePlan planWrite(AudioFile af) throws CannotWriteException {
+        //mp3's use a different mechanism to the other formats
+        if (af instanceof MP3File) {
+            return ((MP3File) af).planSave();
+        }
+
+        try (RandomAccessFile raf = new RandomAccessFile(af.getFile(), "r")) {
+            return planWriteTag(af, af.getTag(), raf);
+        } catch (CannotReadException | IOException e) {
+            throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE.getMsg(af.getFile(), e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Work out how {@link #writeTag(AudioFile, Tag, RandomAccessFile, RandomAccessFile)} would write the tag, formats
+     * that do not override this are assumed to copy the whole file
+     *
+     * @param audioFile
+     * @param tag
+     * @param raf
+     * @return the plan
+     * @throws CannotReadException
+     * @throws CannotWriteException
+     * @throws IOException
+     */
+    protected WritePlan planWriteTag(AudioFile audioFile, Tag tag, RandomAccessFile raf) throws CannotReadException, CannotWriteException, IOException {
+        return new WritePlan(WritePlan.Strategy.REWRITE, -1, -1, raf.length());
+    }
+
     /**
      * Write the tag (if not empty) present in the AudioFile in the associated
      * File
@@ -254,7 +291,9 @@ public abstract class AudioFileWriter {
     // TODO Creates temp file in same folder as the original file, this is safe
     // but would impose a performance overhead if the original file is on a networked drive
     public void write(AudioFile af) throws CannotWriteException {
-        logger.config("Started writing tag data for file:" + af.getFile().getName());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Started writing tag data for file:" + af.getFile().getName());
+        }
 
         // Prechecks
         precheckWrite(af);
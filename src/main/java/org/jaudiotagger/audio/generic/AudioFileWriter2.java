@@ -1,6 +1,7 @@
 package org.jaudiotagger.audio.generic;
 
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.exceptions.NoWritePermissionsException;
@@ -80,6 +81,39 @@ public abstract class AudioFileWriter2 extends AudioFileWriter {
         }
     }
 
+    /**
+     * Work out how the tag would be written, without modifying the file
+     *
+     * @param af The file we want to process
+     * @return the plan
+     * @throws CannotWriteException if the file cannot be read
+     */
+    @Override
+    public WritePlan planWrite(AudioFile af) throws CannotWriteException {
+        final File file = af.getFile();
+        try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+            return planWriteTag(af.getTag(), channel, file.getAbsolutePath());
+        } catch (IOException e) {
+            logger.warning(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE.getMsg(file, e.getMessage()));
+            throw new CannotWriteException(e);
+        }
+    }
+
+    /**
+     * Work out how {@link #writeTag(Tag, FileChannel, String)} would write the tag, formats that do not override
+     * this are assumed to copy the whole file
+     *
+     * @param tag
+     * @param channel
+     * @param fileName
+     * @return the plan
+     * @throws CannotWriteException
+     * @throws IOException
+     */
+    protected WritePlan planWriteTag(Tag tag, FileChannel channel, final String fileName) throws CannotWriteException, IOException {
+        return new WritePlan(WritePlan.Strategy.REWRITE, -1, -1, channel.size());
+    }
+
     /**
      * Must be implemented by each audio format
      *
@@ -0,0 +1,446 @@
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.audio.SupportedFileFormat;
+import org.jaudiotagger.audio.aiff.chunk.AiffChunkType;
+import org.jaudiotagger.audio.asf.data.AsfHeader;
+import org.jaudiotagger.audio.asf.data.GUID;
+import org.jaudiotagger.audio.asf.io.AsfHeaderReader;
+import org.jaudiotagger.audio.dsf.DsdChunk;
+import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.flac.FlacStreamReader;
+import org.jaudiotagger.audio.flac.metadatablock.BlockType;
+import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockHeader;
+import org.jaudiotagger.audio.iff.ChunkHeader;
+import org.jaudiotagger.audio.iff.IffHeaderChunk;
+import org.jaudiotagger.audio.ogg.util.OggPageHeader;
+import org.jaudiotagger.audio.wav.WavChunkType;
+import org.jaudiotagger.audio.wav.WavRIFFHeader;
+import org.jaudiotagger.tag.id3.AbstractID3v1Tag;
+import org.jaudiotagger.x.ID3V2TagUtil;
+import org.jcodec.containers.mp4.MP4Util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Finds the parts of a file holding its metadata by reading only the headers of the structures that lead to them,
+ * without parsing the metadata or the audio.
+ *
+ * Any header that is missing or does not make sense ends the search, keeping the regions found so far. If the file is
+ * not of the expected format at all, or is of a format not handled here, the first {@link #FALLBACK_HEAD_SIZE} bytes
+ * and the last {@link #ID3V1_SIZE} bytes are used instead as they hold the metadata of most formats.
+ */
+public class TagRegionLocator {
+
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.generic");
+
+    public static final int FALLBACK_HEAD_SIZE = 64 * 1024;
+    public static final int ID3V1_SIZE = 128;
+
+    private static final String APE_TAG_ID = "APETAGEX";
+    private static final int APE_FOOTER_SIZE = 32;
+    private static final int APE_FIELD_SIZE_POS = 12;
+    private static final int APE_FIELD_FLAGS_POS = 20;
+    private static final int APE_FLAG_HAS_HEADER = 0x80000000;
+
+    private static final String LYRICS3_START_ID = "LYRICSBEGIN";
+    private static final String LYRICS3V1_END_ID = "LYRICSEND";
+    private static final String LYRICS3V2_END_ID = "LYRICS200";
+    private static final int LYRICS3V1_MAX_LYRICS_SIZE = 5100;
+    private static final int LYRICS3V2_FIELD_SIZE_LENGTH = 6;
+
+    private static final String AIFF_FORM_SIGNATURE = "FORM";
+
+    private static final String[] WAV_TAG_CHUNKS = {WavChunkType.LIST.getCode(), WavChunkType.ID3.getCode()};
+    private static final String[] AIFF_TAG_CHUNKS = {
+            AiffChunkType.TAG.getCode(), AiffChunkType.NAME.getCode(), AiffChunkType.AUTHOR.getCode(),
+            AiffChunkType.COPYRIGHT.getCode(), AiffChunkType.ANNOTATION.getCode(), AiffChunkType.COMMENTS.getCode()};
+
+    private final FileChannel fc;
+    private final long size;
+    private long[] regions = new long[8];
+    private int count;
+
+    private TagRegionLocator(FileChannel fc) throws IOException {
+        this.fc = fc;
+        this.size = fc.size();
+    }
+
+    /**
+     * Find the metadata of the file
+     *
+     * @param fc  the file, its position is not changed
+     * @param ext extension of the format of the file
+     * @return the offset and length of each region holding metadata, in pairs, in the order they are found
+     * @throws IOException if the file cannot be read
+     */
+    public static long[] locate(FileChannel fc, String ext) throws IOException {
+        TagRegionLocator locator = new TagRegionLocator(fc);
+        long position = fc.position();
+        boolean isLocated;
+        try {
+            isLocated = locator.locateFormat(SupportedFileFormat.fromExtension(ext));
+        } finally {
+            fc.position(position);
+        }
+        if (!isLocated) {
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("Using start and end of file as metadata of " + ext);
+            }
+            locator.count = 0;
+            locator.add(0, FALLBACK_HEAD_SIZE);
+            locator.add(locator.size - ID3V1_SIZE, ID3V1_SIZE);
+        }
+        return Arrays.copyOf(locator.regions, locator.count);
+    }
+
+    /**
+     * @return false if the format is not handled or the file is not of the format
+     */
+    private boolean locateFormat(SupportedFileFormat format) throws IOException {
+        switch (format) {
+            case MP3:
+                addId3v2();
+                addTrailingTags();
+                return true;
+            case FLAC:
+                return addFlacBlocks();
+            case MP4:
+            case M4A:
+            case M4B:
+            case M4P:
+                return addMp4Meta();
+            case OGG:
+            case OPUS:
+                return addOggHeaderPages();
+            case WAV:
+                return addIffChunks(WavRIFFHeader.RIFF_SIGNATURE, WavRIFFHeader.WAVE_SIGNATURE, ByteOrder.LITTLE_ENDIAN, WAV_TAG_CHUNKS);
+            case AIF:
+            case AIFF:
+            case AIFC:
+                return addIffChunks(AIFF_FORM_SIGNATURE, null, ByteOrder.BIG_ENDIAN, AIFF_TAG_CHUNKS);
+            case DSF:
+                return addDsfMetadata();
+            case WMA:
+                return addAsfHeader();
+            case APE:
+                addTrailingTags();
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return end of the ID3v2 tag at the start of the file, or 0 if there is none
+     */
+    private long addId3v2() throws IOException {
+        fc.position(0);
+        long length = ID3V2TagUtil.getV2TagSizeIfExists(fc);
+        add(0, length);
+        return Math.min(length, size);
+    }
+
+    /**
+     * Add the ID3v1 tag and the APE and Lyrics3 tags before it, which may be in either order
+     */
+    private void addTrailingTags() throws IOException {
+        long end = addId3v1();
+        while (true) {
+            long start = addApeTag(end);
+            if (start == end) {
+                start = addLyrics3Tag(end);
+            }
+            if (start == end) {
+                break;
+            }
+            end = start;
+        }
+    }
+
+    /**
+     * @return start of the ID3v1 tag at the end of the file, or the size of the file if there is none
+     */
+    private long addId3v1() throws IOException {
+        ByteBuffer tag = read(size - ID3V1_SIZE, AbstractID3v1Tag.TAG.length());
+        if (tag == null || !AbstractID3v1Tag.TAG.equals(getString(tag, 0, AbstractID3v1Tag.TAG.length()))) {
+            return size;
+        }
+        add(size - ID3V1_SIZE, ID3V1_SIZE);
+        return size - ID3V1_SIZE;
+    }
+
+    /**
+     * @param end end of the APE tag, if there is one
+     * @return start of the APE tag, or end if there is none
+     */
+    private long addApeTag(long end) throws IOException {
+        ByteBuffer footer = read(end - APE_FOOTER_SIZE, APE_FOOTER_SIZE);
+        if (footer == null || !APE_TAG_ID.equals(getString(footer, 0, APE_TAG_ID.length()))) {
+            return end;
+        }
+        footer.order(ByteOrder.LITTLE_ENDIAN);
+        //Size includes the footer but not the header
+        long length = footer.getInt(APE_FIELD_SIZE_POS) & 0xFFFFFFFFL;
+        if ((footer.getInt(APE_FIELD_FLAGS_POS) & APE_FLAG_HAS_HEADER) != 0) {
+            length += APE_FOOTER_SIZE;
+        }
+        if (length < APE_FOOTER_SIZE || length > end) {
+            return end;
+        }
+        add(end - length, length);
+        return end - length;
+    }
+
+    /**
+     * @param end end of the Lyrics3 tag, if there is one
+     * @return start of the Lyrics3 tag, or end if there is none
+     */
+    private long addLyrics3Tag(long end) throws IOException {
+        ByteBuffer endId = read(end - LYRICS3V2_END_ID.length(), LYRICS3V2_END_ID.length());
+        if (endId == null) {
+            return end;
+        }
+        long start;
+        if (LYRICS3V2_END_ID.equals(getString(endId, 0, LYRICS3V2_END_ID.length()))) {
+            //Size includes the start id but not the size field or the end id
+            long sizePosition = end - LYRICS3V2_END_ID.length() - LYRICS3V2_FIELD_SIZE_LENGTH;
+            ByteBuffer sizeField = read(sizePosition, LYRICS3V2_FIELD_SIZE_LENGTH);
+            if (sizeField == null) {
+                return end;
+            }
+            try {
+                start = sizePosition - Integer.parseInt(getString(sizeField, 0, LYRICS3V2_FIELD_SIZE_LENGTH));
+            } catch (NumberFormatException e) {
+                return end;
+            }
+        } else if (getString(endId, 0, LYRICS3V2_END_ID.length()).endsWith(LYRICS3V1_END_ID)) {
+            //No size, the start id is somewhere in the maximum size before the end id
+            long searchStart = Math.max(end - LYRICS3V1_END_ID.length() - LYRICS3V1_MAX_LYRICS_SIZE - LYRICS3_START_ID.length(), 0);
+            ByteBuffer search = read(searchStart, (int) (end - LYRICS3V1_END_ID.length() - searchStart));
+            int index = search == null ? -1 : getString(search, 0, search.capacity()).indexOf(LYRICS3_START_ID);
+            if (index < 0) {
+                return end;
+            }
+            start = searchStart + index;
+        } else {
+            return end;
+        }
+        ByteBuffer startId = read(start, LYRICS3_START_ID.length());
+        if (startId == null || !LYRICS3_START_ID.equals(getString(startId, 0, LYRICS3_START_ID.length()))) {
+            return end;
+        }
+        add(start, end - start);
+        return start;
+    }
+
+    private boolean addFlacBlocks() throws IOException {
+        long position = addId3v2();
+        ByteBuffer marker = read(position, FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
+        if (marker == null || !FlacStreamReader.FLAC_STREAM_IDENTIFIER.equals(Utils.readFourBytesAsChars(marker))) {
+            return false;
+        }
+        position += FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH;
+        while (position + MetadataBlockHeader.HEADER_LENGTH <= size) {
+            fc.position(position);
+            MetadataBlockHeader header;
+            try {
+                header = MetadataBlockHeader.readHeader(fc);
+            } catch (CannotReadException e) {
+                break;
+            }
+            long length = MetadataBlockHeader.HEADER_LENGTH + header.getDataLength();
+            if (header.getBlockType() == BlockType.VORBIS_COMMENT || header.getBlockType() == BlockType.PICTURE) {
+                add(position, length);
+            }
+            if (header.isLastBlock()) {
+                break;
+            }
+            position += length;
+        }
+        return true;
+    }
+
+    /**
+     * The metadata is the meta box in the udta box of the moov box, or the whole udta box if it has no meta box
+     */
+    private boolean addMp4Meta() throws IOException {
+        MP4Util.Atom moov = MP4Util.findAtom("moov", MP4Util.getRootAtoms(fc));
+        if (moov == null) {
+            return false;
+        }
+        MP4Util.Atom udta = findChildAtom(moov, "udta");
+        if (udta == null) {
+            return true;
+        }
+        MP4Util.Atom meta = findChildAtom(udta, "meta");
+        if (meta != null) {
+            add(meta.getOffset(), meta.getHeader().getSize());
+        } else {
+            add(udta.getOffset(), udta.getHeader().getSize());
+        }
+        return true;
+    }
+
+    /**
+     * @return the first child of the parent atom of the given type, or null
+     */
+    private MP4Util.Atom findChildAtom(MP4Util.Atom parent, String fourcc) throws IOException {
+        long end = Math.min(parent.getOffset() + parent.getHeader().getSize(), size);
+        long position = parent.getOffset() + parent.getHeader().headerSize();
+        while (position < end) {
+            fc.position(position);
+            MP4Util.Atom atom = MP4Util.atom(fc);
+            if (atom == null) {
+                return null;
+            }
+            if (fourcc.equals(atom.getHeader().getFourcc())) {
+                return atom;
+            }
+            position = atom.getOffset() + atom.getHeader().getSize();
+        }
+        return null;
+    }
+
+    /**
+     * The header pages, holding the identification, comment and setup packets, are the pages before the first page
+     * with a granule position
+     */
+    private boolean addOggHeaderPages() throws IOException {
+        long position = 0;
+        while (true) {
+            ByteBuffer buffer = read(position, (int) Math.min(OggPageHeader.MAXIMUM_PAGE_HEADER_SIZE, size - position));
+            if (buffer == null || buffer.capacity() < OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH
+                    || buffer.capacity() < OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + (buffer.get(OggPageHeader.FIELD_PAGE_SEGMENTS_POS) & 0xFF)) {
+                break;
+            }
+            OggPageHeader header;
+            try {
+                header = OggPageHeader.read(buffer);
+            } catch (CannotReadException e) {
+                break;
+            }
+            //Read the granule position directly as getAbsoluteGranulePosition() does not decode -1
+            long granulePosition = ByteBuffer.wrap(header.getRawHeaderData()).order(ByteOrder.LITTLE_ENDIAN)
+                    .getLong(OggPageHeader.FIELD_ABSOLUTE_GRANULE_POS);
+            if (granulePosition != 0 && granulePosition != -1) {
+                break;
+            }
+            position += header.getRawHeaderData().length + header.getPageLength();
+        }
+        if (position == 0) {
+            return false;
+        }
+        add(0, position);
+        return true;
+    }
+
+    private boolean addIffChunks(String formType, String fileType, ByteOrder order, String[] tagChunks) throws IOException {
+        ByteBuffer header = read(0, IffHeaderChunk.HEADER_LENGTH);
+        if (header == null || !formType.equals(Utils.readFourBytesAsChars(header))) {
+            return false;
+        }
+        header.position(IffHeaderChunk.SIGNATURE_LENGTH + IffHeaderChunk.SIZE_LENGTH);
+        if (fileType != null && !fileType.equals(Utils.readFourBytesAsChars(header))) {
+            return false;
+        }
+        long position = IffHeaderChunk.HEADER_LENGTH;
+        while (position + ChunkHeader.CHUNK_HEADER_SIZE <= size) {
+            fc.position(position);
+            ChunkHeader chunkHeader = new ChunkHeader(order);
+            chunkHeader.readHeader(fc);
+            //The size is read as a signed int
+            long length = chunkHeader.getSize() & 0xFFFFFFFFL;
+            for (String tagChunk : tagChunks) {
+                if (tagChunk.equals(chunkHeader.getID())) {
+                    add(position, ChunkHeader.CHUNK_HEADER_SIZE + length);
+                    break;
+                }
+            }
+            //Chunks are padded to an even length
+            position += ChunkHeader.CHUNK_HEADER_SIZE + length + (length & 1);
+        }
+        return true;
+    }
+
+    private boolean addDsfMetadata() throws IOException {
+        if (size < DsdChunk.DSD_HEADER_LENGTH) {
+            return false;
+        }
+        fc.position(0);
+        DsdChunk dsd = DsdChunk.readChunk(Utils.readFileDataIntoBufferLE(fc, DsdChunk.DSD_HEADER_LENGTH));
+        if (dsd == null) {
+            return false;
+        }
+        long metadataOffset = dsd.getMetadataOffset();
+        if (metadataOffset > 0 && metadataOffset < size) {
+            add(metadataOffset, size - metadataOffset);
+        }
+        return true;
+    }
+
+    /**
+     * The metadata is in the header object, the reader only reads the chunks it needs to find its size
+     */
+    private boolean addAsfHeader() throws IOException {
+        ByteBuffer guid = read(0, GUID.GUID_LENGTH);
+        if (guid == null || !GUID.GUID_HEADER.equals(new GUID(guid.array()))) {
+            return false;
+        }
+        fc.position(0);
+        AsfHeader header;
+        try {
+            header = AsfHeaderReader.readInfoHeader(fc);
+        } catch (IOException e) {
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("Unable to read Asf header:" + e.getMessage());
+            }
+            return false;
+        }
+        add(header.getPosition(), header.getChunkLength().longValue());
+        return true;
+    }
+
+    /**
+     * Add a region, limited to the file
+     */
+    private void add(long offset, long length) {
+        long start = Math.max(offset, 0);
+        long end = Math.min(offset + length, size);
+        if (end <= start) {
+            return;
+        }
+        if (count == regions.length) {
+            regions = Arrays.copyOf(regions, count * 2);
+        }
+        regions[count++] = start;
+        regions[count++] = end - start;
+    }
+
+    /**
+     * @return the bytes at the position, or null if the file is not long enough
+     */
+    private ByteBuffer read(long position, int length) throws IOException {
+        if (position < 0 || length < 0 || position + length > size) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (fc.read(buffer, position + buffer.position()) < 0) {
+                return null;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static String getString(ByteBuffer buffer, int offset, int length) {
+        return new String(buffer.array(), offset, length, StandardCharsets.ISO_8859_1);
+    }
+}
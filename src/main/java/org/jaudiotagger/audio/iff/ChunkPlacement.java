@@ -0,0 +1,53 @@
+package org.jaudiotagger.audio.iff;
+
+import org.jaudiotagger.audio.WritePlan;
+
+/**
+ * Where a new metadata chunk of a Wav or Aiff file is written in relation to the existing chunk
+ *
+ * The tag writers decide the placement once with {@link #place(boolean, boolean)}, then either write the chunk or
+ * convert the placement to a {@link WritePlan}, so the plan always matches what is written.
+ */
+public enum ChunkPlacement {
+    /**
+     * The existing chunk is at the end of the file so it is overwritten, growing the file if the new chunk is larger
+     */
+    AT_END,
+    /**
+     * The new chunk fits in the existing chunk so it is overwritten without moving the chunks after it
+     */
+    FITS,
+    /**
+     * The existing chunk is deleted, moving the chunks after it, and the new chunk is written at the end
+     */
+    MOVED;
+
+    /**
+     * @param isAtEnd true if the existing chunk is the last chunk of the file, allowing for a padding byte
+     * @param isFits  true if the new chunk fits in the existing chunk
+     * @return the placement, a chunk at the end is always written there even if the new chunk also fits
+     */
+    public static ChunkPlacement place(boolean isAtEnd, boolean isFits) {
+        if (isAtEnd) {
+            return AT_END;
+        }
+        return isFits ? FITS : MOVED;
+    }
+
+    /**
+     * @param newSize         size of the new chunk
+     * @param existingSize    size of the existing chunk
+     * @param bytesAfterChunk number of bytes after the existing chunk, moved if the chunk is deleted
+     * @return the plan for writing a chunk with this placement
+     */
+    public WritePlan plan(long newSize, long existingSize, long bytesAfterChunk) {
+        switch (this) {
+            case AT_END:
+                return new WritePlan(newSize > existingSize ? WritePlan.Strategy.APPEND : WritePlan.Strategy.IN_PLACE, newSize, existingSize, 0);
+            case FITS:
+                return new WritePlan(WritePlan.Strategy.IN_PLACE, existingSize, existingSize, 0);
+            default:
+                return new WritePlan(WritePlan.Strategy.MOVE_AUDIO, newSize, existingSize, bytesAfterChunk);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package org.jaudiotagger.audio.io;
+
+import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.utils.DirectByteBufferUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A read only channel over a file that has been mapped into memory once when the channel is opened, reads are copied
+ * from the mapping so reading headers and scanning for frames does not need a system call for each read.
+ *
+ * The mapping is released with {@link DirectByteBufferUtils#release} when the channel is closed, so the channel must
+ * be closed once reading has finished and buffers returned by {@link #getBuffer()} must not be used after that.
+ *
+ * @see TagOptionSingleton#isUseMemoryMappedRead()
+ */
+public class MappedFileChannel extends FileChannel {
+
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.io");
+
+    private MappedByteBuffer buffer;
+    private final long size;
+    private long position;
+
+    /**
+     * Map the whole of the file
+     *
+     * @param file the file to map
+     * @throws IOException if the file cannot be opened or mapped
+     * @throws IllegalArgumentException if the file is too large to be mapped in one buffer
+     */
+    public MappedFileChannel(File file) throws IOException {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            FileChannel fc = raf.getChannel();
+            size = fc.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("File too large to map:" + file);
+            }
+            //The mapping stays valid once the channel it was made from is closed
+            buffer = fc.map(MapMode.READ_ONLY, 0, size);
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Open a channel to read the file, mapping it into memory if {@link TagOptionSingleton#isUseMemoryMappedRead()}
+     * is set and otherwise, or if the file cannot be mapped, reading it with an ordinary file channel.
+     *
+     * Files are never mapped when {@link TagOptionSingleton#isAndroid()} is set, copying from a mapping into a heap
+     * buffer uses {@link ByteBuffer#get(byte[], int, int)} on the mapping, which fails on Android ICS and JB
+     * https://stackoverflow.com/questions/28378713/bytebuffer-getbyte-int-int-failed-on-android-ics-and-jb
+     *
+     * @param file the file to read
+     * @return a channel positioned at the start of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public static FileChannel open(File file) throws IOException {
+        if (TagOptionSingleton.getInstance().isUseMemoryMappedRead() && !TagOptionSingleton.getInstance().isAndroid()) {
+            try {
+                return new MappedFileChannel(file);
+            } catch (IllegalArgumentException | IOException e) {
+                logger.log(Level.FINE, "Unable to map file, reading it instead:" + file, e);
+            }
+        }
+        return new RandomAccessFile(file, "r").getChannel();
+    }
+
+    /**
+     * @return a read only view of the whole file, its position and limit are independent of the channel
+     * @throws ClosedChannelException if the channel has been closed
+     */
+    public ByteBuffer getBuffer() throws IOException {
+        if (!isOpen()) {
+            throw new ClosedChannelException();
+        }
+        return buffer.duplicate();
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        int read = read(dst, position);
+        if (read > 0) {
+            position += read;
+        }
+        return read;
+    }
+
+    @Override
+    public int read(ByteBuffer dst, long position) throws IOException {
+        if (!isOpen()) {
+            throw new ClosedChannelException();
+        }
+        if (position < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (position >= size) {
+            return -1;
+        }
+        int length = (int) Math.min(dst.remaining(), size - position);
+        ByteBuffer src = buffer.duplicate();
+        src.position((int) position);
+        src.limit((int) position + length);
+        dst.put(src);
+        return length;
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+        long n = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (!dsts[i].hasRemaining()) {
+                continue;
+            }
+            int read = read(dsts[i]);
+            if (read < 0) {
+                return n == 0 ? -1 : n;
+            }
+            n += read;
+            if (dsts[i].hasRemaining()) {
+                break;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public int write(ByteBuffer src, long position) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long position() throws IOException {
+        if (!isOpen()) {
+            throw new ClosedChannelException();
+        }
+        return position;
+    }
+
+    @Override
+    public FileChannel position(long newPosition) throws IOException {
+        if (!isOpen()) {
+            throw new ClosedChannelException();
+        }
+        if (newPosition < 0) {
+            throw new IllegalArgumentException();
+        }
+        position = newPosition;
+        return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+        if (!isOpen()) {
+            throw new ClosedChannelException();
+        }
+        return size;
+    }
+
+    @Override
+    public FileChannel truncate(long size) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public void force(boolean metaData) throws IOException {
+    }
+
+    @Override
+    public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+        if (!isOpen()) {
+            throw new ClosedChannelException();
+        }
+        if (position >= size) {
+            return 0;
+        }
+        ByteBuffer src = buffer.duplicate();
+        src.position((int) position);
+        src.limit((int) Math.min(size, position + count));
+        long n = 0;
+        while (src.hasRemaining()) {
+            int written = target.write(src);
+            if (written <= 0) {
+                break;
+            }
+            n += written;
+        }
+        return n;
+    }
+
+    @Override
+    public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public FileLock lock(long position, long size, boolean shared) throws IOException {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    protected void implCloseChannel() throws IOException {
+        MappedByteBuffer mapped = buffer;
+        buffer = null;
+        if (mapped != null && size > 0) {
+            DirectByteBufferUtils.release(mapped);
+        }
+    }
+}
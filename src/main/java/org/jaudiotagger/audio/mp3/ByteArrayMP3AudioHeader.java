@@ -10,6 +10,9 @@ public class ByteArrayMP3AudioHeader extends MP3AudioHeader {
         //References to Xing Header
         ByteBuffer header;
 
+        //Header of the candidate frame at the current position
+        int candidateHeader;
+
         // This is substantially faster than updating the filechannels position
         long filePointerCount = 0;
 
@@ -18,10 +21,11 @@ public class ByteArrayMP3AudioHeader extends MP3AudioHeader {
 
         boolean syncFound = false;
         do {
-            if (MPEGFrameHeader.isMPEGFrame(bb)) {
+            //Only decode candidates with a valid header, so false syncs create no frame header or exception
+            if (MPEGFrameHeader.isMPEGFrame(bb) && MPEGFrameHeader.isValidHeader(candidateHeader = MPEGFrameHeader.readHeader(bb))) {
                 try {
 
-                    mp3FrameHeader = MPEGFrameHeader.parseMPEGHeader(bb);
+                    mp3FrameHeader = MPEGFrameHeader.parseMPEGHeader(candidateHeader);
                     syncFound = true;
                     if ((header = XingFrame.isXingFrame(bb, mp3FrameHeader)) != null) {
                         try {
@@ -73,11 +77,10 @@ public class ByteArrayMP3AudioHeader extends MP3AudioHeader {
 
         bb.position(bb.position() + mp3FrameHeader.getFrameLength());
         if (MPEGFrameHeader.isMPEGFrame(bb)) {
-            try {
-                MPEGFrameHeader.parseMPEGHeader(bb);
+            if (MPEGFrameHeader.isValidHeader(MPEGFrameHeader.readHeader(bb))) {
                 MP3AudioHeader.logger.finer("Check next frame confirms is an audio header ");
                 result = true;
-            } catch (InvalidAudioFrameException ex) {
+            } else {
                 MP3AudioHeader.logger.finer("Check next frame has identified this is not an audio header");
                 result = false;
             }
@@ -21,12 +21,15 @@ package org.jaudiotagger.audio.mp3;
 
 import org.jaudiotagger.audio.AudioHeader;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
+import org.jaudiotagger.audio.io.MappedFileChannel;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.logging.ParseTrace;
+import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.utils.ByteBufferAllocator;
 
 import java.io.EOFException;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
@@ -136,6 +139,22 @@ public class MP3AudioHeader implements AudioHeader {
         }
     }
 
+    /**
+     * Search for the first MP3Header in the channel, starting from location startByte
+     *
+     * @param fc        channel of the MP3 file, it is not closed
+     * @param startByte where to start searching, usually the end of the ID3v2 tag
+     * @param fileName  name of the file for error messages
+     * @throws IOException
+     * @throws InvalidAudioFrameException
+     * @see #MP3AudioHeader(File, long)
+     */
+    public MP3AudioHeader(final FileChannel fc, long startByte, String fileName) throws IOException, InvalidAudioFrameException {
+        if (!seek(fc, startByte)) {
+            throw new InvalidAudioFrameException(ErrorMessage.NO_AUDIO_HEADER_FOUND.getMsg(fileName));
+        }
+    }
+
     /**
      * Returns true if the first MP3 frame can be found for the MP3 file
      *
@@ -147,155 +166,37 @@ public class MP3AudioHeader implements AudioHeader {
      * @throws IOException on any I/O error
      */
     public boolean seek(final File seekFile, long startByte) throws IOException {
-        //References to Xing/VRbi Header
-        ByteBuffer header;
-
-        //This is substantially faster than updating the filechannels position
-        long filePointerCount;
-
-        final FileInputStream fis = new FileInputStream(seekFile);
-        final FileChannel fc = fis.getChannel();
-
-        //Read into Byte Buffer in Chunks
-        ByteBuffer bb = ByteBuffer.allocateDirect(FILE_BUFFER_SIZE);
-
-        //Move FileChannel to the starting position (skipping over tag if any)
-        fc.position(startByte);
-
-        //Update filePointerCount
-        filePointerCount = startByte;
-
-        //Read from here into the byte buffer , doesn't move location of filepointer
-        fc.read(bb, startByte);
-        bb.flip();
-
-        boolean syncFound = false;
+        final FileChannel fc = MappedFileChannel.open(seekFile);
         try {
-            do {
-                //TODO remaining() is quite an expensive operation, isn't there a way we can work this out without
-                //interrogating the bytebuffer. Also this is rarely going to be true, and could be made less true
-                //by increasing FILE_BUFFER_SIZE
-                if (bb.remaining() <= MIN_BUFFER_REMAINING_REQUIRED) {
-                    bb.clear();
-                    fc.position(filePointerCount);
-                    fc.read(bb, fc.position());
-                    bb.flip();
-                    if (bb.limit() <= MIN_BUFFER_REMAINING_REQUIRED) {
-                        //No mp3 exists
-                        return false;
-                    }
-                }
-                //MP3File.logger.finest("fc:"+fc.position() + "bb"+bb.position());
-                if (MPEGFrameHeader.isMPEGFrame(bb)) {
-                    try {
-                        if (MP3AudioHeader.logger.isLoggable(Level.FINEST)) {
-                            MP3AudioHeader.logger.finest("Found Possible header at:" + filePointerCount);
-                        }
-
-                        mp3FrameHeader = MPEGFrameHeader.parseMPEGHeader(bb);
-                        syncFound = true;
-                        //if(2==1) use this line when you want to test getting the next frame without using xing
-
-                        if ((header = XingFrame.isXingFrame(bb, mp3FrameHeader)) != null) {
-                            if (MP3AudioHeader.logger.isLoggable(Level.FINEST)) {
-                                MP3AudioHeader.logger.finest("Found Possible XingHeader");
-                            }
-                            try {
-                                //Parses Xing frame without modifying position of main buffer
-                                mp3XingFrame = XingFrame.parseXingFrame(header);
-                            } catch (InvalidAudioFrameException ex) {
-                                // We Ignore because even if Xing Header is corrupted
-                                //doesn't mean file is corrupted
-                            }
-                            break;
-                        } else if ((header = VbriFrame.isVbriFrame(bb, mp3FrameHeader)) != null) {
-                            if (MP3AudioHeader.logger.isLoggable(Level.FINEST)) {
-                                MP3AudioHeader.logger.finest("Found Possible VbriHeader");
-                            }
-                            try {
-                                //Parses Vbri frame without modifying position of main buffer
-                                mp3VbriFrame = VbriFrame.parseVBRIFrame(header);
-                            } catch (InvalidAudioFrameException ex) {
-                                // We Ignore because even if Vbri Header is corrupted
-                                //doesn't mean file is corrupted
-                            }
-                            break;
-                        }
-                        // There is a small but real chance that an unsynchronised ID3 Frame could fool the MPEG
-                        // Parser into thinking it was an MPEG Header. If this happens the chances of the next bytes
-                        // forming a Xing frame header are very remote. On the basis that  most files these days have
-                        // Xing headers we do an additional check for when an apparent frame header has been found
-                        // but is not followed by a Xing Header:We check the next header this wont impose a large
-                        // overhead because wont apply to most Mpegs anyway ( Most likely to occur if audio
-                        // has an  APIC frame which should have been unsynchronised but has not been) , or if the frame
-                        // has been encoded with as Unicode LE because these have a BOM of 0xFF 0xFE
-                        else {
-                            syncFound = isNextFrameValid(seekFile, filePointerCount, bb, fc);
-                            if (syncFound) {
-                                break;
-                            }
-                        }
-
-                    } catch (InvalidAudioFrameException ex) {
-                        // We Ignore because likely to be incorrect sync bits ,
-                        // will just continue in loop
-                    }
-                }
-
-                //TODO position() is quite an expensive operation, isn't there a way we can work this out without
-                //interrogating the bytebuffer
-                bb.position(bb.position() + 1);
-                filePointerCount++;
-
-
-            }
-            while (!syncFound);
-        } catch (EOFException ex) {
-            MP3AudioHeader.logger.log(Level.WARNING, "Reached end of file without finding sync match", ex);
-            syncFound = false;
-        } catch (IOException iox) {
-            MP3AudioHeader.logger.log(Level.SEVERE, "IOException occurred whilst trying to find sync", iox);
-            syncFound = false;
-            throw iox;
+            return seek(fc, startByte);
         } finally {
-            if (fc != null) {
-                fc.close();
-            }
-
-            if (fis != null) {
-                fis.close();
-            }
-        }
-
-        //Return to start of audio header
-        if (MP3AudioHeader.logger.isLoggable(Level.FINEST)) {
-            MP3AudioHeader.logger.finer("Return found matching mp3 header starting at" + filePointerCount);
+            fc.close();
         }
-        setFileSize(seekFile.length());
-        setMp3StartByte(filePointerCount);
-        setTimePerFrame();
-        setNumberOfFrames();
-        setTrackLength();
-        setBitRate();
-        setEncoder();
-        /*if((filePointerCount - startByte )>0)
-        {
-            logger.severe(seekFile.getName()+"length:"+startByte+"Difference:"+(filePointerCount - startByte));
-        }
-        */
-        return syncFound;
     }
 
-
+    /**
+     * Returns true if the first MP3 frame can be found in the channel
+     *
+     * @param fc        channel of the MP3 file to seek, it is not closed
+     * @param startByte if there is an ID3v2tag we dont want to start reading from the start of the tag
+     * @return true if the first MP3 frame can be found
+     * @throws IOException on any I/O error
+     */
     public boolean seek(final FileChannel fc, long startByte) throws IOException {
+        final long traceStart = ParseTrace.start();
+
         //References to Xing/VRbi Header
         ByteBuffer header;
 
+        //Header of the candidate frame at the current position
+        int candidateHeader;
+
         //This is substantially faster than updating the filechannels position
         long filePointerCount;
 
         //Read into Byte Buffer in Chunks
-        ByteBuffer bb = ByteBuffer.allocateDirect(FILE_BUFFER_SIZE);
+        final ByteBufferAllocator allocator = TagOptionSingleton.getInstance().getByteBufferAllocator();
+        ByteBuffer bb = allocator.acquire(FILE_BUFFER_SIZE, true);
 
         //Move FileChannel to the starting position (skipping over tag if any)
         fc.position(startByte);
@@ -320,17 +221,19 @@ public class MP3AudioHeader implements AudioHeader {
                     bb.flip();
                     if (bb.limit() <= MIN_BUFFER_REMAINING_REQUIRED) {
                         //No mp3 exists
+                        ParseTrace.event(ParseTrace.MP3_SEEK, "not found", startByte, filePointerCount - startByte, traceStart);
                         return false;
                     }
                 }
                 //MP3File.logger.finest("fc:"+fc.position() + "bb"+bb.position());
-                if (MPEGFrameHeader.isMPEGFrame(bb)) {
+                //Only decode candidates with a valid header, so false syncs create no frame header or exception
+                if (MPEGFrameHeader.isMPEGFrame(bb) && MPEGFrameHeader.isValidHeader(candidateHeader = MPEGFrameHeader.readHeader(bb))) {
                     try {
                         if (MP3AudioHeader.logger.isLoggable(Level.FINEST)) {
                             MP3AudioHeader.logger.finest("Found Possible header at:" + filePointerCount);
                         }
 
-                        mp3FrameHeader = MPEGFrameHeader.parseMPEGHeader(bb);
+                        mp3FrameHeader = MPEGFrameHeader.parseMPEGHeader(candidateHeader);
                         syncFound = true;
                         //if(2==1) use this line when you want to test getting the next frame without using xing
 
@@ -395,6 +298,8 @@ public class MP3AudioHeader implements AudioHeader {
             MP3AudioHeader.logger.log(Level.SEVERE, "IOException occurred whilst trying to find sync", iox);
             syncFound = false;
             throw iox;
+        } finally {
+            allocator.release(bb);
         }
 
         //Return to start of audio header
@@ -413,82 +318,13 @@ public class MP3AudioHeader implements AudioHeader {
             logger.severe(seekFile.getName()+"length:"+startByte+"Difference:"+(filePointerCount - startByte));
         }
         */
+        ParseTrace.event(ParseTrace.MP3_SEEK, null, startByte, filePointerCount - startByte, traceStart);
         return syncFound;
     }
 
     /**
      * Called in some circumstances to check the next frame to ensure we have the correct audio header
      *
-     * @param seekFile
-     * @param filePointerCount
-     * @param bb
-     * @param fc
-     * @return true if frame is valid
-     * @throws java.io.IOException
-     */
-    private boolean isNextFrameValid(File seekFile, long filePointerCount, ByteBuffer bb, FileChannel fc) throws IOException {
-        if (MP3AudioHeader.logger.isLoggable(Level.FINEST)) {
-            MP3AudioHeader.logger.finer("Checking next frame" + seekFile.getName() + ":fpc:" + filePointerCount + "skipping to:" + (filePointerCount + mp3FrameHeader.getFrameLength()));
-        }
-        boolean result = false;
-
-        int currentPosition = bb.position();
-
-        //Our buffer is not large enough to fit in the whole of this frame, something must
-        //have gone wrong because frames are not this large, so just return false
-        //bad frame header
-        if (mp3FrameHeader.getFrameLength() > (FILE_BUFFER_SIZE - MIN_BUFFER_REMAINING_REQUIRED)) {
-            MP3AudioHeader.logger.finer("Frame size is too large to be a frame:" + mp3FrameHeader.getFrameLength());
-            return false;
-        }
-
-        //Check for end of buffer if not enough room get some more
-        if (bb.remaining() <= MIN_BUFFER_REMAINING_REQUIRED + mp3FrameHeader.getFrameLength()) {
-            MP3AudioHeader.logger.finer("Buffer too small, need to reload, buffer size:" + bb.remaining());
-            bb.clear();
-            fc.position(filePointerCount);
-            fc.read(bb, fc.position());
-            bb.flip();
-            //So now original buffer has been replaced, so set current position to start of buffer
-            currentPosition = 0;
-            //Not enough left
-            if (bb.limit() <= MIN_BUFFER_REMAINING_REQUIRED) {
-                //No mp3 exists
-                MP3AudioHeader.logger.finer("Nearly at end of file, no header found:");
-                return false;
-            }
-
-            //Still Not enough left for next alleged frame size so giving up
-            if (bb.limit() <= MIN_BUFFER_REMAINING_REQUIRED + mp3FrameHeader.getFrameLength()) {
-                //No mp3 exists
-                MP3AudioHeader.logger.finer("Nearly at end of file, no room for next frame, no header found:");
-                return false;
-            }
-        }
-
-        //Position bb to the start of the alleged next frame
-        bb.position(bb.position() + mp3FrameHeader.getFrameLength());
-        if (MPEGFrameHeader.isMPEGFrame(bb)) {
-            try {
-                MPEGFrameHeader.parseMPEGHeader(bb);
-                MP3AudioHeader.logger.finer("Check next frame confirms is an audio header ");
-                result = true;
-            } catch (InvalidAudioFrameException ex) {
-                MP3AudioHeader.logger.finer("Check next frame has identified this is not an audio header");
-                result = false;
-            }
-        } else {
-            MP3AudioHeader.logger.finer("isMPEGFrame has identified this is not an audio header");
-        }
-        //Set back to the start of the previous frame
-        bb.position(currentPosition);
-        return result;
-    }
-
-    /**
-     * Called in some circumstances to check the next frame to ensure we have the correct audio header
-     *
-     * @param seekFile
      * @param filePointerCount
      * @param bb
      * @param fc
@@ -504,13 +340,17 @@ public class MP3AudioHeader implements AudioHeader {
         //have gone wrong because frames are not this large, so just return false
         //bad frame header
         if (mp3FrameHeader.getFrameLength() > (FILE_BUFFER_SIZE - MIN_BUFFER_REMAINING_REQUIRED)) {
-            MP3AudioHeader.logger.finer("Frame size is too large to be a frame:" + mp3FrameHeader.getFrameLength());
+            if (MP3AudioHeader.logger.isLoggable(Level.FINER)) {
+                MP3AudioHeader.logger.finer("Frame size is too large to be a frame:" + mp3FrameHeader.getFrameLength());
+            }
             return false;
         }
 
         //Check for end of buffer if not enough room get some more
         if (bb.remaining() <= MIN_BUFFER_REMAINING_REQUIRED + mp3FrameHeader.getFrameLength()) {
-            MP3AudioHeader.logger.finer("Buffer too small, need to reload, buffer size:" + bb.remaining());
+            if (MP3AudioHeader.logger.isLoggable(Level.FINER)) {
+                MP3AudioHeader.logger.finer("Buffer too small, need to reload, buffer size:" + bb.remaining());
+            }
             bb.clear();
             fc.position(filePointerCount);
             fc.read(bb, fc.position());
@@ -535,11 +375,10 @@ public class MP3AudioHeader implements AudioHeader {
         //Position bb to the start of the alleged next frame
         bb.position(bb.position() + mp3FrameHeader.getFrameLength());
         if (MPEGFrameHeader.isMPEGFrame(bb)) {
-            try {
-                MPEGFrameHeader.parseMPEGHeader(bb);
+            if (MPEGFrameHeader.isValidHeader(MPEGFrameHeader.readHeader(bb))) {
                 MP3AudioHeader.logger.finer("Check next frame confirms is an audio header ");
                 result = true;
-            } catch (InvalidAudioFrameException ex) {
+            } else {
                 MP3AudioHeader.logger.finer("Check next frame has identified this is not an audio header");
                 result = false;
             }
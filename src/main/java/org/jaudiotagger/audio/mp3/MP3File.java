@@ -22,13 +22,17 @@ package org.jaudiotagger.audio.mp3;
 
 
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.exceptions.*;
+import org.jaudiotagger.audio.io.MappedFileChannel;
 import org.jaudiotagger.logging.*;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.tag.TagNotFoundException;
 import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.id3.*;
+import org.jaudiotagger.tag.images.ImageDataReference;
+import org.jaudiotagger.utils.ByteBufferAllocator;
 import org.jaudiotagger.tag.lyrics3.AbstractLyrics3;
 
 import java.io.*;
@@ -103,6 +107,18 @@ public class MP3File extends AudioFile {
 
     public static final int LOAD_ALL = LOAD_IDV1TAG | LOAD_IDV2TAG | LOAD_LYRICS3;
 
+    /**
+     * Only read the first audio frame after the ID3v2 tag (and the Xing/VBRI/LAME frame within it), the start of
+     * audio is not cross checked by searching again from the start of file when it does not follow the tag
+     */
+    public static final int LOAD_QUICK_AUDIO_HEADER = 16;
+
+    /**
+     * Do not read the audio header at all, the ID3v2 tag is assumed to end where its header says and
+     * the audio header will be null
+     */
+    public static final int LOAD_SKIP_AUDIO_HEADER = 32;
+
     /**
      * Creates a new MP3File dataType and parse the tag from the given file
      * Object, files must be writable to use this constructor.
@@ -155,30 +171,16 @@ public class MP3File extends AudioFile {
      * @throws IOException
      * @throws TagException
      */
-    private void readV2Tag(File file, int loadOptions, int startByte) throws IOException, TagException {
+    private void readV2Tag(File file, FileChannel fc, int loadOptions, int startByte) throws IOException, TagException {
         //We know where the actual Audio starts so load all the file from start to that point into
         //a buffer then we can read the IDv2 information without needing any more File I/O
         if (startByte >= AbstractID3v2Tag.TAG_HEADER_LENGTH) {
             logger.finer("Attempting to read id3v2tags");
-            FileInputStream fis = null;
-            FileChannel fc = null;
-            ByteBuffer bb;
-            try {
-                fis = new FileInputStream(file);
-                fc = fis.getChannel();
-                bb = ByteBuffer.allocate(startByte);
-                // XXX: don't change it to map
-                // https://stackoverflow.com/questions/28378713/bytebuffer-getbyte-int-int-failed-on-android-ics-and-jb
-                fc.read(bb, 0);
-            } finally {
-                if (fc != null) {
-                    fc.close();
-                }
-
-                if (fis != null) {
-                    fis.close();
-                }
-            }
+            ByteBuffer bb = ByteBuffer.allocate(startByte);
+            // XXX: don't change it to map, MappedFileChannel does not map on Android because copying from a
+            // mapping into this heap buffer hits the same bug
+            // https://stackoverflow.com/questions/28378713/bytebuffer-getbyte-int-int-failed-on-android-ics-and-jb
+            fc.read(bb, 0);
 
             try {
                 bb.rewind();
@@ -206,6 +208,10 @@ public class MP3File extends AudioFile {
                     } catch (TagNotFoundException ex) {
                         logger.config("No id3v22 tag found");
                     }
+
+                    if (id3v2tag != null && TagOptionSingleton.getInstance().isLoadArtworkLazily()) {
+                        id3v2tag.setImageDataReferences(new ImageDataReference.FileSource(file));
+                    }
                 }
             } finally {
                 //Workaround for 4724038 on Windows
@@ -234,7 +240,9 @@ public class MP3File extends AudioFile {
                 }
             }
         } else {
-            logger.config("Not enough room for valid id3v2 tag:" + startByte);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config("Not enough room for valid id3v2 tag:" + startByte);
+            }
         }
     }
 
@@ -282,29 +290,21 @@ public class MP3File extends AudioFile {
      * @return true if all the bytes between in the file between startByte and endByte are null, false
      * otherwise
      */
-    private boolean isFilePortionNull(int startByte, int endByte) throws IOException {
-        logger.config("Checking file portion:" + Hex.asHex(startByte) + ":" + Hex.asHex(endByte));
-        FileInputStream fis = null;
-        FileChannel fc = null;
+    private boolean isFilePortionNull(FileChannel fc, int startByte, int endByte) throws IOException {
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Checking file portion:" + Hex.asHex(startByte) + ":" + Hex.asHex(endByte));
+        }
+        ByteBufferAllocator allocator = TagOptionSingleton.getInstance().getByteBufferAllocator();
+        ByteBuffer bb = allocator.acquire(endByte - startByte, true);
         try {
-            fis = new FileInputStream(file);
-            fc = fis.getChannel();
-            fc.position(startByte);
-            ByteBuffer bb = ByteBuffer.allocateDirect(endByte - startByte);
-            fc.read(bb);
+            fc.read(bb, startByte);
             while (bb.hasRemaining()) {
                 if (bb.get() != 0) {
                     return false;
                 }
             }
         } finally {
-            if (fc != null) {
-                fc.close();
-            }
-
-            if (fis != null) {
-                fis.close();
-            }
+            allocator.release(bb);
         }
         return true;
     }
@@ -319,7 +319,7 @@ public class MP3File extends AudioFile {
      * @throws IOException
      * @throws InvalidAudioFrameException
      */
-    private MP3AudioHeader checkAudioStart(long startByte, MP3AudioHeader firstHeaderAfterTag) throws IOException, InvalidAudioFrameException {
+    private MP3AudioHeader checkAudioStart(FileChannel fc, long startByte, MP3AudioHeader firstHeaderAfterTag) throws IOException, InvalidAudioFrameException {
         MP3AudioHeader headerOne;
         MP3AudioHeader headerTwo;
 
@@ -328,21 +328,27 @@ public class MP3File extends AudioFile {
         //because we cant agree on start location we reread the audioheader from the start of the file, at least
         //this way we cant overwrite the audio although we might overwrite part of the tag if we write this file
         //back later
-        headerOne = new MP3AudioHeader(file, 0);
-        logger.config("Checking from start:" + headerOne);
+        headerOne = new MP3AudioHeader(fc, 0, file.getName());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Checking from start:" + headerOne);
+        }
 
         //Although the id3 tag size appears to be incorrect at least we have found the same location for the start
         //of audio whether we start searching from start of file or at the end of the alleged of file so no real
         //problem
         if (firstHeaderAfterTag.getMp3StartByte() == headerOne.getMp3StartByte()) {
-            logger.config(ErrorMessage.MP3_START_OF_AUDIO_CONFIRMED.getMsg(file.getPath(),
-                    Hex.asHex(headerOne.getMp3StartByte())));
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(ErrorMessage.MP3_START_OF_AUDIO_CONFIRMED.getMsg(file.getPath(),
+                        Hex.asHex(headerOne.getMp3StartByte())));
+            }
             return firstHeaderAfterTag;
         } else {
 
             //We get a different value if read from start, can't guarantee 100% correct lets do some more checks
-            logger.config((ErrorMessage.MP3_RECALCULATED_POSSIBLE_START_OF_MP3_AUDIO.getMsg(file.getPath(),
-                    Hex.asHex(headerOne.getMp3StartByte()))));
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config((ErrorMessage.MP3_RECALCULATED_POSSIBLE_START_OF_MP3_AUDIO.getMsg(file.getPath(),
+                        Hex.asHex(headerOne.getMp3StartByte()))));
+            }
 
             //Same frame count so probably both audio headers with newAudioHeader being the first one
             if (firstHeaderAfterTag.getNumberOfFrames() == headerOne.getNumberOfFrames()) {
@@ -354,13 +360,13 @@ public class MP3File extends AudioFile {
             //If the size reported by the tag header is a little short and there is only nulls between the recorded value
             //and the start of the first audio found then we stick with the original header as more likely that currentHeader
             //DataInputStream not really a header
-            if (isFilePortionNull((int) startByte, (int) firstHeaderAfterTag.getMp3StartByte())) {
+            if (isFilePortionNull(fc, (int) startByte, (int) firstHeaderAfterTag.getMp3StartByte())) {
                 return firstHeaderAfterTag;
             }
 
             //Skip to the next header (header 2, counting from start of file)
-            headerTwo = new MP3AudioHeader(file, headerOne.getMp3StartByte()
-                    + headerOne.mp3FrameHeader.getFrameLength());
+            headerTwo = new MP3AudioHeader(fc, headerOne.getMp3StartByte()
+                    + headerOne.mp3FrameHeader.getFrameLength(), file.getName());
 
             //It matches the header we found when doing the original search from after the ID3Tag therefore it
             //seems that newAudioHeader was a false match and the original header was correct
@@ -400,28 +406,45 @@ public class MP3File extends AudioFile {
      */
     public MP3File(File file, int loadOptions, boolean readOnly) throws IOException, TagException, ReadOnlyFileException, CannotReadException, InvalidAudioFrameException {
         RandomAccessFile newFile = null;
+        FileChannel fc = null;
         try {
             this.file = file;
 
             //Check File accessibility
             newFile = checkFilePermissions(file, readOnly);
 
+            //The audio header and the ID3v2 tag are read from one channel, so the file is mapped at most once
+            fc = MappedFileChannel.open(file);
+
             //Read ID3v2 tag size (if tag exists) to allow audioHeader parsing to skip over tag
             long tagSizeReportedByHeader = AbstractID3v2Tag.getV2TagSizeIfExists(file);
-            logger.config("TagHeaderSize:" + Hex.asHex(tagSizeReportedByHeader));
-            audioHeader = new MP3AudioHeader(file, tagSizeReportedByHeader);
-
-            //If the audio header is not straight after the end of the tag then search from start of file
-            if (tagSizeReportedByHeader != ((MP3AudioHeader) audioHeader).getMp3StartByte()) {
-                logger.config("First header found after tag:" + audioHeader);
-                audioHeader = checkAudioStart(tagSizeReportedByHeader, (MP3AudioHeader) audioHeader);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config("TagHeaderSize:" + Hex.asHex(tagSizeReportedByHeader));
+            }
+            long audioStartByte = tagSizeReportedByHeader;
+            if ((loadOptions & LOAD_SKIP_AUDIO_HEADER) == 0) {
+                audioHeader = new MP3AudioHeader(fc, tagSizeReportedByHeader, file.getName());
+
+                //If the audio header is not straight after the end of the tag then search from start of file
+                if (tagSizeReportedByHeader != ((MP3AudioHeader) audioHeader).getMp3StartByte()
+                        && (loadOptions & LOAD_QUICK_AUDIO_HEADER) == 0) {
+                    if (logger.isLoggable(Level.CONFIG)) {
+                        logger.config("First header found after tag:" + audioHeader);
+                    }
+                    audioHeader = checkAudioStart(fc, tagSizeReportedByHeader, (MP3AudioHeader) audioHeader);
+                }
+                audioStartByte = ((MP3AudioHeader) audioHeader).getMp3StartByte();
             }
 
             //Read v1 tags (if any)
+            long traceStart = ParseTrace.start();
             readV1Tag(file, newFile, loadOptions);
+            ParseTrace.event(ParseTrace.TAG, "id3v1", -1, -1, traceStart);
 
             //Read v2 tags (if any)
-            readV2Tag(file, loadOptions, (int) ((MP3AudioHeader) audioHeader).getMp3StartByte());
+            traceStart = ParseTrace.start();
+            readV2Tag(file, fc, loadOptions, (int) audioStartByte);
+            ParseTrace.event(ParseTrace.TAG, "id3v2", 0, audioStartByte, traceStart);
 
             //If we have a v2 tag use that, if we do not but have v1 tag use that
             //otherwise use nothing
@@ -433,6 +456,9 @@ public class MP3File extends AudioFile {
                 tag = id3v1tag;
             }
         } finally {
+            if (fc != null) {
+                fc.close();
+            }
             if (newFile != null) {
                 newFile.close();
             }
@@ -448,20 +474,32 @@ public class MP3File extends AudioFile {
      * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
      */
     public long getMP3StartByte(File file) throws InvalidAudioFrameException, IOException {
-        try {
-            //Read ID3v2 tag size (if tag exists) to allow audio header parsing to skip over tag
-            long startByte = AbstractID3v2Tag.getV2TagSizeIfExists(file);
+        //Read ID3v2 tag size (if tag exists) to allow audio header parsing to skip over tag
+        long startByte = AbstractID3v2Tag.getV2TagSizeIfExists(file);
 
-            MP3AudioHeader audioHeader = new MP3AudioHeader(file, startByte);
+        FileChannel fc = MappedFileChannel.open(file);
+        try {
+            MP3AudioHeader audioHeader = new MP3AudioHeader(fc, startByte, file.getName());
             if (startByte != audioHeader.getMp3StartByte()) {
-                logger.config("First header found after tag:" + audioHeader);
-                audioHeader = checkAudioStart(startByte, audioHeader);
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config("First header found after tag:" + audioHeader);
+                }
+                audioHeader = checkAudioStart(fc, startByte, audioHeader);
             }
             return audioHeader.getMp3StartByte();
+        } finally {
+            fc.close();
+        }
+    }
+
+    /**
+     * Find the start of audio when saving a file that was loaded without its audio header
+     */
+    private long findMP3StartByte(File file) throws IOException {
+        try {
+            return getMP3StartByte(file);
         } catch (InvalidAudioFrameException iafe) {
-            throw iafe;
-        } catch (IOException ioe) {
-            throw ioe;
+            throw new IOException(iafe.getMessage(), iafe);
         }
     }
 
@@ -478,7 +516,8 @@ public class MP3File extends AudioFile {
      * @throws IOException
      */
     public File extractID3v2TagDataIntoFile(File outputFile) throws TagNotFoundException, IOException {
-        int startByte = (int) ((MP3AudioHeader) audioHeader).getMp3StartByte();
+        MP3AudioHeader mp3AudioHeader = getMP3AudioHeader();
+        int startByte = (int) (mp3AudioHeader != null ? mp3AudioHeader.getMp3StartByte() : findMP3StartByte(file));
         if (startByte >= 0) {
 
             //Read byte into buffer
@@ -500,7 +539,7 @@ public class MP3File extends AudioFile {
 
     /**
      * Return audio header
-     * @return
+     * @return the audio header, or null if the file was loaded with {@link #LOAD_SKIP_AUDIO_HEADER}
      */
     public MP3AudioHeader getMP3AudioHeader() {
         return (MP3AudioHeader) getAudioHeader();
@@ -711,7 +750,8 @@ public class MP3File extends AudioFile {
         if (id3v2tag instanceof ID3v24Tag) {
             this.id3v2Asv24tag = (ID3v24Tag) this.id3v2tag;
         } else {
-            this.id3v2Asv24tag = new ID3v24Tag(id3v2tag);
+            //Created on first use by getID3v2TagAsv24() because copying every frame is expensive
+            this.id3v2Asv24tag = null;
         }
     }
 
@@ -739,6 +779,9 @@ public class MP3File extends AudioFile {
      * @return a representation of tag as v24
      */
     public ID3v24Tag getID3v2TagAsv24() {
+        if (id3v2Asv24tag == null && id3v2tag != null) {
+            id3v2Asv24tag = new ID3v24Tag(id3v2tag);
+        }
         return id3v2Asv24tag;
     }
 
@@ -812,6 +855,49 @@ public class MP3File extends AudioFile {
         save(this.file);
     }
 
+    /**
+     * Work out how {@link #save()} would write the tags, without modifying the file
+     * <p>
+     * The ID3v2 tag is written in place if it fits before the audio, otherwise the file is rewritten with the audio
+     * after the new tag. The Lyrics3 and ID3v1 tags are written at the end of the file.
+     *
+     * @return the plan
+     * @throws CannotWriteException if the file cannot be read
+     */
+    public WritePlan planSave() throws CannotWriteException {
+        File file = this.file.getAbsoluteFile();
+        WritePlan plan = new WritePlan(WritePlan.Strategy.IN_PLACE, 0, 0, 0);
+        try (RandomAccessFile rfile = new RandomAccessFile(file, "r")) {
+            //ID3v2 Tag, deleting it only overwrites the tag identifier
+            if (TagOptionSingleton.getInstance().isId3v2Save() && id3v2tag != null) {
+                final MP3AudioHeader mp3AudioHeader = (MP3AudioHeader) this.getAudioHeader();
+                final long mp3StartByte = mp3AudioHeader != null ? mp3AudioHeader.getMp3StartByte() : findMP3StartByte(file);
+                final int sizeIncPadding = id3v2tag.getSizeWhenWritten(mp3StartByte);
+                if (sizeIncPadding > mp3StartByte) {
+                    plan = new WritePlan(WritePlan.Strategy.REWRITE, sizeIncPadding, mp3StartByte, file.length() - mp3StartByte);
+                } else {
+                    plan = new WritePlan(WritePlan.Strategy.IN_PLACE, sizeIncPadding, mp3StartByte, 0);
+                }
+            }
+
+            //Lyrics 3 Tag
+            if (TagOptionSingleton.getInstance().isLyrics3Save() && lyrics3tag != null) {
+                plan = plan.and(new WritePlan(WritePlan.Strategy.APPEND, -1, -1, 0));
+            }
+
+            //ID3v1 tag, deleting it only truncates the file
+            if (TagOptionSingleton.getInstance().isId3v1Save() && id3v1tag != null) {
+                plan = plan.and(id3v1tag.planWrite(rfile));
+            }
+        } catch (IOException ioe) {
+            throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE.getMsg(file.getName(), ioe.getMessage()), ioe);
+        }
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Planned save of " + file.getName() + ":" + plan);
+        }
+        return plan;
+    }
+
     /**
      * Overridden for compatibility with merged code
      *
@@ -865,7 +951,9 @@ public class MP3File extends AudioFile {
         //Ensure we are dealing with absolute filepaths not relative ones
         File file = fileToSave.getAbsoluteFile();
 
-        logger.config("Saving  : " + file.getPath());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Saving  : " + file.getPath());
+        }
 
         //Checks before starting write
         precheck(file);
@@ -879,15 +967,21 @@ public class MP3File extends AudioFile {
                     (new ID3v24Tag()).delete(rfile);
                     (new ID3v23Tag()).delete(rfile);
                     (new ID3v22Tag()).delete(rfile);
-                    logger.config("Deleting ID3v2 tag:" + file.getName());
+                    if (logger.isLoggable(Level.CONFIG)) {
+                        logger.config("Deleting ID3v2 tag:" + file.getName());
+                    }
                     rfile.close();
                 } else {
-                    logger.config("Writing ID3v2 tag:" + file.getName());
+                    if (logger.isLoggable(Level.CONFIG)) {
+                        logger.config("Writing ID3v2 tag:" + file.getName());
+                    }
                     final MP3AudioHeader mp3AudioHeader = (MP3AudioHeader) this.getAudioHeader();
-                    final long mp3StartByte = mp3AudioHeader.getMp3StartByte();
+                    final long mp3StartByte = mp3AudioHeader != null ? mp3AudioHeader.getMp3StartByte() : findMP3StartByte(file);
                     final long newMp3StartByte = id3v2tag.write(file, mp3StartByte);
-                    if (mp3StartByte != newMp3StartByte) {
-                        logger.config("New mp3 start byte: " + newMp3StartByte);
+                    if (mp3AudioHeader != null && mp3StartByte != newMp3StartByte) {
+                        if (logger.isLoggable(Level.CONFIG)) {
+                            logger.config("New mp3 start byte: " + newMp3StartByte);
+                        }
                         mp3AudioHeader.setMp3StartByte(newMp3StartByte);
                     }
 
@@ -42,9 +42,6 @@ public class MPEGFrameHeader {
     public static final int SYNC_BYTE2 = 0xE0;
     public static final int SYNC_BIT_ANDSAMPING_BYTE3 = 0xFC;
 
-    private static final byte[] header = new byte[HEADER_SIZE];
-
-
     /**
      * Constants for MPEG Version
      */
@@ -178,6 +175,17 @@ public class MPEGFrameHeader {
         bitrateMap.put(0xE2, 160);
     }
 
+    /**
+     * Bit Rates indexed directly by the bitrate index, 0 if the index is not valid
+     */
+    private static final int[] bitrateTable = new int[256];
+
+    static {
+        for (Map.Entry<Integer, Integer> entry : bitrateMap.entrySet()) {
+            bitrateTable[entry.getKey()] = entry.getValue();
+        }
+    }
+
     /**
      * Constants for Channel mode
      */
@@ -286,6 +294,26 @@ public class MPEGFrameHeader {
 
     }
 
+    /**
+     * Sampling rates and samples per frame indexed by version, 0 if not valid, the maps above are only used
+     * to populate these so that decoding a header does not need to box or lookup values
+     */
+    private static final int[][] samplingRateTable = new int[4][4];
+    private static final int[][] samplesPerFrameTable = new int[4][4];
+
+    static {
+        for (Map.Entry<Integer, Map<Integer, Integer>> entry : samplingRateMap.entrySet()) {
+            for (Map.Entry<Integer, Integer> rate : entry.getValue().entrySet()) {
+                samplingRateTable[entry.getKey()][rate.getKey()] = rate.getValue();
+            }
+        }
+        for (Map.Entry<Integer, Map<Integer, Integer>> entry : samplesPerFrameMap.entrySet()) {
+            for (Map.Entry<Integer, Integer> samples : entry.getValue().entrySet()) {
+                samplesPerFrameTable[entry.getKey()][samples.getKey()] = samples.getValue();
+            }
+        }
+    }
+
 
     private static final int SCALE_BY_THOUSAND = 1000;
     private static final int LAYER_I_FRAME_SIZE_COEFFICIENT = 12;
@@ -358,7 +386,10 @@ public class MPEGFrameHeader {
     private static final int MASK_MP3_EMPHASIS = FileConstants.BIT1 | FileConstants.BIT0;
 
 
-    private byte[] mpegBytes;
+    /**
+     * The four header bytes packed into an int, first byte in the most significant bits
+     */
+    private final int header;
 
     /**
      * The version of this MPEG frame (see the constants)
@@ -376,7 +407,7 @@ public class MPEGFrameHeader {
     /**
      * Bitrate of this frame
      */
-    private Integer bitRate;
+    private int bitRate;
 
     /**
      * Channel Mode of this Frame (see constants)
@@ -429,7 +460,7 @@ public class MPEGFrameHeader {
      */
     private boolean isPrivate;
 
-    private Integer samplingRate;
+    private int samplingRate;
 
 
     /**
@@ -449,7 +480,7 @@ public class MPEGFrameHeader {
      * Gets the copyrighted attribute of the MPEGFrame object
      */
     private void setCopyrighted() {
-        isCopyrighted = (mpegBytes[BYTE_4] & MASK_MP3_COPY) != 0;
+        isCopyrighted = (getByte(header, BYTE_4) & MASK_MP3_COPY) != 0;
     }
 
 
@@ -459,7 +490,7 @@ public class MPEGFrameHeader {
      */
     private void setVersion() throws InvalidAudioFrameException {
         //MPEG Version
-        version = (byte) ((mpegBytes[BYTE_2] & MASK_MP3_VERSION) >> 3);
+        version = (byte) ((getByte(header, BYTE_2) & MASK_MP3_VERSION) >> 3);
         versionAsString = mpegVersionMap.get(version);
         if (versionAsString == null) {
             throw new InvalidAudioFrameException("Invalid mpeg version");
@@ -470,21 +501,21 @@ public class MPEGFrameHeader {
      * Sets the original attribute of the MPEGFrame object
      */
     private void setOriginal() {
-        isOriginal = (mpegBytes[BYTE_4] & MASK_MP3_HOME) != 0;
+        isOriginal = (getByte(header, BYTE_4) & MASK_MP3_HOME) != 0;
     }
 
     /**
      * Sets the protected attribute of the MPEGFrame object
      */
     private void setProtected() {
-        isProtected = (mpegBytes[BYTE_2] & MASK_MP3_PROTECTION) == 0x00;
+        isProtected = (getByte(header, BYTE_2) & MASK_MP3_PROTECTION) == 0x00;
     }
 
     /**
      * Sets the private attribute of the MPEGFrame object
      */
     private void setPrivate() {
-        isPrivate = (mpegBytes[BYTE_3] & MASK_MP3_PRIVACY) != 0;
+        isPrivate = (getByte(header, BYTE_3) & MASK_MP3_PRIVACY) != 0;
     }
 
     /**
@@ -493,10 +524,10 @@ public class MPEGFrameHeader {
      */
     private void setBitrate() throws InvalidAudioFrameException {
         /* BitRate, get by checking header setBitrate bits and MPEG Version and Layer */
-        int bitRateIndex = mpegBytes[BYTE_3] & MASK_MP3_BITRATE | mpegBytes[BYTE_2] & MASK_MP3_ID | mpegBytes[BYTE_2] & MASK_MP3_LAYER;
+        int bitRateIndex = getByte(header, BYTE_3) & MASK_MP3_BITRATE | getByte(header, BYTE_2) & MASK_MP3_ID | getByte(header, BYTE_2) & MASK_MP3_LAYER;
 
-        bitRate = bitrateMap.get(bitRateIndex);
-        if (bitRate == null) {
+        bitRate = bitrateTable[bitRateIndex];
+        if (bitRate == 0) {
             throw new InvalidAudioFrameException("Invalid bitrate");
         }
     }
@@ -507,7 +538,7 @@ public class MPEGFrameHeader {
      * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
      */
     private void setChannelMode() throws InvalidAudioFrameException {
-        channelMode = (mpegBytes[BYTE_4] & MASK_MP3_MODE) >>> 6;
+        channelMode = (getByte(header, BYTE_4) & MASK_MP3_MODE) >>> 6;
         channelModeAsString = modeMap.get(channelMode);
         if (channelModeAsString == null) {
             throw new InvalidAudioFrameException("Invalid channel mode");
@@ -519,7 +550,7 @@ public class MPEGFrameHeader {
      * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
      */
     private void setEmphasis() throws InvalidAudioFrameException {
-        emphasis = mpegBytes[BYTE_4] & MASK_MP3_EMPHASIS;
+        emphasis = getByte(header, BYTE_4) & MASK_MP3_EMPHASIS;
         emphasisAsString = emphasisMap.get(emphasis);
         if (getEmphasisAsString() == null) {
             throw new InvalidAudioFrameException("Invalid emphasis");
@@ -531,7 +562,7 @@ public class MPEGFrameHeader {
      * Set whether this frame uses padding bytes
      */
     private void setPadding() {
-        isPadding = (mpegBytes[BYTE_3] & MASK_MP3_PADDING) != 0;
+        isPadding = (getByte(header, BYTE_3) & MASK_MP3_PADDING) != 0;
     }
 
 
@@ -540,7 +571,7 @@ public class MPEGFrameHeader {
      * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
      */
     private void setLayer() throws InvalidAudioFrameException {
-        layer = (mpegBytes[BYTE_2] & MASK_MP3_LAYER) >>> 1;
+        layer = (getByte(header, BYTE_2) & MASK_MP3_LAYER) >>> 1;
         layerAsString = mpegLayerMap.get(layer);
         if (layerAsString == null) {
             throw new InvalidAudioFrameException("Invalid Layer");
@@ -553,7 +584,7 @@ public class MPEGFrameHeader {
      * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
      */
     private void setModeExtension() throws InvalidAudioFrameException {
-        int index = (mpegBytes[BYTE_4] & MASK_MP3_MODE_EXTENSION) >> 4;
+        int index = (getByte(header, BYTE_4) & MASK_MP3_MODE_EXTENSION) >> 4;
         if (layer == LAYER_III) {
             modeExtension = modeExtensionLayerIIIMap.get(index);
             if (getModeExtension() == null) {
@@ -573,13 +604,12 @@ public class MPEGFrameHeader {
      */
     private void setSamplingRate() throws InvalidAudioFrameException {
         //Frequency
-        int index = (mpegBytes[BYTE_3] & MASK_MP3_FREQUENCY) >>> 2;
-        Map<Integer, Integer> samplingRateMapForVersion = samplingRateMap.get(version);
-        if (samplingRateMapForVersion == null) {
+        int index = (getByte(header, BYTE_3) & MASK_MP3_FREQUENCY) >>> 2;
+        if (versionAsString == null) {
             throw new InvalidAudioFrameException("Invalid version");
         }
-        samplingRate = samplingRateMapForVersion.get(index);
-        if (samplingRate == null) {
+        samplingRate = samplingRateTable[version][index];
+        if (samplingRate == 0) {
             throw new InvalidAudioFrameException("Invalid sampling rate");
         }
     }
@@ -655,21 +685,25 @@ public class MPEGFrameHeader {
 
      */
     public int getFrameLength() {
+        return getFrameLength(version, layer, channelMode, bitRate, samplingRate, getPaddingLength());
+    }
+
+    private static int getFrameLength(int version, int layer, int channelMode, int bitRate, int samplingRate, int paddingLength) {
         switch (version) {
             case VERSION_2:
             case VERSION_2_5:
                 switch (layer) {
                     case LAYER_I:
-                        return (LAYER_I_FRAME_SIZE_COEFFICIENT * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() + getPaddingLength()) * LAYER_I_SLOT_SIZE;
+                        return (LAYER_I_FRAME_SIZE_COEFFICIENT * (bitRate * SCALE_BY_THOUSAND) / samplingRate + paddingLength) * LAYER_I_SLOT_SIZE;
 
                     case LAYER_II:
-                        return (LAYER_II_FRAME_SIZE_COEFFICIENT) * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() + getPaddingLength() * LAYER_II_SLOT_SIZE;
+                        return (LAYER_II_FRAME_SIZE_COEFFICIENT) * (bitRate * SCALE_BY_THOUSAND) / samplingRate + paddingLength * LAYER_II_SLOT_SIZE;
 
                     case LAYER_III:
-                        if (this.getChannelMode() == MODE_MONO) {
-                            return (LAYER_III_FRAME_SIZE_COEFFICIENT / 2) * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() + getPaddingLength() * LAYER_III_SLOT_SIZE;
+                        if (channelMode == MODE_MONO) {
+                            return (LAYER_III_FRAME_SIZE_COEFFICIENT / 2) * (bitRate * SCALE_BY_THOUSAND) / samplingRate + paddingLength * LAYER_III_SLOT_SIZE;
                         } else {
-                            return (LAYER_III_FRAME_SIZE_COEFFICIENT) * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() + getPaddingLength() * LAYER_III_SLOT_SIZE;
+                            return (LAYER_III_FRAME_SIZE_COEFFICIENT) * (bitRate * SCALE_BY_THOUSAND) / samplingRate + paddingLength * LAYER_III_SLOT_SIZE;
                         }
 
 
@@ -682,13 +716,13 @@ public class MPEGFrameHeader {
             case VERSION_1:
                 switch (layer) {
                     case LAYER_I:
-                        return (LAYER_I_FRAME_SIZE_COEFFICIENT * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() + getPaddingLength()) * LAYER_I_SLOT_SIZE;
+                        return (LAYER_I_FRAME_SIZE_COEFFICIENT * (bitRate * SCALE_BY_THOUSAND) / samplingRate + paddingLength) * LAYER_I_SLOT_SIZE;
 
                     case LAYER_II:
-                        return LAYER_II_FRAME_SIZE_COEFFICIENT * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() + getPaddingLength() * LAYER_II_SLOT_SIZE;
+                        return LAYER_II_FRAME_SIZE_COEFFICIENT * (bitRate * SCALE_BY_THOUSAND) / samplingRate + paddingLength * LAYER_II_SLOT_SIZE;
 
                     case LAYER_III:
-                        return LAYER_III_FRAME_SIZE_COEFFICIENT * (getBitRate() * SCALE_BY_THOUSAND) / getSamplingRate() + getPaddingLength() * LAYER_III_SLOT_SIZE;
+                        return LAYER_III_FRAME_SIZE_COEFFICIENT * (bitRate * SCALE_BY_THOUSAND) / samplingRate + paddingLength * LAYER_III_SLOT_SIZE;
 
                     default:
                         throw new RuntimeException("Mp3 Unknown Layer:" + layer);
@@ -707,8 +741,7 @@ public class MPEGFrameHeader {
      * @return
      */
     public int getNoOfSamples() {
-        Integer noOfSamples = samplesPerFrameMap.get(version).get(layer);
-        return noOfSamples;
+        return samplesPerFrameTable[version][layer];
     }
 
 
@@ -750,21 +783,14 @@ public class MPEGFrameHeader {
 
 
     /**
-     * Hide Constructor
-     */
-    private MPEGFrameHeader() {
-
-    }
-
-    /**
-     * Try and create a new MPEG frame with the given byte array and decodes its contents
+     * Try and create a new MPEG frame with the given header and decodes its contents
      * If decoding header causes a problem it is not a valid header
      *
-     * @param b the array of bytes representing this mpeg frame
+     * @param header the four bytes representing this mpeg frame header packed into an int
      * @throws InvalidAudioFrameException if does not match expected format
      */
-    private MPEGFrameHeader(byte[] b) throws InvalidAudioFrameException {
-        mpegBytes = b;
+    private MPEGFrameHeader(int header) throws InvalidAudioFrameException {
+        this.header = header;
         setBitrate();
         setVersion();
         setLayer();
@@ -787,12 +813,76 @@ public class MPEGFrameHeader {
      * @throws InvalidAudioFrameException if there is no header at this point
      */
     public static MPEGFrameHeader parseMPEGHeader(ByteBuffer bb) throws InvalidAudioFrameException {
+        return new MPEGFrameHeader(readHeader(bb));
+    }
+
+    /**
+     * Decode the MPEGFrameHeader from a header already read with {@link #readHeader(ByteBuffer)}
+     *
+     * @param header the four header bytes packed into an int
+     * @return
+     * @throws InvalidAudioFrameException if this is not a valid header
+     */
+    public static MPEGFrameHeader parseMPEGHeader(int header) throws InvalidAudioFrameException {
+        return new MPEGFrameHeader(header);
+    }
+
+    /**
+     * Read the four header bytes at the current position of the buffer without modifying its position
+     *
+     * Only absolute gets are used so this is safe to call concurrently on buffers that are not shared
+     *
+     * @param bb the byte buffer containing the header
+     * @return the header bytes packed into an int, first byte in the most significant bits
+     */
+    public static int readHeader(ByteBuffer bb) {
         int position = bb.position();
-        bb.get(header, 0, HEADER_SIZE);
-        bb.position(position);
-        MPEGFrameHeader frameHeader = new MPEGFrameHeader(header);
+        return ((bb.get(position + BYTE_1) & 0xFF) << 24)
+                | ((bb.get(position + BYTE_2) & 0xFF) << 16)
+                | ((bb.get(position + BYTE_3) & 0xFF) << 8)
+                | (bb.get(position + BYTE_4) & 0xFF);
+    }
+
+    /**
+     * Check the header would decode to a valid frame, this performs the same checks as
+     * {@link #parseMPEGHeader(int)} but without creating a frame header or exception so is cheap enough to use
+     * when checking candidate frames while scanning for sync
+     *
+     * @param header the four header bytes packed into an int
+     * @return true if the header is valid
+     */
+    public static boolean isValidHeader(int header) {
+        int byte2 = getByte(header, BYTE_2);
+        int byte3 = getByte(header, BYTE_3);
+        int version = (byte2 & MASK_MP3_VERSION) >> 3;
+        int layer = (byte2 & MASK_MP3_LAYER) >>> 1;
+        return bitrateTable[byte3 & MASK_MP3_BITRATE | byte2 & MASK_MP3_ID | byte2 & MASK_MP3_LAYER] != 0
+                && mpegVersionMap.containsKey(version)
+                && mpegLayerMap.containsKey(layer)
+                && samplingRateTable[version][(byte3 & MASK_MP3_FREQUENCY) >>> 2] != 0;
+    }
+
+    /**
+     * Calculate the frame length of a valid header without creating a frame header
+     *
+     * @param header the four header bytes packed into an int, must be valid
+     * @return the frame length in bytes
+     */
+    public static int getFrameLength(int header) {
+        int byte2 = getByte(header, BYTE_2);
+        int byte3 = getByte(header, BYTE_3);
+        int byte4 = getByte(header, BYTE_4);
+        int version = (byte2 & MASK_MP3_VERSION) >> 3;
+        int layer = (byte2 & MASK_MP3_LAYER) >>> 1;
+        int bitRate = bitrateTable[byte3 & MASK_MP3_BITRATE | byte2 & MASK_MP3_ID | byte2 & MASK_MP3_LAYER];
+        int samplingRate = samplingRateTable[version][(byte3 & MASK_MP3_FREQUENCY) >>> 2];
+        int channelMode = (byte4 & MASK_MP3_MODE) >>> 6;
+        int paddingLength = (byte3 & MASK_MP3_PADDING) != 0 ? 1 : 0;
+        return getFrameLength(version, layer, channelMode, bitRate, samplingRate, paddingLength);
+    }
 
-        return frameHeader;
+    private static int getByte(int header, int index) {
+        return (header >>> ((HEADER_SIZE - 1 - index) * 8)) & 0xFF;
     }
 
     /**
@@ -812,7 +902,7 @@ public class MPEGFrameHeader {
      * @return a string represntation
      */
     public String toString() {
-        return " mpeg frameheader:" + " frame length:" + getFrameLength() + " version:" + versionAsString + " layer:" + layerAsString + " channelMode:" + channelModeAsString + " noOfSamples:" + getNoOfSamples() + " samplingRate:" + samplingRate + " isPadding:" + isPadding + " isProtected:" + isProtected + " isPrivate:" + isPrivate + " isCopyrighted:" + isCopyrighted + " isOriginal:" + isCopyrighted + " isVariableBitRate" + this.isVariableBitRate() + " header as binary:" + AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_1]) + " " + AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_2]) + " " + AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_3]) + " " + AbstractTagDisplayFormatter.displayAsBinary(mpegBytes[BYTE_4]);
+        return " mpeg frameheader:" + " frame length:" + getFrameLength() + " version:" + versionAsString + " layer:" + layerAsString + " channelMode:" + channelModeAsString + " noOfSamples:" + getNoOfSamples() + " samplingRate:" + samplingRate + " isPadding:" + isPadding + " isProtected:" + isProtected + " isPrivate:" + isPrivate + " isCopyrighted:" + isCopyrighted + " isOriginal:" + isCopyrighted + " isVariableBitRate" + this.isVariableBitRate() + " header as binary:" + AbstractTagDisplayFormatter.displayAsBinary((byte) getByte(header, BYTE_1)) + " " + AbstractTagDisplayFormatter.displayAsBinary((byte) getByte(header, BYTE_2)) + " " + AbstractTagDisplayFormatter.displayAsBinary((byte) getByte(header, BYTE_3)) + " " + AbstractTagDisplayFormatter.displayAsBinary((byte) getByte(header, BYTE_4));
     }
 }
 
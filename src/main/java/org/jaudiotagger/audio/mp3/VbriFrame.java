@@ -4,6 +4,7 @@ import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.logging.Level;
 
 /**
  * Vrbi Frame
@@ -133,7 +134,9 @@ public class VbriFrame {
 
         //We store this so can return here after scanning through buffer
         int startPosition = bb.position();
-        MP3File.logger.finest("Checking VBRI Frame at" + startPosition);
+        if (MP3File.logger.isLoggable(Level.FINEST)) {
+            MP3File.logger.finest("Checking VBRI Frame at" + startPosition);
+        }
 
         bb.position(startPosition + VBRI_OFFSET);
 
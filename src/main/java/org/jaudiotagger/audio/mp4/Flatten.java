@@ -40,6 +40,7 @@ public class Flatten {
 
     public List<ProgressListener> listeners;
     private Map<TrakBox, SampleProcessor> sampleProcessors = new HashMap<>();
+    private int padding;
 
     public Flatten() {
         this.listeners = new ArrayList<>();
@@ -53,6 +54,13 @@ public class Flatten {
         this.listeners.add(listener);
     }
 
+    /**
+     * @param padding extra space to leave in the free atom after the movie header so it can later grow in place
+     */
+    public void setPadding(int padding) {
+        this.padding = padding;
+    }
+
     public boolean setSampleProcessor(TrakBox trak, SampleProcessor processor) {
         // Will not modify individual samples of tracks with equal sample sizes
         if (trak.getStsz().getDefaultSize() != 0)
@@ -69,7 +77,7 @@ public class Flatten {
         out.position(0);
         MP4Util.writeFullMovie(out, movie);
 
-        int extraSpace = calcSpaceReq(moov);
+        int extraSpace = calcSpaceReq(moov) + padding;
         ByteBuffer buf = ByteBuffer.allocate(extraSpace);
         out.write(buf);
 
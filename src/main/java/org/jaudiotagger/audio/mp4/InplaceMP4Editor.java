@@ -1,6 +1,8 @@
 package org.jaudiotagger.audio.mp4;
 
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jcodec.containers.mp4.BoxFactory;
 import org.jcodec.containers.mp4.MP4Util;
 import org.jcodec.containers.mp4.MP4Util.Atom;
@@ -12,6 +14,7 @@ import java.io.IOException;
 import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.List;
 
 /**
  * This class is part of JCodec ( www.jcodec.org ) This software is distributed
@@ -35,6 +38,9 @@ public class InplaceMP4Editor {
      * Tries to modify movie header in place according to what's implemented in
      * the edit, the file gets physically modified if the operation is
      * successful. No temporary file is created.
+     * <p>
+     * Any {@code free} atoms directly after the movie header are also used, and if the movie header is the last
+     * thing in the file it can grow without limit.
      *
      * @param fi   A file channel to be modified
      * @param edit An edit to be carried out on a movie header
@@ -44,7 +50,71 @@ public class InplaceMP4Editor {
      * @throws Exception
      */
     public boolean modify(FileChannel fi, MovieBox edit) throws IOException {
-        Atom moovAtom = getMoov(fi);
+        Placement placement = place(fi, edit);
+        if (placement == null)
+            return false;
+
+        try {
+            if (placement.buffer == null)
+                return false;
+
+            replaceBox(fi, placement.moovAtom, placement.buffer);
+            if (placement.atEnd)
+                fi.truncate(placement.moovAtom.getOffset() + placement.buffer.limit());
+            return true;
+        } finally {
+            placement.release();
+        }
+    }
+
+    /**
+     * Works out how {@link #modify(FileChannel, MovieBox)} would write the movie header, without modifying the file
+     *
+     * @param fi   A file channel to be modified
+     * @param edit An edit to be carried out on a movie header
+     * @return the plan, or null if the movie header cannot be written in place
+     * @throws IOException
+     */
+    public WritePlan plan(FileChannel fi, MovieBox edit) throws IOException {
+        Placement placement = place(fi, edit);
+        if (placement == null)
+            return null;
+
+        try {
+            if (placement.buffer == null)
+                return null;
+
+            //A movie header at the end of the file that grows extends the file
+            WritePlan.Strategy strategy = placement.atEnd && placement.buffer.limit() > placement.available ? WritePlan.Strategy.APPEND : WritePlan.Strategy.IN_PLACE;
+            return new WritePlan(strategy, placement.atEnd ? placement.buffer.limit() : placement.available, placement.available, 0);
+        } finally {
+            placement.release();
+        }
+    }
+
+    /**
+     * @return size of the existing movie header and any {@code free} atoms directly after it, or -1 if there is no
+     * movie header
+     * @throws IOException
+     */
+    public long getAvailableSize(FileChannel fi) throws IOException {
+        List<Atom> rootAtoms = MP4Util.getRootAtoms(fi);
+        Atom moovAtom = MP4Util.getMoov(rootAtoms);
+        if (moovAtom == null)
+            return -1;
+        return moovAtom.getHeader().getSize() + getFreeSizeAfter(rootAtoms, moovAtom);
+    }
+
+    /**
+     * Write the edited movie header to a buffer that fits in the space of the existing one
+     *
+     * @return the placement, with a null buffer if the header does not fit, or null if there is no movie header
+     */
+    private Placement place(FileChannel fi, MovieBox edit) throws IOException {
+        List<Atom> rootAtoms = MP4Util.getRootAtoms(fi);
+        Atom moovAtom = MP4Util.getMoov(rootAtoms);
+        if (moovAtom == null)
+            return null;
 
         ByteBuffer moovBuffer = fetchBox(fi, moovAtom);
         MovieBox moovBox = (MovieBox) parseBox(moovBuffer);
@@ -54,21 +124,85 @@ public class InplaceMP4Editor {
             moovBox.add(box);
         }
 
-        if (!rewriteBox(moovBuffer, moovBox))
-            return false;
+        long available = moovAtom.getHeader().getSize() + getFreeSizeAfter(rootAtoms, moovAtom);
+        boolean atEnd = moovAtom.getOffset() + available >= fi.size();
+        Placement placement = new Placement(moovAtom, available, atEnd);
+
+        ByteBuffer buffer = moovBuffer;
+        if (atEnd || available > moovBuffer.capacity()) {
+            //Only the header of the free atom taking up the rest of the space needs to be written
+            long capacity = Math.max(moovBuffer.capacity(), moovBox.estimateSize()) + 8;
+            placement.pooled = TagOptionSingleton.getInstance().getByteBufferAllocator().acquire((int) (atEnd ? capacity : Math.min(capacity, available)), false);
+            //The size of the buffer limits the size of the header so it must not be larger than requested
+            buffer = placement.pooled.slice();
+        }
+
+        if (atEnd) {
+            //Nothing follows so the header can take as much space as it needs
+            try {
+                moovBox.write(buffer);
+                buffer.flip();
+            } catch (BufferOverflowException e) {
+                return placement;
+            }
+            placement.buffer = buffer;
+            return placement;
+        }
+
+        if (rewriteBox(buffer, moovBox, available))
+            placement.buffer = buffer;
+        return placement;
+    }
+
+    /**
+     * Where the edited movie header would be written
+     */
+    private static class Placement {
+        private final Atom moovAtom;
+        private final long available;
+        private final boolean atEnd;
+        private ByteBuffer buffer;
+        private ByteBuffer pooled;
+
+        private Placement(Atom moovAtom, long available, boolean atEnd) {
+            this.moovAtom = moovAtom;
+            this.available = available;
+            this.atEnd = atEnd;
+        }
+
+        private void release() {
+            TagOptionSingleton.getInstance().getByteBufferAllocator().release(pooled);
+            pooled = null;
+            buffer = null;
+        }
+    }
 
-        replaceBox(fi, moovAtom, moovBuffer);
-        return true;
+    /**
+     * @return total size of the free atoms directly following the atom
+     */
+    private long getFreeSizeAfter(List<Atom> rootAtoms, Atom atom) {
+        long size = 0;
+        for (int i = rootAtoms.indexOf(atom) + 1; i < rootAtoms.size(); i++) {
+            Header header = rootAtoms.get(i).getHeader();
+            if (!"free".equals(header.getFourcc()) && !"skip".equals(header.getFourcc()))
+                break;
+            size += header.getSize();
+        }
+        return size;
     }
 
-    private boolean rewriteBox(ByteBuffer buffer, Box box) {
+    /**
+     * Write the box to the buffer, followed by the header of a free atom taking up the rest of the available space
+     */
+    private boolean rewriteBox(ByteBuffer buffer, Box box, long available) {
         try {
             buffer.clear();
             box.write(buffer);
-            if (buffer.hasRemaining()) {
-                if (buffer.remaining() < 8)
+            long remaining = available - buffer.position();
+            if (remaining > 0) {
+                if (remaining < 8 || remaining > 0xFFFFFFFFL || buffer.remaining() < 8)
                     return false;
-                buffer.putInt(buffer.remaining());
+                buffer.putInt((int) remaining);
                 buffer.put(Header.FOURCC_FREE);
             }
             buffer.flip();
@@ -94,13 +228,4 @@ public class InplaceMP4Editor {
         fi.position(atom.getOffset());
         fi.write(buffer);
     }
-
-    private Atom getMoov(FileChannel f) throws IOException {
-        for (Atom atom : MP4Util.getRootAtoms(f)) {
-            if ("moov".equals(atom.getHeader().getFourcc())) {
-                return atom;
-            }
-        }
-        return null;
-    }
 }
@@ -22,6 +22,7 @@ import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.AudioFileReader;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.tag.Tag;
+import org.jcodec.containers.mp4.MP4Util;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
@@ -42,4 +43,24 @@ public class Mp4FileReader extends AudioFileReader {
     protected Tag getTag(RandomAccessFile raf) throws CannotReadException, IOException {
         return tr.read(raf);
     }
+
+    /**
+     * Parses the moov box only once per read, the parsed movie is then shared by the info and tag readers
+     * rather than each of them walking the root atoms and parsing the moov box again. Only the metadata boxes
+     * are parsed, the sample tables are skipped.
+     */
+    @Override
+    protected Object parse(RandomAccessFile raf) throws CannotReadException, IOException {
+        return MP4Util.parseMetadataMovieChannel(raf.getChannel());
+    }
+
+    @Override
+    protected GenericAudioHeader getEncodingInfo(RandomAccessFile raf, Object parsed) throws CannotReadException, IOException {
+        return ir.read((MP4Util.Movie) parsed, raf.getChannel());
+    }
+
+    @Override
+    protected Tag getTag(RandomAccessFile raf, Object parsed) throws CannotReadException, IOException {
+        return tr.read((MP4Util.Movie) parsed);
+    }
 }
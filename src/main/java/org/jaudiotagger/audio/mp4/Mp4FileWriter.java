@@ -19,6 +19,7 @@
 package org.jaudiotagger.audio.mp4;
 
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.AudioFileWriter;
 import org.jaudiotagger.tag.Tag;
@@ -43,4 +44,9 @@ public class Mp4FileWriter extends AudioFileWriter {
     protected void deleteTag(Tag tag, RandomAccessFile raf, RandomAccessFile rafTemp) throws IOException {
         tw.delete(raf, rafTemp);
     }
+
+    @Override
+    protected WritePlan planWriteTag(AudioFile audioFile, Tag tag, RandomAccessFile raf) throws IOException {
+        return tw.plan(tag, raf);
+    }
 }
@@ -22,11 +22,14 @@ import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotReadVideoException;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jcodec.containers.mp4.BoxFactory;
 import org.jcodec.containers.mp4.MP4Util;
 import org.jcodec.containers.mp4.boxes.*;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -57,8 +60,21 @@ public class Mp4InfoReader {
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.mp4.atom");
 
     public GenericAudioHeader read(RandomAccessFile raf) throws CannotReadException, IOException {
-        MP4Util.Movie mp4 = MP4Util.parseFullMovieChannel(raf.getChannel());
+        return read(MP4Util.parseFullMovieChannel(raf.getChannel()), raf.getChannel());
+    }
+
+    /**
+     * Read audio info from an already parsed movie, so the moov box can be shared with the tag reader
+     *
+     * @param mp4 the parsed movie, may be null if the file has no moov box
+     * @param fc the file the movie was parsed from, boxes skipped when parsing are read from it if needed
+     * @return the audio header
+     * @throws CannotReadException if the movie is not a valid audio file
+     * @throws IOException if a skipped box cannot be read
+     */
+    public GenericAudioHeader read(MP4Util.Movie mp4, FileChannel fc) throws CannotReadException, IOException {
         Mp4AudioHeader info = new Mp4AudioHeader();
+        long fileSize = fc.size();
 
         //File Identification
         if (mp4 == null || mp4.getFtyp() == null) {
@@ -165,11 +181,21 @@ public class Mp4InfoReader {
         }
 
         //Level 6-Searching for "stco within "stbl" to get size of audio data
-        if (trak.getStco() != null && trak.getStco().getChunkOffsets().length > 0) {
-            long[] offsets = trak.getStco().getChunkOffsets();
+        ChunkOffsetsBox stco = getChunkOffsets(trak, fc);
+        if (stco != null && stco.getChunkOffsets().length > 0) {
+            long[] offsets = stco.getChunkOffsets();
             info.setAudioDataStartPosition(offsets[0]);
-            info.setAudioDataEndPosition(raf.length());
-            info.setAudioDataLength(raf.length() - offsets[0]);
+            info.setAudioDataEndPosition(fileSize);
+            info.setAudioDataLength(fileSize - offsets[0]);
+        } else {
+            //No chunk offsets so use start of the mdat atom instead
+            MP4Util.Atom mdat = MP4Util.findAtom("mdat", mp4.getOthers());
+            if (mdat != null) {
+                long start = mdat.getOffset() + mdat.getHeader().headerSize();
+                info.setAudioDataStartPosition(start);
+                info.setAudioDataEndPosition(fileSize);
+                info.setAudioDataLength(fileSize - start);
+            }
         }
 
         //Set default channels if couldn't calculate it
@@ -192,7 +218,9 @@ public class Mp4InfoReader {
             info.setEncodingType(EncoderType.AAC.getDescription());
         }
 
-        logger.config(info.toString());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(info.toString());
+        }
 
         //Level 2-Searching for others "trak" within "moov", if we find any traks containing video
         //then reject it if no track if not video then we allow it because many encoders seem to contain all sorts
@@ -207,5 +235,22 @@ public class Mp4InfoReader {
         return info;
     }
 
-
+    /**
+     * The metadata only parse profile keeps the sample tables as skipped boxes, so only the stco box is loaded from
+     * the file, and only when it has not already been parsed
+     *
+     * @return the chunk offsets of the track, or null if it has none
+     */
+    private ChunkOffsetsBox getChunkOffsets(TrakBox trak, FileChannel fc) throws IOException {
+        ChunkOffsetsBox stco = trak.getStco();
+        if (stco != null) {
+            return stco;
+        }
+        SkippedBox skipped = NodeBox.findFirstPath(trak, SkippedBox.class, Box.path("mdia.minf.stbl.stco"));
+        if (skipped == null) {
+            return null;
+        }
+        Box box = skipped.load(fc, BoxFactory.getDefault());
+        return box instanceof ChunkOffsetsBox ? (ChunkOffsetsBox) box : null;
+    }
 }
@@ -19,9 +19,10 @@
 package org.jaudiotagger.audio.mp4;
 
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
-import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.mp4.Mp4Tag;
 import org.jaudiotagger.tag.mp4.Mp4TagCreator;
 import org.jcodec.containers.mp4.MP4Util;
@@ -103,7 +104,9 @@ public class Mp4TagWriter {
 
 
     /**
-     * Write tag to {@code rafTemp} file.
+     * Write tag in place to {@code raf} if the new {@code moov} atom fits in the space of the existing one and any
+     * {@code free} atoms after it, otherwise write the file to {@code rafTemp} leaving padding after the new
+     * {@code moov} atom.
      *
      * @param raf     current file
      * @param rafTemp temporary file for writing
@@ -117,6 +120,12 @@ public class Mp4TagWriter {
             MP4Util.Movie mp4 = MP4Util.parseFullMovieChannel(fi);
             writeTagBox(af.getTag(), mp4);
 
+            //Use the existing moov atom and any free atoms after it if there is room
+            if (new InplaceMP4Editor().modify(fi, mp4.getMoov())) {
+                logger.config("Written tag in place");
+                return;
+            }
+
             MovieExtendsBox mvex = NodeBox.findFirst(mp4.getMoov(), MovieExtendsBox.class, MovieExtendsBox.fourcc());
             if (mvex != null) {
                 // segmented file
@@ -134,17 +143,42 @@ public class Mp4TagWriter {
                     tb.setDataRef("file://" + path);
                 }
 
-                // non-segmented file, need to keep chunk offsets
-                fi.position(0);
-                Utils.copy(fi, fo, raf.length());
-
+                // non-segmented file, need to keep chunk offsets, leave padding after the moov so that
+                // the next write can be done in place
                 fi.position(0);
                 fo.position(0);
-                new ReplaceMP4Editor().modifyOrReplace(fi, fo, mp4.getMoov());
+                new ReplaceMP4Editor().copy(fi, fo, mp4.getMoov(), TagOptionSingleton.getInstance().getWritePaddingSize());
             }
         }
     }
 
+    /**
+     * Work out how {@link #write(AudioFile, RandomAccessFile, RandomAccessFile)} would write the tag, without
+     * modifying the file
+     *
+     * @param tag
+     * @param raf current file
+     * @return in place if the new {@code moov} atom fits, otherwise rewriting the file
+     * @throws IOException
+     */
+    public WritePlan plan(Tag tag, RandomAccessFile raf) throws IOException {
+        FileChannel fi = raf.getChannel();
+        MP4Util.Movie mp4 = MP4Util.parseFullMovieChannel(fi);
+        writeTagBox(tag, mp4);
+
+        InplaceMP4Editor editor = new InplaceMP4Editor();
+        WritePlan plan = editor.plan(fi, mp4.getMoov());
+        if (plan != null) {
+            return plan;
+        }
+
+        long moovSize = mp4.getMoov().estimateSize();
+        if (NodeBox.findFirst(mp4.getMoov(), MovieExtendsBox.class, MovieExtendsBox.fourcc()) == null) {
+            moovSize += TagOptionSingleton.getInstance().getWritePaddingSize();
+        }
+        return new WritePlan(WritePlan.Strategy.REWRITE, moovSize, editor.getAvailableSize(fi), fi.size());
+    }
+
     private void writeTagBox(Tag tag, MP4Util.Movie mp4) throws java.io.UnsupportedEncodingException {
         IListBox ilst = tc.convert(tag);
 
@@ -160,6 +194,9 @@ public class Mp4TagWriter {
             udta.add(meta);
         }
         meta.replace(IListBox.fourcc(), ilst);
+
+        //Any free space within meta is instead left after the moov atom where it can be used by the whole moov atom
+        meta.removeChildren(new String[]{"free"});
     }
 
     /**
@@ -27,6 +27,13 @@ public class ReplaceMP4Editor {
     }
 
     public void copy(FileChannel src, FileChannel dst, MovieBox edit) throws IOException {
+        copy(src, dst, edit, 0);
+    }
+
+    /**
+     * @param padding extra space left after the new movie header
+     */
+    public void copy(FileChannel src, FileChannel dst, MovieBox edit, int padding) throws IOException {
         final Movie movie = MP4Util.parseFullMovieChannel(src);
 
         for (Box box : edit.getBoxes()) {
@@ -34,6 +41,7 @@ public class ReplaceMP4Editor {
         }
 
         Flatten fl = new Flatten();
+        fl.setPadding(padding);
         fl.flattenChannel(movie, dst);
     }
 }
\ No newline at end of file
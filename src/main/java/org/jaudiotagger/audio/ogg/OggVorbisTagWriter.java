@@ -19,21 +19,29 @@
  */
 package org.jaudiotagger.audio.ogg;
 
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
-import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.ogg.util.OggCRCFactory;
+import org.jaudiotagger.audio.ogg.util.OggPacketRewriter;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
+import org.jaudiotagger.audio.ogg.util.VorbisHeader;
+import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.id3.AbstractID3v1Tag;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
+import org.jaudiotagger.utils.ByteBufferAllocator;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -63,6 +71,22 @@ public class OggVorbisTagWriter {
         write(emptyTag, raf, tempRaf);
     }
 
+    /**
+     * Work out how {@link #write(Tag, RandomAccessFile, RandomAccessFile)} would write the tag, without modifying the
+     * file
+     *
+     * @param tag
+     * @param raf
+     * @return in place if the new comment header fits in the existing one, otherwise rewriting the file
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    public WritePlan plan(Tag tag, RandomAccessFile raf) throws CannotReadException, IOException {
+        OggPageHeader pageHeader = OggPageHeader.read(raf);
+        long secondPageStart = pageHeader.getStartByte() + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageHeader.getSegmentTable().length + pageHeader.getPageLength();
+        return OggPacketRewriter.planOverwrite(raf.getChannel(), secondPageStart, tc.convert(tag), VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH);
+    }
+
     public void write(Tag tag, RandomAccessFile raf, RandomAccessFile rafTemp) throws CannotReadException, CannotWriteException, IOException {
         logger.config("Starting to write file:");
 
@@ -71,6 +95,18 @@ public class OggVorbisTagWriter {
         OggPageHeader pageHeader = OggPageHeader.read(raf);
         raf.seek(pageHeader.getStartByte());
 
+        //Convert the OggVorbisComment header to raw packet data
+        ByteBuffer newComment = tc.convert(tag);
+
+        //The comment header starts the 2nd page, if the new comment fits in the space used by the existing comment
+        //it is written in place, otherwise add padding so later changes can be
+        long secondPageStart = pageHeader.getStartByte() + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageHeader.getSegmentTable().length + pageHeader.getPageLength();
+        if (OggPacketRewriter.overwritePacket(raf.getChannel(), secondPageStart, newComment, VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH)) {
+            logger.config("Written comment in place");
+            return;
+        }
+        newComment = OggPacketRewriter.pad(newComment, TagOptionSingleton.getInstance().getWritePaddingSize());
+
         //Write 1st page (unchanged) and place writer pointer at end of data
         rafTemp.getChannel().transferFrom(raf.getChannel(), 0, pageHeader.getPageLength() + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageHeader.getSegmentTable().length);
         rafTemp.skipBytes(pageHeader.getPageLength() + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageHeader.getSegmentTable().length);
@@ -81,29 +117,30 @@ public class OggVorbisTagWriter {
 
         //2nd Page:Store the end of Header
         long secondPageHeaderEndPos = raf.getFilePointer();
-        logger.fine("Read 2nd Page:comment and setup and possibly audio:Header finishes at file position:" + secondPageHeaderEndPos);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Read 2nd Page:comment and setup and possibly audio:Header finishes at file position:" + secondPageHeaderEndPos);
+        }
 
         //Get header sizes
         raf.seek(0);
         OggVorbisTagReader.OggVorbisHeaderSizes vorbisHeaderSizes = reader.readOggVorbisHeaderSizes(raf);
 
-        //Convert the OggVorbisComment header to raw packet data
-        ByteBuffer newComment = tc.convert(tag);
-
         //Compute new comment length(this may need to be spread over multiple pages)
         int newCommentLength = newComment.capacity();
 
         //Calculate new size of new 2nd page
         int newSecondPageDataLength = vorbisHeaderSizes.getSetupHeaderSize() + newCommentLength + vorbisHeaderSizes.getExtraPacketDataSize();
-        logger.fine("Old 2nd Page no of packets: " + secondPageHeader.getPacketList().size());
-        logger.fine("Old 2nd Page size: " + secondPageHeader.getPageLength());
-        logger.fine("Old last page status: " + secondPageHeader.isLastPage());
-        logger.fine("Setup Header Size: " + vorbisHeaderSizes.getSetupHeaderSize());
-        logger.fine("Extra Packets: " + vorbisHeaderSizes.getExtraPacketList().size());
-        logger.fine("Extra Packet Data Size: " + vorbisHeaderSizes.getExtraPacketDataSize());
-        logger.fine("Old comment: " + vorbisHeaderSizes.getCommentHeaderSize());
-        logger.fine("New comment: " + newCommentLength);
-        logger.fine("New Page Data Size: " + newSecondPageDataLength);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Old 2nd Page no of packets: " + secondPageHeader.getPacketList().size());
+            logger.fine("Old 2nd Page size: " + secondPageHeader.getPageLength());
+            logger.fine("Old last page status: " + secondPageHeader.isLastPage());
+            logger.fine("Setup Header Size: " + vorbisHeaderSizes.getSetupHeaderSize());
+            logger.fine("Extra Packets: " + vorbisHeaderSizes.getExtraPacketList().size());
+            logger.fine("Extra Packet Data Size: " + vorbisHeaderSizes.getExtraPacketDataSize());
+            logger.fine("Old comment: " + vorbisHeaderSizes.getCommentHeaderSize());
+            logger.fine("New comment: " + newCommentLength);
+            logger.fine("New Page Data Size: " + newSecondPageDataLength);
+        }
         //Second Page containing new vorbis, setup and possibly some extra packets can fit on one page
         if (isCommentAndSetupHeaderFitsOnASinglePage(newCommentLength, vorbisHeaderSizes.getSetupHeaderSize(), vorbisHeaderSizes.getExtraPacketList())) {
             //And if comment and setup header originally fitted on both, the length of the 2nd
@@ -170,8 +207,10 @@ public class OggVorbisTagWriter {
         logger.fine("WriteOgg Type 1");
         byte[] segmentTable = createSegmentTable(newCommentLength, vorbisHeaderSizes.getSetupHeaderSize(), vorbisHeaderSizes.getExtraPacketList());
         int newSecondPageHeaderLength = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + segmentTable.length;
-        logger.fine("New second page header length:" + newSecondPageHeaderLength);
-        logger.fine("No of segments:" + segmentTable.length);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("New second page header length:" + newSecondPageHeaderLength);
+            logger.fine("No of segments:" + segmentTable.length);
+        }
 
         ByteBuffer secondPageBuffer = ByteBuffer.allocate(newSecondPageLength + newSecondPageHeaderLength);
         secondPageBuffer.order(ByteOrder.LITTLE_ENDIAN);
@@ -252,7 +291,9 @@ public class OggVorbisTagWriter {
         //Add setup header and packets
         int pageSequence = secondPageHeader.getPageSequence();
         byte[] setupHeaderData = reader.convertToVorbisSetupHeaderPacketAndAdditionalPackets(originalHeaderSizes.getSetupHeaderStartPosition(), raf);
-        logger.finest(setupHeaderData.length + ":" + secondPageBuffer.position() + ":" + secondPageBuffer.capacity());
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest(setupHeaderData.length + ":" + secondPageBuffer.position() + ":" + secondPageBuffer.capacity());
+        }
         secondPageBuffer.put(setupHeaderData);
 
         calculateChecksumOverPage(secondPageBuffer);
@@ -279,7 +320,9 @@ public class OggVorbisTagWriter {
 
         //We need to work out how to split the newcommentlength over the pages
         int noOfCompletePagesNeededForComment = newCommentLength / OggPageHeader.MAXIMUM_PAGE_DATA_SIZE;
-        logger.config("Comment requires:" + noOfCompletePagesNeededForComment + " complete pages");
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Comment requires:" + noOfCompletePagesNeededForComment + " complete pages");
+        }
 
         //Create the Pages
         int newCommentOffset = 0;
@@ -320,7 +363,9 @@ public class OggVorbisTagWriter {
         }
 
         int lastPageCommentPacketSize = newCommentLength % OggPageHeader.MAXIMUM_PAGE_DATA_SIZE;
-        logger.fine("Last comment packet size:" + lastPageCommentPacketSize);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Last comment packet size:" + lastPageCommentPacketSize);
+        }
 
         //End of comment and setup header cannot fit on the last page
         if (!isCommentAndSetupHeaderFitsOnASinglePage(lastPageCommentPacketSize, originalHeaderSizes.getSetupHeaderSize(), originalHeaderSizes.getExtraPacketList())) {
@@ -344,7 +389,9 @@ public class OggVorbisTagWriter {
                 if (noOfCompletePagesNeededForComment > 0) {
                     pageBuffer.put(OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS, OggPageHeader.HeaderTypeFlag.CONTINUED_PACKET.getFileValue());
                 }
-                logger.fine("Writing Last Comment Page " + pageSequence + " to file");
+                if (logger.isLoggable(Level.FINE)) {
+                    logger.fine("Writing Last Comment Page " + pageSequence + " to file");
+                }
                 pageSequence++;
                 calculateChecksumOverPage(pageBuffer);
                 rafTemp.getChannel().write(pageBuffer);
@@ -365,7 +412,9 @@ public class OggVorbisTagWriter {
                 pageBuffer.put(setupHeaderData);
                 pageBuffer.putInt(OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, pageSequence);
                 //pageBuffer.put(OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS, OggPageHeader.HeaderTypeFlag.CONTINUED_PACKET.getFileValue());
-                logger.fine("Writing Setup Header and packets Page " + pageSequence + " to file");
+                if (logger.isLoggable(Level.FINE)) {
+                    logger.fine("Writing Setup Header and packets Page " + pageSequence + " to file");
+                }
 
                 calculateChecksumOverPage(pageBuffer);
                 rafTemp.getChannel().write(pageBuffer);
@@ -407,6 +456,10 @@ public class OggVorbisTagWriter {
 
     /**
      * Write all the remaining pages as they are except that the page sequence needs to be modified.
+     * <p>
+     * Pages are read one at a time into a single reused buffer, only pages whose sequence number changes are
+     * rewritten, runs of pages whose sequence number is already correct are copied with
+     * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}.
      *
      * @param pageSequence
      * @param raf
@@ -416,50 +469,71 @@ public class OggVorbisTagWriter {
      * @throws CannotWriteException
      */
     public void writeRemainingPages(int pageSequence, RandomAccessFile raf, RandomAccessFile rafTemp) throws IOException, CannotReadException, CannotWriteException {
+        FileChannel fc = raf.getChannel();
+        FileChannel fcTemp = rafTemp.getChannel();
         long startAudio = raf.getFilePointer();
         long startAudioWritten = rafTemp.getFilePointer();
+        long fileLength = raf.length();
 
-        //TODO there is a risk we wont have enough memory to create these buffers
-        ByteBuffer bb = ByteBuffer.allocate((int) (raf.length() - raf.getFilePointer()));
-        ByteBuffer bbTemp = ByteBuffer.allocate((int) (raf.length() - raf.getFilePointer()));
+        ByteBufferAllocator allocator = TagOptionSingleton.getInstance().getByteBufferAllocator();
+        ByteBuffer page = allocator.acquire(OggPageHeader.MAXIMUM_PAGE_SIZE, false);
+        page.order(ByteOrder.LITTLE_ENDIAN);
+        byte[] pageData = page.array();
 
-        //Read in the rest of the data into bytebuffer and rewind it to start
-        raf.getChannel().read(bb);
-        bb.rewind();
+        long position = startAudio;
+        long runStart = startAudio;
         long bytesToDiscard = 0;
-        while (bb.hasRemaining()) {
-            OggPageHeader nextPage = null;
-            try {
-                nextPage = OggPageHeader.read(bb);
-            } catch (CannotReadException cre) {
-                //Go back to where were
-                bb.position(bb.position() - OggPageHeader.CAPTURE_PATTERN.length);
-                //#117:Ogg file with invalid ID3v1 tag at end remove and save
-                if (Utils.readThreeBytesAsChars(bb).equals(AbstractID3v1Tag.TAG)) {
-                    bytesToDiscard = bb.remaining() + AbstractID3v1Tag.TAG.length();
-                    break;
-                } else {
-                    throw cre;
+        try {
+            while (position < fileLength) {
+                page.clear();
+                page.limit((int) Math.min(OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH, fileLength - position));
+                readFully(fc, page, position);
+                if (page.limit() < OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH || !isCapturePattern(pageData)) {
+                    //#117:Ogg file with invalid ID3v1 tag at end remove and save
+                    if (page.limit() >= AbstractID3v1Tag.TAG.length() && new String(pageData, 0, AbstractID3v1Tag.TAG.length(), StandardCharsets.ISO_8859_1).equals(AbstractID3v1Tag.TAG)) {
+                        bytesToDiscard = fileLength - position;
+                        break;
+                    } else {
+                        throw new CannotReadException(ErrorMessage.OGG_HEADER_CANNOT_BE_FOUND.getMsg(new String(pageData, 0, Math.min(page.limit(), OggPageHeader.CAPTURE_PATTERN.length), StandardCharsets.ISO_8859_1)));
+                    }
                 }
+
+                //Read segment table to find length of the page
+                int pageHeaderLength = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + (pageData[OggPageHeader.FIELD_PAGE_SEGMENTS_POS] & 0xFF);
+                page.limit(pageHeaderLength);
+                readFully(fc, page, position);
+                int pageLength = pageHeaderLength;
+                for (int i = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH; i < pageHeaderLength; i++) {
+                    pageLength += pageData[i] & 0xFF;
+                }
+
+                //Page can be copied as is
+                pageSequence++;
+                if (page.getInt(OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS) == pageSequence) {
+                    position += pageLength;
+                    continue;
+                }
+
+                transferFully(fc, runStart, position - runStart, fcTemp);
+
+                page.limit(pageLength);
+                readFully(fc, page, position);
+                page.putInt(OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, pageSequence);
+                page.putInt(OggPageHeader.FIELD_PAGE_CHECKSUM_POS, 0);
+                page.putInt(OggPageHeader.FIELD_PAGE_CHECKSUM_POS, OggCRCFactory.updateCRCValue(0, pageData, 0, pageLength));
+                page.rewind();
+                while (page.hasRemaining()) {
+                    fcTemp.write(page);
+                }
+
+                position += pageLength;
+                runStart = position;
             }
-            //Create buffer large enough for next page (header and data) and set byte order to LE so we can use
-            //putInt method
-            ByteBuffer nextPageHeaderBuffer = ByteBuffer.allocate(nextPage.getRawHeaderData().length + nextPage.getPageLength());
-            nextPageHeaderBuffer.order(ByteOrder.LITTLE_ENDIAN);
-            nextPageHeaderBuffer.put(nextPage.getRawHeaderData());
-            ByteBuffer data = bb.slice();
-            data.limit(nextPage.getPageLength());
-            nextPageHeaderBuffer.put(data);
-            nextPageHeaderBuffer.putInt(OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, ++pageSequence);
-            calculateChecksumOverPage(nextPageHeaderBuffer);
-            bb.position(bb.position() + nextPage.getPageLength());
-
-            nextPageHeaderBuffer.rewind();
-            bbTemp.put(nextPageHeaderBuffer);
-        }
-        //Now just write as a single IO operation
-        bbTemp.flip();
-        rafTemp.getChannel().write(bbTemp);
+        } finally {
+            allocator.release(page);
+        }
+        transferFully(fc, runStart, position - runStart, fcTemp);
+
         //Check we have written all the data (minus any invalid Tag at end)
         if ((raf.length() - startAudio) != ((rafTemp.length() + bytesToDiscard) - startAudioWritten)) {
             throw new CannotWriteException("File written counts don't match, file not written:"
@@ -469,6 +543,40 @@ public class OggVorbisTagWriter {
         }
     }
 
+    private boolean isCapturePattern(byte[] pageData) {
+        for (int i = 0; i < OggPageHeader.CAPTURE_PATTERN.length; i++) {
+            if (pageData[i] != OggPageHeader.CAPTURE_PATTERN[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Read from the given position into the buffer from its position up to its limit
+     */
+    private void readFully(FileChannel fc, ByteBuffer dst, long position) throws IOException {
+        while (dst.hasRemaining()) {
+            if (fc.read(dst, position + dst.position()) < 0) {
+                throw new IOException("Unexpected end of file at:" + (position + dst.position()));
+            }
+        }
+    }
+
+    /**
+     * Copy count bytes starting at position to the current position of the target
+     */
+    private void transferFully(FileChannel fc, long position, long count, FileChannel target) throws IOException {
+        while (count > 0) {
+            long transferred = fc.transferTo(position, count, target);
+            if (transferred <= 0) {
+                throw new IOException("Unable to copy audio at:" + position);
+            }
+            position += transferred;
+            count -= transferred;
+        }
+    }
+
     /**
      * This method creates a new segment table for the second page (header).
      *
@@ -480,7 +588,9 @@ public class OggVorbisTagWriter {
      * @return new segment table.
      */
     private byte[] createSegmentTable(int newCommentLength, int setupHeaderLength, List<OggPageHeader.PacketStartAndLength> extraPackets) {
-        logger.finest("Create SegmentTable CommentLength:" + newCommentLength + ":SetupHeaderLength:" + setupHeaderLength);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Create SegmentTable CommentLength:" + newCommentLength + ":SetupHeaderLength:" + setupHeaderLength);
+        }
         ByteArrayOutputStream resultBaos = new ByteArrayOutputStream();
 
         byte[] newStart;
@@ -507,8 +617,10 @@ public class OggVorbisTagWriter {
             restShouldBe = createSegments(setupHeaderLength, false);
         }
 
-        logger.finest("Created " + newStart.length + " segments for header");
-        logger.finest("Created " + restShouldBe.length + " segments for setup");
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Created " + newStart.length + " segments for header");
+            logger.finest("Created " + restShouldBe.length + " segments for setup");
+        }
 
         try {
             resultBaos.write(newStart);
@@ -516,7 +628,9 @@ public class OggVorbisTagWriter {
             if (extraPackets.size() > 0) {
                 //Packets are being copied literally not converted from a length, so always pass
                 //false parameter, TODO is this statement correct
-                logger.finer("Creating segments for " + extraPackets.size() + " packets");
+                if (logger.isLoggable(Level.FINER)) {
+                    logger.finer("Creating segments for " + extraPackets.size() + " packets");
+                }
                 for (OggPageHeader.PacketStartAndLength packet : extraPackets) {
                     nextPacket = createSegments(packet.getLength(), false);
                     resultBaos.write(nextPacket);
@@ -579,7 +693,9 @@ public class OggVorbisTagWriter {
     //TODO if pass is data of max length (65025 bytes) and have quitStream==true
     //this will return 256 segments which is illegal, should be checked somewhere
     private byte[] createSegments(int length, boolean quitStream) {
-        logger.finest("Create Segments for length:" + length + ":QuitStream:" + quitStream);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Create Segments for length:" + length + ":QuitStream:" + quitStream);
+        }
         //It is valid to have nil length packets
         if (length == 0) {
             byte[] result = new byte[1];
@@ -614,7 +730,9 @@ public class OggVorbisTagWriter {
                 totalDataSize++;
             }
         }
-        logger.finest("Require:" + totalDataSize + " segments for comment");
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Require:" + totalDataSize + " segments for comment");
+        }
 
         if (setupHeaderLength == 0) {
             totalDataSize++;
@@ -624,7 +742,9 @@ public class OggVorbisTagWriter {
                 totalDataSize++;
             }
         }
-        logger.finest("Require:" + totalDataSize + " segments for comment plus setup");
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Require:" + totalDataSize + " segments for comment plus setup");
+        }
 
         for (OggPageHeader.PacketStartAndLength extraPacket : extraPacketList) {
             if (extraPacket.getLength() == 0) {
@@ -637,7 +757,9 @@ public class OggVorbisTagWriter {
             }
         }
 
-        logger.finest("Total No Of Segment If New Comment And Header Put On One Page:" + totalDataSize);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Total No Of Segment If New Comment And Header Put On One Page:" + totalDataSize);
+        }
         return totalDataSize <= OggPageHeader.MAXIMUM_NO_OF_SEGMENT_SIZE;
     }
 
@@ -33,10 +33,16 @@ public class OggCRCFactory {
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.ogg");
 
-    private static long[] crc_lookup = new long[256];
-    private static boolean init = false;
+    private static final long[] crc_lookup = new long[256];
 
+    static {
+        init();
+    }
 
+    /**
+     * Fill the lookup table, this is done once when the class is loaded so that the table is safely published to
+     * every thread
+     */
     public static void init() {
         for (int i = 0; i < 256; i++) {
             long r = i << 24;
@@ -51,7 +57,6 @@ public class OggCRCFactory {
 
             crc_lookup[i] = (r);
         }
-        init = true;
     }
 
 
@@ -61,29 +66,45 @@ public class OggCRCFactory {
 
     public static byte[] computeCRC(byte[] data) {
 
-        if (!init) {
-            init();
-        }
-
-        long crc_reg = 0;
-
-        for (byte aData : data) {
-            int tmp = (int) (((crc_reg >>> 24) & 0xff) ^ u(aData));
-
-            crc_reg = (crc_reg << 8) ^ crc_lookup[tmp];
-            crc_reg &= 0xffffffff;
-        }
+        int crc_reg = computeCRCValue(data);
 
         byte[] sum = new byte[4];
 
-        sum[0] = (byte) (crc_reg & 0xffL);
-        sum[1] = (byte) ((crc_reg >>> 8) & 0xffL);
-        sum[2] = (byte) ((crc_reg >>> 16) & 0xffL);
-        sum[3] = (byte) ((crc_reg >>> 24) & 0xffL);
+        sum[0] = (byte) (crc_reg & 0xff);
+        sum[1] = (byte) ((crc_reg >>> 8) & 0xff);
+        sum[2] = (byte) ((crc_reg >>> 16) & 0xff);
+        sum[3] = (byte) ((crc_reg >>> 24) & 0xff);
 
         return sum;
     }
 
+    /**
+     * @param data the page with its checksum field set to zero
+     * @return the checksum as stored (little endian) in the page header
+     */
+    public static int computeCRCValue(byte[] data) {
+        return updateCRCValue(0, data, 0, data.length);
+    }
+
+    /**
+     * Continue calculating a checksum over the next part of a page, so a page can be checked a part at a time
+     * without copying it into a single array
+     *
+     * @param crc_reg the checksum of the preceding parts of the page, zero for the first part
+     * @param data
+     * @param offset
+     * @param length
+     * @return the checksum of the page up to the end of this part
+     */
+    public static int updateCRCValue(int crc_reg, byte[] data, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            int tmp = ((crc_reg >>> 24) & 0xff) ^ u(data[i]);
+
+            crc_reg = (crc_reg << 8) ^ (int) crc_lookup[tmp];
+        }
+        return crc_reg;
+    }
+
 
     private static int u(int n) {
         return n & 0xff;
@@ -0,0 +1,222 @@
+package org.jaudiotagger.audio.ogg.util;
+
+import org.jaudiotagger.audio.WritePlan;
+import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.utils.ByteBufferAllocator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Overwrites the packet that starts a page, such as the comment header of an Ogg Vorbis or Opus file, directly in
+ * the original file.
+ *
+ * The new packet is padded with zeros to the length of the existing packet, so the segment tables and the length of
+ * every page stay the same and only the data and checksum of the pages holding the packet are rewritten. Nothing after
+ * the packet is moved and no page has to be renumbered.
+ */
+public class OggPacketRewriter {
+
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.ogg.atom");
+
+    /**
+     * Find the length of the packet starting at the first segment of the page at {@code pageStart}, without modifying
+     * the file
+     *
+     * @param fc           the file
+     * @param pageStart    start of the first page of the packet
+     * @param packet       the new packet, its position is not changed
+     * @param headerLength number of bytes at the start of the packet identifying its type
+     * @return length of the existing packet, or -1 if it is not of the same type as the new packet
+     * @throws IOException
+     */
+    public static int getPacketLength(FileChannel fc, long pageStart, ByteBuffer packet, int headerLength) throws IOException {
+        List<PacketPage> pages = findPacketPages(fc, pageStart, packet, headerLength);
+        return pages != null ? getPacketLength(pages) : -1;
+    }
+
+    /**
+     * Work out how a writer that calls {@link #overwritePacket} and copies the file when that fails, adding
+     * {@link TagOptionSingleton#getWritePaddingSize()} padding to the packet, would write the packet
+     *
+     * @param fc           the file
+     * @param pageStart    start of the first page of the packet
+     * @param packet       the new packet, its position is not changed
+     * @param headerLength number of bytes at the start of the packet identifying its type
+     * @return in place if the new packet fits in the existing packet, otherwise rewriting the file
+     * @throws IOException
+     */
+    public static WritePlan planOverwrite(FileChannel fc, long pageStart, ByteBuffer packet, int headerLength) throws IOException {
+        int existingLength = getPacketLength(fc, pageStart, packet, headerLength);
+        if (existingLength >= packet.remaining()) {
+            return new WritePlan(WritePlan.Strategy.IN_PLACE, existingLength, existingLength, 0);
+        }
+        return new WritePlan(WritePlan.Strategy.REWRITE, packet.remaining() + Math.max(TagOptionSingleton.getInstance().getWritePaddingSize(), 0), existingLength, fc.size());
+    }
+
+    /**
+     * Overwrite the packet starting at the first segment of the page at {@code pageStart}
+     *
+     * @param fc           the file, must be writable
+     * @param pageStart    start of the first page of the packet
+     * @param packet       the new packet, its position is not changed
+     * @param headerLength number of bytes at the start of the packet identifying its type, these must be the same in
+     *                     the existing packet for it to be replaced
+     * @return false if the new packet is longer than the existing packet or the existing packet is not of the same
+     * type, in which case the file is not modified
+     * @throws IOException
+     */
+    public static boolean overwritePacket(FileChannel fc, long pageStart, ByteBuffer packet, int headerLength) throws IOException {
+        List<PacketPage> pages = findPacketPages(fc, pageStart, packet, headerLength);
+        if (pages == null) {
+            return false;
+        }
+        int existingLength = getPacketLength(pages);
+        if (packet.remaining() > existingLength) {
+            return false;
+        }
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Overwriting packet of " + existingLength + " bytes with " + packet.remaining() + " bytes in place");
+        }
+
+        ByteBuffer newPacket = packet.duplicate();
+        ByteBufferAllocator allocator = TagOptionSingleton.getInstance().getByteBufferAllocator();
+        ByteBuffer page = allocator.acquire(OggPageHeader.MAXIMUM_PAGE_SIZE, false);
+        page.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            for (PacketPage packetPage : pages) {
+                int pageLength = packetPage.headerLength + packetPage.dataLength;
+                page.clear();
+                page.limit(pageLength);
+                readFully(fc, page, packetPage.position);
+
+                //Copy in the next part of the packet, and zeros once it has all been written
+                page.position(packetPage.headerLength);
+                int length = Math.min(packetPage.packetLength, newPacket.remaining());
+                ByteBuffer part = newPacket.slice();
+                part.limit(length);
+                page.put(part);
+                newPacket.position(newPacket.position() + length);
+                for (int i = length; i < packetPage.packetLength; i++) {
+                    page.put((byte) 0);
+                }
+
+                page.putInt(OggPageHeader.FIELD_PAGE_CHECKSUM_POS, 0);
+                page.putInt(OggPageHeader.FIELD_PAGE_CHECKSUM_POS, OggCRCFactory.updateCRCValue(0, page.array(), 0, pageLength));
+                page.rewind();
+                long writePosition = packetPage.position;
+                while (page.hasRemaining()) {
+                    writePosition += fc.write(page, writePosition);
+                }
+            }
+        } finally {
+            allocator.release(page);
+        }
+        return true;
+    }
+
+    /**
+     * Find the pages holding the existing packet
+     *
+     * @return the pages, or null if they are not complete or the existing packet is not of the same type as the new
+     * packet
+     */
+    private static List<PacketPage> findPacketPages(FileChannel fc, long pageStart, ByteBuffer packet, int headerLength) throws IOException {
+        //Find the pages holding the existing packet and how much of it is on each one
+        List<PacketPage> pages = new ArrayList<>();
+        long size = fc.size();
+        long position = pageStart;
+        boolean complete = false;
+        while (!complete) {
+            if (size - position < OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH) {
+                return null;
+            }
+            ByteBuffer fixedHeader = ByteBuffer.allocate(OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH);
+            readFully(fc, fixedHeader, position);
+            int pageSegments = fixedHeader.get(OggPageHeader.FIELD_PAGE_SEGMENTS_POS) & 0xFF;
+            ByteBuffer header = ByteBuffer.allocate(OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageSegments);
+            readFully(fc, header, position);
+            OggPageHeader pageHeader = new OggPageHeader(header.array());
+            if (!pageHeader.isValid() || (position != pageStart && !pageHeader.isContinuedPage())
+                    || size - position < header.capacity() + pageHeader.getPageLength()) {
+                return null;
+            }
+
+            int packetLengthOnPage = 0;
+            byte[] segmentTable = pageHeader.getSegmentTable();
+            for (int i = 0; i < segmentTable.length && !complete; i++) {
+                int lacingValue = segmentTable[i] & 0xFF;
+                packetLengthOnPage += lacingValue;
+                complete = lacingValue < OggPageHeader.MAXIMUM_SEGMENT_SIZE;
+            }
+            pages.add(new PacketPage(position, header.capacity(), pageHeader.getPageLength(), packetLengthOnPage));
+            position += header.capacity() + pageHeader.getPageLength();
+        }
+
+        PacketPage firstPage = pages.get(0);
+        if (packet.remaining() < headerLength || firstPage.packetLength < headerLength) {
+            return null;
+        }
+        ByteBuffer existingHeader = ByteBuffer.allocate(headerLength);
+        readFully(fc, existingHeader, firstPage.position + firstPage.headerLength);
+        for (int i = 0; i < headerLength; i++) {
+            if (existingHeader.get(i) != packet.get(packet.position() + i)) {
+                return null;
+            }
+        }
+        return pages;
+    }
+
+    private static int getPacketLength(List<PacketPage> pages) {
+        int length = 0;
+        for (PacketPage packetPage : pages) {
+            length += packetPage.packetLength;
+        }
+        return length;
+    }
+
+    /**
+     * @return a copy of the packet followed by the given number of zero bytes
+     */
+    public static ByteBuffer pad(ByteBuffer packet, int padding) {
+        if (padding <= 0) {
+            return packet;
+        }
+        ByteBuffer padded = ByteBuffer.allocate(packet.remaining() + padding);
+        padded.put(packet.duplicate());
+        padded.rewind();
+        return padded;
+    }
+
+    /**
+     * A page holding part of the packet
+     */
+    private static class PacketPage {
+        private final long position;
+        private final int headerLength;
+        private final int dataLength;
+        private final int packetLength;
+
+        private PacketPage(long position, int headerLength, int dataLength, int packetLength) {
+            this.position = position;
+            this.headerLength = headerLength;
+            this.dataLength = dataLength;
+            this.packetLength = packetLength;
+        }
+    }
+
+    private static void readFully(FileChannel fc, ByteBuffer buffer, long position) throws IOException {
+        int start = buffer.position();
+        while (buffer.hasRemaining()) {
+            if (fc.read(buffer, position + buffer.position() - start) < 0) {
+                throw new IOException("Unexpected end of file at:" + (position + buffer.position() - start));
+            }
+        }
+    }
+}
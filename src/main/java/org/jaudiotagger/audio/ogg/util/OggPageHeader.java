@@ -21,6 +21,7 @@ package org.jaudiotagger.audio.ogg.util;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.ParseTrace;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
 
 import java.io.IOException;
@@ -170,7 +171,9 @@ public class OggPageHeader {
     public static OggPageHeader read(ByteBuffer byteBuffer) throws CannotReadException {
         //byteBuffer
         int start = byteBuffer.position();
-        logger.fine("Trying to read OggPage at:" + start);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Trying to read OggPage at:" + start);
+        }
 
         byte[] b = new byte[OggPageHeader.CAPTURE_PATTERN.length];
         byteBuffer.get(b);
@@ -198,8 +201,11 @@ public class OggPageHeader {
      * @throws CannotReadException
      */
     public static OggPageHeader read(RandomAccessFile raf) throws IOException, CannotReadException {
+        long traceStart = ParseTrace.start();
         long start = raf.getFilePointer();
-        logger.fine("Trying to read OggPage at: " + start);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Trying to read OggPage at: " + start);
+        }
 
         byte[] b = new byte[OggPageHeader.CAPTURE_PATTERN.length];
         raf.read(b);
@@ -227,6 +233,7 @@ public class OggPageHeader {
 
         OggPageHeader pageHeader = new OggPageHeader(b);
         pageHeader.setStartByte(start);
+        ParseTrace.event(ParseTrace.OGG_PAGE, null, start, b.length + pageHeader.getPageLength(), traceStart);
         //Now just after PageHeader, ready for Packet Data
         return pageHeader;
     }
@@ -307,7 +314,9 @@ public class OggPageHeader {
     }
 
     public long getAbsoluteGranulePosition() {
-        logger.fine("Number Of Samples: " + absoluteGranulePosition);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Number Of Samples: " + absoluteGranulePosition);
+        }
         return this.absoluteGranulePosition;
     }
 
@@ -326,7 +335,9 @@ public class OggPageHeader {
 
 
     public int getPageLength() {
-        logger.finer("This page length: " + pageLength);
+        if (logger.isLoggable(Level.FINER)) {
+            logger.finer("This page length: " + pageLength);
+        }
         return this.pageLength;
     }
 
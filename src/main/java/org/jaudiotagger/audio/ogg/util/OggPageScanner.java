@@ -0,0 +1,134 @@
+package org.jaudiotagger.audio.ogg.util;
+
+import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.utils.ByteBufferAllocator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Finds the last Ogg page of a file by reading the end of the file in large chunks and searching them for the
+ * capture pattern, rather than stepping back through the file one byte at a time.
+ *
+ * Candidate pages are only accepted if their checksum is correct, so a capture pattern that happens to appear
+ * within the audio data, or a last page that was only partly written, is skipped and the search continues backwards.
+ *
+ * Only positional reads are used, the position of the channel is not changed.
+ */
+public class OggPageScanner {
+
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.ogg.atom");
+
+    /**
+     * Size of each chunk read from the end of the file, large enough to hold the largest possible page
+     */
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * Find the last page of the file
+     *
+     * @param fc the file
+     * @param start the start of the first page, pages are not searched for before this
+     * @param completePacketOnly if true pages whose last packet continues onto another page are skipped
+     * @return the last page, or null if there is no valid page
+     * @throws IOException
+     */
+    public static OggPageHeader findLastPage(FileChannel fc, long start, boolean completePacketOnly) throws IOException {
+        long size = fc.size();
+        ByteBufferAllocator allocator = TagOptionSingleton.getInstance().getByteBufferAllocator();
+        ByteBuffer chunkBuffer = allocator.acquire(CHUNK_SIZE, false);
+        byte[] chunk = chunkBuffer.array();
+        try {
+            //Chunks overlap by the length of the capture pattern less one so a pattern across two chunks is found
+            long chunkEnd = size;
+            while (chunkEnd - start >= OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH) {
+                long chunkStart = Math.max(start, chunkEnd - CHUNK_SIZE);
+                int length = (int) (chunkEnd - chunkStart);
+                readFully(fc, chunkStart, chunk, 0, length);
+
+                for (int i = length - OggPageHeader.FIELD_CAPTURE_PATTERN_LENGTH; i >= 0; i--) {
+                    if (chunk[i] == OggPageHeader.CAPTURE_PATTERN[0]
+                            && chunk[i + 1] == OggPageHeader.CAPTURE_PATTERN[1]
+                            && chunk[i + 2] == OggPageHeader.CAPTURE_PATTERN[2]
+                            && chunk[i + 3] == OggPageHeader.CAPTURE_PATTERN[3]) {
+                        OggPageHeader pageHeader = readPage(fc, chunkStart + i, size, chunk, chunkStart, length);
+                        if (pageHeader != null && (!completePacketOnly || !pageHeader.isLastPacketIncomplete())) {
+                            return pageHeader;
+                        }
+                    }
+                }
+
+                if (chunkStart == start) {
+                    break;
+                }
+                chunkEnd = chunkStart + OggPageHeader.FIELD_CAPTURE_PATTERN_LENGTH - 1;
+            }
+            return null;
+        } finally {
+            allocator.release(chunkBuffer);
+        }
+    }
+
+    /**
+     * Read the page starting at the given position, using the chunk already read where possible
+     *
+     * @return the page header, or null if this is not a complete page with a correct checksum
+     */
+    private static OggPageHeader readPage(FileChannel fc, long pagePosition, long size, byte[] chunk, long chunkStart, int chunkLength) throws IOException {
+        if (size - pagePosition < OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH) {
+            return null;
+        }
+        byte[] fixedHeader = new byte[OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH];
+        copyOrRead(fc, pagePosition, fixedHeader, chunk, chunkStart, chunkLength);
+        if (fixedHeader[OggPageHeader.FIELD_STREAM_STRUCTURE_VERSION_POS] != 0) {
+            return null;
+        }
+
+        int pageSegments = fixedHeader[OggPageHeader.FIELD_PAGE_SEGMENTS_POS] & 0xFF;
+        int headerLength = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageSegments;
+        if (size - pagePosition < headerLength) {
+            return null;
+        }
+        byte[] header = new byte[headerLength];
+        copyOrRead(fc, pagePosition, header, chunk, chunkStart, chunkLength);
+        OggPageHeader pageHeader = new OggPageHeader(header);
+        if (!pageHeader.isValid() || size - pagePosition < headerLength + pageHeader.getPageLength()) {
+            return null;
+        }
+
+        byte[] page = new byte[headerLength + pageHeader.getPageLength()];
+        copyOrRead(fc, pagePosition, page, chunk, chunkStart, chunkLength);
+        for (int i = 0; i < OggPageHeader.FIELD_PAGE_CHECKSUM_LENGTH; i++) {
+            page[OggPageHeader.FIELD_PAGE_CHECKSUM_POS + i] = 0;
+        }
+        if (OggCRCFactory.computeCRCValue(page) != pageHeader.getCheckSum()) {
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("Ignoring page with incorrect checksum at:" + pagePosition);
+            }
+            return null;
+        }
+        pageHeader.setStartByte(pagePosition);
+        return pageHeader;
+    }
+
+    private static void copyOrRead(FileChannel fc, long position, byte[] dst, byte[] chunk, long chunkStart, int chunkLength) throws IOException {
+        int offset = (int) (position - chunkStart);
+        if (offset + dst.length <= chunkLength) {
+            System.arraycopy(chunk, offset, dst, 0, dst.length);
+        } else {
+            readFully(fc, position, dst, 0, dst.length);
+        }
+    }
+
+    private static void readFully(FileChannel fc, long position, byte[] dst, int offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(dst, offset, length);
+        while (buffer.hasRemaining()) {
+            if (fc.read(buffer, position + buffer.position() - offset) < 0) {
+                throw new IOException("Unexpected end of file at:" + (position + buffer.position() - offset));
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.jaudiotagger.audio.opus;
 
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.AudioFileWriter;
@@ -28,4 +29,9 @@ public class OpusFileWriter extends AudioFileWriter {
     protected void deleteTag(Tag tag, RandomAccessFile raf, RandomAccessFile tempRaf) throws CannotReadException, CannotWriteException, IOException {
         vtw.delete(raf, tempRaf);
     }
+
+    @Override
+    protected WritePlan planWriteTag(AudioFile audioFile, Tag tag, RandomAccessFile raf) throws CannotReadException, IOException {
+        return vtw.plan(tag, raf);
+    }
 }
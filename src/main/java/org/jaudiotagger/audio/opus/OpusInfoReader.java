@@ -3,6 +3,7 @@ package org.jaudiotagger.audio.opus;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
+import org.jaudiotagger.audio.ogg.util.OggPageScanner;
 import org.jaudiotagger.audio.opus.util.OpusVorbisIdentificationHeader;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
@@ -65,20 +66,7 @@ public class OpusInfoReader {
     }
 
     private OggPageHeader lastValidHeader(RandomAccessFile raf) throws IOException {
-        OggPageHeader best = null;
-        while (true) {
-            try {
-                OggPageHeader candidate = OggPageHeader.read(raf);
-                raf.seek(raf.getFilePointer() + candidate.getPageLength());
-                if (candidate.isValid() && !candidate.isLastPacketIncomplete()) {
-                    best = candidate;
-                }
-            } catch (CannotReadException ignored) {
-                break;
-            }
-        }
-
-        return best;
+        return OggPageScanner.findLastPage(raf.getChannel(), raf.getFilePointer(), true);
     }
 }
 
@@ -1,12 +1,15 @@
 package org.jaudiotagger.audio.opus;
 
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.ogg.OggVorbisCommentTagCreator;
+import org.jaudiotagger.audio.ogg.util.OggPacketRewriter;
 import org.jaudiotagger.audio.ogg.util.OggPage;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
 import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
 
 import java.io.IOException;
@@ -15,6 +18,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -44,19 +48,48 @@ public class OpusVorbisTagWriter {
         write(emptyTag, raf, tempRaf);
     }
 
+    /**
+     * Work out how {@link #write(Tag, RandomAccessFile, RandomAccessFile)} would write the tag, without modifying the
+     * file
+     *
+     * @param tag
+     * @param raf
+     * @return in place if the new comment header fits in the existing one, otherwise rewriting the file
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    public WritePlan plan(Tag tag, RandomAccessFile raf) throws CannotReadException, IOException {
+        OggPageHeader pageHeader = OggPageHeader.read(raf);
+        long secondPageStart = pageHeader.getStartByte() + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageHeader.getSegmentTable().length + pageHeader.getPageLength();
+        return OggPacketRewriter.planOverwrite(raf.getChannel(), secondPageStart, tc.convert(tag), OpusHeader.TAGS_CAPTURE_PATTERN_LENGTH);
+    }
+
     public void write(Tag tag, RandomAccessFile raf, RandomAccessFile rafTemp) throws CannotReadException, CannotWriteException, IOException {
-        logger.config("Starting to write file: " + raf);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Starting to write file: " + raf);
+        }
 
         FileChannel fi = raf.getChannel();
         FileChannel fo = rafTemp.getChannel();
 
+        //Convert the OggVorbisComment header to raw packet data
+        ByteBuffer newComment = tc.convert(tag);
+
+        //OpusTags starts the 2nd page, if the new comment fits in the space used by the existing comment it is
+        //written in place, otherwise add padding so later changes can be
+        OggPageHeader identPageHeader = OggPageHeader.read(raf);
+        long secondPageStart = identPageHeader.getStartByte() + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + identPageHeader.getSegmentTable().length + identPageHeader.getPageLength();
+        if (OggPacketRewriter.overwritePacket(fi, secondPageStart, newComment, OpusHeader.TAGS_CAPTURE_PATTERN_LENGTH)) {
+            logger.config("Written comment in place");
+            return;
+        }
+        newComment = OggPacketRewriter.pad(newComment, TagOptionSingleton.getInstance().getWritePaddingSize());
+        fi.position(0);
+
         //1st Page:Identification Header
         logger.fine("Read 1st Page: identificationHeader");
         List<OggPage> originalHeaders = readPages(fi);
 
-        //Convert the OggVorbisComment header to raw packet data
-        ByteBuffer newComment = tc.convert(tag);
-
         // write identification header
         OggPage identPage = originalHeaders.remove(0);
         writePage(fo, identPage);
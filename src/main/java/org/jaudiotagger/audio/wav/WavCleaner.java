@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -75,9 +76,11 @@ public class WavCleaner {
         }
 
         String id = chunkHeader.getID();
-        logger.config(loggingName + " Reading Chunk:" + id
-                + ":starting at:" + Hex.asDecAndHex(chunkHeader.getStartLocationInFile())
-                + ":sizeIncHeader:" + (chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(loggingName + " Reading Chunk:" + id
+                    + ":starting at:" + Hex.asDecAndHex(chunkHeader.getStartLocationInFile())
+                    + ":sizeIncHeader:" + (chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        }
         final WavChunkType chunkType = WavChunkType.get(id);
 
         //If known chunkType
@@ -91,7 +94,9 @@ public class WavCleaner {
 
                 //Dont need to do anything with these just skip
                 default:
-                    logger.config(loggingName + " Skipping chunk bytes:" + chunkHeader.getSize());
+                    if (logger.isLoggable(Level.CONFIG)) {
+                        logger.config(loggingName + " Skipping chunk bytes:" + chunkHeader.getSize());
+                    }
                     fc.position(fc.position() + chunkHeader.getSize());
             }
         }
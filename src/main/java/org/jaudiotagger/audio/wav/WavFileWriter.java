@@ -18,10 +18,12 @@
  */
 package org.jaudiotagger.audio.wav;
 
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.AudioFileWriter2;
 import org.jaudiotagger.tag.Tag;
 
+import java.io.IOException;
 import java.nio.channels.FileChannel;
 
 public class WavFileWriter extends AudioFileWriter2 {
@@ -34,4 +36,9 @@ public class WavFileWriter extends AudioFileWriter2 {
     protected void deleteTag(Tag tag, FileChannel channel, final String fileName) throws CannotWriteException {
         new WavTagWriter(fileName).delete(tag, channel);
     }
+
+    @Override
+    protected WritePlan planWriteTag(Tag tag, FileChannel channel, final String fileName) throws CannotWriteException, IOException {
+        return new WavTagWriter(fileName).plan(tag, channel);
+    }
 }
\ No newline at end of file
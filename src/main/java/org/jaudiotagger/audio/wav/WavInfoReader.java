@@ -32,6 +32,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -95,9 +96,11 @@ public class WavInfoReader {
         }
 
         String id = chunkHeader.getID();
-        logger.fine(loggingName + " Reading Chunk:" + id
-                + ":starting at:" + Hex.asDecAndHex(chunkHeader.getStartLocationInFile())
-                + ":sizeIncHeader:" + (chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine(loggingName + " Reading Chunk:" + id
+                    + ":starting at:" + Hex.asDecAndHex(chunkHeader.getStartLocationInFile())
+                    + ":sizeIncHeader:" + (chunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE));
+        }
         final WavChunkType chunkType = WavChunkType.get(id);
 
         //If known chunkType
@@ -137,7 +140,9 @@ public class WavInfoReader {
 
                 //Dont need to do anything with these just skip
                 default:
-                    logger.config(loggingName + " Skipping chunk bytes:" + chunkHeader.getSize());
+                    if (logger.isLoggable(Level.CONFIG)) {
+                        logger.config(loggingName + " Skipping chunk bytes:" + chunkHeader.getSize());
+                    }
                     fc.position(fc.position() + chunkHeader.getSize());
             }
         }
@@ -149,7 +154,9 @@ public class WavInfoReader {
                 logger.severe(msg);
                 throw new CannotReadException(msg);
             }
-            logger.config(loggingName + " Skipping chunk bytes:" + chunkHeader.getSize() + " for " + chunkHeader.getID());
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(loggingName + " Skipping chunk bytes:" + chunkHeader.getSize() + " for " + chunkHeader.getID());
+            }
 
             fc.position(fc.position() + chunkHeader.getSize());
             if (fc.position() > fc.size()) {
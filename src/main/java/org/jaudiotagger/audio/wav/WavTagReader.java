@@ -34,6 +34,7 @@ import org.jaudiotagger.tag.wav.WavTag;
 import java.io.IOException;
 import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -58,7 +59,9 @@ public class WavTagReader {
      * @throws IOException
      */
     public WavTag read(FileChannel fc) throws CannotReadException, IOException {
-        logger.config(loggingName + " Read Tag:start");
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(loggingName + " Read Tag:start");
+        }
         WavTag tag = new WavTag(TagOptionSingleton.getInstance().getWavOptions());
         if (WavRIFFHeader.isValidHeader(fc)) {
             while (fc.position() < fc.size()) {
@@ -70,7 +73,9 @@ public class WavTagReader {
             throw new CannotReadException(loggingName + " Wav RIFF Header not valid");
         }
         createDefaultMetadataTagsIfMissing(tag);
-        logger.config(loggingName + " Read Tag:end");
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(loggingName + " Read Tag:end");
+        }
         return tag;
     }
 
@@ -106,7 +111,9 @@ public class WavTagReader {
         }
 
         String id = chunkHeader.getID();
-        logger.config(loggingName + " Next Id is:" + id + ":FileLocation:" + fc.position() + ":Size:" + chunkHeader.getSize());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(loggingName + " Next Id is:" + id + ":FileLocation:" + fc.position() + ":Size:" + chunkHeader.getSize());
+        }
         final WavChunkType chunkType = WavChunkType.get(id);
         if (chunkType != null) {
             switch (chunkType) {
@@ -176,7 +183,9 @@ public class WavTagReader {
                 logger.severe(msg);
                 throw new CannotReadException(msg);
             }
-            logger.config(loggingName + " Skipping chunk bytes:" + chunkHeader.getSize() + "for" + chunkHeader.getID());
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(loggingName + " Skipping chunk bytes:" + chunkHeader.getSize() + "for" + chunkHeader.getID());
+            }
             fc.position(fc.position() + chunkHeader.getSize());
             if (fc.position() > fc.size()) {
                 String msg = loggingName + " Failed to move to invalid position to " + fc.position() + " because file length is only " + fc.size()
@@ -18,10 +18,12 @@
  */
 package org.jaudiotagger.audio.wav;
 
+import org.jaudiotagger.audio.WritePlan;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.iff.ChunkHeader;
+import org.jaudiotagger.audio.iff.ChunkPlacement;
 import org.jaudiotagger.audio.iff.ChunkSummary;
 import org.jaudiotagger.audio.iff.IffHeaderChunk;
 import org.jaudiotagger.audio.wav.chunk.WavChunkSummary;
@@ -41,6 +43,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import static org.jaudiotagger.audio.iff.IffHeaderChunk.SIGNATURE_LENGTH;
@@ -265,7 +268,9 @@ public class WavTagWriter {
         }
         //Truncate the file after the last chunk
         final long newLength = fc.size() - lengthTagChunk;
-        logger.config(loggingName + " Setting new length to:" + newLength);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(loggingName + " Setting new length to:" + newLength);
+        }
         fc.truncate(newLength);
     }
 
@@ -275,7 +280,9 @@ public class WavTagWriter {
      * @throws CannotWriteException
      */
     public void write(final Tag tag, FileChannel fc) throws CannotWriteException {
-        logger.config(loggingName + " Writing tag to file:start");
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(loggingName + " Writing tag to file:start");
+        }
 
         WavSaveOptions wso = TagOptionSingleton.getInstance().getWavSaveOptions();
         WavTag existingTag = null;
@@ -312,6 +319,145 @@ public class WavTagWriter {
         }
     }
 
+    /**
+     * Work out how {@link #write(Tag, FileChannel)} would write the tag, without modifying the file or the tag
+     *
+     * @param tag
+     * @param fc
+     * @return the plan
+     * @throws CannotWriteException if the existing metadata cannot be read or fixed
+     * @throws IOException
+     */
+    public WritePlan plan(final Tag tag, FileChannel fc) throws CannotWriteException, IOException {
+        WavSaveOptions wso = TagOptionSingleton.getInstance().getWavSaveOptions();
+        WavTag existingTag = getExistingMetadata(fc);
+        final WavTag wavTag = (WavTag) tag;
+        if (wso == WavSaveOptions.SAVE_BOTH) {
+            return planBoth(wavTag, fc, existingTag);
+        } else if (wso == WavSaveOptions.SAVE_ACTIVE) {
+            return planActive(wavTag, fc, existingTag);
+        } else if (wso == WavSaveOptions.SAVE_EXISTING_AND_ACTIVE) {
+            return planActiveExisting(wavTag, fc, existingTag);
+        } else if (wso == WavSaveOptions.SAVE_BOTH_AND_SYNC) {
+            return planBoth(wavTag.createSyncedCopy(), fc, existingTag);
+        } else if (wso == WavSaveOptions.SAVE_EXISTING_AND_ACTIVE_AND_SYNC) {
+            return planActiveExisting(wavTag.createSyncedCopy(), fc, existingTag);
+        }
+        //Invalid Option, should never happen
+        else {
+            throw new RuntimeException(loggingName + " No setting for:WavSaveOptions");
+        }
+    }
+
+    /**
+     * Plan for the same cases as {@link #saveBoth(WavTag, FileChannel, WavTag)}
+     */
+    private WritePlan planBoth(WavTag wavTag, FileChannel fc, final WavTag existingTag) throws CannotWriteException, IOException {
+        final ByteBuffer infoTagBuffer = convertInfoChunk(wavTag);
+        final ByteBuffer id3TagBuffer = convertID3Chunk(wavTag, existingTag);
+        final long newSize = infoTagBuffer.limit() + id3TagBuffer.limit();
+        if (!existingTag.isExistingInfoTag() && !existingTag.isExistingId3Tag()) {
+            return new WritePlan(WritePlan.Strategy.APPEND, newSize, 0, 0);
+        } else if (existingTag.isIncorrectlyAlignedTag()) {
+            checkCanRealign(existingTag);
+            return new WritePlan(WritePlan.Strategy.APPEND, newSize, -1, 0);
+        } else if (existingTag.isExistingInfoTag() && existingTag.isExistingId3Tag()) {
+            ChunkHeader id3ChunkHeader = seekToStartOfId3Metadata(fc, existingTag);
+            long existingSize = existingTag.getInfoTag().getSizeOfTag() + id3ChunkHeader.getSize();
+            long firstChunkEnd = Math.min(existingTag.getInfoTag().getEndLocationInFile(), existingTag.getID3Tag().getEndLocationInFile());
+            return placeBothChunks(existingTag, fc, id3ChunkHeader, infoTagBuffer, id3TagBuffer).plan(newSize, existingSize, fc.size() - firstChunkEnd);
+        } else if (existingTag.isExistingInfoTag()) {
+            return planInfoChunk(existingTag, fc.size(), infoTagBuffer).and(new WritePlan(WritePlan.Strategy.APPEND, id3TagBuffer.limit(), 0, 0));
+        }
+        return planID3Chunk(existingTag, fc, fc.size(), id3TagBuffer).and(new WritePlan(WritePlan.Strategy.APPEND, infoTagBuffer.limit(), 0, 0));
+    }
+
+    /**
+     * Plan for the same cases as {@link #saveActive(WavTag, FileChannel, WavTag)}, the chunk that is not active is
+     * removed first so the active chunk is placed in the file as it is once that chunk has gone
+     */
+    private WritePlan planActive(WavTag wavTag, FileChannel fc, final WavTag existingTag) throws CannotWriteException, IOException {
+        long fileSize = fc.size();
+        if (wavTag.getActiveTag() instanceof WavInfoTag) {
+            final ByteBuffer infoTagBuffer = convertInfoChunk(wavTag);
+            if (existingTag.isIncorrectlyAlignedTag()) {
+                checkCanRealign(existingTag);
+                return new WritePlan(WritePlan.Strategy.APPEND, infoTagBuffer.limit(), -1, 0);
+            }
+            WritePlan removePlan = null;
+            if (existingTag.isExistingId3Tag()) {
+                if (isID3TagAtEndOfFileAllowingForPaddingByte(existingTag, fileSize)) {
+                    removePlan = new WritePlan(WritePlan.Strategy.IN_PLACE, 0, 0, 0);
+                    fileSize = existingTag.getStartLocationInFileOfId3Chunk();
+                } else {
+                    removePlan = new WritePlan(WritePlan.Strategy.MOVE_AUDIO, 0, 0, fileSize - existingTag.getEndLocationInFileOfId3Chunk());
+                    fileSize -= seekToStartOfId3Metadata(fc, existingTag).getSize() + ChunkHeader.CHUNK_HEADER_SIZE;
+                }
+            }
+            WritePlan plan = existingTag.isExistingInfoTag() ? planInfoChunk(existingTag, fileSize, infoTagBuffer) : new WritePlan(WritePlan.Strategy.APPEND, infoTagBuffer.limit(), 0, 0);
+            return removePlan != null ? plan.and(removePlan) : plan;
+        } else {
+            final ByteBuffer id3TagBuffer = convertID3Chunk(wavTag, existingTag);
+            if (existingTag.isIncorrectlyAlignedTag()) {
+                checkCanRealign(existingTag);
+                return new WritePlan(WritePlan.Strategy.APPEND, id3TagBuffer.limit(), -1, 0);
+            }
+            WritePlan removePlan = null;
+            if (existingTag.isExistingInfoTag()) {
+                ChunkHeader infoChunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
+                if (isInfoTagAtEndOfFileAllowingForPaddingByte(existingTag, fileSize)) {
+                    removePlan = new WritePlan(WritePlan.Strategy.IN_PLACE, 0, 0, 0);
+                    fileSize = existingTag.getInfoTag().getStartLocationInFile();
+                } else {
+                    removePlan = new WritePlan(WritePlan.Strategy.MOVE_AUDIO, 0, 0, fileSize - existingTag.getInfoTag().getEndLocationInFile());
+                    fileSize -= infoChunkHeader.getSize() + ChunkHeader.CHUNK_HEADER_SIZE;
+                }
+            }
+            WritePlan plan = existingTag.isExistingId3Tag() ? planID3Chunk(existingTag, fc, fileSize, id3TagBuffer) : new WritePlan(WritePlan.Strategy.APPEND, id3TagBuffer.limit(), 0, 0);
+            return removePlan != null ? plan.and(removePlan) : plan;
+        }
+    }
+
+    /**
+     * Plan for the same cases as {@link #saveActiveExisting(WavTag, FileChannel, WavTag)}
+     */
+    private WritePlan planActiveExisting(WavTag wavTag, FileChannel fc, final WavTag existingTag) throws CannotWriteException, IOException {
+        if (wavTag.getActiveTag() instanceof WavInfoTag ? existingTag.isExistingId3Tag() : existingTag.isExistingInfoTag()) {
+            return planBoth(wavTag, fc, existingTag);
+        }
+        return planActive(wavTag, fc, existingTag);
+    }
+
+    /**
+     * @param fileSize size of the file when the chunk is written
+     * @return the plan for writing the Info chunk where {@link #placeInfoChunk} places it
+     */
+    private WritePlan planInfoChunk(WavTag existingTag, long fileSize, ByteBuffer infoTagBuffer) {
+        return placeInfoChunk(existingTag, fileSize, infoTagBuffer).plan(infoTagBuffer.limit(),
+                existingTag.getInfoTag().getSizeOfTag(), fileSize - existingTag.getInfoTag().getEndLocationInFile());
+    }
+
+    /**
+     * @param fileSize size of the file when the chunk is written
+     * @return the plan for writing the ID3 chunk where {@link #placeID3Chunk} places it
+     */
+    private WritePlan planID3Chunk(WavTag existingTag, FileChannel fc, long fileSize, ByteBuffer id3TagBuffer) throws IOException, CannotWriteException {
+        ChunkHeader id3ChunkHeader = seekToStartOfId3Metadata(fc, existingTag);
+        return placeID3Chunk(existingTag, fileSize, id3ChunkHeader, id3TagBuffer).plan(id3TagBuffer.limit(),
+                id3ChunkHeader.getSize(), fileSize - existingTag.getID3Tag().getEndLocationInFile());
+    }
+
+    /**
+     * Check that incorrectly aligned metadata can be fixed by truncating it and writing the new chunks at the end
+     *
+     * @throws CannotWriteException if there are other chunks after the metadata so it cannot be fixed
+     */
+    private void checkCanRealign(WavTag existingTag) throws CannotWriteException {
+        if (!WavChunkSummary.isOnlyMetadataTagsAfterStartingMetadataTag(existingTag)) {
+            throw new CannotWriteException(loggingName + " Metadata tags are corrupted and not at end of file so cannot be fixed");
+        }
+    }
+
     /**
      * Rewrite RAF header to reflect new file size
      *
@@ -374,6 +520,19 @@ public class WavTagWriter {
      * @throws java.io.IOException
      */
     private void writeID3DataToFile(final FileChannel fc, final ByteBuffer bb) throws IOException {
+        writeID3DataToFile(fc, bb, bb.limit());
+    }
+
+    /**
+     * Write Id3Chunk of specified size to current file location ensuring it is on even file boundary, any space
+     * in the chunk after the data is filled with zeros
+     *
+     * @param fc        random access file
+     * @param bb        data to write
+     * @param chunkSize chunk size, at least the size of the data
+     * @throws java.io.IOException
+     */
+    private void writeID3DataToFile(final FileChannel fc, final ByteBuffer bb, final long chunkSize) throws IOException {
         if (Utils.isOddLength(fc.position())) {
             writePaddingToFile(fc, 1);
         }
@@ -382,12 +541,15 @@ public class WavTagWriter {
         final ByteBuffer listBuffer = ByteBuffer.allocate(ChunkHeader.CHUNK_HEADER_SIZE);
         listBuffer.order(ByteOrder.LITTLE_ENDIAN);
         listBuffer.put(WavChunkType.ID3.getCode().getBytes(Charset.forName("US-ASCII")));
-        listBuffer.putInt(bb.limit());
+        listBuffer.putInt((int) chunkSize);
         listBuffer.flip();
         fc.write(listBuffer);
 
         //Now write actual data
         fc.write(bb);
+        if (chunkSize > bb.limit()) {
+            writePaddingToFile(fc, (int) (chunkSize - bb.limit()));
+        }
     }
 
     /**
@@ -435,7 +597,9 @@ public class WavTagWriter {
                 TagTextField next = (TagTextField) nextField;
                 WavInfoIdentifier wii = WavInfoIdentifier.getByByFieldKey(FieldKey.valueOf(next.getId()));
                 baos.write(wii.getCode().getBytes(Charset.forName("US-ASCII")));
-                logger.config(loggingName + " Writing:" + wii.getCode() + ":" + next.getContent());
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(loggingName + " Writing:" + wii.getCode() + ":" + next.getContent());
+                }
 
                 //TODO Is UTF8 allowed format
                 byte[] contentConvertedToBytes = next.getContent().getBytes(Charset.forName("UTF-8"));
@@ -451,7 +615,9 @@ public class WavTagWriter {
                 if (wii == WavInfoIdentifier.TRACKNO) {
                     if (TagOptionSingleton.getInstance().isWriteWavForTwonky()) {
                         baos.write(WavInfoIdentifier.TWONKY_TRACKNO.getCode().getBytes(Charset.forName("US-ASCII")));
-                        logger.config(loggingName + " Writing:" + WavInfoIdentifier.TWONKY_TRACKNO.getCode() + ":" + next.getContent());
+                        if (logger.isLoggable(Level.CONFIG)) {
+                            logger.config(loggingName + " Writing:" + WavInfoIdentifier.TWONKY_TRACKNO.getCode() + ":" + next.getContent());
+                        }
 
                         baos.write(Utils.getSizeLEInt32(contentConvertedToBytes.length));
                         baos.write(contentConvertedToBytes);
@@ -469,7 +635,9 @@ public class WavTagWriter {
             while (ti.hasNext()) {
                 TagTextField next = ti.next();
                 baos.write(next.getId().getBytes(Charset.forName("US-ASCII")));
-                logger.config(loggingName + " Writing:" + next.getId() + ":" + next.getContent());
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(loggingName + " Writing:" + next.getId() + ":" + next.getContent());
+                }
                 byte[] contentConvertedToBytes = next.getContent().getBytes(Charset.forName("UTF-8"));
                 baos.write(Utils.getSizeLEInt32(contentConvertedToBytes.length));
                 baos.write(contentConvertedToBytes);
@@ -632,8 +800,17 @@ public class WavTagWriter {
      * @throws IOException
      */
     private boolean isID3TagAtEndOfFileAllowingForPaddingByte(WavTag existingTag, FileChannel fc) throws IOException {
-        return ((existingTag.getID3Tag().getEndLocationInFile() == fc.size()) ||
-                (((existingTag.getID3Tag().getEndLocationInFile() & 1) != 0) && existingTag.getID3Tag().getEndLocationInFile() + 1 == fc.size()));
+        return isID3TagAtEndOfFileAllowingForPaddingByte(existingTag, fc.size());
+    }
+
+    /**
+     * @param existingTag
+     * @param fileSize
+     * @return true if ID3Tag at end of a file of this size
+     */
+    private boolean isID3TagAtEndOfFileAllowingForPaddingByte(WavTag existingTag, long fileSize) {
+        return ((existingTag.getID3Tag().getEndLocationInFile() == fileSize) ||
+                (((existingTag.getID3Tag().getEndLocationInFile() & 1) != 0) && existingTag.getID3Tag().getEndLocationInFile() + 1 == fileSize));
     }
 
     /**
@@ -643,11 +820,86 @@ public class WavTagWriter {
      * @throws IOException
      */
     private boolean isInfoTagAtEndOfFileAllowingForPaddingByte(WavTag existingTag, FileChannel fc) throws IOException {
-        return ((existingTag.getInfoTag().getEndLocationInFile() == fc.size()) ||
-                (((existingTag.getInfoTag().getEndLocationInFile() & 1) != 0) && existingTag.getInfoTag().getEndLocationInFile() + 1 == fc.size()));
+        return isInfoTagAtEndOfFileAllowingForPaddingByte(existingTag, fc.size());
+    }
+
+    /**
+     * @param existingTag
+     * @param fileSize
+     * @return true if Info tag at end of a file of this size
+     */
+    private boolean isInfoTagAtEndOfFileAllowingForPaddingByte(WavTag existingTag, long fileSize) {
+        return ((existingTag.getInfoTag().getEndLocationInFile() == fileSize) ||
+                (((existingTag.getInfoTag().getEndLocationInFile() & 1) != 0) && existingTag.getInfoTag().getEndLocationInFile() + 1 == fileSize));
     }
 
 
+    /**
+     * @param existingTag
+     * @param infoTagBuffer
+     * @return true if the new Info data fits in the existing chunk, so it can be overwritten without moving any
+     * chunks after it
+     */
+    private boolean isInfoChunkFits(WavTag existingTag, ByteBuffer infoTagBuffer) {
+        return existingTag.getInfoTag().getSizeOfTag() >= infoTagBuffer.limit();
+    }
+
+    /**
+     * @param id3ChunkHeader header of the existing ID3 chunk
+     * @param id3TagBuffer
+     * @return true if the new ID3 data fits in the existing chunk, so it can be overwritten without moving any
+     * chunks after it
+     */
+    private boolean isID3ChunkFits(ChunkHeader id3ChunkHeader, ByteBuffer id3TagBuffer) {
+        return id3ChunkHeader.getSize() >= id3TagBuffer.limit();
+    }
+
+    /**
+     * Decide where the new Info chunk is written, used by both {@link #write(Tag, FileChannel)} and
+     * {@link #plan(Tag, FileChannel)}
+     *
+     * @param existingTag
+     * @param fileSize      size of the file when the chunk is written
+     * @param infoTagBuffer
+     * @return
+     */
+    private ChunkPlacement placeInfoChunk(WavTag existingTag, long fileSize, ByteBuffer infoTagBuffer) {
+        return ChunkPlacement.place(isInfoTagAtEndOfFileAllowingForPaddingByte(existingTag, fileSize), isInfoChunkFits(existingTag, infoTagBuffer));
+    }
+
+    /**
+     * Decide where the new ID3 chunk is written, used by both {@link #write(Tag, FileChannel)} and
+     * {@link #plan(Tag, FileChannel)}
+     *
+     * @param existingTag
+     * @param fileSize       size of the file when the chunk is written
+     * @param id3ChunkHeader header of the existing ID3 chunk
+     * @param id3TagBuffer
+     * @return
+     */
+    private ChunkPlacement placeID3Chunk(WavTag existingTag, long fileSize, ChunkHeader id3ChunkHeader, ByteBuffer id3TagBuffer) {
+        return ChunkPlacement.place(isID3TagAtEndOfFileAllowingForPaddingByte(existingTag, fileSize), isID3ChunkFits(id3ChunkHeader, id3TagBuffer));
+    }
+
+    /**
+     * Decide where the new chunks are written when both chunks already exist, used by both
+     * {@link #write(Tag, FileChannel)} and {@link #plan(Tag, FileChannel)}
+     * <p>
+     * The chunks are only treated as at the end if they are together at the end of the file, and only fit if both fit.
+     *
+     * @param existingTag
+     * @param fc
+     * @param id3ChunkHeader header of the existing ID3 chunk
+     * @param infoTagBuffer
+     * @param id3TagBuffer
+     * @return
+     * @throws IOException
+     */
+    private ChunkPlacement placeBothChunks(WavTag existingTag, FileChannel fc, ChunkHeader id3ChunkHeader, ByteBuffer infoTagBuffer, ByteBuffer id3TagBuffer) throws IOException {
+        BothTagsFileStructure fs = checkExistingLocations(existingTag, fc);
+        return ChunkPlacement.place(fs.isContiguous && fs.isAtEnd, isInfoChunkFits(existingTag, infoTagBuffer) && isID3ChunkFits(id3ChunkHeader, id3TagBuffer));
+    }
+
     /**
      * Save both Info and ID3 chunk
      *
@@ -663,94 +915,88 @@ public class WavTagWriter {
         final ByteBuffer infoTagBuffer = convertInfoChunk(wavTag);
         final ByteBuffer id3TagBuffer = convertID3Chunk(wavTag, existingTag);
 
+        //No existing tags so write both to the end
+        if (!existingTag.isExistingInfoTag() && !existingTag.isExistingId3Tag()) {
+            //Go to end of file
+            fc.position(fc.size());
+            writeBothTags(fc, infoTagBuffer, id3TagBuffer);
+        }
+        //Existing metadata tag is incorrectly aligned so if we can lets delete it and any subsequentially added
+        //tags and start again
+        else if (existingTag.isIncorrectlyAlignedTag()) {
+            checkCanRealign(existingTag);
+            deleteExistingMetadataTagsToEndOfFile(fc, existingTag);
+            fc.position(fc.size());
+            writeBothTags(fc, infoTagBuffer, id3TagBuffer);
+        }
         //If both tags already exist in file
-        if (existingTag.isExistingInfoTag() && existingTag.isExistingId3Tag()) {
-            if (!existingTag.isIncorrectlyAlignedTag()) {
-                BothTagsFileStructure fs = checkExistingLocations(existingTag, fc);
+        else if (existingTag.isExistingInfoTag() && existingTag.isExistingId3Tag()) {
+            ChunkHeader infoChunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
+            ChunkHeader id3ChunkHeader = seekToStartOfId3Metadata(fc, existingTag);
+            switch (placeBothChunks(existingTag, fc, id3ChunkHeader, infoTagBuffer, id3TagBuffer)) {
                 //We can write both chunks without affecting anything else
-                if (fs.isContiguous && fs.isAtEnd) {
-                    if (fs.isInfoTagFirst) {
+                case AT_END:
+                    if (checkExistingLocations(existingTag, fc).isInfoTagFirst) {
                         seekToStartOfListInfoMetadata(fc, existingTag);
-                        writeBothTags(fc, infoTagBuffer, id3TagBuffer);
-                        fc.truncate(fc.position());
                     } else {
                         seekToStartOfId3Metadata(fc, existingTag);
-                        writeBothTags(fc, infoTagBuffer, id3TagBuffer);
-                        fc.truncate(fc.position());
                     }
-                }
-                //Both chunks are together but there is another chunk after them
-                else {
-                    ChunkHeader infoChunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
-                    ChunkHeader id3ChunkHeader = seekToStartOfId3Metadata(fc, existingTag);
+                    writeBothTags(fc, infoTagBuffer, id3TagBuffer);
+                    fc.truncate(fc.position());
+                    break;
+                //Both fit in their existing chunks so can be overwritten without moving anything
+                case FITS:
+                    seekToStartOfListInfoMetadata(fc, existingTag);
+                    writeInfoChunk(fc, existingTag.getInfoTag(), infoTagBuffer);
+                    seekToStartOfId3Metadata(fc, existingTag);
+                    writeID3DataToFile(fc, id3TagBuffer, id3ChunkHeader.getSize());
+                    break;
+                default:
                     deleteInfoTagChunk(fc, existingTag, infoChunkHeader);
                     deleteId3TagChunk(fc, existingTag, id3ChunkHeader);
                     fc.position(fc.size());
                     writeBothTags(fc, infoTagBuffer, id3TagBuffer);
-                }
-            }
-            //Existing metadata tag is incorrectly aligned so if we can lets delete it and any subsequentially added
-            //tags and start again
-            else if (WavChunkSummary.isOnlyMetadataTagsAfterStartingMetadataTag(existingTag)) {
-                deleteExistingMetadataTagsToEndOfFile(fc, existingTag);
-                fc.position(fc.size());
-                writeBothTags(fc, infoTagBuffer, id3TagBuffer);
-            } else {
-                throw new CannotWriteException(loggingName + " Metadata tags are corrupted and not at end of file so cannot be fixed");
             }
         }
         //If only INFO chunk exists
-        else if (existingTag.isExistingInfoTag() && !existingTag.isExistingId3Tag()) {
-            if (!existingTag.isIncorrectlyAlignedTag()) {
-                ChunkHeader infoChunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
-                if (isInfoTagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
+        else if (existingTag.isExistingInfoTag()) {
+            ChunkHeader infoChunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
+            switch (placeInfoChunk(existingTag, fc.size(), infoTagBuffer)) {
+                case AT_END:
                     writeBothTags(fc, infoTagBuffer, id3TagBuffer);
                     fc.truncate(fc.position());
-                } else {
+                    break;
+                //Overwrite the existing chunk and add the new one to the end
+                case FITS:
+                    writeInfoChunk(fc, existingTag.getInfoTag(), infoTagBuffer);
+                    fc.position(fc.size());
+                    writeID3DataToFile(fc, id3TagBuffer);
+                    break;
+                default:
                     deleteInfoTagChunk(fc, existingTag, infoChunkHeader);
                     fc.position(fc.size());
                     writeBothTags(fc, infoTagBuffer, id3TagBuffer);
-                }
-            }
-            //Existing metadata tag is incorrectly aligned so if we can lets delete it and any subsequentially added
-            //tags and start again
-            else if (WavChunkSummary.isOnlyMetadataTagsAfterStartingMetadataTag(existingTag)) {
-                deleteExistingMetadataTagsToEndOfFile(fc, existingTag);
-                fc.position(fc.size());
-                writeBothTags(fc, infoTagBuffer, id3TagBuffer);
-            } else {
-                throw new CannotWriteException(loggingName + " Metadata tags are corrupted and not at end of file so cannot be fixed");
             }
         }
         //If only ID3 chunk exists
-        else if (existingTag.isExistingId3Tag() && !existingTag.isExistingInfoTag()) {
-            if (!existingTag.isIncorrectlyAlignedTag()) {
-                ChunkHeader id3ChunkHeader = seekToStartOfId3Metadata(fc, existingTag);
-                if (isID3TagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
+        else {
+            ChunkHeader id3ChunkHeader = seekToStartOfId3Metadata(fc, existingTag);
+            switch (placeID3Chunk(existingTag, fc.size(), id3ChunkHeader, id3TagBuffer)) {
+                case AT_END:
                     writeBothTags(fc, infoTagBuffer, id3TagBuffer);
                     fc.truncate(fc.position());
-                } else {
+                    break;
+                //Overwrite the existing chunk and add the new one to the end
+                case FITS:
+                    writeID3DataToFile(fc, id3TagBuffer, id3ChunkHeader.getSize());
+                    fc.position(fc.size());
+                    writeInfoDataToFile(fc, infoTagBuffer);
+                    break;
+                default:
                     deleteId3TagChunk(fc, existingTag, id3ChunkHeader);
                     fc.position(fc.size());
                     writeBothTags(fc, infoTagBuffer, id3TagBuffer);
-                }
             }
-            //Existing metadata tag is incorrectly aligned so if we can lets delete it and any subsequentially added
-            //tags and start again
-            else if (WavChunkSummary.isOnlyMetadataTagsAfterStartingMetadataTag(existingTag)) {
-                deleteExistingMetadataTagsToEndOfFile(fc, existingTag);
-                fc.position(fc.size());
-                writeBothTags(fc, infoTagBuffer, id3TagBuffer);
-
-            } else {
-                throw new CannotWriteException(loggingName + " Metadata tags are corrupted and not at end of file so cannot be fixed");
-            }
-        }
-        //No existing tags so write both to the end (or existing tag but couldnt not be written)
-        else {
-            //Go to end of file
-            fc.position(fc.size());
-            writeBothTags(fc, infoTagBuffer, id3TagBuffer);
         }
     }
 
@@ -789,78 +1035,83 @@ public class WavTagWriter {
             final ByteBuffer infoTagBuffer = convertInfoChunk(wavTag);
             final long newInfoTagSize = infoTagBuffer.limit();
 
-            //Usual Case
-            if (!existingTag.isIncorrectlyAlignedTag()) {
-                //We have an ID3 tag which we do not want
-                if (existingTag.isExistingId3Tag()) {
-                    if (isID3TagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
-                        fc.truncate(existingTag.getStartLocationInFileOfId3Chunk());
-                    } else {
-                        ChunkHeader id3ChunkHeader = seekToStartOfId3Metadata(fc, existingTag);
-                        deleteId3TagChunk(fc, existingTag, id3ChunkHeader);
-                    }
+            //Existing Info tag is incorrectly aligned so if we can lets delete it and any subsequentially added
+            //tags and start again
+            if (existingTag.isIncorrectlyAlignedTag()) {
+                checkCanRealign(existingTag);
+                deleteExistingMetadataTagsToEndOfFile(fc, existingTag);
+                fc.position(fc.size());
+                writeInfoDataToFile(fc, infoTagBuffer, newInfoTagSize);
+                return;
+            }
+
+            //We have an ID3 tag which we do not want
+            if (existingTag.isExistingId3Tag()) {
+                if (isID3TagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
+                    fc.truncate(existingTag.getStartLocationInFileOfId3Chunk());
+                } else {
+                    ChunkHeader id3ChunkHeader = seekToStartOfId3Metadata(fc, existingTag);
+                    deleteId3TagChunk(fc, existingTag, id3ChunkHeader);
                 }
+            }
 
-                //We already have such a tag
-                if (existingTag.isExistingInfoTag()) {
-                    ChunkHeader infoChunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
-                    if (isInfoTagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
+            //We already have such a tag
+            if (existingTag.isExistingInfoTag()) {
+                ChunkHeader infoChunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
+                switch (placeInfoChunk(existingTag, fc.size(), infoTagBuffer)) {
+                    case AT_END:
+                    case FITS:
                         writeInfoChunk(fc, existingTag.getInfoTag(), infoTagBuffer);
-                    } else {
+                        break;
+                    default:
                         deleteInfoTagChunk(fc, existingTag, infoChunkHeader);
                         fc.position(fc.size());
                         writeInfoDataToFile(fc, infoTagBuffer, infoTagBuffer.limit());
-                    }
-                }
-                //Don't have tag so have to create new
-                else {
-                    fc.position(fc.size());
-                    writeInfoDataToFile(fc, infoTagBuffer, newInfoTagSize);
                 }
             }
-            //Existing one is in wrong place
-            //Existing Info tag is incorrectly aligned so if we can lets delete it and any subsequentially added
-            //tags and start again
-            else if (WavChunkSummary.isOnlyMetadataTagsAfterStartingMetadataTag(existingTag)) {
-                deleteExistingMetadataTagsToEndOfFile(fc, existingTag);
+            //Don't have tag so have to create new
+            else {
                 fc.position(fc.size());
                 writeInfoDataToFile(fc, infoTagBuffer, newInfoTagSize);
-            } else {
-                throw new CannotWriteException(loggingName + " Metadata tags are corrupted and not at end of file so cannot be fixed");
             }
         }
         //ID3 is Active Tag
         else {
             final ByteBuffer id3TagBuffer = convertID3Chunk(wavTag, existingTag);
-            if (!existingTag.isIncorrectlyAlignedTag()) {
-                if (existingTag.isExistingInfoTag()) {
-                    ChunkHeader infoChunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
-                    if (isInfoTagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
-                        fc.truncate(existingTag.getInfoTag().getStartLocationInFile());
-                    } else {
-                        deleteInfoTagChunk(fc, existingTag, infoChunkHeader);
-                    }
+            if (existingTag.isIncorrectlyAlignedTag()) {
+                checkCanRealign(existingTag);
+                deleteExistingMetadataTagsToEndOfFile(fc, existingTag);
+                fc.position(fc.size());
+                writeID3DataToFile(fc, id3TagBuffer);
+                return;
+            }
+
+            if (existingTag.isExistingInfoTag()) {
+                ChunkHeader infoChunkHeader = seekToStartOfListInfoMetadata(fc, existingTag);
+                if (isInfoTagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
+                    fc.truncate(existingTag.getInfoTag().getStartLocationInFile());
+                } else {
+                    deleteInfoTagChunk(fc, existingTag, infoChunkHeader);
                 }
+            }
 
-                if (existingTag.isExistingId3Tag()) {
-                    ChunkHeader id3ChunkHeader = seekToStartOfId3Metadata(fc, existingTag);
-                    if (isID3TagAtEndOfFileAllowingForPaddingByte(existingTag, fc)) {
+            if (existingTag.isExistingId3Tag()) {
+                ChunkHeader id3ChunkHeader = seekToStartOfId3Metadata(fc, existingTag);
+                switch (placeID3Chunk(existingTag, fc.size(), id3ChunkHeader, id3TagBuffer)) {
+                    case AT_END:
                         writeID3DataToFile(fc, id3TagBuffer);
-                    } else {
+                        break;
+                    case FITS:
+                        writeID3DataToFile(fc, id3TagBuffer, id3ChunkHeader.getSize());
+                        break;
+                    default:
                         deleteId3TagChunk(fc, existingTag, id3ChunkHeader);
                         fc.position(fc.size());
                         writeID3DataToFile(fc, id3TagBuffer);
-                    }
-                } else {
-                    fc.position(fc.size());
-                    writeID3DataToFile(fc, id3TagBuffer);
                 }
-            } else if (WavChunkSummary.isOnlyMetadataTagsAfterStartingMetadataTag(existingTag)) {
-                deleteExistingMetadataTagsToEndOfFile(fc, existingTag);
+            } else {
                 fc.position(fc.size());
                 writeID3DataToFile(fc, id3TagBuffer);
-            } else {
-                throw new CannotWriteException(loggingName + " Metadata tags are corrupted and not at end of file so cannot be fixed");
             }
         }
     }
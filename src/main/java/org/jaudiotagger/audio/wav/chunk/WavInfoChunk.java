@@ -5,6 +5,7 @@ import org.jaudiotagger.audio.iff.IffHeaderChunk;
 import org.jaudiotagger.tag.FieldDataInvalidException;
 import org.jaudiotagger.tag.wav.WavInfoTag;
 import org.jaudiotagger.tag.wav.WavTag;
+import org.jaudiotagger.x.CharsetDetectionContext;
 
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
@@ -34,6 +35,38 @@ public class WavInfoChunk {
      * @param chunkData
      */
     public boolean readChunks(ByteBuffer chunkData) {
+        CharsetDetectionContext charsetContext = enterCharsetDetectionContext(chunkData);
+        try {
+            return readValues(chunkData);
+        } finally {
+            charsetContext.exit();
+        }
+    }
+
+    /**
+     * Start a {@link CharsetDetectionContext} sampling every value, so the charset is detected once for the chunk
+     * rather than for each value
+     */
+    private CharsetDetectionContext enterCharsetDetectionContext(ByteBuffer chunkData) {
+        CharsetDetectionContext context = CharsetDetectionContext.enter();
+        ByteBuffer values = chunkData.duplicate().order(chunkData.order());
+        while (values.remaining() >= IffHeaderChunk.TYPE_LENGTH + IffHeaderChunk.SIZE_LENGTH) {
+            values.position(values.position() + IffHeaderChunk.TYPE_LENGTH);
+            int size = values.getInt();
+            if (size < 0 || size > values.remaining()) {
+                break;
+            }
+            byte[] value = new byte[size];
+            values.get(value);
+            context.handleData(value, 0, size);
+            if (Utils.isOddLength(size) && values.hasRemaining()) {
+                values.get();
+            }
+        }
+        return context;
+    }
+
+    private boolean readValues(ByteBuffer chunkData) {
         while (chunkData.remaining() >= IffHeaderChunk.TYPE_LENGTH) {
             String id = Utils.readFourBytesAsChars(chunkData);
             //Padding
@@ -60,7 +93,9 @@ public class WavInfoChunk {
                 return false;
             }
 
-            logger.config(loggingName + "Result:" + id + ":" + size + ":" + value + ":");
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(loggingName + "Result:" + id + ":" + size + ":" + value + ":");
+            }
             WavInfoIdentifier wii = WavInfoIdentifier.getByCode(id);
             if (wii != null && wii.getFieldKey() != null) {
                 try {
@@ -0,0 +1,197 @@
+package org.jaudiotagger.logging;
+
+import org.jaudiotagger.tag.TagOptionSingleton;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Opt-in structured trace of how files are parsed, for finding out why a particular file is slow to read.
+ *
+ * When a {@link Listener} is set with {@link TagOptionSingleton#setParseTraceListener(Listener)} the readers report an
+ * {@link Event} for each structure they parse, such as the file itself, its audio header and tag, each ID3v2 frame,
+ * Flac metadata block, Ogg page and top level Mp4 box, and the search for the first MPEG frame, giving where the
+ * structure is, its length and how long it took. When no listener is set nothing is timed or allocated.
+ *
+ * Readers trace a structure as:
+ * <pre>
+ * long start = ParseTrace.start();
+ * //Parse the structure
+ * ParseTrace.event(ParseTrace.ID3V2_FRAME, id, offset, length, start);
+ * </pre>
+ */
+public final class ParseTrace {
+
+    public static final String FILE = "file";
+    public static final String HEADER = "header";
+    public static final String TAG = "tag";
+    public static final String MP3_SEEK = "mp3.seek";
+    public static final String ID3V2_FRAME = "id3v2.frame";
+    public static final String FLAC_BLOCK = "flac.block";
+    public static final String OGG_PAGE = "ogg.page";
+    public static final String MP4_BOX = "mp4.box";
+
+    /**
+     * Returned by {@link #start()} when tracing is off, {@link System#nanoTime()} can be any value so a start time
+     * that happens to equal it is moved by one nanosecond
+     */
+    private static final long OFF = Long.MIN_VALUE;
+
+    private static final ThreadLocal<String> currentFile = new ThreadLocal<String>();
+
+    /**
+     * Receives the events of the trace, it is called on the thread reading the file so should return quickly
+     */
+    public interface Listener {
+        void onEvent(Event event);
+    }
+
+    /**
+     * A listener that logs each event at {@link Level#INFO} to the logger org.jaudiotagger.trace
+     */
+    public static final Listener LOGGING_LISTENER = new Listener() {
+        private final Logger logger = Logger.getLogger("org.jaudiotagger.trace");
+
+        @Override
+        public void onEvent(Event event) {
+            logger.info(event.toString());
+        }
+    };
+
+    private ParseTrace() {
+    }
+
+    /**
+     * @return the start time of a structure to pass to {@link #event}, test it with {@link #isTracing(long)}
+     */
+    public static long start() {
+        if (TagOptionSingleton.getInstance().getParseTraceListener() == null) {
+            return OFF;
+        }
+        long start = System.nanoTime();
+        return start != OFF ? start : start + 1;
+    }
+
+    /**
+     * @param start value returned by {@link #start()} or {@link #startFile}
+     * @return true if tracing was on when the structure was started, so it is worth working out its details
+     */
+    public static boolean isTracing(long start) {
+        return start != OFF;
+    }
+
+    /**
+     * Report a structure that has been parsed, does nothing if tracing was off when it was started
+     *
+     * @param type   type of the structure, such as {@link #ID3V2_FRAME}
+     * @param detail identifies the structure within its type, such as the frame id, may be null
+     * @param offset where the structure starts, see {@link Event#getOffset()}
+     * @param length length of the structure in bytes, or -1 if unknown
+     * @param start  value returned by {@link #start()} before the structure was parsed
+     */
+    public static void event(String type, String detail, long offset, long length, long start) {
+        if (start == OFF) {
+            return;
+        }
+        Listener listener = TagOptionSingleton.getInstance().getParseTraceListener();
+        if (listener != null) {
+            listener.onEvent(new Event(currentFile.get(), type, detail, offset, length, System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Start reading a file, events reported on this thread until {@link #endFile} are for this file
+     *
+     * @param file path of the file
+     * @return the start time to pass to {@link #endFile}, test it with {@link #isTracing(long)}
+     */
+    public static long startFile(String file) {
+        long start = start();
+        if (start != OFF) {
+            currentFile.set(file);
+        }
+        return start;
+    }
+
+    /**
+     * Finish reading a file, reporting a {@link #FILE} event for the whole file
+     *
+     * @param ext    extension of the format the file was read as
+     * @param length length of the file in bytes
+     * @param start  value returned by {@link #startFile}
+     */
+    public static void endFile(String ext, long length, long start) {
+        if (start == OFF) {
+            return;
+        }
+        event(FILE, ext, 0, length, start);
+        currentFile.remove();
+    }
+
+    /**
+     * A structure that has been parsed
+     */
+    public static final class Event {
+        private final String file;
+        private final String type;
+        private final String detail;
+        private final long offset;
+        private final long length;
+        private final long durationNanos;
+
+        public Event(String file, String type, String detail, long offset, long length, long durationNanos) {
+            this.file = file;
+            this.type = type;
+            this.detail = detail;
+            this.offset = offset;
+            this.length = length;
+            this.durationNanos = durationNanos;
+        }
+
+        /**
+         * @return path of the file being read, or null if not known
+         */
+        public String getFile() {
+            return file;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getDetail() {
+            return detail;
+        }
+
+        /**
+         * @return offset of the structure in the file, except for ID3v2 frames which are given relative to the start of
+         * the tag after any unsynchronisation has been removed, or -1 if unknown
+         */
+        public long getOffset() {
+            return offset;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("type=").append(type);
+            if (detail != null) {
+                sb.append(" detail=").append(detail);
+            }
+            sb.append(" offset=").append(offset).append(" length=").append(length);
+            sb.append(" micros=").append(durationNanos / 1000);
+            if (file != null) {
+                sb.append(" file=").append(file);
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -23,9 +23,11 @@
  */
 package org.jaudiotagger.tag;
 
+import org.jaudiotagger.audio.generic.AudioDataShifter;
 import org.jaudiotagger.audio.wav.WavOptions;
 import org.jaudiotagger.audio.wav.WavSaveOptions;
 import org.jaudiotagger.audio.wav.WavSaveOrder;
+import org.jaudiotagger.logging.ParseTrace;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
 import org.jaudiotagger.tag.id3.ID3v22Tag;
 import org.jaudiotagger.tag.id3.ID3v23Tag;
@@ -42,6 +44,8 @@ import org.jaudiotagger.tag.reference.ID3V2Version;
 import org.jaudiotagger.tag.reference.Languages;
 import org.jaudiotagger.tag.vorbiscomment.VorbisAlbumArtistReadOptions;
 import org.jaudiotagger.tag.vorbiscomment.VorbisAlbumArtistSaveOptions;
+import org.jaudiotagger.utils.ByteBufferAllocator;
+import org.jaudiotagger.utils.ByteBufferPool;
 
 import java.util.HashMap;
 import java.util.Iterator;
@@ -372,6 +376,36 @@ public class TagOptionSingleton {
      */
     private boolean preserveFileIdentity = true;
 
+    /**
+     * When reading, only record where the image data of artwork is held in the file rather than reading it
+     */
+    private boolean loadArtworkLazily = false;
+
+    /**
+     * Number of bytes of padding left after the metadata when it no longer fits in the space already available for it
+     */
+    private int writePaddingSize = 4000;
+
+    /**
+     * When reading a file, map it into memory once rather than reading it with a file channel
+     */
+    private boolean useMemoryMappedRead = false;
+
+    /**
+     * Notified as audio data is moved to make room for metadata when writing
+     */
+    private AudioDataShifter.ProgressListener writeProgressListener = null;
+
+    /**
+     * Notified of each structure parsed when reading a file
+     */
+    private ParseTrace.Listener parseTraceListener = null;
+
+    /**
+     * Supplies the temporary buffers used when reading and writing files
+     */
+    private ByteBufferAllocator byteBufferAllocator = ByteBufferPool.getDefault();
+
     /**
      *
      */
@@ -863,6 +897,12 @@ public class TagOptionSingleton {
         id3v2Version = ID3V2Version.ID3_V23;
         checkIsWritable = false;
         preserveFileIdentity = false;
+        loadArtworkLazily = false;
+        writePaddingSize = 4000;
+        useMemoryMappedRead = false;
+        writeProgressListener = null;
+        parseTraceListener = null;
+        byteBufferAllocator = ByteBufferPool.getDefault();
         //default all lyrics3 fields to save. id3v1 fields are individual
         // settings. id3v2 fields are always looked at to save.
         Iterator<String> iterator = Lyrics3v2Fields.getInstanceOf().getIdToValueMap().keySet().iterator();
@@ -1267,6 +1307,153 @@ public class TagOptionSingleton {
         this.preserveFileIdentity = preserveFileIdentity;
     }
 
+    /**
+     * <p>
+     *     If {@code true}, when reading Flac picture blocks and the APIC/PIC frames of ID3v2 tags in MP3 files, the
+     *     image data of artwork is not kept in memory, only its position within the file is recorded and the image
+     *     data is read from the file when it is requested with
+     *     {@link org.jaudiotagger.tag.images.Artwork#getBinaryData()}.
+     * </p>
+     * <p>
+     *     Flac picture blocks are read without reading the image data at all. ID3v2 tags are read and parsed as a
+     *     whole, so the image data is still read into memory while the tag is parsed and is only released
+     *     afterwards, this saves memory for as long as the tag is held but not while it is read. Frames that are
+     *     unsynchronised, compressed or encrypted keep their image data.
+     * </p>
+     * <p>
+     *     The option has no effect on other formats, including Mp4 covr atoms, Ogg METADATA_BLOCK_PICTURE comments,
+     *     Asf pictures and ID3v2 tags held in Wav, Aiff and Dsf files, their artwork is always held in memory.
+     * </p>
+     * <p>
+     *     The file must still exist and be unchanged when the image data is requested.
+     * </p>
+     *
+     * @return {@code true} or {@code false}. Default is {@code false}.
+     */
+    public boolean isLoadArtworkLazily() {
+        return loadArtworkLazily;
+    }
+
+    /**
+     * @param loadArtworkLazily {@code true} or {@code false}
+     * @see #isLoadArtworkLazily()
+     */
+    public void setLoadArtworkLazily(boolean loadArtworkLazily) {
+        this.loadArtworkLazily = loadArtworkLazily;
+    }
+
+    /**
+     * When the metadata of a file is written it is written in place if it fits in the space used by the existing
+     * metadata and any padding or free space next to it, only when it does not fit is audio data moved or the file
+     * rewritten. When that happens this amount of padding is left after the new metadata so that later edits that
+     * increase the size of the metadata can be written in place.
+     * <p>
+     * Used for Flac padding blocks, Mp4 free atoms, and Ogg Vorbis and Opus comment headers. Wav, Aiff and Dsf files
+     * are not padded, and ID3v2 tags of MP3 files use their own padding rules.
+     * </p>
+     *
+     * @return the padding size in bytes. Default is 4000.
+     */
+    public int getWritePaddingSize() {
+        return writePaddingSize;
+    }
+
+    /**
+     * @param writePaddingSize padding size in bytes, 0 to never add padding
+     * @see #getWritePaddingSize()
+     */
+    public void setWritePaddingSize(int writePaddingSize) {
+        this.writePaddingSize = writePaddingSize;
+    }
+
+    /**
+     * <p>
+     *     If {@code true}, files read with a {@link java.io.File} are mapped into memory once and the headers and tags
+     *     are read from the mapping, rather than with a separate read from the file for every buffer filled. Used when
+     *     reading Wav, Aiff, Flac and Dsf files and the ID3 tags and audio header of MP3 files.
+     * </p>
+     * <p>
+     *     Files that cannot be mapped, for example those over 2GB, are read as normal. The mapping is released once the
+     *     file has been read. Ignored if {@link #isAndroid()} is set, as reading from a mapping fails on some Android
+     *     versions.
+     * </p>
+     * <p>
+     *     Mapping has not been found to be faster than reading, and is slower for files that are not already in the
+     *     page cache, so it is off unless explicitly enabled.
+     * </p>
+     *
+     * @return {@code true} or {@code false}. Default is {@code false}.
+     */
+    public boolean isUseMemoryMappedRead() {
+        return useMemoryMappedRead;
+    }
+
+    /**
+     * @param useMemoryMappedRead {@code true} or {@code false}
+     * @see #isUseMemoryMappedRead()
+     */
+    public void setUseMemoryMappedRead(boolean useMemoryMappedRead) {
+        this.useMemoryMappedRead = useMemoryMappedRead;
+    }
+
+    /**
+     * When the metadata of a file no longer fits in front of the audio data the audio data is moved further into the
+     * file in chunks of at most {@link #getWriteChunkSize()} bytes, and this listener is notified after each chunk.
+     * Used when writing Flac files.
+     *
+     * @return the listener, or null if none is set. Default is null.
+     */
+    public AudioDataShifter.ProgressListener getWriteProgressListener() {
+        return writeProgressListener;
+    }
+
+    /**
+     * @param writeProgressListener the listener, or null to remove it
+     * @see #getWriteProgressListener()
+     */
+    public void setWriteProgressListener(AudioDataShifter.ProgressListener writeProgressListener) {
+        this.writeProgressListener = writeProgressListener;
+    }
+
+    /**
+     * When set, reading a file reports each structure parsed, where it is and how long it took, to this listener, see
+     * {@link ParseTrace}. Used to diagnose files that are slow to read.
+     *
+     * @return the listener, or null if none is set. Default is null.
+     */
+    public ParseTrace.Listener getParseTraceListener() {
+        return parseTraceListener;
+    }
+
+    /**
+     * @param parseTraceListener the listener, such as {@link ParseTrace#LOGGING_LISTENER}, or null to stop tracing
+     * @see #getParseTraceListener()
+     */
+    public void setParseTraceListener(ParseTrace.Listener parseTraceListener) {
+        this.parseTraceListener = parseTraceListener;
+    }
+
+    /**
+     * Temporary buffers used when reading and writing files, such as the buffer used to find the first MPEG frame,
+     * are obtained from this allocator and returned to it once finished with.
+     *
+     * @return the allocator. Default is {@link ByteBufferPool#getDefault()}.
+     */
+    public ByteBufferAllocator getByteBufferAllocator() {
+        return byteBufferAllocator;
+    }
+
+    /**
+     * @param byteBufferAllocator the allocator, must be thread safe
+     * @see #getByteBufferAllocator()
+     */
+    public void setByteBufferAllocator(ByteBufferAllocator byteBufferAllocator) {
+        if (byteBufferAllocator == null) {
+            throw new NullPointerException("byteBufferAllocator");
+        }
+        this.byteBufferAllocator = byteBufferAllocator;
+    }
+
     public boolean isWriteWavForTwonky() {
         return isWriteWavForTwonky;
     }
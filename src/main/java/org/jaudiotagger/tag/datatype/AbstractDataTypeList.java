@@ -21,6 +21,7 @@ import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
 
 /**
  * Represents a list of {@link Cloneable}(!!) {@link AbstractDataType}s, continuing until the end of the buffer.
@@ -113,7 +114,9 @@ public abstract class AbstractDataTypeList<T extends AbstractDataType> extends A
      * @return a byte array that that contains the data that should be persisted to file
      */
     public byte[] writeByteArray() {
-        logger.config("Writing DataTypeList " + this.getIdentifier());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Writing DataTypeList " + this.getIdentifier());
+        }
         final byte[] buffer = new byte[getSize()];
         int offset = 0;
         for (final AbstractDataType data : getValue()) {
@@ -23,12 +23,13 @@
 package org.jaudiotagger.tag.datatype;
 
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
-import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
+import org.jaudiotagger.x.CharsetDetectionContext;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
+import java.util.logging.Level;
 
 /**
  * A partial implementation for String based ID3 fields
@@ -101,14 +102,15 @@ public abstract class AbstractString extends AbstractDataType {
         //Try and write to buffer using the CharSet defined by the textEncoding field (note if using UTF16 we dont
         //need to worry about LE,BE at this point it makes no difference)
         final byte textEncoding = this.getBody().getTextEncoding();
-        final TextEncoding encoding = TextEncoding.getInstanceOf();
-        final Charset charset = encoding.getCharsetForId(textEncoding);
-        CharsetEncoder encoder = charset.newEncoder();
+        final Charset charset = TextCodecCache.getCharsetForId(textEncoding);
+        CharsetEncoder encoder = TextCodecCache.getEncoder(charset);
 
         if (encoder.canEncode((String) value)) {
             return true;
         } else {
-            logger.finest("Failed Trying to decode" + value + "with" + encoder.toString());
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.finest("Failed Trying to decode" + value + "with" + encoder.toString());
+            }
             return false;
         }
     }
@@ -124,32 +126,42 @@ public abstract class AbstractString extends AbstractDataType {
     protected CharsetDecoder getCorrectDecoder(ByteBuffer inBuffer, Charset detectedCharset) {
         CharsetDecoder decoder = null;
         if (inBuffer.remaining() <= 2) {
-            decoder = detectedCharset.newDecoder();
+            decoder = newDecoder(detectedCharset);
             decoder.reset();
             return decoder;
         }
 
-        if (detectedCharset == Charset.forName("UTF-16")) {
+        if (TextCodecCache.UTF_16.equals(detectedCharset)) {
             if (inBuffer.getChar(0) == 0xfffe || inBuffer.getChar(0) == 0xfeff) {
                 //Get the Specified Decoder
-                decoder = detectedCharset.newDecoder();
+                decoder = newDecoder(detectedCharset);
                 decoder.reset();
             } else {
                 if (inBuffer.get(0) == 0) {
-                    decoder = Charset.forName("UTF-16BE").newDecoder();
-                    decoder.reset();
+                    decoder = TextCodecCache.getDecoder(TextCodecCache.UTF_16BE);
                 } else {
-                    decoder = Charset.forName("UTF-16LE").newDecoder();
-                    decoder.reset();
+                    decoder = TextCodecCache.getDecoder(TextCodecCache.UTF_16LE);
                 }
             }
         } else {
-            decoder = detectedCharset.newDecoder();
+            decoder = newDecoder(detectedCharset);
             decoder.reset();
         }
         return decoder;
     }
 
+    /**
+     * @return the decoder of the current {@link CharsetDetectionContext} if it is for the same charset, otherwise the
+     * cached decoder for the charset
+     */
+    private static CharsetDecoder newDecoder(Charset charset) {
+        CharsetDetectionContext context = CharsetDetectionContext.getCurrent();
+        if (context != null && context.hasData() && charset.equals(context.getCharset())) {
+            return context.getDecoder();
+        }
+        return TextCodecCache.getDecoder(charset);
+    }
+
     /**
      * Get the text encoding being used.
      *
@@ -159,8 +171,10 @@ public abstract class AbstractString extends AbstractDataType {
      */
     protected Charset getTextEncodingCharSet() {
         final byte textEncoding = this.getBody().getTextEncoding();
-        final Charset charSetName = TextEncoding.getInstanceOf().getCharsetForId(textEncoding);
-        logger.finest("text encoding:" + textEncoding + " charset:" + charSetName.name());
+        final Charset charSetName = TextCodecCache.getCharsetForId(textEncoding);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("text encoding:" + textEncoding + " charset:" + charSetName.name());
+        }
         return charSetName;
     }
 }
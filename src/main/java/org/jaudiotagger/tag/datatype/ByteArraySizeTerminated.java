@@ -25,6 +25,8 @@ package org.jaudiotagger.tag.datatype;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
+import java.util.logging.Level;
+
 /**
  * Represents a stream of bytes, continuing until the end of the buffer. Usually used for binary data or where
  * we havent yet mapped the data to a better fitting type.
@@ -100,7 +102,9 @@ public class ByteArraySizeTerminated extends AbstractDataType {
      * @return a byte array that that contians the data that should be perisisted to file
      */
     public byte[] writeByteArray() {
-        logger.config("Writing byte array" + this.getIdentifier());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Writing byte array" + this.getIdentifier());
+        }
         return (byte[]) value;
     }
 }
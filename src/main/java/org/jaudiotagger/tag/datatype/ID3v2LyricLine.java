@@ -25,7 +25,6 @@ package org.jaudiotagger.tag.datatype;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
-import java.nio.charset.Charset;
 
 
 public class ID3v2LyricLine extends AbstractDataType {
@@ -113,7 +112,7 @@ public class ID3v2LyricLine extends AbstractDataType {
         }
 
         //offset += ();
-        text = new String(arr, offset, arr.length - offset - 4, Charset.forName("ISO-8859-1"));
+        text = new String(arr, offset, arr.length - offset - 4, TextCodecCache.ISO_8859_1);
 
         //text = text.substring(0, text.length() - 5);
         timeStamp = 0;
@@ -25,7 +25,6 @@ package org.jaudiotagger.tag.datatype;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
-import java.nio.charset.Charset;
 import java.util.Iterator;
 import java.util.LinkedList;
 
@@ -194,6 +193,6 @@ public class Lyrics3Line extends AbstractDataType {
     }
 
     public byte[] writeByteArray() {
-        return writeString().getBytes(Charset.forName("ISO-8859-1"));
+        return writeString().getBytes(TextCodecCache.ISO_8859_1);
     }
 }
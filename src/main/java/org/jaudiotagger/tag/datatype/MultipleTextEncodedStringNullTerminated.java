@@ -73,7 +73,9 @@ public class MultipleTextEncodedStringNullTerminated extends AbstractDataType {
      * @throws InvalidDataTypeException if unable to find any null terminated Strings
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
-        logger.finer("Reading MultipleTextEncodedStringNullTerminated from array from offset:" + offset);
+        if (logger.isLoggable(Level.FINER)) {
+            logger.finer("Reading MultipleTextEncodedStringNullTerminated from array from offset:" + offset);
+        }
         //Continue until unable to read a null terminated String
         while (true) {
             try {
@@ -102,7 +104,9 @@ public class MultipleTextEncodedStringNullTerminated extends AbstractDataType {
                 throw new InvalidDataTypeException("No null terminated Strings found");
             }
         }
-        logger.finer("Read  MultipleTextEncodedStringNullTerminated:" + value + " size:" + size);
+        if (logger.isLoggable(Level.FINER)) {
+            logger.finer("Read  MultipleTextEncodedStringNullTerminated:" + value + " size:" + size);
+        }
     }
 
     /**
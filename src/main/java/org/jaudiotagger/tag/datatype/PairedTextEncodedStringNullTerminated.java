@@ -78,7 +78,9 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType {
      * @throws InvalidDataTypeException if unable to find any null terminated Strings
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
-        logger.finer("Reading PairTextEncodedStringNullTerminated from array from offset:" + offset);
+        if (logger.isLoggable(Level.FINER)) {
+            logger.finer("Reading PairTextEncodedStringNullTerminated from array from offset:" + offset);
+        }
         //Continue until unable to read a null terminated String
         while (true) {
             try {
@@ -128,7 +130,9 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType {
                 throw new InvalidDataTypeException("No null terminated Strings found");
             }
         }
-        logger.finer("Read  PairTextEncodedStringNullTerminated:" + value + " size:" + size);
+        if (logger.isLoggable(Level.FINER)) {
+            logger.finer("Read  PairTextEncodedStringNullTerminated:" + value + " size:" + size);
+        }
     }
 
 
@@ -3,13 +3,13 @@ package org.jaudiotagger.tag.datatype;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
-import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import org.jaudiotagger.tag.options.PadNumberOption;
 import org.jaudiotagger.utils.EqualsUtil;
 
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.*;
+import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -76,15 +76,16 @@ public class PartOfSet extends AbstractString {
      * @throws IndexOutOfBoundsException
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
-        logger.finest("Reading from array from offset:" + offset);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Reading from array from offset:" + offset);
+        }
 
         //Get the Specified Decoder
-        CharsetDecoder decoder = getTextEncodingCharSet().newDecoder();
+        CharsetDecoder decoder = TextCodecCache.getDecoder(getTextEncodingCharSet());
 
         //Decode sliced inBuffer
         ByteBuffer inBuffer = ByteBuffer.wrap(arr, offset, arr.length - offset).slice();
-        CharBuffer outBuffer = CharBuffer.allocate(arr.length - offset);
-        decoder.reset();
+        CharBuffer outBuffer = TextCodecCache.getCharBuffer(arr.length - offset);
         CoderResult coderResult = decoder.decode(inBuffer, outBuffer, true);
         if (coderResult.isError()) {
             logger.warning("Decoding error:" + coderResult.toString());
@@ -98,7 +99,9 @@ public class PartOfSet extends AbstractString {
 
         //SetSize, important this is correct for finding the next datatype
         setSize(arr.length - offset);
-        logger.config("Read SizeTerminatedString:" + value + " size:" + size);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Read SizeTerminatedString:" + value + " size:" + size);
+        }
     }
 
     /**
@@ -125,20 +128,16 @@ public class PartOfSet extends AbstractString {
             final Charset charset = getTextEncodingCharSet();
             final String valueWithBOM;
             final CharsetEncoder encoder;
-            if (Charset.forName("UTF-16").equals(charset)) {
-                encoder = Charset.forName("UTF-16LE").newEncoder();
+            if (TextCodecCache.UTF_16.equals(charset)) {
+                encoder = TextCodecCache.getEncoder(TextCodecCache.UTF_16LE);
                 //Note remember LE BOM is ff fe but this is handled by encoder Unicode char is fe ff
                 valueWithBOM = '\ufeff' + value;
             } else {
-                encoder = charset.newEncoder();
+                encoder = TextCodecCache.getEncoder(charset);
                 valueWithBOM = value;
             }
-            encoder.onMalformedInput(CodingErrorAction.IGNORE);
-            encoder.onUnmappableCharacter(CodingErrorAction.IGNORE);
 
-            final ByteBuffer bb = encoder.encode(CharBuffer.wrap(valueWithBOM));
-            data = new byte[bb.limit()];
-            bb.get(data, 0, bb.limit());
+            data = TextCodecCache.encode(encoder, valueWithBOM);
 
         }
         //Should never happen so if does throw a RuntimeException
@@ -159,8 +158,10 @@ public class PartOfSet extends AbstractString {
      */
     protected Charset getTextEncodingCharSet() {
         final byte textEncoding = this.getBody().getTextEncoding();
-        final Charset charset = TextEncoding.getInstanceOf().getCharsetForId(textEncoding);
-        logger.finest("text encoding:" + textEncoding + " charset:" + charset.name());
+        final Charset charset = TextCodecCache.getCharsetForId(textEncoding);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("text encoding:" + textEncoding + " charset:" + charset.name());
+        }
         return charset;
     }
 
@@ -24,7 +24,6 @@ package org.jaudiotagger.tag.datatype;
 
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
-import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
@@ -32,6 +31,7 @@ import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
+import java.util.logging.Level;
 
 
 /**
@@ -79,13 +79,17 @@ public class StringFixedLength extends AbstractString {
      * @param offset this is where to start reading in the buffer for this field
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
-        logger.config("Reading from array from offset:" + offset);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Reading from array from offset:" + offset);
+        }
         try {
-            final CharsetDecoder decoder = getTextEncodingCharSet().newDecoder();
+            final CharsetDecoder decoder = TextCodecCache.getDecoder(getTextEncodingCharSet());
 
             //Decode buffer if runs into problems should through exception which we
             //catch and then set value to empty string.
-            logger.finest("Array length is:" + arr.length + "offset is:" + offset + "Size is:" + size);
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.finest("Array length is:" + arr.length + "offset is:" + offset + "Size is:" + size);
+            }
 
 
             if (arr.length - offset < size) {
@@ -100,7 +104,9 @@ public class StringFixedLength extends AbstractString {
             logger.severe(ce.getMessage());
             value = "";
         }
-        logger.config("Read StringFixedLength:" + value);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Read StringFixedLength:" + value);
+        }
     }
 
     /**
@@ -129,9 +135,9 @@ public class StringFixedLength extends AbstractString {
         try {
             final Charset charset = getTextEncodingCharSet();
             final CharsetEncoder encoder;
-            if (Charset.forName("UTF-16").equals(charset)) {
+            if (TextCodecCache.UTF_16.equals(charset)) {
                 //Note remember LE BOM is ff fe but tis is handled by encoder Unicode char is fe ff
-                encoder = Charset.forName("UTF-16LE").newEncoder();
+                encoder = TextCodecCache.UTF_16LE.newEncoder();
                 dataBuffer = encoder.encode(CharBuffer.wrap('\ufeff' + (String) value));
             } else {
                 encoder = charset.newEncoder();
@@ -189,8 +195,10 @@ public class StringFixedLength extends AbstractString {
      */
     protected Charset getTextEncodingCharSet() {
         final byte textEncoding = this.getBody().getTextEncoding();
-        final Charset charset = TextEncoding.getInstanceOf().getCharsetForId(textEncoding);
-        logger.finest("text encoding:" + textEncoding + " charset:" + charset.name());
+        final Charset charset = TextCodecCache.getCharsetForId(textEncoding);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("text encoding:" + textEncoding + " charset:" + charset.name());
+        }
         return charset;
     }
 }
@@ -179,6 +179,6 @@ public class StringHashMap extends StringFixedLength implements HashMapInterface
      * @return the ISO_8859 encoding for Datatypes of this type
      */
     protected Charset getTextEncodingCharSet() {
-        return Charset.forName("ISO-8859-1");
+        return TextCodecCache.ISO_8859_1;
     }
 }
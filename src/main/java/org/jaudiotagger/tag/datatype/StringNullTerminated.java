@@ -51,6 +51,6 @@ public class StringNullTerminated extends TextEncodedStringNullTerminated {
     }
 
     protected Charset getTextEncodingCharSet() {
-        return Charset.forName("ISO-8859-1");
+        return TextCodecCache.ISO_8859_1;
     }
 }
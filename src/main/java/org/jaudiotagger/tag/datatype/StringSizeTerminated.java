@@ -58,6 +58,6 @@ public class StringSizeTerminated extends TextEncodedStringSizeTerminated {
     }
 
     protected Charset getTextEncodingCharSet() {
-        return Charset.forName("ISO-8859-1");
+        return TextCodecCache.ISO_8859_1;
     }
 }
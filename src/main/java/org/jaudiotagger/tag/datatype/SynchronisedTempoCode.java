@@ -17,6 +17,8 @@ import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.EventTimingTypes;
 
+import java.util.logging.Level;
+
 /**
  * A single synchronized tempo code. Part of a list of temnpo codes ({@link org.jaudiotagger.tag.datatype.SynchronisedTempoCodeList}), that are contained in
  * {@link org.jaudiotagger.tag.id3.framebody.FrameBodySYTC}
@@ -81,7 +83,9 @@ public class SynchronisedTempoCode extends AbstractDataType implements Cloneable
         int localOffset = originalOffset;
         int size = getSize();
 
-        logger.finest("offset:" + localOffset);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("offset:" + localOffset);
+        }
 
         //The read has extended further than the defined frame size (ok to extend upto
         //size because the next datatype may be of length 0.)
@@ -0,0 +1,159 @@
+package org.jaudiotagger.tag.datatype;
+
+import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per thread cache of the decoders and encoders used to read and write text fields, with scratch buffers to decode
+ * and encode into, so reading and writing a text field does not have to look up the charset or create a new decoder,
+ * encoder and buffer each time.
+ *
+ * Decoders and encoders are reset before they are returned, and the scratch buffers are cleared, they must be
+ * finished with before the next call on the same thread.
+ */
+final class TextCodecCache {
+
+    static final Charset ISO_8859_1 = StandardCharsets.ISO_8859_1;
+    static final Charset UTF_8 = StandardCharsets.UTF_8;
+    static final Charset UTF_16 = StandardCharsets.UTF_16;
+    static final Charset UTF_16BE = StandardCharsets.UTF_16BE;
+    static final Charset UTF_16LE = StandardCharsets.UTF_16LE;
+
+    /**
+     * Scratch buffers are kept up to this capacity, larger buffers needed for very long values are not kept
+     */
+    private static final int MAX_SCRATCH_SIZE = 64 * 1024;
+    private static final int MIN_SCRATCH_SIZE = 256;
+
+    /**
+     * Charsets of the ID3 text encoding ids, indexed by id
+     */
+    private static final Charset[] charsetsById = new Charset[TextEncoding.UTF_8 + 1];
+
+    static {
+        TextEncoding textEncoding = TextEncoding.getInstanceOf();
+        for (int id = 0; id < charsetsById.length; id++) {
+            charsetsById[id] = textEncoding.getCharsetForId(id);
+        }
+    }
+
+    private static final ThreadLocal<TextCodecCache> cache = new ThreadLocal<TextCodecCache>() {
+        @Override
+        protected TextCodecCache initialValue() {
+            return new TextCodecCache();
+        }
+    };
+
+    private final Map<Charset, CharsetDecoder> decoders = new HashMap<>();
+    private final Map<Charset, CharsetEncoder> encoders = new HashMap<>();
+    private CharBuffer chars;
+    private ByteBuffer bytes;
+
+    private TextCodecCache() {
+    }
+
+    /**
+     * @param id ID3 text encoding id
+     * @return the charset for the id, or null if the id is not valid
+     */
+    static Charset getCharsetForId(int id) {
+        return id >= 0 && id < charsetsById.length ? charsetsById[id] : null;
+    }
+
+    /**
+     * @return a decoder for the charset that reports errors, reset ready for use
+     */
+    static CharsetDecoder getDecoder(Charset charset) {
+        Map<Charset, CharsetDecoder> decoders = cache.get().decoders;
+        CharsetDecoder decoder = decoders.get(charset);
+        if (decoder == null) {
+            decoder = charset.newDecoder();
+            decoders.put(charset, decoder);
+        }
+        return decoder.reset();
+    }
+
+    /**
+     * @return an encoder for the charset that ignores characters it cannot encode, reset ready for use
+     */
+    static CharsetEncoder getEncoder(Charset charset) {
+        Map<Charset, CharsetEncoder> encoders = cache.get().encoders;
+        CharsetEncoder encoder = encoders.get(charset);
+        if (encoder == null) {
+            encoder = charset.newEncoder();
+            encoder.onMalformedInput(CodingErrorAction.IGNORE);
+            encoder.onUnmappableCharacter(CodingErrorAction.IGNORE);
+            encoders.put(charset, encoder);
+        }
+        return encoder.reset();
+    }
+
+    /**
+     * @return the scratch char buffer of the current thread, cleared, with at least the given capacity
+     */
+    static CharBuffer getCharBuffer(int capacity) {
+        if (capacity > MAX_SCRATCH_SIZE) {
+            return CharBuffer.allocate(capacity);
+        }
+        TextCodecCache codecs = cache.get();
+        if (codecs.chars == null || codecs.chars.capacity() < capacity) {
+            codecs.chars = CharBuffer.allocate(scratchSize(capacity));
+        }
+        codecs.chars.clear();
+        return codecs.chars;
+    }
+
+    /**
+     * @return the scratch byte buffer of the current thread, cleared, with at least the given capacity
+     */
+    static ByteBuffer getByteBuffer(int capacity) {
+        if (capacity > MAX_SCRATCH_SIZE) {
+            return ByteBuffer.allocate(capacity);
+        }
+        TextCodecCache codecs = cache.get();
+        if (codecs.bytes == null || codecs.bytes.capacity() < capacity) {
+            codecs.bytes = ByteBuffer.allocate(scratchSize(capacity));
+        }
+        codecs.bytes.clear();
+        return codecs.bytes;
+    }
+
+    private static int scratchSize(int capacity) {
+        return Math.min(MAX_SCRATCH_SIZE, Math.max(MIN_SCRATCH_SIZE, Integer.highestOneBit(capacity - 1) << 1));
+    }
+
+    /**
+     * Encode text with the encoder, using the scratch byte buffer, so it must not be called while the scratch byte
+     * buffer is in use
+     *
+     * @return the encoded bytes
+     * @throws CharacterCodingException if the encoder reports an error
+     */
+    static byte[] encode(CharsetEncoder encoder, CharSequence text) throws CharacterCodingException {
+        ByteBuffer out = getByteBuffer((int) Math.ceil(text.length() * (double) encoder.maxBytesPerChar()));
+        encoder.reset();
+        CoderResult result = encoder.encode(CharBuffer.wrap(text), out, true);
+        if (!result.isUnderflow()) {
+            result.throwException();
+        }
+        result = encoder.flush(out);
+        if (!result.isUnderflow()) {
+            result.throwException();
+        }
+        out.flip();
+        byte[] data = new byte[out.limit()];
+        out.get(data);
+        return data;
+    }
+}
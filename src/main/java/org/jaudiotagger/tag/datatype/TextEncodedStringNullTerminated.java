@@ -3,12 +3,12 @@ package org.jaudiotagger.tag.datatype;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
-import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import org.jaudiotagger.x.CharsetDetectorUtil;
 
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.*;
+import java.util.logging.Level;
 
 /**
  * Represents a String whose size is determined by finding of a null character at the end of the String.
@@ -62,7 +62,9 @@ public class TextEncodedStringNullTerminated extends AbstractString {
         }
         int bufferSize;
 
-        logger.finer("Reading from array starting from offset:" + offset);
+        if (logger.isLoggable(Level.FINER)) {
+            logger.finer("Reading from array starting from offset:" + offset);
+        }
         int size;
 
         //Get the Specified Decoder
@@ -78,7 +80,7 @@ public class TextEncodedStringNullTerminated extends AbstractString {
 
         //Latin-1 and UTF-8 strings are terminated by a single-byte null,
         //while UTF-16 and its variants need two bytes for the null terminator.
-        final boolean nullIsOneByte = Charset.forName("ISO-8859-1") == charset || Charset.forName("UTF-8") == charset;
+        final boolean nullIsOneByte = TextCodecCache.ISO_8859_1.equals(charset) || TextCodecCache.UTF_8.equals(charset);
 
         boolean isNullTerminatorFound = false;
         while (buffer.hasRemaining()) {
@@ -88,7 +90,9 @@ public class TextEncodedStringNullTerminated extends AbstractString {
                     buffer.mark();
                     buffer.reset();
                     endPosition = buffer.position() - 1;
-                    logger.finest("Null terminator found starting at:" + endPosition);
+                    if (logger.isLoggable(Level.FINEST)) {
+                        logger.finest("Null terminator found starting at:" + endPosition);
+                    }
 
                     isNullTerminatorFound = true;
                     break;
@@ -100,7 +104,9 @@ public class TextEncodedStringNullTerminated extends AbstractString {
                             buffer.mark();
                             buffer.reset();
                             endPosition = buffer.position() - 2;
-                            logger.finest("UTF16:Null terminator found starting  at:" + endPosition);
+                            if (logger.isLoggable(Level.FINEST)) {
+                                logger.finest("UTF16:Null terminator found starting  at:" + endPosition);
+                            }
                             isNullTerminatorFound = true;
                             break;
                         } else {
@@ -132,7 +138,9 @@ public class TextEncodedStringNullTerminated extends AbstractString {
         }
 
 
-        logger.finest("End Position is:" + endPosition + "Offset:" + offset);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("End Position is:" + endPosition + "Offset:" + offset);
+        }
 
         //Set Size so offset is ready for next field (includes the null terminator)
         size = endPosition - offset;
@@ -146,13 +154,15 @@ public class TextEncodedStringNullTerminated extends AbstractString {
         //catch and then set value to empty string. (We don't read the null terminator
         //because we dont want to display this)
         bufferSize = endPosition - offset;
-        logger.finest("Text size is:" + bufferSize);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Text size is:" + bufferSize);
+        }
         if (bufferSize == 0) {
             value = "";
         } else {
             //Decode sliced inBuffer
             ByteBuffer inBuffer = ByteBuffer.wrap(arr, offset, bufferSize).slice();
-            CharBuffer outBuffer = CharBuffer.allocate(bufferSize);
+            CharBuffer outBuffer = TextCodecCache.getCharBuffer(bufferSize);
 
             Charset resultCharset;
             if (hadTextEncoding) {
@@ -171,7 +181,9 @@ public class TextEncodedStringNullTerminated extends AbstractString {
             value = outBuffer.toString();
         }
         //Set Size so offset is ready for next field (includes the null terminator)
-        logger.config("Read NullTerminatedString:" + value + " size inc terminator:" + size);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Read NullTerminatedString:" + value + " size inc terminator:" + size);
+        }
     }
 
     /**
@@ -180,40 +192,29 @@ public class TextEncodedStringNullTerminated extends AbstractString {
      * @return the data as a byte array in format to write to file
      */
     public byte[] writeByteArray() {
-        logger.config("Writing NullTerminatedString." + value);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Writing NullTerminatedString." + value);
+        }
         byte[] data;
         //Write to buffer using the CharSet defined by getTextEncodingCharSet()
         //Add a null terminator which will be encoded based on encoding.
         final Charset charset = getTextEncodingCharSet();
         try {
-            if (Charset.forName("UTF-16").equals(charset)) {
+            if (TextCodecCache.UTF_16.equals(charset)) {
                 if (TagOptionSingleton.getInstance().isEncodeUTF16BomAsLittleEndian()) {
-                    final CharsetEncoder encoder = Charset.forName("UTF-16LE").newEncoder();
-                    encoder.onMalformedInput(CodingErrorAction.IGNORE);
-                    encoder.onUnmappableCharacter(CodingErrorAction.IGNORE);
+                    final CharsetEncoder encoder = TextCodecCache.getEncoder(TextCodecCache.UTF_16LE);
 
                     //Note remember LE BOM is ff fe but this is handled by encoder Unicode char is fe ff
-                    final ByteBuffer bb = encoder.encode(CharBuffer.wrap('\ufeff' + (String) value + '\0'));
-                    data = new byte[bb.limit()];
-                    bb.get(data, 0, bb.limit());
+                    data = TextCodecCache.encode(encoder, '\ufeff' + (String) value + '\0');
                 } else {
-                    final CharsetEncoder encoder = Charset.forName("UTF-16BE").newEncoder();
-                    encoder.onMalformedInput(CodingErrorAction.IGNORE);
-                    encoder.onUnmappableCharacter(CodingErrorAction.IGNORE);
+                    final CharsetEncoder encoder = TextCodecCache.getEncoder(TextCodecCache.UTF_16BE);
 
                     //Note  BE BOM will leave as fe ff
-                    final ByteBuffer bb = encoder.encode(CharBuffer.wrap('\ufeff' + (String) value + '\0'));
-                    data = new byte[bb.limit()];
-                    bb.get(data, 0, bb.limit());
+                    data = TextCodecCache.encode(encoder, '\ufeff' + (String) value + '\0');
                 }
             } else {
-                final CharsetEncoder encoder = charset.newEncoder();
-                encoder.onMalformedInput(CodingErrorAction.IGNORE);
-                encoder.onUnmappableCharacter(CodingErrorAction.IGNORE);
-
-                final ByteBuffer bb = encoder.encode(CharBuffer.wrap((String) value + '\0'));
-                data = new byte[bb.limit()];
-                bb.get(data, 0, bb.limit());
+                final CharsetEncoder encoder = TextCodecCache.getEncoder(charset);
+                data = TextCodecCache.encode(encoder, (String) value + '\0');
             }
         }
         //https://bitbucket.org/ijabz/jaudiotagger/issue/1/encoding-metadata-to-utf-16-can-fail-if
@@ -227,8 +228,10 @@ public class TextEncodedStringNullTerminated extends AbstractString {
 
     protected Charset getTextEncodingCharSet() {
         final byte textEncoding = this.getBody().getTextEncoding();
-        final Charset charset = TextEncoding.getInstanceOf().getCharsetForId(textEncoding);
-        logger.finest("text encoding:" + textEncoding + " charset:" + charset.name());
+        final Charset charset = TextCodecCache.getCharsetForId(textEncoding);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("text encoding:" + textEncoding + " charset:" + charset.name());
+        }
         return charset;
     }
 }
@@ -11,6 +11,7 @@ import java.nio.charset.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.logging.Level;
 
 /**
  * Represents a String which is not delimited by null character.
@@ -70,7 +71,9 @@ public class TextEncodedStringSizeTerminated extends AbstractString {
      * @throws IndexOutOfBoundsException
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException {
-        logger.finest("Reading from array from offset:" + offset);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Reading from array from offset:" + offset);
+        }
 
 
         //Decode sliced inBuffer
@@ -92,7 +95,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString {
         }
         if (detectedCharset == null) detectedCharset = StandardCharsets.UTF_8;
 
-        CharBuffer outBuffer = CharBuffer.allocate(arr.length - offset);
+        CharBuffer outBuffer = TextCodecCache.getCharBuffer(arr.length - offset);
 
         CharsetDecoder decoder = getCorrectDecoder(inBuffer, detectedCharset);
         CoderResult coderResult = decoder.decode(inBuffer, outBuffer, true);
@@ -104,14 +107,16 @@ public class TextEncodedStringSizeTerminated extends AbstractString {
 
         //If using UTF16 with BOM we then search through the text removing any BOMs that could exist
         //for multiple values, BOM could be Big Endian or Little Endian
-        if (Charset.forName("UTF-16").equals(detectedCharset)) {
+        if (TextCodecCache.UTF_16.equals(detectedCharset)) {
             value = outBuffer.toString().replace("\ufeff", "").replace("\ufffe", "");
         } else {
             value = outBuffer.toString();
         }
         //SetSize, important this is correct for finding the next datatype
         setSize(arr.length - offset);
-        logger.finest("Read SizeTerminatedString:" + value + " size:" + size);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Read SizeTerminatedString:" + value + " size:" + size);
+        }
 
     }
 
@@ -157,9 +162,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString {
      */
     protected ByteBuffer writeStringUTF16LEBOM(final String next, final int i, final int noOfValues)
             throws CharacterCodingException {
-        final CharsetEncoder encoder = Charset.forName("UTF-16LE").newEncoder();
-        encoder.onMalformedInput(CodingErrorAction.IGNORE);
-        encoder.onUnmappableCharacter(CodingErrorAction.IGNORE);
+        final CharsetEncoder encoder = TextCodecCache.getEncoder(TextCodecCache.UTF_16LE);
 
         ByteBuffer bb;
         //Note remember LE BOM is ff fe but this is handled by encoder Unicode char is fe ff
@@ -185,9 +188,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString {
      */
     protected ByteBuffer writeStringUTF16BEBOM(final String next, final int i, final int noOfValues)
             throws CharacterCodingException {
-        final CharsetEncoder encoder = Charset.forName("UTF-16BE").newEncoder();
-        encoder.onMalformedInput(CodingErrorAction.IGNORE);
-        encoder.onUnmappableCharacter(CodingErrorAction.IGNORE);
+        final CharsetEncoder encoder = TextCodecCache.getEncoder(TextCodecCache.UTF_16BE);
 
         ByteBuffer bb;
         //Add BOM
@@ -252,16 +253,16 @@ public class TextEncodedStringSizeTerminated extends AbstractString {
             //Special Handling because there is no UTF16 BOM LE charset
             String stringValue = (String) value;
             Charset actualCharSet = null;
-            if (Charset.forName("UTF-16").equals(charset)) {
+            if (TextCodecCache.UTF_16.equals(charset)) {
                 if (TagOptionSingleton.getInstance().isEncodeUTF16BomAsLittleEndian()) {
-                    actualCharSet = Charset.forName("UTF-16LE");
+                    actualCharSet = TextCodecCache.UTF_16LE;
                 } else {
-                    actualCharSet = Charset.forName("UTF-16BE");
+                    actualCharSet = TextCodecCache.UTF_16BE;
                 }
             }
 
             //Ensure large enough for any encoding
-            ByteBuffer outputBuffer = ByteBuffer.allocate((stringValue.length() + 3) * 3);
+            ByteBuffer outputBuffer = TextCodecCache.getByteBuffer((stringValue.length() + 3) * 3);
 
             //Ensure each string (if multiple values) is written with BOM by writing separately
             List<String> values = splitByNullSeperator(stringValue);
@@ -271,14 +272,12 @@ public class TextEncodedStringSizeTerminated extends AbstractString {
             for (int i = 0; i < values.size(); i++) {
                 String next = values.get(i);
 
-                if (Charset.forName("UTF-16LE").equals(actualCharSet)) {
+                if (TextCodecCache.UTF_16LE.equals(actualCharSet)) {
                     outputBuffer.put(writeStringUTF16LEBOM(next, i, values.size()));
-                } else if (Charset.forName("UTF-16BE").equals(actualCharSet)) {
+                } else if (TextCodecCache.UTF_16BE.equals(actualCharSet)) {
                     outputBuffer.put(writeStringUTF16BEBOM(next, i, values.size()));
                 } else {
-                    final CharsetEncoder charsetEncoder = charset.newEncoder();
-                    charsetEncoder.onMalformedInput(CodingErrorAction.IGNORE);
-                    charsetEncoder.onUnmappableCharacter(CodingErrorAction.IGNORE);
+                    final CharsetEncoder charsetEncoder = TextCodecCache.getEncoder(charset);
                     outputBuffer.put(writeString(charsetEncoder, next, i, values.size()));
                 }
             }
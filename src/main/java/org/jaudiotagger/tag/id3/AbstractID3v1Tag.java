@@ -23,6 +23,8 @@
  */
 package org.jaudiotagger.tag.id3;
 
+import org.jaudiotagger.audio.WritePlan;
+
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
@@ -140,5 +142,21 @@ abstract public class AbstractID3v1Tag extends AbstractID3Tag {
         }
     }
 
-
+    /**
+     * Work out how {@link #write(RandomAccessFile)} would write the tag, without modifying the file
+     *
+     * @param file
+     * @return in place if the file already ends with an ID3v1 tag, otherwise appended to the end of the file
+     * @throws IOException
+     */
+    public WritePlan planWrite(RandomAccessFile file) throws IOException {
+        boolean existing = false;
+        if (file.length() >= TAG_LENGTH) {
+            ByteBuffer byteBuffer = ByteBuffer.allocate(TAG_LENGTH);
+            file.getChannel().read(byteBuffer, file.length() - TAG_LENGTH);
+            byteBuffer.rewind();
+            existing = AbstractID3v1Tag.seekForV1OrV11Tag(byteBuffer);
+        }
+        return new WritePlan(existing ? WritePlan.Strategy.IN_PLACE : WritePlan.Strategy.APPEND, TAG_LENGTH, existing ? TAG_LENGTH : 0, 0);
+    }
 }
@@ -49,6 +49,9 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     //Frame Size
     protected int frameSize;
 
+    //Offset of the frame body within the buffer the tag was read from, -1 if not read directly from it
+    protected int bodyOffset = -1;
+
     //The purpose of this is to provide the filename that should be used when writing debug messages
     //when problems occur reading or writing to file, otherwise it is difficult to track down the error
     //when processing many files
@@ -75,6 +78,23 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     protected AbstractID3v2Frame() {
     }
 
+    /**
+     * @return offset of the frame body within the buffer the tag was read from, or -1 if the frame body was not
+     * read directly from it because it was unsynchronised, compressed or encrypted
+     */
+    public int getBodyOffset() {
+        return bodyOffset;
+    }
+
+    /**
+     * Record where the frame body is within the buffer the tag was read from
+     *
+     * @param frameBodyBuffer slice of the tag buffer containing only the body of this frame
+     */
+    protected void setBodyOffset(ByteBuffer frameBodyBuffer) {
+        bodyOffset = frameBodyBuffer.hasArray() ? frameBodyBuffer.arrayOffset() : -1;
+    }
+
     /**
      * This holds the Status flags (not supported in v2.20
      */
@@ -111,14 +131,21 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
      */
     //TODO the identifier checks should be done in the relevent subclasses
     public AbstractID3v2Frame(String identifier) {
-        logger.config("Creating empty frame of type" + identifier);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Creating empty frame of type" + identifier);
+        }
         this.identifier = identifier;
 
-        // Use reflection to map id to frame body, which makes things much easier
-        // to keep things up to date.
+        // Use the frame body tables to map id to frame body, falling back to reflection for
+        // any id not in the tables.
         try {
-            Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + identifier);
-            frameBody = c.newInstance();
+            ID3FrameBodies.BodyCreator bodyCreator = ID3FrameBodies.getBodyCreator(identifier);
+            if (bodyCreator != null) {
+                frameBody = bodyCreator.create();
+            } else {
+                Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + identifier);
+                frameBody = c.newInstance();
+            }
         } catch (ClassNotFoundException cnfe) {
             logger.severe(cnfe.getMessage());
             frameBody = new FrameBodyUnsupported(identifier);
@@ -140,7 +167,9 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
             frameBody.setTextEncoding(TagOptionSingleton.getInstance().getId3v23DefaultTextEncoding());
         }
 
-        logger.config("Created empty frame of type" + identifier);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Created empty frame of type" + identifier);
+        }
     }
 
     /**
@@ -225,24 +254,38 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
      * @throws InvalidFrameException unable to construct a framebody from the data
      */
     @SuppressWarnings("unchecked")
-    //TODO using reflection is rather slow perhaps we should change this
     protected AbstractID3v2FrameBody readBody(String identifier, ByteBuffer byteBuffer, int frameSize)
             throws InvalidFrameException, InvalidDataTypeException {
-        //Use reflection to map id to frame body, which makes things much easier
-        //to keep things up to date,although slight performance hit.
+        //Use the frame body tables to map id to frame body, reflection is only used for ids
+        //not in the tables
         logger.finest("Creating framebody:start");
 
         AbstractID3v2FrameBody frameBody;
         try {
-            Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + identifier);
-            Class<?>[] constructorParameterTypes = {Class.forName("java.nio.ByteBuffer"), Integer.TYPE};
-            Object[] constructorParameterValues = {byteBuffer, frameSize};
-            Constructor<AbstractID3v2FrameBody> construct = c.getConstructor(constructorParameterTypes);
-            frameBody = (construct.newInstance(constructorParameterValues));
+            ID3FrameBodies.BodyReader bodyReader = ID3FrameBodies.getBodyReader(identifier);
+            if (bodyReader != null) {
+                frameBody = bodyReader.read(byteBuffer, frameSize);
+            } else {
+                Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + identifier);
+                Class<?>[] constructorParameterTypes = {ByteBuffer.class, Integer.TYPE};
+                Object[] constructorParameterValues = {byteBuffer, frameSize};
+                Constructor<AbstractID3v2FrameBody> construct = c.getConstructor(constructorParameterTypes);
+                frameBody = (construct.newInstance(constructorParameterValues));
+            }
+        }
+        //An error has occurred within the frame body, mark this frame as invalid
+        catch (InvalidFrameException | InvalidDataTypeException ex) {
+            logger.severe(getLoggingFilename() + ":" + "An error occurred within abstractID3v2FrameBody for identifier:" + identifier + ":" + ex.getMessage());
+            throw ex;
+        } catch (InvalidTagException te) {
+            logger.severe(getLoggingFilename() + ":" + "An error occurred within abstractID3v2FrameBody for identifier:" + identifier + ":" + te.getMessage());
+            throw new InvalidFrameException(te.getMessage());
         }
         //No class defined for this frame type,use FrameUnsupported
         catch (ClassNotFoundException cex) {
-            logger.config(getLoggingFilename() + ":" + "Identifier not recognised:" + identifier + " using FrameBodyUnsupported");
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(getLoggingFilename() + ":" + "Identifier not recognised:" + identifier + " using FrameBodyUnsupported");
+            }
             try {
                 frameBody = new FrameBodyUnsupported(byteBuffer, frameSize);
             }
@@ -285,7 +328,9 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
             logger.log(Level.SEVERE, getLoggingFilename() + ":" + "Illegal access exception :" + iae.getMessage(), iae);
             throw new RuntimeException(iae.getMessage());
         }
-        logger.finest(getLoggingFilename() + ":" + "Created framebody:end" + frameBody.getIdentifier());
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest(getLoggingFilename() + ":" + "Created framebody:end" + frameBody.getIdentifier());
+        }
         frameBody.setHeader(this);
         return frameBody;
     }
@@ -317,7 +362,9 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
 
 
         identifier = new String(buffer);
-        logger.fine(getLoggingFilename() + ":" + "Identifier is" + identifier);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine(getLoggingFilename() + ":" + "Identifier is" + identifier);
+        }
         return identifier;
     }
 
@@ -352,7 +399,9 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
             Constructor<AbstractID3v2FrameBody> construct = c.getConstructor(constructorParameterTypes);
             frameBody = (construct.newInstance(constructorParameterValues));
         } catch (ClassNotFoundException cex) {
-            logger.config("Identifier not recognised:" + identifier + " unable to create framebody");
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config("Identifier not recognised:" + identifier + " unable to create framebody");
+            }
             throw new InvalidFrameException("FrameBody" + identifier + " does not exist");
         }
         //If suitable constructor does not exist
@@ -382,7 +431,9 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
             throw new RuntimeException(iae.getMessage());
         }
 
-        logger.finer("frame Body created" + frameBody.getIdentifier());
+        if (logger.isLoggable(Level.FINER)) {
+            logger.finer("frame Body created" + frameBody.getIdentifier());
+        }
         frameBody.setHeader(this);
         return frameBody;
     }
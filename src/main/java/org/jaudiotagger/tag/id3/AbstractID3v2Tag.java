@@ -30,9 +30,12 @@ import org.jaudiotagger.tag.datatype.PairedTextEncodedStringNullTerminated;
 import org.jaudiotagger.tag.id3.framebody.*;
 import org.jaudiotagger.tag.id3.valuepair.ID3NumberTotalFields;
 import org.jaudiotagger.tag.id3.valuepair.StandardIPLSKey;
+import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import org.jaudiotagger.tag.images.Artwork;
+import org.jaudiotagger.tag.images.ImageDataReference;
 import org.jaudiotagger.tag.reference.Languages;
 import org.jaudiotagger.tag.reference.PictureTypes;
+import org.jaudiotagger.x.CharsetDetectionContext;
 
 import java.io.*;
 import java.nio.ByteBuffer;
@@ -766,7 +769,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @param multiFrame
      */
     public void setFrame(String identifier, List<AbstractID3v2Frame> multiFrame) {
-        logger.finest("Adding " + multiFrame.size() + " frames for " + identifier);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Adding " + multiFrame.size() + " frames for " + identifier);
+        }
         frameMap.put(identifier, multiFrame);
     }
 
@@ -876,7 +881,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      * @param identifier frameId to look for
      */
     public void removeFrame(String identifier) {
-        logger.finest("Removing frame with identifier:" + identifier);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Removing frame with identifier:" + identifier);
+        }
         frameMap.remove(identifier);
     }
 
@@ -890,7 +897,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
             Object o = i.next();
             if (o instanceof AbstractID3v2Frame) {
                 if (((AbstractID3v2Frame) o).getBody() instanceof FrameBodyUnsupported) {
-                    logger.finest("Removing frame" + ((AbstractID3v2Frame) o).getIdentifier());
+                    if (logger.isLoggable(Level.FINEST)) {
+                        logger.finest("Removing frame" + ((AbstractID3v2Frame) o).getIdentifier());
+                    }
                     i.remove();
                 }
             }
@@ -914,7 +923,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
         //Then deleteField outside of loop to prevent concurrent modificatioon eception if there are two keys
         //with the same id
         for (String match : result) {
-            logger.finest("Removing frame with identifier:" + match + "because starts with:" + identifier);
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.finest("Removing frame with identifier:" + match + "because starts with:" + identifier);
+            }
             frameMap.remove(match);
         }
     }
@@ -930,6 +941,29 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      */
     public abstract long write(File file, long audioStartByte) throws IOException;
 
+    /**
+     * Work out the size of the tag including padding that {@link #write(File, long)} would write, without writing it
+     *
+     * @param audioStartByte
+     * @return size of the tag including padding, the audio content has to be moved if this is more than audioStartByte
+     * @throws IOException
+     */
+    public int getSizeWhenWritten(long audioStartByte) throws IOException {
+        return calculateTagSize(getBodySizeWhenWritten() + TAG_HEADER_LENGTH, (int) audioStartByte);
+    }
+
+    /**
+     * @return size of the frames when written, after unsynchronization of the whole body if that would be applied
+     * @throws IOException
+     */
+    protected int getBodySizeWhenWritten() throws IOException {
+        byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
+        if (TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer)) {
+            bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
+        }
+        return bodyByteBuffer.length;
+    }
+
     /**
      * Get file lock for writing too file
      * <p/>
@@ -943,7 +977,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      *                                                        because indicates a programming error
      */
     protected FileLock getFileLockForWriting(FileChannel fileChannel, String filePath) throws IOException {
-        logger.finest("locking fileChannel for " + filePath);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("locking fileChannel for " + filePath);
+        }
         FileLock fileLock;
         try {
             fileLock = fileChannel.tryLock();
@@ -1086,7 +1122,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
      */
     public boolean seek(ByteBuffer byteBuffer) {
         byteBuffer.rewind();
-        logger.config("ByteBuffer pos:" + byteBuffer.position() + ":limit" + byteBuffer.limit() + ":cap" + byteBuffer.capacity());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("ByteBuffer pos:" + byteBuffer.position() + ":limit" + byteBuffer.limit() + ":cap" + byteBuffer.capacity());
+        }
 
 
         byte[] tagIdentifier = new byte[FIELD_TAGID_LENGTH];
@@ -1153,7 +1191,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
 
         try {
             paddedFile = File.createTempFile(Utils.getBaseFilenameForTempFile(file), ".new", file.getParentFile());
-            logger.finest("Created temp file:" + paddedFile.getName() + " for " + file.getName());
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.finest("Created temp file:" + paddedFile.getName() + " for " + file.getName());
+            }
         }
         //Vista:Can occur if have Write permission on folder this file would be created in Denied
         catch (IOException ioe) {
@@ -1186,7 +1226,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
             long written = fcOut.write(paddingBuffer);
 
             //Write rest of file starting from audio
-            logger.finer("Copying:" + (file.length() - audioStart) + "bytes");
+            if (logger.isLoggable(Level.FINER)) {
+                logger.finer("Copying:" + (file.length() - audioStart) + "bytes");
+            }
 
             //If the amount to be copied is very large we split into 10MB lumps to try and avoid
             //out of memory errors
@@ -1194,7 +1236,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
             if (audiolength <= MAXIMUM_WRITABLE_CHUNK_SIZE) {
                 fcIn.position(audioStart);
                 long written2 = fcOut.transferFrom(fcIn, paddingSize, audiolength);
-                logger.finer("Written padding:" + written + " Data:" + written2);
+                if (logger.isLoggable(Level.FINER)) {
+                    logger.finer("Written padding:" + written + " Data:" + written2);
+                }
                 if (written2 != audiolength) {
                     throw new RuntimeException(ErrorMessage.MP3_UNABLE_TO_ADJUST_PADDING.getMsg(audiolength, written2));
                 }
@@ -1206,7 +1250,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
                     written2 += fcIn.transferTo(audioStart + (i * MAXIMUM_WRITABLE_CHUNK_SIZE), MAXIMUM_WRITABLE_CHUNK_SIZE, fcOut);
                 }
                 written2 += fcIn.transferTo(audioStart + (noOfChunks * MAXIMUM_WRITABLE_CHUNK_SIZE), lastChunkSize, fcOut);
-                logger.finer("Written padding:" + written + " Data:" + written2);
+                if (logger.isLoggable(Level.FINER)) {
+                    logger.finer("Written padding:" + written + " Data:" + written2);
+                }
                 if (written2 != audiolength) {
                     throw new RuntimeException(ErrorMessage.MP3_UNABLE_TO_ADJUST_PADDING.getMsg(audiolength, written2));
                 }
@@ -1408,6 +1454,68 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
         }
     }
 
+    /**
+     * Start a {@link CharsetDetectionContext} for the frames of the tag, sampling the text of the frames that do not
+     * declare an encoding so their charset is detected once for the whole tag rather than for each string.
+     *
+     * Only the frame headers are parsed, frames that are compressed, encrypted or otherwise transformed are not
+     * sampled and the first header that is not a valid frame ends the sample.
+     *
+     * @param byteBuffer the frames starting at its position, the position is not changed
+     * @param size       size of the frames
+     * @param idSize     size of a frame identifier, which is also the size of the frame size field
+     * @param headerSize size of a frame header
+     * @param syncSafe   whether frame sizes are sync safe integers
+     * @return the context, which must be exited once the frames have been read
+     */
+    protected CharsetDetectionContext enterCharsetDetectionContext(ByteBuffer byteBuffer, int size, int idSize, int headerSize, boolean syncSafe) {
+        CharsetDetectionContext context = CharsetDetectionContext.enter();
+        int position = byteBuffer.position();
+        int end = (int) Math.min(byteBuffer.limit(), (long) position + size);
+        while (position + headerSize < end) {
+            StringBuilder id = new StringBuilder(idSize);
+            for (int i = 0; i < idSize; i++) {
+                char c = (char) byteBuffer.get(position + i);
+                if ((c < 'A' || c > 'Z') && (c < '0' || c > '9')) {
+                    break;
+                }
+                id.append(c);
+            }
+            if (id.length() != idSize) {
+                //Padding or not a frame
+                break;
+            }
+            int frameSize = 0;
+            for (int i = 0; i < idSize; i++) {
+                int b = byteBuffer.get(position + idSize + i) & 0xFF;
+                frameSize = syncSafe ? (frameSize << 7) | (b & 0x7F) : (frameSize << 8) | b;
+            }
+            int bodyStart = position + headerSize;
+            if (frameSize <= 0 || frameSize > end - bodyStart) {
+                break;
+            }
+
+            String frameId = id.toString();
+            boolean comment = frameId.equals("COMM") || frameId.equals("USLT") || frameId.equals("COM") || frameId.equals("ULT");
+            //Format flags, such as compression, change how the body is stored
+            boolean plain = headerSize == idSize * 2 || byteBuffer.get(position + idSize * 2 + 1) == 0;
+            if (plain && (frameId.startsWith("T") || comment) && byteBuffer.get(bodyStart) == TextEncoding.ISO_8859_1) {
+                //Comment and lyrics frames have a language before the text
+                int textStart = bodyStart + 1 + (comment ? 3 : 0);
+                int textLength = bodyStart + frameSize - textStart;
+                if (textLength > 0) {
+                    byte[] text = new byte[textLength];
+                    ByteBuffer frame = byteBuffer.duplicate();
+                    frame.position(textStart);
+                    frame.get(text);
+                    context.handleData(text, 0, textLength);
+                }
+            }
+            position = bodyStart + frameSize;
+        }
+        return context;
+    }
+
     /**
      * Add frame to the frame map
      *
@@ -1443,16 +1551,22 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
                 if (o instanceof ArrayList) {
                     ArrayList<AbstractID3v2Frame> multiValues = (ArrayList<AbstractID3v2Frame>) o;
                     multiValues.add(next);
-                    logger.finer("Adding Multi Frame(1)" + frameId);
+                    if (logger.isLoggable(Level.FINER)) {
+                        logger.finer("Adding Multi Frame(1)" + frameId);
+                    }
                 } else {
                     ArrayList<AbstractID3v2Frame> multiValues = new ArrayList<AbstractID3v2Frame>();
                     multiValues.add((AbstractID3v2Frame) o);
                     multiValues.add(next);
                     map.put(frameId, multiValues);
-                    logger.finer("Adding Multi Frame(2)" + frameId);
+                    if (logger.isLoggable(Level.FINER)) {
+                        logger.finer("Adding Multi Frame(2)" + frameId);
+                    }
                 }
             } else {
-                logger.finer("Adding Multi FrameList(3)" + frameId);
+                if (logger.isLoggable(Level.FINER)) {
+                    logger.finer("Adding Multi FrameList(3)" + frameId);
+                }
                 map.put(frameId, next);
             }
         }
@@ -1466,7 +1580,9 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
             this.duplicateFrameId += frameId;
             this.duplicateBytes += ((AbstractID3v2Frame) frameMap.get(frameId)).getSize();
         } else {
-            logger.finer("Adding Frame" + frameId);
+            if (logger.isLoggable(Level.FINER)) {
+                logger.finer("Adding Frame" + frameId);
+            }
             map.put(frameId, next);
         }
     }
@@ -2335,6 +2451,52 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag {
 
     protected abstract FrameAndSubId getFrameAndSubIdFromGenericKey(FieldKey genericKey);
 
+    /**
+     * Replace the image data held in the artwork frames with the position of the image data within the file so it
+     * is not kept in memory, the image data is read from the file again when it is needed.
+     * <p/>
+     * Only frames whose body was read directly from the file can be replaced, frames that were unsynchronised,
+     * compressed or encrypted keep their image data. The image data has already been read by the time this is
+     * called, so this only releases it.
+     *
+     * @param source the file this tag was read from, the tag must have been read from the start of the file
+     */
+    public void setImageDataReferences(ImageDataReference.Source source) {
+        if (isFrameDataUnsynchronized()) {
+            return;
+        }
+
+        for (TagField field : getFields(FieldKey.COVER_ART)) {
+            AbstractID3v2Frame frame = (AbstractID3v2Frame) field;
+            if (frame.getBodyOffset() < 0) {
+                continue;
+            }
+
+            //The image data is always the last field of the frame body
+            AbstractTagFrameBody body = frame.getBody();
+            if (body instanceof FrameBodyAPIC) {
+                FrameBodyAPIC coverArt = (FrameBodyAPIC) body;
+                byte[] imageData = coverArt.getImageData();
+                if (!coverArt.isImageUrl() && imageData != null) {
+                    coverArt.setImageDataReference(new ImageDataReference(source, frame.getBodyOffset() + body.getSize() - imageData.length, imageData.length));
+                }
+            } else if (body instanceof FrameBodyPIC) {
+                FrameBodyPIC coverArt = (FrameBodyPIC) body;
+                byte[] imageData = coverArt.getImageData();
+                if (!coverArt.isImageUrl() && imageData != null) {
+                    coverArt.setImageDataReference(new ImageDataReference(source, frame.getBodyOffset() + body.getSize() - imageData.length, imageData.length));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true if the whole tag was unsynchronized when read, so frame bodies were not read directly from the file
+     */
+    protected boolean isFrameDataUnsynchronized() {
+        return false;
+    }
+
     /**
      * Get field(s) for this generic key
      * <p/>
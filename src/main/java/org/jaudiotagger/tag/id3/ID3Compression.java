@@ -29,7 +29,9 @@ public class ID3Compression {
      * @throws org.jaudiotagger.tag.InvalidFrameException
      */
     protected static ByteBuffer uncompress(String identifier, String filename, ByteBuffer byteBuffer, int decompressedFrameSize, int realFrameSize) throws InvalidFrameException {
-        logger.config(filename + ":About to decompress " + realFrameSize + " bytes, expect result to be:" + decompressedFrameSize + " bytes");
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(filename + ":About to decompress " + realFrameSize + " bytes, expect result to be:" + decompressedFrameSize + " bytes");
+        }
         // Decompress the bytes into this buffer, size initialized from header field
         byte[] result = new byte[decompressedFrameSize];
         byte[] input = new byte[realFrameSize];
@@ -44,7 +46,9 @@ public class ID3Compression {
         decompresser.setInput(input);
         try {
             int inflatedTo = decompresser.inflate(result);
-            logger.config(filename + ":Decompressed to " + inflatedTo + " bytes");
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(filename + ":Decompressed to " + inflatedTo + " bytes");
+            }
         } catch (DataFormatException dfe) {
             logger.log(Level.CONFIG, "Unable to decompress this frame:" + identifier, dfe);
 
@@ -0,0 +1,278 @@
+/*
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+package org.jaudiotagger.tag.id3;
+
+import org.jaudiotagger.tag.InvalidTagException;
+import org.jaudiotagger.tag.id3.framebody.*;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps frame body identifiers directly to the frame body constructors
+ * <p>
+ * Frame bodies used to be created by looking up the class <code>FrameBody + identifier</code> by reflection for
+ * every frame read, these tables are used instead. Identifiers not in the tables still go through reflection.
+ * <p>
+ * The tables hold every <code>FrameBody</code> class with the matching constructor, keep them up to date when
+ * adding a new frame body.
+ */
+public class ID3FrameBodies {
+    /**
+     * Creates a frame body from the data read from file
+     */
+    public interface BodyReader {
+        AbstractID3v2FrameBody read(ByteBuffer byteBuffer, int frameSize) throws InvalidTagException;
+    }
+
+    /**
+     * Creates an empty frame body
+     */
+    public interface BodyCreator {
+        AbstractID3v2FrameBody create();
+    }
+
+    private static final Map<String, BodyReader> readers = new HashMap<String, BodyReader>();
+
+    private static final Map<String, BodyCreator> creators = new HashMap<String, BodyCreator>();
+
+    static {
+        readers.put("AENC", FrameBodyAENC::new);
+        readers.put("APIC", FrameBodyAPIC::new);
+        readers.put("ASPI", FrameBodyASPI::new);
+        readers.put("CHAP", FrameBodyCHAP::new);
+        readers.put("COMM", FrameBodyCOMM::new);
+        readers.put("COMR", FrameBodyCOMR::new);
+        readers.put("CRM", FrameBodyCRM::new);
+        readers.put("CTOC", FrameBodyCTOC::new);
+        readers.put("ENCR", FrameBodyENCR::new);
+        readers.put("EQU2", FrameBodyEQU2::new);
+        readers.put("ETCO", FrameBodyETCO::new);
+        readers.put("GEOB", FrameBodyGEOB::new);
+        readers.put("GRID", FrameBodyGRID::new);
+        readers.put("GRP1", FrameBodyGRP1::new);
+        readers.put("IPLS", FrameBodyIPLS::new);
+        readers.put("LINK", FrameBodyLINK::new);
+        readers.put("MCDI", FrameBodyMCDI::new);
+        readers.put("MVIN", FrameBodyMVIN::new);
+        readers.put("MVNM", FrameBodyMVNM::new);
+        readers.put("OWNE", FrameBodyOWNE::new);
+        readers.put("PCNT", FrameBodyPCNT::new);
+        readers.put("PIC", FrameBodyPIC::new);
+        readers.put("POPM", FrameBodyPOPM::new);
+        readers.put("POSS", FrameBodyPOSS::new);
+        readers.put("PRIV", FrameBodyPRIV::new);
+        readers.put("RBUF", FrameBodyRBUF::new);
+        readers.put("RVA2", FrameBodyRVA2::new);
+        readers.put("RVAD", FrameBodyRVAD::new);
+        readers.put("RVRB", FrameBodyRVRB::new);
+        readers.put("SEEK", FrameBodySEEK::new);
+        readers.put("SIGN", FrameBodySIGN::new);
+        readers.put("SYLT", FrameBodySYLT::new);
+        readers.put("SYTC", FrameBodySYTC::new);
+        readers.put("TALB", FrameBodyTALB::new);
+        readers.put("TBPM", FrameBodyTBPM::new);
+        readers.put("TCMP", FrameBodyTCMP::new);
+        readers.put("TCOM", FrameBodyTCOM::new);
+        readers.put("TCON", FrameBodyTCON::new);
+        readers.put("TCOP", FrameBodyTCOP::new);
+        readers.put("TDAT", FrameBodyTDAT::new);
+        readers.put("TDEN", FrameBodyTDEN::new);
+        readers.put("TDLY", FrameBodyTDLY::new);
+        readers.put("TDOR", FrameBodyTDOR::new);
+        readers.put("TDRC", FrameBodyTDRC::new);
+        readers.put("TDRL", FrameBodyTDRL::new);
+        readers.put("TDTG", FrameBodyTDTG::new);
+        readers.put("TENC", FrameBodyTENC::new);
+        readers.put("TEXT", FrameBodyTEXT::new);
+        readers.put("TFLT", FrameBodyTFLT::new);
+        readers.put("TIME", FrameBodyTIME::new);
+        readers.put("TIPL", FrameBodyTIPL::new);
+        readers.put("TIT1", FrameBodyTIT1::new);
+        readers.put("TIT2", FrameBodyTIT2::new);
+        readers.put("TIT3", FrameBodyTIT3::new);
+        readers.put("TKEY", FrameBodyTKEY::new);
+        readers.put("TLAN", FrameBodyTLAN::new);
+        readers.put("TLEN", FrameBodyTLEN::new);
+        readers.put("TMCL", FrameBodyTMCL::new);
+        readers.put("TMED", FrameBodyTMED::new);
+        readers.put("TMOO", FrameBodyTMOO::new);
+        readers.put("TOAL", FrameBodyTOAL::new);
+        readers.put("TOFN", FrameBodyTOFN::new);
+        readers.put("TOLY", FrameBodyTOLY::new);
+        readers.put("TOPE", FrameBodyTOPE::new);
+        readers.put("TORY", FrameBodyTORY::new);
+        readers.put("TOWN", FrameBodyTOWN::new);
+        readers.put("TPE1", FrameBodyTPE1::new);
+        readers.put("TPE2", FrameBodyTPE2::new);
+        readers.put("TPE3", FrameBodyTPE3::new);
+        readers.put("TPE4", FrameBodyTPE4::new);
+        readers.put("TPOS", FrameBodyTPOS::new);
+        readers.put("TPRO", FrameBodyTPRO::new);
+        readers.put("TPUB", FrameBodyTPUB::new);
+        readers.put("TRCK", FrameBodyTRCK::new);
+        readers.put("TRDA", FrameBodyTRDA::new);
+        readers.put("TRSN", FrameBodyTRSN::new);
+        readers.put("TRSO", FrameBodyTRSO::new);
+        readers.put("TSIZ", FrameBodyTSIZ::new);
+        readers.put("TSO2", FrameBodyTSO2::new);
+        readers.put("TSOA", FrameBodyTSOA::new);
+        readers.put("TSOC", FrameBodyTSOC::new);
+        readers.put("TSOP", FrameBodyTSOP::new);
+        readers.put("TSOT", FrameBodyTSOT::new);
+        readers.put("TSRC", FrameBodyTSRC::new);
+        readers.put("TSSE", FrameBodyTSSE::new);
+        readers.put("TSST", FrameBodyTSST::new);
+        readers.put("TXXX", FrameBodyTXXX::new);
+        readers.put("TYER", FrameBodyTYER::new);
+        readers.put("UFID", FrameBodyUFID::new);
+        readers.put("USER", FrameBodyUSER::new);
+        readers.put("USLT", FrameBodyUSLT::new);
+        readers.put("WCOM", FrameBodyWCOM::new);
+        readers.put("WCOP", FrameBodyWCOP::new);
+        readers.put("WOAF", FrameBodyWOAF::new);
+        readers.put("WOAR", FrameBodyWOAR::new);
+        readers.put("WOAS", FrameBodyWOAS::new);
+        readers.put("WORS", FrameBodyWORS::new);
+        readers.put("WPAY", FrameBodyWPAY::new);
+        readers.put("WPUB", FrameBodyWPUB::new);
+        readers.put("WXXX", FrameBodyWXXX::new);
+        readers.put("XSOA", FrameBodyXSOA::new);
+        readers.put("XSOP", FrameBodyXSOP::new);
+        readers.put("XSOT", FrameBodyXSOT::new);
+
+        creators.put("AENC", FrameBodyAENC::new);
+        creators.put("APIC", FrameBodyAPIC::new);
+        creators.put("ASPI", FrameBodyASPI::new);
+        creators.put("CHAP", FrameBodyCHAP::new);
+        creators.put("COMM", FrameBodyCOMM::new);
+        creators.put("COMR", FrameBodyCOMR::new);
+        creators.put("CRM", FrameBodyCRM::new);
+        creators.put("CTOC", FrameBodyCTOC::new);
+        creators.put("ENCR", FrameBodyENCR::new);
+        creators.put("EQU2", FrameBodyEQU2::new);
+        creators.put("EQUA", FrameBodyEQUA::new);
+        creators.put("ETCO", FrameBodyETCO::new);
+        creators.put("GEOB", FrameBodyGEOB::new);
+        creators.put("GRID", FrameBodyGRID::new);
+        creators.put("GRP1", FrameBodyGRP1::new);
+        creators.put("IPLS", FrameBodyIPLS::new);
+        creators.put("LINK", FrameBodyLINK::new);
+        creators.put("MCDI", FrameBodyMCDI::new);
+        creators.put("MLLT", FrameBodyMLLT::new);
+        creators.put("MVIN", FrameBodyMVIN::new);
+        creators.put("MVNM", FrameBodyMVNM::new);
+        creators.put("OWNE", FrameBodyOWNE::new);
+        creators.put("PCNT", FrameBodyPCNT::new);
+        creators.put("PIC", FrameBodyPIC::new);
+        creators.put("POPM", FrameBodyPOPM::new);
+        creators.put("POSS", FrameBodyPOSS::new);
+        creators.put("PRIV", FrameBodyPRIV::new);
+        creators.put("RBUF", FrameBodyRBUF::new);
+        creators.put("RVA2", FrameBodyRVA2::new);
+        creators.put("RVAD", FrameBodyRVAD::new);
+        creators.put("RVRB", FrameBodyRVRB::new);
+        creators.put("SEEK", FrameBodySEEK::new);
+        creators.put("SIGN", FrameBodySIGN::new);
+        creators.put("SYLT", FrameBodySYLT::new);
+        creators.put("SYTC", FrameBodySYTC::new);
+        creators.put("TALB", FrameBodyTALB::new);
+        creators.put("TBPM", FrameBodyTBPM::new);
+        creators.put("TCMP", FrameBodyTCMP::new);
+        creators.put("TCOM", FrameBodyTCOM::new);
+        creators.put("TCON", FrameBodyTCON::new);
+        creators.put("TCOP", FrameBodyTCOP::new);
+        creators.put("TDAT", FrameBodyTDAT::new);
+        creators.put("TDEN", FrameBodyTDEN::new);
+        creators.put("TDLY", FrameBodyTDLY::new);
+        creators.put("TDOR", FrameBodyTDOR::new);
+        creators.put("TDRC", FrameBodyTDRC::new);
+        creators.put("TDRL", FrameBodyTDRL::new);
+        creators.put("TDTG", FrameBodyTDTG::new);
+        creators.put("TENC", FrameBodyTENC::new);
+        creators.put("TEXT", FrameBodyTEXT::new);
+        creators.put("TFLT", FrameBodyTFLT::new);
+        creators.put("TIME", FrameBodyTIME::new);
+        creators.put("TIPL", FrameBodyTIPL::new);
+        creators.put("TIT1", FrameBodyTIT1::new);
+        creators.put("TIT2", FrameBodyTIT2::new);
+        creators.put("TIT3", FrameBodyTIT3::new);
+        creators.put("TKEY", FrameBodyTKEY::new);
+        creators.put("TLAN", FrameBodyTLAN::new);
+        creators.put("TLEN", FrameBodyTLEN::new);
+        creators.put("TMCL", FrameBodyTMCL::new);
+        creators.put("TMED", FrameBodyTMED::new);
+        creators.put("TMOO", FrameBodyTMOO::new);
+        creators.put("TOAL", FrameBodyTOAL::new);
+        creators.put("TOFN", FrameBodyTOFN::new);
+        creators.put("TOLY", FrameBodyTOLY::new);
+        creators.put("TOPE", FrameBodyTOPE::new);
+        creators.put("TORY", FrameBodyTORY::new);
+        creators.put("TOWN", FrameBodyTOWN::new);
+        creators.put("TPE1", FrameBodyTPE1::new);
+        creators.put("TPE2", FrameBodyTPE2::new);
+        creators.put("TPE3", FrameBodyTPE3::new);
+        creators.put("TPE4", FrameBodyTPE4::new);
+        creators.put("TPOS", FrameBodyTPOS::new);
+        creators.put("TPRO", FrameBodyTPRO::new);
+        creators.put("TPUB", FrameBodyTPUB::new);
+        creators.put("TRCK", FrameBodyTRCK::new);
+        creators.put("TRDA", FrameBodyTRDA::new);
+        creators.put("TRSN", FrameBodyTRSN::new);
+        creators.put("TRSO", FrameBodyTRSO::new);
+        creators.put("TSIZ", FrameBodyTSIZ::new);
+        creators.put("TSO2", FrameBodyTSO2::new);
+        creators.put("TSOA", FrameBodyTSOA::new);
+        creators.put("TSOC", FrameBodyTSOC::new);
+        creators.put("TSOP", FrameBodyTSOP::new);
+        creators.put("TSOT", FrameBodyTSOT::new);
+        creators.put("TSRC", FrameBodyTSRC::new);
+        creators.put("TSSE", FrameBodyTSSE::new);
+        creators.put("TSST", FrameBodyTSST::new);
+        creators.put("TXXX", FrameBodyTXXX::new);
+        creators.put("TYER", FrameBodyTYER::new);
+        creators.put("UFID", FrameBodyUFID::new);
+        creators.put("USER", FrameBodyUSER::new);
+        creators.put("USLT", FrameBodyUSLT::new);
+        creators.put("WCOM", FrameBodyWCOM::new);
+        creators.put("WCOP", FrameBodyWCOP::new);
+        creators.put("WOAF", FrameBodyWOAF::new);
+        creators.put("WOAR", FrameBodyWOAR::new);
+        creators.put("WOAS", FrameBodyWOAS::new);
+        creators.put("WORS", FrameBodyWORS::new);
+        creators.put("WPAY", FrameBodyWPAY::new);
+        creators.put("WPUB", FrameBodyWPUB::new);
+        creators.put("WXXX", FrameBodyWXXX::new);
+        creators.put("XSOA", FrameBodyXSOA::new);
+        creators.put("XSOP", FrameBodyXSOP::new);
+        creators.put("XSOT", FrameBodyXSOT::new);
+    }
+
+    /**
+     * @param identifier frame body identifier
+     * @return the reader for this identifier or null if the frame body has to be created by reflection
+     */
+    public static BodyReader getBodyReader(String identifier) {
+        return readers.get(identifier);
+    }
+
+    /**
+     * @param identifier frame body identifier
+     * @return the creator for this identifier or null if the frame body has to be created by reflection
+     */
+    public static BodyCreator getBodyCreator(String identifier) {
+        return creators.get(identifier);
+    }
+}
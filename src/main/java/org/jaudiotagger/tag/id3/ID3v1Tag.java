@@ -35,6 +35,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.util.*;
+import java.util.logging.Level;
 import java.util.regex.Matcher;
 
 /**
@@ -778,7 +779,9 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag {
         if (!seek(byteBuffer)) {
             throw new TagNotFoundException(getLoggingFilename() + ":" + "ID3v1 tag not found");
         }
-        logger.finer(getLoggingFilename() + ":" + "Reading v1 tag");
+        if (logger.isLoggable(Level.FINER)) {
+            logger.finer(getLoggingFilename() + ":" + "Reading v1 tag");
+        }
         //Do single file read of data to cut down on file reads
         byte[] dataBuffer = new byte[TAG_LENGTH];
         byteBuffer.position(0);
@@ -809,10 +812,14 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag {
 
         album = new String(dataBuffer, FIELD_ALBUM_POS, FIELD_ALBUM_LENGTH, detectedCharset).trim();
         m = AbstractID3v1Tag.endofStringPattern.matcher(album);
-        logger.finest(getLoggingFilename() + ":" + "Orig Album is:" + comment + ":");
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest(getLoggingFilename() + ":" + "Orig Album is:" + comment + ":");
+        }
         if (m.find()) {
             album = album.substring(0, m.start());
-            logger.finest(getLoggingFilename() + ":" + "Album is:" + album + ":");
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.finest(getLoggingFilename() + ":" + "Album is:" + album + ":");
+            }
         }
         year = new String(dataBuffer, FIELD_YEAR_POS, FIELD_YEAR_LENGTH, Charset.forName("ISO-8859-1")).trim();
         m = AbstractID3v1Tag.endofStringPattern.matcher(year);
@@ -822,10 +829,14 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag {
 
         comment = new String(dataBuffer, FIELD_COMMENT_POS, FIELD_COMMENT_LENGTH, detectedCharset).trim();
         m = AbstractID3v1Tag.endofStringPattern.matcher(comment);
-        logger.finest(getLoggingFilename() + ":" + "Orig Comment is:" + comment + ":");
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest(getLoggingFilename() + ":" + "Orig Comment is:" + comment + ":");
+        }
         if (m.find()) {
             comment = comment.substring(0, m.start());
-            logger.finest(getLoggingFilename() + ":" + "Comment is:" + comment + ":");
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.finest(getLoggingFilename() + ":" + "Comment is:" + comment + ":");
+            }
         }
         genre = dataBuffer[FIELD_GENRE_POS];
 
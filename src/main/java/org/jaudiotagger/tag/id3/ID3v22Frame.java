@@ -111,7 +111,9 @@ public class ID3v22Frame extends AbstractID3v2Frame {
     @SuppressWarnings("unchecked")
     public ID3v22Frame(String identifier) {
 
-        logger.config("Creating empty frame of type" + identifier);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Creating empty frame of type" + identifier);
+        }
         String bodyIdentifier = identifier;
         this.identifier = identifier;
 
@@ -137,11 +139,16 @@ public class ID3v22Frame extends AbstractID3v2Frame {
             }
         }
 
-        // Use reflection to map id to frame body, which makes things much easier
-        // to keep things up to date.
+        // Use the frame body tables to map id to frame body, falling back to reflection for
+        // any id not in the tables.
         try {
-            Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + bodyIdentifier);
-            frameBody = c.newInstance();
+            ID3FrameBodies.BodyCreator bodyCreator = ID3FrameBodies.getBodyCreator(bodyIdentifier);
+            if (bodyCreator != null) {
+                frameBody = bodyCreator.create();
+            } else {
+                Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + bodyIdentifier);
+                frameBody = c.newInstance();
+            }
         } catch (ClassNotFoundException cnfe) {
             logger.log(Level.SEVERE, cnfe.getMessage(), cnfe);
             frameBody = new FrameBodyUnsupported(identifier);
@@ -157,7 +164,9 @@ public class ID3v22Frame extends AbstractID3v2Frame {
             throw new RuntimeException(iae);
         }
         frameBody.setHeader(this);
-        logger.config("Created empty frame of type" + this.identifier + "with frame body of" + bodyIdentifier);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Created empty frame of type" + this.identifier + "with frame body of" + bodyIdentifier);
+        }
 
     }
 
@@ -176,14 +185,18 @@ public class ID3v22Frame extends AbstractID3v2Frame {
     private void createV22FrameFromV23Frame(ID3v23Frame frame) throws InvalidFrameException {
         identifier = ID3Tags.convertFrameID23To22(frame.getIdentifier());
         if (identifier != null) {
-            logger.config("V2:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config("V2:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            }
             this.frameBody = (AbstractID3v2FrameBody) ID3Tags.copyObject(frame.getBody());
         }
         // Is it a known v3 frame which needs forcing to v2 frame e.g. APIC - PIC
         else if (ID3Tags.isID3v23FrameIdentifier(frame.getIdentifier())) {
             identifier = ID3Tags.forceFrameID23To22(frame.getIdentifier());
             if (identifier != null) {
-                logger.config("V2:Force:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config("V2:Force:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
                 this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
             }
             // No mechanism exists to convert it to a v22 frame
@@ -197,20 +210,26 @@ public class ID3v22Frame extends AbstractID3v2Frame {
             if (ID3Tags.isID3v22FrameIdentifier(frame.getIdentifier())) {
                 this.frameBody = frame.getBody();
                 identifier = frame.getIdentifier();
-                logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
             }
             //or was it still deprecated, if so leave as is
             else {
                 this.frameBody = new FrameBodyDeprecated((FrameBodyDeprecated) frame.getBody());
                 identifier = frame.getIdentifier();
-                logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
             }
         }
         // Unknown Frame e.g NCON
         else {
             this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
             identifier = frame.getIdentifier();
-            logger.config("v2:UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config("v2:UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            }
         }
     }
 
@@ -291,7 +310,9 @@ public class ID3v22Frame extends AbstractID3v2Frame {
 
         // Is this a valid identifier?
         if (!isValidID3v2FrameIdentifier(identifier)) {
-            logger.config("Invalid identifier:" + identifier);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config("Invalid identifier:" + identifier);
+            }
             byteBuffer.position(byteBuffer.position() - (getFrameIdSize() - 1));
             throw new InvalidFrameIdentifierException(getLoggingFilename() + ":" + identifier + ":is not a valid ID3v2.20 frame");
         }
@@ -308,7 +329,9 @@ public class ID3v22Frame extends AbstractID3v2Frame {
             logger.warning("Invalid Frame size larger than size before mp3 audio:" + identifier);
             throw new InvalidFrameException(identifier + " is invalid frame");
         } else {
-            logger.fine("Frame Size Is:" + frameSize);
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("Frame Size Is:" + frameSize);
+            }
             //Convert v2.2 to v2.4 id just for reading the data
             String id = ID3Tags.convertFrameID22To24(identifier);
             if (id == null) {
@@ -326,11 +349,14 @@ public class ID3v22Frame extends AbstractID3v2Frame {
                     }
                 }
             }
-            logger.fine("Identifier was:" + identifier + " reading using:" + id);
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("Identifier was:" + identifier + " reading using:" + id);
+            }
 
             //Create Buffer that only contains the body of this frame rather than the remainder of tag
             ByteBuffer frameBodyBuffer = byteBuffer.slice();
             frameBodyBuffer.limit(frameSize);
+            setBodyOffset(frameBodyBuffer);
 
             try {
                 frameBody = readBody(id, frameBodyBuffer, frameSize);
@@ -361,7 +387,9 @@ public class ID3v22Frame extends AbstractID3v2Frame {
      * Write Frame raw data
      */
     public void write(ByteArrayOutputStream tagBuffer) {
-        logger.config("Write Frame to Buffer" + getIdentifier());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Write Frame to Buffer" + getIdentifier());
+        }
         //This is where we will write header, move position to where we can
         //write body
         ByteBuffer headerBuffer = ByteBuffer.allocate(getFrameHeaderSize());
@@ -398,7 +426,9 @@ public class ID3v22Frame extends AbstractID3v2Frame {
         headerBuffer.put((byte) ((size & 0x00FF0000) >> 16));
         headerBuffer.put((byte) ((size & 0x0000FF00) >> 8));
         headerBuffer.put((byte) (size & 0x000000FF));
-        logger.fine("Frame Size Is Actual:" + size + ":Encoded bin:" + Integer.toBinaryString(size) + ":Encoded Hex" + Integer.toHexString(size));
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Frame Size Is Actual:" + size + ":Encoded bin:" + Integer.toBinaryString(size) + ":Encoded Hex" + Integer.toHexString(size));
+        }
     }
 
     /**
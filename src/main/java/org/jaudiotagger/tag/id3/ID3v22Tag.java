@@ -18,13 +18,16 @@ package org.jaudiotagger.tag.id3;
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.ParseTrace;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.id3.framebody.*;
 import org.jaudiotagger.tag.id3.valuepair.ImageFormats;
 import org.jaudiotagger.tag.images.Artwork;
 import org.jaudiotagger.tag.images.ArtworkFactory;
+import org.jaudiotagger.tag.images.StandardArtwork;
 import org.jaudiotagger.tag.reference.PictureTypes;
+import org.jaudiotagger.x.CharsetDetectionContext;
 
 import java.io.File;
 import java.io.IOException;
@@ -286,11 +289,15 @@ public class ID3v22Tag extends AbstractID3v2Tag {
         compression = (flags & MASK_V22_COMPRESSION) != 0;
 
         if (unsynchronization) {
-            logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            }
         }
 
         if (compression) {
-            logger.config(ErrorMessage.ID3_TAG_COMPRESSED.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(ErrorMessage.ID3_TAG_COMPRESSED.getMsg(getLoggingFilename()));
+            }
         }
 
         //Not allowable/Unknown Flags
@@ -323,7 +330,9 @@ public class ID3v22Tag extends AbstractID3v2Tag {
         if (!seek(byteBuffer)) {
             throw new TagNotFoundException("ID3v2.20 tag not found");
         }
-        logger.config(getLoggingFilename() + ":" + "Reading tag from file");
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(getLoggingFilename() + ":" + "Reading tag from file");
+        }
 
         //Read the flags
         readHeaderFlags(byteBuffer);
@@ -338,8 +347,15 @@ public class ID3v22Tag extends AbstractID3v2Tag {
         if (unsynchronization) {
             bufferWithoutHeader = ID3Unsynchronization.synchronize(bufferWithoutHeader);
         }
-        readFrames(bufferWithoutHeader, size);
-        logger.config(getLoggingFilename() + ":" + "Loaded Frames,there are:" + frameMap.keySet().size());
+        CharsetDetectionContext charsetContext = enterCharsetDetectionContext(bufferWithoutHeader, size, ID3v22Frame.FRAME_ID_SIZE, ID3v22Frame.FRAME_HEADER_SIZE, false);
+        try {
+            readFrames(bufferWithoutHeader, size);
+        } finally {
+            charsetContext.exit();
+        }
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(getLoggingFilename() + ":" + "Loaded Frames,there are:" + frameMap.keySet().size());
+        }
     }
 
     /**
@@ -356,7 +372,9 @@ public class ID3v22Tag extends AbstractID3v2Tag {
 
         //Read the size from the Tag Header
         this.fileReadSize = size;
-        logger.finest(getLoggingFilename() + ":" + "Start of frame body at:" + byteBuffer.position() + ",frames sizes and padding is:" + size);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest(getLoggingFilename() + ":" + "Start of frame body at:" + byteBuffer.position() + ",frames sizes and padding is:" + size);
+        }
         /* todo not done yet. Read the first Frame, there seems to be quite a
          ** common case of extra data being between the tag header and the first
          ** frame so should we allow for this when reading first frame, but not subsequent frames
@@ -365,14 +383,21 @@ public class ID3v22Tag extends AbstractID3v2Tag {
         while (byteBuffer.position() < size) {
             try {
                 //Read Frame
-                logger.finest(getLoggingFilename() + ":" + "looking for next frame at:" + byteBuffer.position());
+                if (logger.isLoggable(Level.FINEST)) {
+                    logger.finest(getLoggingFilename() + ":" + "looking for next frame at:" + byteBuffer.position());
+                }
+                int posBeforeRead = byteBuffer.position();
+                long traceStart = ParseTrace.start();
                 next = new ID3v22Frame(byteBuffer, getLoggingFilename());
                 String id = next.getIdentifier();
                 loadFrameIntoMap(id, next);
+                ParseTrace.event(ParseTrace.ID3V2_FRAME, id, TAG_HEADER_LENGTH + posBeforeRead, byteBuffer.position() - posBeforeRead, traceStart);
             }
             //Found Padding, no more frames
             catch (PaddingException ex) {
-                logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                }
                 break;
             }
             //Found Empty Frame
@@ -380,7 +405,9 @@ public class ID3v22Tag extends AbstractID3v2Tag {
                 logger.warning(getLoggingFilename() + ":" + "Empty Frame:" + ex.getMessage());
                 this.emptyFrameBytes += ID3v22Frame.FRAME_HEADER_SIZE;
             } catch (InvalidFrameIdentifierException ifie) {
-                logger.config(getLoggingFilename() + ":" + "Invalid Frame Identifier:" + ifie.getMessage());
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(getLoggingFilename() + ":" + "Invalid Frame Identifier:" + ifie.getMessage());
+                }
                 this.invalidFrames++;
                 //Dont try and find any more frames
                 break;
@@ -470,7 +497,9 @@ public class ID3v22Tag extends AbstractID3v2Tag {
     @Override
     public long write(File file, long audioStartLocation) throws IOException {
         setLoggingFilename(file.getName());
-        logger.config("Writing tag to file:" + getLoggingFilename());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Writing tag to file:" + getLoggingFilename());
+        }
 
         // Write Body Buffer
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
@@ -479,14 +508,18 @@ public class ID3v22Tag extends AbstractID3v2Tag {
         unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization()) {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            }
         }
 
         int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, (int) audioStartLocation);
         int padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
-        logger.config(getLoggingFilename() + ":Current audiostart:" + audioStartLocation);
-        logger.config(getLoggingFilename() + ":Size including padding:" + sizeIncPadding);
-        logger.config(getLoggingFilename() + ":Padding:" + padding);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(getLoggingFilename() + ":Current audiostart:" + audioStartLocation);
+            logger.config(getLoggingFilename() + ":Size including padding:" + sizeIncPadding);
+            logger.config(getLoggingFilename() + ":Padding:" + padding);
+        }
 
         ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
         writeBufferToFile(file, headerBuffer, bodyByteBuffer, padding, sizeIncPadding, audioStartLocation);
@@ -499,16 +532,22 @@ public class ID3v22Tag extends AbstractID3v2Tag {
      */
     @Override
     public void write(WritableByteChannel channel, int currentTagSize) throws IOException {
-        logger.config(getLoggingFilename() + ":Writing tag to channel");
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(getLoggingFilename() + ":Writing tag to channel");
+        }
 
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-        logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        }
 
         //Unsynchronize if option enabled and unsync required
         unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization()) {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            }
         }
 
         int padding = 0;
@@ -546,6 +585,11 @@ public class ID3v22Tag extends AbstractID3v2Tag {
         return unsynchronization;
     }
 
+    @Override
+    protected boolean isFrameDataUnsynchronized() {
+        return isUnsynchronization();
+    }
+
     /**
      * @return is tag compressed
      */
@@ -688,6 +732,8 @@ public class ID3v22Tag extends AbstractID3v2Tag {
             if (coverArt.isImageUrl()) {
                 artwork.setLinked(true);
                 artwork.setImageUrl(coverArt.getImageUrl());
+            } else if (coverArt.getImageDataReference() != null && artwork instanceof StandardArtwork) {
+                ((StandardArtwork) artwork).setImageDataReference(coverArt.getImageDataReference());
             } else {
                 artwork.setBinaryData(coverArt.getImageData());
             }
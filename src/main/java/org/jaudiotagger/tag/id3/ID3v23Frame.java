@@ -35,6 +35,7 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.logging.Level;
 
 /**
  * Represents an ID3v2.3 frame.
@@ -149,7 +150,9 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                 this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
                 this.frameBody.setHeader(this);
                 identifier = frame.getIdentifier();
-                logger.config("UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config("UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
                 return;
             }
             // Deprecated frame for v24
@@ -160,7 +163,9 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                     this.frameBody.setHeader(this);
                     this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this, this.frameBody.getTextEncoding()));
                     identifier = frame.getIdentifier();
-                    logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    if (logger.isLoggable(Level.CONFIG)) {
+                        logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    }
                 }
                 //or was it still deprecated, if so leave as is
                 else {
@@ -169,7 +174,9 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                     this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this, this.frameBody.getTextEncoding()));
 
                     identifier = frame.getIdentifier();
-                    logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    if (logger.isLoggable(Level.CONFIG)) {
+                        logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    }
                     return;
                 }
             } else if (ID3Tags.isID3v24FrameIdentifier(frame.getIdentifier())) {
@@ -177,7 +184,9 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                 //Version between v4 and v3
                 identifier = ID3Tags.convertFrameID24To23(frame.getIdentifier());
                 if (identifier != null) {
-                    logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    if (logger.isLoggable(Level.FINER)) {
+                        logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    }
                     this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(frame.getBody());
                     this.frameBody.setHeader(this);
                     this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this, this.frameBody.getTextEncoding()));
@@ -186,7 +195,9 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                     //Is it a known v4 frame which needs forcing to v3 frame e.g. TDRC - TYER,TDAT
                     identifier = ID3Tags.forceFrameID24To23(frame.getIdentifier());
                     if (identifier != null) {
-                        logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                        if (logger.isLoggable(Level.FINER)) {
+                            logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                        }
                         this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
                         this.frameBody.setHeader(this);
                         this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this, this.frameBody.getTextEncoding()));
@@ -202,7 +213,9 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                         identifier = frame.getIdentifier();
                         this.frameBody = new FrameBodyUnsupported(identifier, baos.toByteArray());
                         this.frameBody.setHeader(this);
-                        logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New Id Unsupported is:" + identifier);
+                        if (logger.isLoggable(Level.FINER)) {
+                            logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New Id Unsupported is:" + identifier);
+                        }
                         return;
                     }
                 }
@@ -216,7 +229,9 @@ public class ID3v23Frame extends AbstractID3v2Frame {
             if (ID3Tags.isID3v22FrameIdentifier(frame.getIdentifier())) {
                 identifier = ID3Tags.convertFrameID22To23(frame.getIdentifier());
                 if (identifier != null) {
-                    logger.config("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    if (logger.isLoggable(Level.CONFIG)) {
+                        logger.config("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    }
                     this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(frame.getBody());
                     this.frameBody.setHeader(this);
                     return;
@@ -226,7 +241,9 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                     //Force v2 to v3
                     identifier = ID3Tags.forceFrameID22To23(frame.getIdentifier());
                     if (identifier != null) {
-                        logger.config("V22Orig id is:" + frame.getIdentifier() + "New id is:" + identifier);
+                        if (logger.isLoggable(Level.CONFIG)) {
+                            logger.config("V22Orig id is:" + frame.getIdentifier() + "New id is:" + identifier);
+                        }
                         this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
                         this.frameBody.setHeader(this);
                         return;
@@ -236,7 +253,9 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                         this.frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frame.getBody());
                         this.frameBody.setHeader(this);
                         identifier = frame.getIdentifier();
-                        logger.config("Deprecated:V22:orig id id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                        if (logger.isLoggable(Level.CONFIG)) {
+                            logger.config("Deprecated:V22:orig id id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                        }
                         return;
                     }
                 }
@@ -246,7 +265,9 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                 this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
                 this.frameBody.setHeader(this);
                 identifier = frame.getIdentifier();
-                logger.config("UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config("UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
                 return;
             }
         }
@@ -321,7 +342,9 @@ public class ID3v23Frame extends AbstractID3v2Frame {
     public void read(ByteBuffer byteBuffer) throws InvalidFrameException, InvalidDataTypeException {
         String identifier = readIdentifier(byteBuffer);
         if (!isValidID3v2FrameIdentifier(identifier)) {
-            logger.config(getLoggingFilename() + ":Invalid identifier:" + identifier);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(getLoggingFilename() + ":Invalid identifier:" + identifier);
+            }
             byteBuffer.position(byteBuffer.position() - (getFrameIdSize() - 1));
             throw new InvalidFrameIdentifierException(getLoggingFilename() + ":" + identifier + ":is not a valid ID3v2.30 frame");
         }
@@ -362,7 +385,9 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                 id = UNSUPPORTED_ID;
             }
         }
-        logger.fine(getLoggingFilename() + ":Identifier was:" + identifier + " reading using:" + id + "with frame size:" + frameSize);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine(getLoggingFilename() + ":Identifier was:" + identifier + " reading using:" + id + "with frame size:" + frameSize);
+        }
 
         //Read extra bits appended to frame header for various encodings
         //These are not included in header size but are included in frame size but won't be read when we actually
@@ -374,7 +399,9 @@ public class ID3v23Frame extends AbstractID3v2Frame {
             //Read the Decompressed Size
             decompressedFrameSize = byteBuffer.getInt();
             extraHeaderBytesCount = FRAME_COMPRESSION_UNCOMPRESSED_SIZE;
-            logger.fine(getLoggingFilename() + ":Decompressed frame size is:" + decompressedFrameSize);
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine(getLoggingFilename() + ":Decompressed frame size is:" + decompressedFrameSize);
+            }
         }
 
         if (((EncodingFlags) encodingFlags).isEncryption()) {
@@ -425,13 +452,16 @@ public class ID3v23Frame extends AbstractID3v2Frame {
                 //Create Buffer that only contains the body of this frame rather than the remainder of tag
                 frameBodyBuffer = byteBuffer.slice();
                 frameBodyBuffer.limit(realFrameSize);
+                setBodyOffset(frameBodyBuffer);
                 frameBody = readBody(id, frameBodyBuffer, realFrameSize);
             }
             //TODO code seems to assume that if the frame created is not a v23FrameBody
             //it should be deprecated, but what about if somehow a V24Frame has been put into a V23 Tag, shouldn't
             //it then be created as FrameBodyUnsupported
             if (!(frameBody instanceof ID3v23FrameBody)) {
-                logger.config(getLoggingFilename() + ":Converted frameBody with:" + identifier + " to deprecated frameBody");
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(getLoggingFilename() + ":Converted frameBody with:" + identifier + " to deprecated frameBody");
+                }
                 frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frameBody);
             }
         } finally {
@@ -444,7 +474,9 @@ public class ID3v23Frame extends AbstractID3v2Frame {
      * Write the frame to bufferOutputStream
      */
     public void write(ByteArrayOutputStream tagBuffer) {
-        logger.config("Writing frame to buffer:" + getIdentifier());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Writing frame to buffer:" + getIdentifier());
+        }
         //This is where we will write header, move position to where we can
         //write body
         ByteBuffer headerBuffer = ByteBuffer.allocate(FRAME_HEADER_SIZE);
@@ -459,7 +491,9 @@ public class ID3v23Frame extends AbstractID3v2Frame {
         headerBuffer.put(getIdentifier().getBytes(Charset.forName("ISO-8859-1")), 0, FRAME_ID_SIZE);
         //Write Frame Size
         int size = frameBody.getSize();
-        logger.fine("Frame Size Is:" + size);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Frame Size Is:" + size);
+        }
         headerBuffer.putInt(frameBody.getSize());
 
         //Write the Flags
@@ -18,6 +18,7 @@ package org.jaudiotagger.tag.id3;
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.ParseTrace;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.datatype.Pair;
@@ -25,7 +26,9 @@ import org.jaudiotagger.tag.datatype.PairedTextEncodedStringNullTerminated;
 import org.jaudiotagger.tag.id3.framebody.*;
 import org.jaudiotagger.tag.images.Artwork;
 import org.jaudiotagger.tag.images.ArtworkFactory;
+import org.jaudiotagger.tag.images.StandardArtwork;
 import org.jaudiotagger.tag.reference.PictureTypes;
+import org.jaudiotagger.x.CharsetDetectionContext;
 
 import java.io.File;
 import java.io.IOException;
@@ -421,15 +424,21 @@ public class ID3v23Tag extends AbstractID3v2Tag {
         }
 
         if (isUnsynchronization()) {
-            logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            }
         }
 
         if (extended) {
-            logger.config(ErrorMessage.ID3_TAG_EXTENDED.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(ErrorMessage.ID3_TAG_EXTENDED.getMsg(getLoggingFilename()));
+            }
         }
 
         if (experimental) {
-            logger.config(ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(getLoggingFilename()));
+            }
         }
     }
 
@@ -456,11 +465,15 @@ public class ID3v23Tag extends AbstractID3v2Tag {
             //Take padding and ext header size off the size to be read
             paddingSize = buffer.getInt();
             if (paddingSize > 0) {
-                logger.config(ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(getLoggingFilename(), paddingSize));
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(getLoggingFilename(), paddingSize));
+                }
             }
             size = size - (paddingSize + TAG_EXT_HEADER_LENGTH);
         } else if (extendedHeaderSize == TAG_EXT_HEADER_DATA_LENGTH + TAG_EXT_HEADER_CRC_LENGTH) {
-            logger.config(ErrorMessage.ID3_TAG_CRC.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(ErrorMessage.ID3_TAG_CRC.getMsg(getLoggingFilename()));
+            }
 
             //Flag should be setField, if nor just act as if it is
             byte extFlag = buffer.get();
@@ -473,12 +486,16 @@ public class ID3v23Tag extends AbstractID3v2Tag {
             //Take padding size of size to be read
             paddingSize = buffer.getInt();
             if (paddingSize > 0) {
-                logger.config(ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(getLoggingFilename(), paddingSize));
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(getLoggingFilename(), paddingSize));
+                }
             }
             size = size - (paddingSize + TAG_EXT_HEADER_LENGTH + TAG_EXT_HEADER_CRC_LENGTH);
             //CRC Data
             crc32 = buffer.getInt();
-            logger.config(ErrorMessage.ID3_TAG_CRC_SIZE.getMsg(getLoggingFilename(), crc32));
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(ErrorMessage.ID3_TAG_CRC_SIZE.getMsg(getLoggingFilename(), crc32));
+            }
         }
         //Extended header size is only allowed to be six or ten bytes so this is invalid but instead
         //of giving up lets guess its six bytes and carry on and see if we can read file ok
@@ -497,13 +514,17 @@ public class ID3v23Tag extends AbstractID3v2Tag {
         if (!seek(buffer)) {
             throw new TagNotFoundException(getIdentifier() + " tag not found");
         }
-        logger.config(getLoggingFilename() + ":" + "Reading ID3v23 tag");
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(getLoggingFilename() + ":" + "Reading ID3v23 tag");
+        }
 
         readHeaderFlags(buffer);
 
         // Read the size, this is size of tag not including the tag header
         size = ID3SyncSafeInteger.bufferToValue(buffer);
-        logger.config(ErrorMessage.ID_TAG_SIZE.getMsg(getLoggingFilename(), size));
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(ErrorMessage.ID_TAG_SIZE.getMsg(getLoggingFilename(), size));
+        }
 
         //Extended Header
         if (extended) {
@@ -517,8 +538,15 @@ public class ID3v23Tag extends AbstractID3v2Tag {
             bufferWithoutHeader = ID3Unsynchronization.synchronize(bufferWithoutHeader);
         }
 
-        readFrames(bufferWithoutHeader, size);
-        logger.config(getLoggingFilename() + ":Loaded Frames,there are:" + frameMap.keySet().size());
+        CharsetDetectionContext charsetContext = enterCharsetDetectionContext(bufferWithoutHeader, size, ID3v23Frame.FRAME_ID_SIZE, ID3v23Frame.FRAME_HEADER_SIZE, false);
+        try {
+            readFrames(bufferWithoutHeader, size);
+        } finally {
+            charsetContext.exit();
+        }
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(getLoggingFilename() + ":Loaded Frames,there are:" + frameMap.keySet().size());
+        }
 
     }
 
@@ -540,7 +568,9 @@ public class ID3v23Tag extends AbstractID3v2Tag {
 
         //Read the size from the Tag Header
         this.fileReadSize = size;
-        logger.finest(getLoggingFilename() + ":Start of frame body at:" + byteBuffer.position() + ",frames data size is:" + size);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest(getLoggingFilename() + ":Start of frame body at:" + byteBuffer.position() + ",frames data size is:" + size);
+        }
 
         // Read the frames until got to up to the size as specified in header or until
         // we hit an invalid frame identifier or padding
@@ -549,15 +579,23 @@ public class ID3v23Tag extends AbstractID3v2Tag {
             try {
                 //Read Frame
                 int posBeforeRead = byteBuffer.position();
-                logger.config(getLoggingFilename() + ":Looking for next frame at:" + posBeforeRead);
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(getLoggingFilename() + ":Looking for next frame at:" + posBeforeRead);
+                }
+                long traceStart = ParseTrace.start();
                 next = new ID3v23Frame(byteBuffer, getLoggingFilename());
                 id = next.getIdentifier();
-                logger.config(getLoggingFilename() + ":Found " + id + " at frame at:" + posBeforeRead);
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(getLoggingFilename() + ":Found " + id + " at frame at:" + posBeforeRead);
+                }
                 loadFrameIntoMap(id, next);
+                ParseTrace.event(ParseTrace.ID3V2_FRAME, id, TAG_HEADER_LENGTH + posBeforeRead, byteBuffer.position() - posBeforeRead, traceStart);
             }
             //Found Padding, no more frames
             catch (PaddingException ex) {
-                logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                }
                 break;
             }
             //Found Empty Frame, log it - empty frames should not exist
@@ -684,24 +722,32 @@ public class ID3v23Tag extends AbstractID3v2Tag {
      */
     public long write(File file, long audioStartLocation) throws IOException {
         setLoggingFilename(file.getName());
-        logger.config("Writing tag to file:" + getLoggingFilename());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Writing tag to file:" + getLoggingFilename());
+        }
 
         //Write Body Buffer
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-        logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        }
 
         // Unsynchronize if option enabled and unsync required
         unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization()) {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            }
         }
 
         int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, (int) audioStartLocation);
         int padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
-        logger.config(getLoggingFilename() + ":Current audiostart:" + audioStartLocation);
-        logger.config(getLoggingFilename() + ":Size including padding:" + sizeIncPadding);
-        logger.config(getLoggingFilename() + ":Padding:" + padding);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(getLoggingFilename() + ":Current audiostart:" + audioStartLocation);
+            logger.config(getLoggingFilename() + ":Size including padding:" + sizeIncPadding);
+            logger.config(getLoggingFilename() + ":Padding:" + padding);
+        }
 
         ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
         writeBufferToFile(file, headerBuffer, bodyByteBuffer, padding, sizeIncPadding, audioStartLocation);
@@ -713,23 +759,31 @@ public class ID3v23Tag extends AbstractID3v2Tag {
      */
     @Override
     public void write(WritableByteChannel channel, int currentTagSize) throws IOException {
-        logger.config(getLoggingFilename() + ":Writing tag to channel");
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(getLoggingFilename() + ":Writing tag to channel");
+        }
 
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-        logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        }
 
         // Unsynchronize if option enabled and unsync required
         unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization()) {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            }
         }
 
         int padding = 0;
         if (currentTagSize > 0) {
             int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, currentTagSize);
             padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
-            logger.config(getLoggingFilename() + ":Padding:" + padding);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(getLoggingFilename() + ":Padding:" + padding);
+            }
         }
         ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
 
@@ -768,6 +822,11 @@ public class ID3v23Tag extends AbstractID3v2Tag {
         return unsynchronization;
     }
 
+    @Override
+    protected boolean isFrameDataUnsynchronized() {
+        return isUnsynchronization();
+    }
+
     public ID3v23Frame createFrame(String id) {
         return new ID3v23Frame(id);
     }
@@ -873,6 +932,8 @@ public class ID3v23Tag extends AbstractID3v2Tag {
             if (coverArt.isImageUrl()) {
                 artwork.setLinked(true);
                 artwork.setImageUrl(coverArt.getImageUrl());
+            } else if (coverArt.getImageDataReference() != null && artwork instanceof StandardArtwork) {
+                ((StandardArtwork) artwork).setImageDataReference(coverArt.getImageDataReference());
             } else {
                 artwork.setBinaryData(coverArt.getImageData());
             }
@@ -33,6 +33,7 @@ import java.nio.charset.Charset;
 import java.util.Iterator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.logging.Level;
 
 /**
  * Represents an ID3v2.4 frame.
@@ -114,7 +115,9 @@ public class ID3v24Frame extends AbstractID3v2Frame {
     private void createV24FrameFromV23Frame(ID3v23Frame frame) throws InvalidFrameException {
         // Is it a straight conversion e.g TALB - TALB
         identifier = ID3Tags.convertFrameID23To24(frame.getIdentifier());
-        logger.finer("Creating V24frame from v23:" + frame.getIdentifier() + ":" + identifier);
+        if (logger.isLoggable(Level.FINER)) {
+            logger.finer("Creating V24frame from v23:" + frame.getIdentifier() + ":" + identifier);
+        }
 
 
         //We cant convert unsupported bodies properly
@@ -122,7 +125,9 @@ public class ID3v24Frame extends AbstractID3v2Frame {
             this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
             this.frameBody.setHeader(this);
             identifier = frame.getIdentifier();
-            logger.finer("V3:UnsupportedBody:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            if (logger.isLoggable(Level.FINER)) {
+                logger.finer("V3:UnsupportedBody:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            }
         }//Simple Copy
         else if (identifier != null) {
             //Special Case
@@ -131,7 +136,9 @@ public class ID3v24Frame extends AbstractID3v2Frame {
                 this.frameBody.setHeader(this);
                 identifier = frameBody.getIdentifier();
             } else {
-                logger.finer("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (logger.isLoggable(Level.FINER)) {
+                    logger.finer("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
                 this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(frame.getBody());
                 this.frameBody.setHeader(this);
             }
@@ -140,7 +147,9 @@ public class ID3v24Frame extends AbstractID3v2Frame {
         else if (ID3Tags.isID3v23FrameIdentifier(frame.getIdentifier())) {
             identifier = ID3Tags.forceFrameID23To24(frame.getIdentifier());
             if (identifier != null) {
-                logger.config("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
                 this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
                 this.frameBody.setHeader(this);
             }
@@ -150,7 +159,9 @@ public class ID3v24Frame extends AbstractID3v2Frame {
                 this.frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frame.getBody());
                 this.frameBody.setHeader(this);
                 identifier = frame.getIdentifier();
-                logger.finer("V3:Deprecated:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                if (logger.isLoggable(Level.FINER)) {
+                    logger.finer("V3:Deprecated:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                }
             }
         }
         // Unknown Frame e.g NCON or TDRL (because TDRL unknown to V23)
@@ -158,7 +169,9 @@ public class ID3v24Frame extends AbstractID3v2Frame {
             this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
             this.frameBody.setHeader(this);
             identifier = frame.getIdentifier();
-            logger.finer("V3:Unknown:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            if (logger.isLoggable(Level.FINER)) {
+                logger.finer("V3:Unknown:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            }
         }
     }
 
@@ -486,7 +499,9 @@ public class ID3v24Frame extends AbstractID3v2Frame {
         if (!isValidID3v2FrameIdentifier(identifier)) {
             //If not valid move file pointer back to one byte after
             //the original check so can try again.
-            logger.config(getLoggingFilename() + ":" + "Invalid identifier:" + identifier);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(getLoggingFilename() + ":" + "Invalid identifier:" + identifier);
+            }
             byteBuffer.position(byteBuffer.position() - (getFrameIdSize() - 1));
             throw new InvalidFrameIdentifierException(getLoggingFilename() + ":" + identifier + ":is not a valid ID3v2.30 frame");
         }
@@ -518,7 +533,9 @@ public class ID3v24Frame extends AbstractID3v2Frame {
             //Read the sync safe size field
             dataLengthSize = ID3SyncSafeInteger.bufferToValue(byteBuffer);
             extraHeaderBytesCount += FRAME_DATA_LENGTH_SIZE;
-            logger.config(getLoggingFilename() + ":" + "Frame Size Is:" + frameSize + " Data Length Size:" + dataLengthSize);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(getLoggingFilename() + ":" + "Frame Size Is:" + frameSize + " Data Length Size:" + dataLengthSize);
+            }
         }
 
         //Work out the real size of the frameBody data
@@ -538,7 +555,9 @@ public class ID3v24Frame extends AbstractID3v2Frame {
             //bytes to be dropped so the existing buffer is large enough to hold the modifications
             frameBodyBuffer = ID3Unsynchronization.synchronize(frameBodyBuffer);
             syncSize = frameBodyBuffer.limit();
-            logger.config(getLoggingFilename() + ":" + "Frame Size After Syncing is:" + syncSize);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(getLoggingFilename() + ":" + "Frame Size After Syncing is:" + syncSize);
+            }
         }
 
         //Read the body data
@@ -555,10 +574,15 @@ public class ID3v24Frame extends AbstractID3v2Frame {
                 frameBodyBuffer.limit(realFrameSize);
                 frameBody = readEncryptedBody(identifier, byteBuffer, frameSize);
             } else {
+                if (!((EncodingFlags) encodingFlags).isUnsynchronised()) {
+                    setBodyOffset(frameBodyBuffer);
+                }
                 frameBody = readBody(identifier, frameBodyBuffer, syncSize);
             }
             if (!(frameBody instanceof ID3v24FrameBody)) {
-                logger.config(getLoggingFilename() + ":" + "Converted frame body with:" + identifier + " to deprecated framebody");
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(getLoggingFilename() + ":" + "Converted frame body with:" + identifier + " to deprecated framebody");
+                }
                 frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frameBody);
             }
         } finally {
@@ -574,7 +598,9 @@ public class ID3v24Frame extends AbstractID3v2Frame {
     public void write(ByteArrayOutputStream tagBuffer) {
         boolean unsynchronization;
 
-        logger.config("Writing frame to file:" + getIdentifier());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Writing frame to file:" + getIdentifier());
+        }
 
         //This is where we will write header, move position to where we can
         //write bodybuffer
@@ -589,7 +615,9 @@ public class ID3v24Frame extends AbstractID3v2Frame {
         unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyBuffer);
         if (unsynchronization) {
             bodyBuffer = ID3Unsynchronization.unsynchronize(bodyBuffer);
-            logger.config("bodybytebuffer:sizeafterunsynchronisation:" + bodyBuffer.length);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config("bodybytebuffer:sizeafterunsynchronisation:" + bodyBuffer.length);
+            }
         }
 
         //Write Frame Header
@@ -603,7 +631,9 @@ public class ID3v24Frame extends AbstractID3v2Frame {
         //Write Frame Size based on size of body buffer (if it has been unsynced then it size
         //will have increased accordingly
         int size = bodyBuffer.length;
-        logger.fine("Frame Size Is:" + size);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Frame Size Is:" + size);
+        }
         headerBuffer.put(ID3SyncSafeInteger.valueToBuffer(size));
 
         //Write the Flags
@@ -827,15 +857,21 @@ public class ID3v24Frame extends AbstractID3v2Frame {
             }
 
             if (isGrouping()) {
-                logger.config(ErrorMessage.MP3_FRAME_IS_GROUPED.getMsg(getLoggingFilename(), identifier));
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(ErrorMessage.MP3_FRAME_IS_GROUPED.getMsg(getLoggingFilename(), identifier));
+                }
             }
 
             if (isUnsynchronised()) {
-                logger.config(ErrorMessage.MP3_FRAME_IS_UNSYNCHRONISED.getMsg(getLoggingFilename(), identifier));
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(ErrorMessage.MP3_FRAME_IS_UNSYNCHRONISED.getMsg(getLoggingFilename(), identifier));
+                }
             }
 
             if (isDataLengthIndicator()) {
-                logger.config(ErrorMessage.MP3_FRAME_IS_DATA_LENGTH_INDICATOR.getMsg(getLoggingFilename(), identifier));
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(ErrorMessage.MP3_FRAME_IS_DATA_LENGTH_INDICATOR.getMsg(getLoggingFilename(), identifier));
+                }
             }
         }
 
@@ -18,6 +18,7 @@ package org.jaudiotagger.tag.id3;
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.ParseTrace;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.datatype.Pair;
@@ -26,11 +27,13 @@ import org.jaudiotagger.tag.id3.valuepair.MusicianCredits;
 import org.jaudiotagger.tag.id3.valuepair.StandardIPLSKey;
 import org.jaudiotagger.tag.images.Artwork;
 import org.jaudiotagger.tag.images.ArtworkFactory;
+import org.jaudiotagger.tag.images.StandardArtwork;
 import org.jaudiotagger.tag.lyrics3.AbstractLyrics3;
 import org.jaudiotagger.tag.lyrics3.Lyrics3v2;
 import org.jaudiotagger.tag.lyrics3.Lyrics3v2Field;
 import org.jaudiotagger.tag.reference.GenreTypes;
 import org.jaudiotagger.tag.reference.PictureTypes;
+import org.jaudiotagger.x.CharsetDetectionContext;
 
 import java.io.File;
 import java.io.IOException;
@@ -621,7 +624,9 @@ public class ID3v24Tag extends AbstractID3v2Tag {
             }
         }
         size += super.getSize();
-        logger.finer("Tag Size is" + size);
+        if (logger.isLoggable(Level.FINER)) {
+            logger.finer("Tag Size is" + size);
+        }
         return size;
     }
 
@@ -692,15 +697,21 @@ public class ID3v24Tag extends AbstractID3v2Tag {
 
 
         if (isUnsynchronization()) {
-            logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            }
         }
 
         if (extended) {
-            logger.config(ErrorMessage.ID3_TAG_EXTENDED.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(ErrorMessage.ID3_TAG_EXTENDED.getMsg(getLoggingFilename()));
+            }
         }
 
         if (experimental) {
-            logger.config(ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config(ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(getLoggingFilename()));
+            }
         }
 
         if (footer) {
@@ -779,12 +790,16 @@ public class ID3v24Tag extends AbstractID3v2Tag {
         if (!seek(byteBuffer)) {
             throw new TagNotFoundException(getLoggingFilename() + ":" + getIdentifier() + " tag not found");
         }
-        logger.config(getLoggingFilename() + ":" + "Reading ID3v24 tag");
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(getLoggingFilename() + ":" + "Reading ID3v24 tag");
+        }
         readHeaderFlags(byteBuffer);
 
         // Read the size, this is size of tag apart from tag header
         size = ID3SyncSafeInteger.bufferToValue(byteBuffer);
-        logger.config(getLoggingFilename() + ":" + "Reading tag from file size set in header is" + size);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config(getLoggingFilename() + ":" + "Reading tag from file size set in header is" + size);
+        }
 
         if (extended) {
             readExtendedHeader(byteBuffer, size);
@@ -792,7 +807,12 @@ public class ID3v24Tag extends AbstractID3v2Tag {
 
         //Note if there was an extended header the size value has padding taken
         //off so we dont search it.
-        readFrames(byteBuffer, size);
+        CharsetDetectionContext charsetContext = enterCharsetDetectionContext(byteBuffer, size, ID3v24Frame.FRAME_ID_SIZE, ID3v24Frame.FRAME_HEADER_SIZE, true);
+        try {
+            readFrames(byteBuffer, size);
+        } finally {
+            charsetContext.exit();
+        }
     }
 
     /**
@@ -802,7 +822,9 @@ public class ID3v24Tag extends AbstractID3v2Tag {
      * @param size
      */
     protected void readFrames(ByteBuffer byteBuffer, int size) {
-        logger.finest(getLoggingFilename() + ":" + "Start of frame body at" + byteBuffer.position());
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest(getLoggingFilename() + ":" + "Start of frame body at" + byteBuffer.position());
+        }
         //Now start looking for frames
         ID3v24Frame next;
         frameMap = new LinkedHashMap();
@@ -811,19 +833,28 @@ public class ID3v24Tag extends AbstractID3v2Tag {
         //Read the size from the Tag Header
         this.fileReadSize = size;
         // Read the frames until got to upto the size as specified in header
-        logger.finest(getLoggingFilename() + ":" + "Start of frame body at:" + byteBuffer.position() + ",frames data size is:" + size);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest(getLoggingFilename() + ":" + "Start of frame body at:" + byteBuffer.position() + ",frames data size is:" + size);
+        }
         while (byteBuffer.position() <= size) {
             String id;
             try {
                 //Read Frame
-                logger.finest(getLoggingFilename() + ":" + "looking for next frame at:" + byteBuffer.position());
+                if (logger.isLoggable(Level.FINEST)) {
+                    logger.finest(getLoggingFilename() + ":" + "looking for next frame at:" + byteBuffer.position());
+                }
+                int posBeforeRead = byteBuffer.position();
+                long traceStart = ParseTrace.start();
                 next = new ID3v24Frame(byteBuffer, getLoggingFilename());
                 id = next.getIdentifier();
                 loadFrameIntoMap(id, next);
+                ParseTrace.event(ParseTrace.ID3V2_FRAME, id, posBeforeRead, byteBuffer.position() - posBeforeRead, traceStart);
             }
             //Found Padding, no more frames
             catch (PaddingException ex) {
-                logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                }
                 break;
             }
             //Found Empty Frame
@@ -831,7 +862,9 @@ public class ID3v24Tag extends AbstractID3v2Tag {
                 logger.warning(getLoggingFilename() + ":" + "Empty Frame:" + ex.getMessage());
                 this.emptyFrameBytes += TAG_HEADER_LENGTH;
             } catch (InvalidFrameIdentifierException ifie) {
-                logger.config(getLoggingFilename() + ":" + "Invalid Frame Identifier:" + ifie.getMessage());
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config(getLoggingFilename() + ":" + "Invalid Frame Identifier:" + ifie.getMessage());
+                }
                 this.invalidFrames++;
                 //Don't try and find any more frames
                 break;
@@ -978,13 +1011,23 @@ public class ID3v24Tag extends AbstractID3v2Tag {
         return headerBuffer;
     }
 
+    /**
+     * Frames are unsynchronized individually as they are written, so the body is never unsynchronized as a whole
+     */
+    @Override
+    protected int getBodySizeWhenWritten() throws IOException {
+        return writeFramesToBuffer().size();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public long write(File file, long audioStartLocation) throws IOException {
         setLoggingFilename(file.getName());
-        logger.config("Writing tag to file:" + getLoggingFilename());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Writing tag to file:" + getLoggingFilename());
+        }
 
         //Write Body Buffer
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
@@ -1174,6 +1217,8 @@ public class ID3v24Tag extends AbstractID3v2Tag {
             if (coverArt.isImageUrl()) {
                 artwork.setLinked(true);
                 artwork.setImageUrl(coverArt.getImageUrl());
+            } else if (coverArt.getImageDataReference() != null && artwork instanceof StandardArtwork) {
+                ((StandardArtwork) artwork).setImageDataReference(coverArt.getImageDataReference());
             } else {
                 artwork.setBinaryData(coverArt.getImageData());
             }
@@ -33,6 +33,7 @@ import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.logging.Level;
 
 /**
  * Contains the content for an ID3v2 frame, (the header is held directly within the frame
@@ -138,7 +139,9 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody {
     //and providing extra work for the garbage collector.
     public void read(ByteBuffer byteBuffer) throws InvalidTagException {
         int size = getSize();
-        logger.config("Reading body for" + this.getIdentifier() + ":" + size);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Reading body for" + this.getIdentifier() + ":" + size);
+        }
 
         //Allocate a buffer to the size of the Frame Body and read from file
         byte[] buffer = new byte[size];
@@ -153,7 +156,9 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody {
         for (AbstractDataType object : objectList)
         //correct dataType.
         {
-            logger.finest("offset:" + offset);
+            if (logger.isLoggable(Level.FINEST)) {
+                logger.finest("offset:" + offset);
+            }
 
             //The read has extended further than the defined frame size (ok to extend upto
             //size because the next datatype may be of length 0.)
@@ -181,7 +186,9 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody {
      * @param tagBuffer
      */
     public void write(ByteArrayOutputStream tagBuffer) {
-        logger.config("Writing frame body for" + this.getIdentifier() + ":Est Size:" + size);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Writing frame body for" + this.getIdentifier() + ":Est Size:" + size);
+        }
         //Write the various fields to file in order
         for (AbstractDataType object : objectList) {
             byte[] objectData = object.writeByteArray();
@@ -195,7 +202,9 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody {
             }
         }
         setSize();
-        logger.config("Written frame body for" + this.getIdentifier() + ":Real Size:" + size);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Written frame body for" + this.getIdentifier() + ":Real Size:" + size);
+        }
 
     }
 
@@ -21,9 +21,11 @@ import org.jaudiotagger.tag.datatype.*;
 import org.jaudiotagger.tag.id3.ID3v24Frames;
 import org.jaudiotagger.tag.id3.valuepair.ImageFormats;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
+import org.jaudiotagger.tag.images.ImageDataReference;
 import org.jaudiotagger.tag.reference.PictureTypes;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 
@@ -91,6 +93,8 @@ import java.nio.charset.Charset;
 public class FrameBodyAPIC extends AbstractID3v2FrameBody implements ID3v24FrameBody, ID3v23FrameBody {
     public static final String IMAGE_IS_URL = "-->";
 
+    private ImageDataReference imageDataReference;
+
     /**
      * Creates a new FrameBodyAPIC datatype.
      */
@@ -101,6 +105,7 @@ public class FrameBodyAPIC extends AbstractID3v2FrameBody implements ID3v24Frame
 
     public FrameBodyAPIC(FrameBodyAPIC body) {
         super(body);
+        this.imageDataReference = body.getImageDataReference();
     }
 
     /**
@@ -114,7 +119,7 @@ public class FrameBodyAPIC extends AbstractID3v2FrameBody implements ID3v24Frame
         this.setObjectValue(DataTypes.OBJ_PICTURE_TYPE, body.getObjectValue(DataTypes.OBJ_PICTURE_TYPE));
         this.setObjectValue(DataTypes.OBJ_DESCRIPTION, body.getDescription());
         this.setObjectValue(DataTypes.OBJ_PICTURE_DATA, body.getObjectValue(DataTypes.OBJ_PICTURE_DATA));
-
+        this.imageDataReference = body.getImageDataReference();
     }
 
     /**
@@ -146,7 +151,9 @@ public class FrameBodyAPIC extends AbstractID3v2FrameBody implements ID3v24Frame
     }
 
     public String getUserFriendlyValue() {
-        if (getImageData() != null) {
+        if (getImageDataReference() != null) {
+            return getMimeType() + ":" + getDescription() + ":" + getImageDataReference().getLength();
+        } else if (getImageData() != null) {
             return getMimeType() + ":" + getDescription() + ":" + getImageData().length;
         } else {
             return getMimeType() + ":" + getDescription() + ":0";
@@ -197,15 +204,42 @@ public class FrameBodyAPIC extends AbstractID3v2FrameBody implements ID3v24Frame
      */
     public void setImageData(byte[] imageData) {
         setObjectValue(DataTypes.OBJ_PICTURE_DATA, imageData);
+        imageDataReference = null;
     }
 
     /**
-     * Get Image data
+     * Get Image data, read from the file if the frame was read with lazy artwork loading
      *
      * @return
      */
     public byte[] getImageData() {
-        return (byte[]) getObjectValue(DataTypes.OBJ_PICTURE_DATA);
+        byte[] imageData = (byte[]) getObjectValue(DataTypes.OBJ_PICTURE_DATA);
+        if (imageData == null && imageDataReference != null) {
+            try {
+                return imageDataReference.load();
+            } catch (IOException ioe) {
+                throw new RuntimeException(ioe);
+            }
+        }
+        return imageData;
+    }
+
+    /**
+     * @return the position of the image data within the file if it has not been read into memory, otherwise null
+     */
+    public ImageDataReference getImageDataReference() {
+        return getObjectValue(DataTypes.OBJ_PICTURE_DATA) == null ? imageDataReference : null;
+    }
+
+    /**
+     * Hold the position of the image data within the file instead of the image data, the image data is read from
+     * the file when it is requested and when the frame is written
+     *
+     * @param imageDataReference
+     */
+    public void setImageDataReference(ImageDataReference imageDataReference) {
+        this.imageDataReference = imageDataReference;
+        setObjectValue(DataTypes.OBJ_PICTURE_DATA, null);
     }
 
     /**
@@ -238,6 +272,10 @@ public class FrameBodyAPIC extends AbstractID3v2FrameBody implements ID3v24Frame
      * If the description cannot be encoded using current encoder, change the encoder
      */
     public void write(ByteArrayOutputStream tagBuffer) {
+        //Image data held in the file is read now as the file may be about to be modified
+        if (getObjectValue(DataTypes.OBJ_PICTURE_DATA) == null && imageDataReference != null) {
+            setImageData(getImageData());
+        }
         if (TagOptionSingleton.getInstance().isAPICDescriptionITunesCompatible()) {
             this.setTextEncoding(TextEncoding.ISO_8859_1);
             if (!((AbstractString) getObject(DataTypes.OBJ_DESCRIPTION)).canBeEncoded()) {
@@ -27,9 +27,11 @@ import org.jaudiotagger.tag.datatype.*;
 import org.jaudiotagger.tag.id3.ID3v22Frames;
 import org.jaudiotagger.tag.id3.valuepair.ImageFormats;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
+import org.jaudiotagger.tag.images.ImageDataReference;
 import org.jaudiotagger.tag.reference.PictureTypes;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 
@@ -83,6 +85,8 @@ import java.nio.charset.Charset;
 public class FrameBodyPIC extends AbstractID3v2FrameBody implements ID3v22FrameBody {
     public static final String IMAGE_IS_URL = "-->";
 
+    private ImageDataReference imageDataReference;
+
     /**
      * Creates a new FrameBodyPIC datatype.
      */
@@ -92,6 +96,7 @@ public class FrameBodyPIC extends AbstractID3v2FrameBody implements ID3v22FrameB
 
     public FrameBodyPIC(FrameBodyPIC body) {
         super(body);
+        this.imageDataReference = body.getImageDataReference();
     }
 
     /**
@@ -120,7 +125,7 @@ public class FrameBodyPIC extends AbstractID3v2FrameBody implements ID3v22FrameB
         this.setObjectValue(DataTypes.OBJ_IMAGE_FORMAT, ImageFormats.getFormatForMimeType((String) body.getObjectValue(DataTypes.OBJ_MIME_TYPE)));
         this.setObjectValue(DataTypes.OBJ_PICTURE_DATA, body.getObjectValue(DataTypes.OBJ_PICTURE_DATA));
         this.setDescription(body.getDescription());
-        this.setImageData(body.getImageData());
+        this.imageDataReference = body.getImageDataReference();
     }
 
     /**
@@ -159,15 +164,42 @@ public class FrameBodyPIC extends AbstractID3v2FrameBody implements ID3v22FrameB
      */
     public void setImageData(byte[] imageData) {
         setObjectValue(DataTypes.OBJ_PICTURE_DATA, imageData);
+        imageDataReference = null;
     }
 
     /**
-     * Get Image data
+     * Get Image data, read from the file if the frame was read with lazy artwork loading
      *
      * @return
      */
     public byte[] getImageData() {
-        return (byte[]) getObjectValue(DataTypes.OBJ_PICTURE_DATA);
+        byte[] imageData = (byte[]) getObjectValue(DataTypes.OBJ_PICTURE_DATA);
+        if (imageData == null && imageDataReference != null) {
+            try {
+                return imageDataReference.load();
+            } catch (IOException ioe) {
+                throw new RuntimeException(ioe);
+            }
+        }
+        return imageData;
+    }
+
+    /**
+     * @return the position of the image data within the file if it has not been read into memory, otherwise null
+     */
+    public ImageDataReference getImageDataReference() {
+        return getObjectValue(DataTypes.OBJ_PICTURE_DATA) == null ? imageDataReference : null;
+    }
+
+    /**
+     * Hold the position of the image data within the file instead of the image data, the image data is read from
+     * the file when it is requested and when the frame is written
+     *
+     * @param imageDataReference
+     */
+    public void setImageDataReference(ImageDataReference imageDataReference) {
+        this.imageDataReference = imageDataReference;
+        setObjectValue(DataTypes.OBJ_PICTURE_DATA, null);
     }
 
     /**
@@ -201,6 +233,10 @@ public class FrameBodyPIC extends AbstractID3v2FrameBody implements ID3v22FrameB
      * If the description cannot be encoded using current encoder, change the encoder
      */
     public void write(ByteArrayOutputStream tagBuffer) {
+        //Image data held in the file is read now as the file may be about to be modified
+        if (getObjectValue(DataTypes.OBJ_PICTURE_DATA) == null && imageDataReference != null) {
+            setImageData(getImageData());
+        }
         if (!((AbstractString) getObject(DataTypes.OBJ_DESCRIPTION)).canBeEncoded()) {
             this.setTextEncoding(TextEncoding.UTF_16);
         }
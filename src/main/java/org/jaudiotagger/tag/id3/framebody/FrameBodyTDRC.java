@@ -161,18 +161,24 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
     }
 
     public void setYear(String year) {
-        logger.finest("Setting year to" + year);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Setting year to" + year);
+        }
         this.year = year;
     }
 
     public void setTime(String time) {
-        logger.finest("Setting time to:" + time);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Setting time to:" + time);
+        }
         this.time = time;
     }
 
 
     public void setDate(String date) {
-        logger.finest("Setting date to:" + date);
+        if (logger.isLoggable(Level.FINEST)) {
+            logger.finest("Setting date to:" + date);
+        }
         this.date = date;
     }
 
@@ -328,7 +334,9 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
     //TODO currently if user has entered Year and Month, we only store in v23, should we store month with 
     //first day
     private void extractID3v23Formats(final Date dateRecord, final int precision) {
-        logger.fine("Precision is:" + precision + "for date:" + dateRecord.toString());
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Precision is:" + precision + "for date:" + dateRecord.toString());
+        }
         Date d = dateRecord;
 
         //Precision Year
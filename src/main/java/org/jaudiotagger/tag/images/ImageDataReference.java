@@ -0,0 +1,77 @@
+package org.jaudiotagger.tag.images;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+/**
+ * The position of image data within a file, held instead of the image data itself when artwork is read
+ * lazily so the image data is only read from the file when it is needed
+ *
+ * @see org.jaudiotagger.tag.TagOptionSingleton#isLoadArtworkLazily()
+ */
+public class ImageDataReference {
+
+    /**
+     * Reads data from the file the image data was found in
+     */
+    public interface Source {
+        byte[] read(long offset, int length) throws IOException;
+    }
+
+    /**
+     * Reads the image data from a file on disk
+     */
+    public static class FileSource implements Source {
+        private final File file;
+
+        public FileSource(File file) {
+            this.file = file;
+        }
+
+        public byte[] read(long offset, int length) throws IOException {
+            RandomAccessFile raf = new RandomAccessFile(file, "r");
+            try {
+                byte[] data = new byte[length];
+                raf.seek(offset);
+                raf.readFully(data);
+                return data;
+            } finally {
+                raf.close();
+            }
+        }
+    }
+
+    private final Source source;
+    private final long offset;
+    private final int length;
+
+    /**
+     * @param source the file the image data is held in
+     * @param offset offset of the start of the image data within the file
+     * @param length length of the image data in bytes
+     */
+    public ImageDataReference(Source source, long offset, int length) {
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Read the image data from the file, the data is read again each time this is called
+     *
+     * @return the image data
+     * @throws IOException if the file can no longer be read
+     */
+    public byte[] load() throws IOException {
+        return source.read(offset, length);
+    }
+}
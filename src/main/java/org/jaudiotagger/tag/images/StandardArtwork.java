@@ -17,6 +17,7 @@ import java.io.RandomAccessFile;
  */
 public class StandardArtwork implements Artwork {
     private byte[] binaryData;
+    private ImageDataReference imageDataReference;
     private String mimeType = "";
     private String description = "";
     private boolean isLinked = false;
@@ -30,11 +31,38 @@ public class StandardArtwork implements Artwork {
     }
 
     public byte[] getBinaryData() {
+        if (binaryData == null && imageDataReference != null) {
+            try {
+                return imageDataReference.load();
+            } catch (IOException ioe) {
+                throw new RuntimeException(ioe);
+            }
+        }
         return binaryData;
     }
 
     public void setBinaryData(byte[] binaryData) {
         this.binaryData = binaryData;
+        this.imageDataReference = null;
+    }
+
+    /**
+     * @return the position of the image data within the file it was read from if the artwork was read lazily,
+     * otherwise null
+     */
+    public ImageDataReference getImageDataReference() {
+        return imageDataReference;
+    }
+
+    /**
+     * Hold the position of the image data within a file rather than the image data itself, the image data is
+     * read from the file each time {@link #getBinaryData()} is called
+     *
+     * @param imageDataReference
+     */
+    public void setImageDataReference(ImageDataReference imageDataReference) {
+        this.binaryData = null;
+        this.imageDataReference = imageDataReference;
     }
 
     public String getMimeType() {
@@ -167,6 +195,8 @@ public class StandardArtwork implements Artwork {
         if (coverArt.isImageUrl()) {
             setLinked(coverArt.isImageUrl());
             setImageUrl(coverArt.getImageUrl());
+        } else if (coverArt.getImageDataReference() != null) {
+            setImageDataReference(coverArt.getImageDataReference());
         } else {
             setBinaryData(coverArt.getImageData());
         }
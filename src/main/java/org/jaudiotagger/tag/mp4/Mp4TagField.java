@@ -23,6 +23,7 @@ import org.jaudiotagger.tag.mp4.field.Mp4FieldType;
 
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -88,7 +89,9 @@ public abstract class Mp4TagField implements TagField {
      * @throws UnsupportedEncodingException
      */
     public byte[] getRawContent() throws UnsupportedEncodingException {
-        logger.fine("Getting Raw data for:" + getId());
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Getting Raw data for:" + getId());
+        }
         return getDataBytes();
     }
 }
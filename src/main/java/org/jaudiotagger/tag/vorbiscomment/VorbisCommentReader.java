@@ -28,6 +28,7 @@ import org.jaudiotagger.x.CharsetDetectorCompat;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -80,6 +81,18 @@ public class VorbisCommentReader {
      * @throws CannotReadException
      */
     public VorbisCommentTag read(byte[] rawdata, boolean isFramingBit) throws IOException, CannotReadException {
+        return read(rawdata, rawdata.length, isFramingBit);
+    }
+
+    /**
+     * @param rawdata      array holding the comment at its start, may be longer than the comment
+     * @param length       length of the comment in {@code rawdata}
+     * @param isFramingBit
+     * @return logical representation of VorbisCommentTag
+     * @throws IOException
+     * @throws CannotReadException
+     */
+    public VorbisCommentTag read(byte[] rawdata, int length, boolean isFramingBit) throws IOException, CannotReadException {
 
         VorbisCommentTag tag = new VorbisCommentTag();
 
@@ -87,19 +100,26 @@ public class VorbisCommentReader {
         System.arraycopy(rawdata, FIELD_VENDOR_LENGTH_POS, b, FIELD_VENDOR_LENGTH_POS, FIELD_VENDOR_LENGTH_LENGTH);
         int pos = FIELD_VENDOR_LENGTH_LENGTH;
         int vendorStringLength = Utils.getIntLE(b);
+        if (vendorStringLength < 0 || vendorStringLength > length - pos) {
+            throw new CannotReadException(ErrorMessage.VORBIS_COMMENT_LENGTH_LARGE_THAN_HEADER.getMsg(vendorStringLength, length));
+        }
 
         b = new byte[vendorStringLength];
         System.arraycopy(rawdata, pos, b, 0, vendorStringLength);
         pos += vendorStringLength;
         tag.setVendor(new String(b, StandardCharsets.UTF_8));
-        logger.config("Vendor is:" + tag.getVendor());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Vendor is:" + tag.getVendor());
+        }
 
         b = new byte[FIELD_USER_COMMENT_LIST_LENGTH];
         System.arraycopy(rawdata, pos, b, 0, FIELD_USER_COMMENT_LIST_LENGTH);
         pos += FIELD_USER_COMMENT_LIST_LENGTH;
 
         int userComments = Utils.getIntLE(b);
-        logger.config("Number of user comments:" + userComments);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Number of user comments:" + userComments);
+        }
 
         CharsetDetectorCompat charsetDetectorCompat = new CharsetDetectorCompat();
         //CharsetDetectorCompat
@@ -110,13 +130,15 @@ public class VorbisCommentReader {
             tempPos += FIELD_COMMENT_LENGTH_LENGTH;
 
             int commentLength = Utils.getIntLE(b);
-            logger.config("Next Comment Length:" + commentLength);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config("Next Comment Length:" + commentLength);
+            }
 
             if (commentLength > JAUDIOTAGGER_MAX_COMMENT_LENGTH) {
                 logger.warning(ErrorMessage.VORBIS_COMMENT_LENGTH_TOO_LARGE.getMsg(commentLength));
                 break;
-            } else if (commentLength > rawdata.length) {
-                logger.warning(ErrorMessage.VORBIS_COMMENT_LENGTH_LARGE_THAN_HEADER.getMsg(commentLength, rawdata.length));
+            } else if (commentLength > length) {
+                logger.warning(ErrorMessage.VORBIS_COMMENT_LENGTH_LARGE_THAN_HEADER.getMsg(commentLength, length));
                 break;
             } else {
                 b = new byte[commentLength];
@@ -135,13 +157,15 @@ public class VorbisCommentReader {
             pos += FIELD_COMMENT_LENGTH_LENGTH;
 
             int commentLength = Utils.getIntLE(b);
-            logger.config("Next Comment Length:" + commentLength);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config("Next Comment Length:" + commentLength);
+            }
 
             if (commentLength > JAUDIOTAGGER_MAX_COMMENT_LENGTH) {
                 logger.warning(ErrorMessage.VORBIS_COMMENT_LENGTH_TOO_LARGE.getMsg(commentLength));
                 break;
-            } else if (commentLength > rawdata.length) {
-                logger.warning(ErrorMessage.VORBIS_COMMENT_LENGTH_LARGE_THAN_HEADER.getMsg(commentLength, rawdata.length));
+            } else if (commentLength > length) {
+                logger.warning(ErrorMessage.VORBIS_COMMENT_LENGTH_LARGE_THAN_HEADER.getMsg(commentLength, length));
                 break;
             } else {
                 b = new byte[commentLength];
@@ -149,7 +173,9 @@ public class VorbisCommentReader {
                 pos += commentLength;
 
                 VorbisCommentTagField fieldComment = new VorbisCommentTagField(b, charset);
-                logger.config("Adding:" + fieldComment.getId());
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config("Adding:" + fieldComment.getId());
+                }
                 tag.addField(fieldComment);
             }
         }
@@ -26,6 +26,7 @@ import org.jaudiotagger.tag.*;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represent wav metadata found in the LISTINFO Chunk
@@ -65,6 +66,25 @@ public class WavInfoTag extends GenericTag {
                 FieldKey.RATING);
     }
 
+    public WavInfoTag() {
+    }
+
+    /**
+     * Copy another Info tag, the fields themselves are shared but can be set or deleted in either tag without
+     * affecting the other
+     *
+     * @param copyObject
+     */
+    public WavInfoTag(WavInfoTag copyObject) {
+        for (Map.Entry<String, List<TagField>> entry : copyObject.fields.entrySet()) {
+            fields.put(entry.getKey(), new ArrayList<TagField>(entry.getValue()));
+        }
+        commonNumber = copyObject.commonNumber;
+        unrecognisedFields.addAll(copyObject.unrecognisedFields);
+        startLocationInFile = copyObject.startLocationInFile;
+        endLocationInFile = copyObject.endLocationInFile;
+    }
+
     public String toString() {
         StringBuilder output = new StringBuilder("Wav Info Tag:\n");
         if (getStartLocationInFile() != null) {
@@ -24,6 +24,7 @@ import org.jaudiotagger.audio.wav.WavOptions;
 import org.jaudiotagger.logging.Hex;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
+import org.jaudiotagger.tag.id3.ID3Tags;
 import org.jaudiotagger.tag.id3.Id3SupportingTag;
 import org.jaudiotagger.tag.images.Artwork;
 
@@ -512,6 +513,22 @@ public class WavTag implements Tag, Id3SupportingTag {
 
     }
 
+    /**
+     * @return a copy of this tag synced as {@link #syncTagBeforeWrite()} would, this tag is not modified
+     */
+    public WavTag createSyncedCopy() {
+        WavTag copy = new WavTag(wavOptions);
+        copy.infoTag = infoTag;
+        copy.id3Tag = id3Tag;
+        if (getActiveTag() instanceof WavInfoTag) {
+            copy.id3Tag = (AbstractID3v2Tag) ID3Tags.copyObject(id3Tag);
+        } else if (infoTag != null) {
+            copy.infoTag = new WavInfoTag(infoTag);
+        }
+        copy.syncTagBeforeWrite();
+        return copy;
+    }
+
     public boolean isIncorrectlyAlignedTag() {
         return isIncorrectlyAlignedTag;
     }
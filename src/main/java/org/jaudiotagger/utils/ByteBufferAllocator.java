@@ -0,0 +1,34 @@
+package org.jaudiotagger.utils;
+
+import org.jaudiotagger.tag.TagOptionSingleton;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Supplies the temporary buffers used when reading and writing files, so they can be reused rather than allocated
+ * for each call.
+ *
+ * Implementations must be thread safe, the allocator set with
+ * {@link TagOptionSingleton#setByteBufferAllocator(ByteBufferAllocator)} is shared by all readers and writers.
+ *
+ * @see ByteBufferPool
+ */
+public interface ByteBufferAllocator {
+
+    /**
+     * Get a buffer of at least the given size
+     *
+     * @param size   number of bytes required
+     * @param direct true for a direct buffer, false for a buffer backed by an array
+     * @return a buffer with position zero, limit {@code size} and big endian byte order, its capacity and backing
+     * array may be larger than {@code size} and its contents are undefined. A heap buffer has an array offset of zero.
+     */
+    ByteBuffer acquire(int size, boolean direct);
+
+    /**
+     * Return a buffer obtained from {@link #acquire(int, boolean)} once it, and any view of it, is no longer used
+     *
+     * @param buffer the buffer, may be null
+     */
+    void release(ByteBuffer buffer);
+}
@@ -0,0 +1,283 @@
+package org.jaudiotagger.utils;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread safe {@link ByteBufferAllocator} that keeps released buffers for reuse.
+ *
+ * Buffers are grouped in size classes of powers of two, a request is served by a buffer of the smallest class that
+ * holds it. Heap and direct buffers are kept separately and at most {@code maxBuffersPerSize} buffers of each class
+ * are kept, buffers larger than {@code maxPooledSize} are always allocated and never kept.
+ *
+ * Only buffers acquired from the pool and not yet released are taken back, so releasing a buffer twice, or releasing
+ * a slice, a duplicate or a buffer from elsewhere, is ignored rather than letting two callers share one buffer.
+ *
+ * The counts of buffers allocated and reused are kept so the pool can be tuned, see {@link #toString()}.
+ */
+public class ByteBufferPool implements ByteBufferAllocator {
+
+    /**
+     * Size of the smallest size class
+     */
+    public static final int MIN_POOLED_SIZE = 512;
+
+    private static final ByteBufferPool DEFAULT = new ByteBufferPool(8, 1024 * 1024);
+
+    private final int maxBuffersPerSize;
+    private final int maxPooledSize;
+    private final SizeClass[] heapClasses;
+    private final SizeClass[] directClasses;
+
+    /**
+     * The buffers of a pooled size acquired and not yet released, held weakly so a buffer that is never released
+     * can still be garbage collected
+     */
+    private final Map<BufferReference, Boolean> outstanding = new ConcurrentHashMap<>();
+    private final ReferenceQueue<ByteBuffer> collected = new ReferenceQueue<>();
+
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong reused = new AtomicLong();
+    private final AtomicLong allocated = new AtomicLong();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final AtomicLong allocatedDirectBytes = new AtomicLong();
+    private final AtomicLong released = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+
+    /**
+     * @param maxBuffersPerSize maximum number of buffers kept for each size class of heap and of direct buffers, zero
+     *                          to keep no buffers and only count allocations
+     * @param maxPooledSize     size in bytes of the largest buffer kept, rounded up to a power of two
+     */
+    public ByteBufferPool(int maxBuffersPerSize, int maxPooledSize) {
+        if (maxBuffersPerSize < 0 || maxPooledSize <= 0) {
+            throw new IllegalArgumentException("Invalid pool size:" + maxBuffersPerSize + ":" + maxPooledSize);
+        }
+        this.maxBuffersPerSize = maxBuffersPerSize;
+        int classes = getSizeClass(maxPooledSize) + 1;
+        this.maxPooledSize = getSize(classes - 1);
+        this.heapClasses = new SizeClass[classes];
+        this.directClasses = new SizeClass[classes];
+        for (int i = 0; i < classes; i++) {
+            heapClasses[i] = new SizeClass();
+            directClasses[i] = new SizeClass();
+        }
+    }
+
+    /**
+     * @return the pool used by default, keeping up to 8 buffers of each size up to 1MB
+     */
+    public static ByteBufferPool getDefault() {
+        return DEFAULT;
+    }
+
+    @Override
+    public ByteBuffer acquire(int size, boolean direct) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Invalid buffer size:" + size);
+        }
+        acquired.incrementAndGet();
+        ByteBuffer buffer;
+        if (size > maxPooledSize) {
+            buffer = allocate(size, direct);
+        } else {
+            int sizeClass = getSizeClass(size);
+            buffer = (direct ? directClasses : heapClasses)[sizeClass].poll();
+            if (buffer != null) {
+                reused.incrementAndGet();
+            } else {
+                buffer = allocate(getSize(sizeClass), direct);
+            }
+            expungeCollected();
+            outstanding.put(new BufferReference(buffer, collected), Boolean.TRUE);
+        }
+        buffer.clear();
+        buffer.limit(size);
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        return buffer;
+    }
+
+    @Override
+    public void release(ByteBuffer buffer) {
+        if (buffer == null) {
+            return;
+        }
+        released.incrementAndGet();
+        if (outstanding.remove(new BufferReference(buffer, null)) != null
+                && (buffer.isDirect() ? directClasses : heapClasses)[getSizeClass(buffer.capacity())].offer(buffer, maxBuffersPerSize)) {
+            return;
+        }
+        discarded.incrementAndGet();
+    }
+
+    /**
+     * Forget the buffers that were garbage collected without being released
+     */
+    private void expungeCollected() {
+        Object reference;
+        while ((reference = collected.poll()) != null) {
+            outstanding.remove(reference);
+        }
+    }
+
+    private ByteBuffer allocate(int size, boolean direct) {
+        allocated.incrementAndGet();
+        if (direct) {
+            allocatedDirectBytes.addAndGet(size);
+            return ByteBuffer.allocateDirect(size);
+        }
+        allocatedBytes.addAndGet(size);
+        return ByteBuffer.allocate(size);
+    }
+
+    /**
+     * @return index of the smallest size class holding the given number of bytes
+     */
+    private static int getSizeClass(int size) {
+        if (size <= MIN_POOLED_SIZE) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - Integer.numberOfTrailingZeros(MIN_POOLED_SIZE);
+    }
+
+    private static int getSize(int sizeClass) {
+        return MIN_POOLED_SIZE << sizeClass;
+    }
+
+    /**
+     * @return number of buffers requested
+     */
+    public long getAcquiredCount() {
+        return acquired.get();
+    }
+
+    /**
+     * @return number of requests served by a buffer kept in the pool
+     */
+    public long getReusedCount() {
+        return reused.get();
+    }
+
+    /**
+     * @return number of buffers allocated because none was available
+     */
+    public long getAllocatedCount() {
+        return allocated.get();
+    }
+
+    /**
+     * @return total size in bytes of the heap buffers allocated
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    /**
+     * @return total size in bytes of the direct buffers allocated
+     */
+    public long getAllocatedDirectBytes() {
+        return allocatedDirectBytes.get();
+    }
+
+    /**
+     * @return number of buffers returned to the pool
+     */
+    public long getReleasedCount() {
+        return released.get();
+    }
+
+    /**
+     * @return number of buffers returned that were not kept, because the pool was full or they were not acquired from
+     * the pool and still outstanding
+     */
+    public long getDiscardedCount() {
+        return discarded.get();
+    }
+
+    /**
+     * Set all the counts to zero, the buffers kept are not affected
+     */
+    public void resetMetrics() {
+        acquired.set(0);
+        reused.set(0);
+        allocated.set(0);
+        allocatedBytes.set(0);
+        allocatedDirectBytes.set(0);
+        released.set(0);
+        discarded.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "ByteBufferPool:acquired:" + acquired.get()
+                + ":reused:" + reused.get()
+                + ":allocated:" + allocated.get()
+                + ":allocatedBytes:" + allocatedBytes.get()
+                + ":allocatedDirectBytes:" + allocatedDirectBytes.get()
+                + ":released:" + released.get()
+                + ":discarded:" + discarded.get();
+    }
+
+    /**
+     * Weak reference to a buffer that is equal to another reference only if it refers to the same buffer, the
+     * contents based {@link ByteBuffer#equals(Object)} and {@link ByteBuffer#hashCode()} cannot be used
+     */
+    private static class BufferReference extends WeakReference<ByteBuffer> {
+        private final int hashCode;
+
+        private BufferReference(ByteBuffer buffer, ReferenceQueue<ByteBuffer> queue) {
+            super(buffer, queue);
+            this.hashCode = System.identityHashCode(buffer);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BufferReference)) {
+                return false;
+            }
+            ByteBuffer buffer = get();
+            return buffer != null && buffer == ((BufferReference) o).get();
+        }
+    }
+
+    /**
+     * The buffers kept of one size
+     */
+    private static class SizeClass {
+        private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger count = new AtomicInteger();
+
+        private ByteBuffer poll() {
+            ByteBuffer buffer = buffers.poll();
+            if (buffer != null) {
+                count.decrementAndGet();
+            }
+            return buffer;
+        }
+
+        private boolean offer(ByteBuffer buffer, int max) {
+            if (count.incrementAndGet() > max) {
+                count.decrementAndGet();
+                return false;
+            }
+            buffers.offer(buffer);
+            return true;
+        }
+    }
+}
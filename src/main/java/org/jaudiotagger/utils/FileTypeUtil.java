@@ -10,7 +10,7 @@ import java.util.Map;
 
 public class FileTypeUtil {
     private static final int BUFFER_SIZE = 4096;
-    private static final int MAX_SIGNATURE_SIZE = 8;
+    private static final int MAX_SIGNATURE_SIZE = 12;
 
     // PDF files starts with: %PDF
     // MS office files starts with: (D0 CF 11 E0 A1 B1 1A E1)
@@ -25,6 +25,11 @@ public class FileTypeUtil {
     private static final Integer[] mp3v1Sig_3 = {0xFF, 0xF2};
     private static final Integer[] mp3v1Sig_4 = {0xFF, 0xFB};
     private static final Integer[] mp4Sig = {0x00, 0x00, 0x00, null, 0x66, 0x74, 0x79, 0x70};
+    private static final Integer[] oggSig = {0x4F, 0x67, 0x67, 0x53};
+    private static final Integer[] flacSig = {0x66, 0x4C, 0x61, 0x43};
+    private static final Integer[] wavSig = {0x52, 0x49, 0x46, 0x46, null, null, null, null, 0x57, 0x41, 0x56, 0x45};
+    private static final Integer[] asfSig = {0x30, 0x26, 0xB2, 0x75, 0x8E, 0x66, 0xCF, 0x11};
+    private static final Integer[] apeSig = {0x4D, 0x41, 0x43, 0x20};
 
     private static Map<String, Integer[]> signatureMap;
     private static Map<String, String> extensionMap;
@@ -37,6 +42,11 @@ public class FileTypeUtil {
         signatureMap.put("MP3IDv1_3", mp3v1Sig_3);
         signatureMap.put("MP3IDv1_4", mp3v1Sig_4);
         signatureMap.put("MP4", mp4Sig);
+        signatureMap.put("OGG", oggSig);
+        signatureMap.put("FLAC", flacSig);
+        signatureMap.put("WAV", wavSig);
+        signatureMap.put("ASF", asfSig);
+        signatureMap.put("APE", apeSig);
 
         extensionMap = new HashMap<String, String>();
         extensionMap.put("MP3IDv2", "mp3");
@@ -45,6 +55,11 @@ public class FileTypeUtil {
         extensionMap.put("MP3IDv1_3", "mp3");
         extensionMap.put("MP3IDv1_4", "mp3");
         extensionMap.put("MP4", "m4a");
+        extensionMap.put("OGG", "ogg");
+        extensionMap.put("FLAC", "flac");
+        extensionMap.put("WAV", "wav");
+        extensionMap.put("ASF", "wma");
+        extensionMap.put("APE", "ape");
         extensionMap.put("UNKNOWN", "");
     }
 
@@ -58,21 +73,31 @@ public class FileTypeUtil {
                 n = in.read(buffer, m, BUFFER_SIZE - m);
                 m += n;
             }
-
-            String fileType = "UNKNOWN";
-            for (Iterator<String> i = signatureMap.keySet().iterator(); i.hasNext(); ) {
-                String key = i.next();
-                if (matchesSignature(signatureMap.get(key), buffer, m)) {
-                    fileType = key;
-                    break;
-                }
-            }
-            return fileType;
+            return getMagicFileType(buffer, m);
         } finally {
             in.close();
         }
     }
 
+    /**
+     * Identify the file type from the bytes already read from the start of the file
+     *
+     * @param buffer the start of the file
+     * @param size   number of bytes of the file in the buffer
+     * @return the file type, or UNKNOWN
+     */
+    public static String getMagicFileType(byte[] buffer, int size) {
+        String fileType = "UNKNOWN";
+        for (Iterator<String> i = signatureMap.keySet().iterator(); i.hasNext(); ) {
+            String key = i.next();
+            if (matchesSignature(signatureMap.get(key), buffer, size)) {
+                fileType = key;
+                break;
+            }
+        }
+        return fileType;
+    }
+
     public static String getMagicExt(String fileType) {
         return extensionMap.get(fileType);
     }
@@ -23,9 +23,12 @@ import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
+import org.jaudiotagger.logging.ParseTrace;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.x.stream.ChannelCompat;
+import org.jaudiotagger.x.stream.RangedChannelCompat;
+import org.jaudiotagger.x.stream.ReadRanges;
 import org.jaudiotagger.x.stream.SlideBufferFileChannel;
 import org.jaudiotagger.x.stream.SlideBufferInputStream;
 
@@ -50,6 +53,16 @@ public abstract class AudioFileReader {
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.generic");
     protected static final int MINIMUM_SIZE_FOR_VALID_AUDIO_FILE = 100;
 
+    /**
+     * Number of bytes at the start of the file usually holding all the metadata a reader needs
+     */
+    protected static final int HEAD_SIZE = 64 * 1024;
+
+    /**
+     * Number of bytes at the end of the file usually holding all the metadata a reader needs
+     */
+    protected static final int TAIL_SIZE = 64 * 1024;
+
     /*
      * Returns the encoding info object associated wih the current File.
      * The subclass can assume the RAF pointer is at the first byte of the file.
@@ -72,6 +85,57 @@ public abstract class AudioFileReader {
      */
     protected abstract Tag getTag(FileChannel raf) throws CannotReadException, IOException;
 
+    /*
+     * Parses the structure of the file that both the encoding info and the tag are read from, so a reader
+     * whose format has such a structure only parses it once per read. The default parses nothing.
+     *
+     * @param raf The FileChannel associated with the current file
+     * @return the parsed structure, or null if the reader reads the encoding info and tag directly from the file
+     * @exception IOException is thrown when the FileChannel operations throw it (you should never throw them manually)
+     * @exception CannotReadException when an error occured during the parsing of the file
+     */
+    protected Object parse(FileChannel raf) throws CannotReadException, IOException {
+        return null;
+    }
+
+    /*
+     * Returns the encoding info using the structure returned by {@link #parse(FileChannel)},
+     * the default ignores it and reads the encoding info from the file.
+     */
+    protected GenericAudioHeader getEncodingInfo(FileChannel raf, Object parsed) throws CannotReadException, IOException {
+        return getEncodingInfo(raf);
+    }
+
+    /*
+     * Returns the tag using the structure returned by {@link #parse(FileChannel)},
+     * the default ignores it and reads the tag from the file.
+     */
+    protected Tag getTag(FileChannel raf, Object parsed) throws CannotReadException, IOException {
+        return getTag(raf);
+    }
+
+    /**
+     * @return the parts of the file this reader expects to read, or null if it may need any part of the file
+     */
+    protected ReadRanges getReadRanges() {
+        return null;
+    }
+
+    /**
+     * Open a channel to read the file, when the source is a {@link RangedChannelCompat} only the parts of the file
+     * given by {@link #getReadRanges()} are fetched up front
+     *
+     * @param f the file to read
+     * @return the channel
+     */
+    protected FileChannel newFileChannel(ChannelCompat f) {
+        ReadRanges ranges = getReadRanges();
+        if (ranges != null && f instanceof RangedChannelCompat) {
+            return ((RangedChannelCompat) f).newFileChannel(ranges);
+        }
+        return f.newFileChannel();
+    }
+
     /*
      * Reads the given file, and return an AudioFile object containing the Tag
      * and the encoding infos present in the file. If the file has no tag, an
@@ -87,10 +151,16 @@ public abstract class AudioFileReader {
 
         FileChannel fileChannel = null;
         try {
-            fileChannel = f.newFileChannel();
-            GenericAudioHeader info = getEncodingInfo(fileChannel);
+            fileChannel = newFileChannel(f);
+            long start = ParseTrace.start();
+            Object parsed = parse(fileChannel);
+            fileChannel.position(0);
+            GenericAudioHeader info = getEncodingInfo(fileChannel, parsed);
+            ParseTrace.event(ParseTrace.HEADER, null, -1, -1, start);
             fileChannel.position(0);
-            Tag tag = getTag(fileChannel);
+            start = ParseTrace.start();
+            Tag tag = getTag(fileChannel, parsed);
+            ParseTrace.event(ParseTrace.TAG, null, -1, -1, start);
             return new XAudioFile(info, tag);
 
         } catch (CannotReadException cre) {
@@ -0,0 +1,129 @@
+package org.jaudiotagger.x;
+
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+
+/**
+ * Detects the charset of the strings of one tag that do not declare an encoding once for the whole tag, rather than
+ * once for each string.
+ *
+ * While a tag is read a context is entered on the reading thread and given a sample of the text of the tag before any
+ * of it is decoded. The first string that needs a charset then runs the detection over the whole sample, and that
+ * charset and a decoder for it are reused for every other string of the tag. Detecting over all the text of the tag is
+ * also more reliable than detecting over each short string.
+ *
+ * Contexts are used as:
+ * <pre>
+ * CharsetDetectionContext context = CharsetDetectionContext.enter();
+ * try {
+ *     context.handleData(...);
+ *     //Read the tag
+ * } finally {
+ *     context.exit();
+ * }
+ * </pre>
+ *
+ * @see CharsetDetectorUtil#detected(byte[], int, int)
+ */
+public class CharsetDetectionContext {
+
+    /**
+     * Maximum number of bytes of text sampled for each tag, enough to identify the charset of any real tag
+     */
+    public static final int MAX_SAMPLE_SIZE = 16 * 1024;
+
+    private static final ThreadLocal<CharsetDetectionContext> current = new ThreadLocal<CharsetDetectionContext>();
+
+    private final CharsetDetectionContext previous;
+    private final CharsetDetectorCompat detector = new CharsetDetectorCompat();
+    private int sampleSize;
+    private boolean detected;
+    private Charset charset;
+    private CharsetDecoder decoder;
+
+    private CharsetDetectionContext(CharsetDetectionContext previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Start a context on the current thread, replacing any context already started until this one is exited
+     *
+     * @return the context
+     */
+    public static CharsetDetectionContext enter() {
+        CharsetDetectionContext context = new CharsetDetectionContext(current.get());
+        current.set(context);
+        return context;
+    }
+
+    /**
+     * @return the context started on the current thread, or null if there is none
+     */
+    public static CharsetDetectionContext getCurrent() {
+        return current.get();
+    }
+
+    /**
+     * End the context, restoring the context that was current when it was started
+     */
+    public void exit() {
+        if (current.get() == this) {
+            if (previous != null) {
+                current.set(previous);
+            } else {
+                current.remove();
+            }
+        }
+    }
+
+    /**
+     * Add text of the tag to the sample, text past {@link #MAX_SAMPLE_SIZE} bytes or added after the charset has been
+     * detected is ignored
+     */
+    public void handleData(byte[] buf, int offset, int length) {
+        if (detected || sampleSize >= MAX_SAMPLE_SIZE || length <= 0) {
+            return;
+        }
+        length = Math.min(length, MAX_SAMPLE_SIZE - sampleSize);
+        detector.handleData(buf, offset, length);
+        sampleSize += length;
+    }
+
+    /**
+     * @return true if any text has been added to the sample
+     */
+    public boolean hasData() {
+        return sampleSize > 0;
+    }
+
+    /**
+     * @return the charset of the sample, detected on the first call, or null if no text has been added or the charset
+     * could not be identified
+     */
+    public Charset getCharset() {
+        if (!detected) {
+            detected = true;
+            if (sampleSize > 0) {
+                detector.end();
+                charset = detector.getDetectedCharset();
+            }
+        }
+        return charset;
+    }
+
+    /**
+     * @return a decoder for {@link #getCharset()}, reset ready for use, the same decoder is returned on every call
+     * so it must not be used again before the previous decode has finished
+     * @throws IllegalStateException if there is no charset
+     */
+    public CharsetDecoder getDecoder() {
+        Charset detectedCharset = getCharset();
+        if (detectedCharset == null) {
+            throw new IllegalStateException("No charset detected");
+        }
+        if (decoder == null) {
+            decoder = detectedCharset.newDecoder();
+        }
+        return decoder.reset();
+    }
+}
@@ -3,44 +3,84 @@ package org.jaudiotagger.x;
 import org.mozilla.universalchardet.UniversalDetector;
 
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
+/**
+ * Detects the charset of a number of strings that share one charset, such as the fields of a tag.
+ *
+ * The strings are checked as they are added, if they are all valid UTF-8, which includes plain ASCII, the result is
+ * UTF-8 and no statistical detection is done at all. Otherwise detection runs once in {@link #end()} over a sample
+ * made of the first {@link #MAX_SAMPLE_SIZE} bytes added, so memory use is bounded however much text is added.
+ */
 public class CharsetDetectorCompat {
 
-    private List<byte[]> caches = new ArrayList<>();
+    /**
+     * Maximum number of bytes kept for statistical detection
+     */
+    public static final int MAX_SAMPLE_SIZE = 16 * 1024;
 
-    UniversalDetector detector = new UniversalDetector();
+    private static final int INITIAL_SAMPLE_SIZE = 256;
+
+    /**
+     * Number of times the sample is given to the detector if it has not yet reached a decision
+     */
+    private static final int MAX_REPLAYS = 10;
+
+    private byte[] sample;
+    private int sampleSize;
+    private boolean utf8 = true;
+    private boolean ended;
+    private Charset detectedCharset;
 
     public void handleData(byte[] buf) {
         this.handleData(buf, 0, buf.length);
     }
 
     public void handleData(byte[] buf, int offset, int length) {
-        if (length == 0) return;
+        if (length <= 0 || ended) return;
         if (buf.length == 0) return;
 
-        byte[] cache = new byte[length];
-        System.arraycopy(buf, offset, cache, 0, length);
-        caches.add(cache);
+        if (utf8) {
+            utf8 = CharsetDetectorUtil.isValidUtf8(buf, offset, length);
+        }
 
-        detector.handleData(buf, offset, length);
+        int count = Math.min(length, MAX_SAMPLE_SIZE - sampleSize);
+        if (count <= 0) return;
+        if (sample == null) {
+            sample = new byte[Math.min(MAX_SAMPLE_SIZE, Math.max(INITIAL_SAMPLE_SIZE, count))];
+        } else if (sampleSize + count > sample.length) {
+            sample = Arrays.copyOf(sample, Math.min(MAX_SAMPLE_SIZE, Math.max(sample.length * 2, sampleSize + count)));
+        }
+        System.arraycopy(buf, offset, sample, sampleSize, count);
+        sampleSize += count;
     }
 
     public void end() {
-        int max = 10;
-        if (!caches.isEmpty()) {
+        if (ended) return;
+        ended = true;
+        if (sampleSize == 0) return;
+
+        if (utf8) {
+            detectedCharset = CharsetDetectorUtil.format("UTF-8");
+        } else {
+            UniversalDetector detector = new UniversalDetector();
+            int max = MAX_REPLAYS;
             while (!detector.isDone() && max > 0) {
-                for (byte[] c : caches) {
-                    detector.handleData(c);
-                }
+                detector.handleData(sample, 0, sampleSize);
                 max--;
             }
+            detector.dataEnd();
+            detectedCharset = CharsetDetectorUtil.format(detector.getDetectedCharset());
         }
-        detector.dataEnd();
+        sample = null;
     }
 
+    /**
+     * @return the charset detected by {@link #end()}, or null if no data was added or the charset could not be
+     * identified
+     */
     public Charset getDetectedCharset() {
-        return CharsetDetectorUtil.format(detector.getDetectedCharset());
+        end();
+        return detectedCharset;
     }
 }
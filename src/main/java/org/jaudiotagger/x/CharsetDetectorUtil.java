@@ -6,10 +6,23 @@ import java.io.*;
 import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CharsetDetectorUtil {
 
-    private static CharsetDetectorMapper sCharsetDetectorMapper;
+    private static final String UTF_8 = "UTF-8";
+
+    private static volatile CharsetDetectorMapper sCharsetDetectorMapper;
+
+    /**
+     * Charsets already resolved by {@link #format(String)}, keyed by the detected name
+     */
+    private static final ConcurrentHashMap<String, Object> formatted = new ConcurrentHashMap<>();
+
+    /**
+     * Stored in {@link #formatted} for names that do not resolve to a supported charset
+     */
+    private static final Object UNSUPPORTED = new Object();
 
     public static interface CharsetDetectorMapper {
         String map(String detectedCharset);
@@ -44,15 +57,30 @@ public class CharsetDetectorUtil {
 
     public static void init(CharsetDetectorMapper charsetDetectorMapper) {
         sCharsetDetectorMapper = charsetDetectorMapper;
+        formatted.clear();
     }
 
     public static Charset detected(byte[] data) {
         return detected(data, 0, data.length);
     }
 
+    /**
+     * Detect the charset of a string, if a {@link CharsetDetectionContext} has been started for the tag the string
+     * belongs to the charset detected for the whole tag is returned instead
+     */
     public static Charset detected(byte[] data, int start, int length) {
         if (data.length == 0) return null;
         if (length == 0) return null;
+        CharsetDetectionContext context = CharsetDetectionContext.getCurrent();
+        if (context != null && context.hasData()) {
+            Charset charset = context.getCharset();
+            if (charset != null) {
+                return charset;
+            }
+        }
+        if (isValidUtf8(data, start, length)) {
+            return format(UTF_8);
+        }
         try {
             UniversalDetector detector = new UniversalDetector();
             int max = 10;
@@ -61,27 +89,100 @@ public class CharsetDetectorUtil {
                 max --;
             }
             detector.dataEnd();
-            String detectedCharset = detector.getDetectedCharset();
-            if (detectedCharset != null) {
-                detectedCharset = mapOrDefault(detectedCharset);
-            }
-            if (detectedCharset != null && Charset.isSupported(detectedCharset)) {
-                return Charset.forName(detectedCharset);
-            }
+            return format(detector.getDetectedCharset());
         } catch (Throwable ignore) {
 
         }
         return null;
     }
 
+    /**
+     * Map the name of a detected charset with the {@link CharsetDetectorMapper} and resolve it, the result for each
+     * name is cached until the mapper is changed
+     *
+     * @return the charset, or null if the name is null or not a supported charset
+     */
     public static Charset format(String detectedCharset) {
-        if (detectedCharset != null) {
-            detectedCharset = mapOrDefault(detectedCharset);
+        if (detectedCharset == null) {
+            return null;
         }
-        if (detectedCharset != null && Charset.isSupported(detectedCharset)) {
-            return Charset.forName(detectedCharset);
+        Object charset = formatted.get(detectedCharset);
+        if (charset == null) {
+            String mapped = mapOrDefault(detectedCharset);
+            try {
+                charset = mapped != null && Charset.isSupported(mapped) ? Charset.forName(mapped) : UNSUPPORTED;
+            } catch (IllegalArgumentException e) {
+                charset = UNSUPPORTED;
+            }
+            formatted.put(detectedCharset, charset);
         }
-        return null;
+        return charset != UNSUPPORTED ? (Charset) charset : null;
+    }
+
+    /**
+     * @return true if the bytes are all ASCII
+     */
+    public static boolean isAscii(byte[] data, int start, int length) {
+        //Combine every byte before testing so the loop has no branches and can be vectorised
+        int bits = 0;
+        for (int i = start; i < start + length; i++) {
+            bits |= data[i];
+        }
+        return bits >= 0;
+    }
+
+    /**
+     * Check whether the bytes are valid UTF-8, which includes ASCII. Text in other multi byte charsets and in single
+     * byte charsets using characters outside ASCII is almost never valid UTF-8, so it can be decoded as UTF-8 without
+     * statistical detection.
+     *
+     * @return true if the bytes are valid UTF-8
+     */
+    public static boolean isValidUtf8(byte[] data, int start, int length) {
+        int end = start + length;
+        int i = start;
+        while (i < end) {
+            //Skip runs of ASCII eight bytes at a time
+            if (i + 8 <= end && isAscii(data, i, 8)) {
+                i += 8;
+                continue;
+            }
+            int b = data[i] & 0xFF;
+            int continuation;
+            int min;
+            if (b < 0x80) {
+                i++;
+                continue;
+            } else if (b >= 0xC2 && b <= 0xDF) {
+                continuation = 1;
+                min = 0x80;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                continuation = 2;
+                min = 0x800;
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                continuation = 3;
+                min = 0x10000;
+            } else {
+                return false;
+            }
+            if (i + continuation >= end) {
+                return false;
+            }
+            int codePoint = b & (0x3F >> continuation);
+            for (int j = 1; j <= continuation; j++) {
+                int c = data[i + j] & 0xFF;
+                if ((c & 0xC0) != 0x80) {
+                    return false;
+                }
+                codePoint = (codePoint << 6) | (c & 0x3F);
+            }
+            //Reject overlong encodings, surrogates and code points past the end of Unicode
+            if (codePoint < min || (codePoint >= 0xD800 && codePoint <= 0xDFFF) || codePoint > 0x10FFFF) {
+                return false;
+            }
+            i += continuation + 1;
+        }
+        return true;
     }
 
     private static String mapOrDefault(String detectedCharset) {
@@ -100,11 +201,7 @@ public class CharsetDetectorUtil {
 
     public static Charset detected(InputStream inputStream) throws FileNotFoundException {
         try {
-            String detectedCharset = UniversalDetector.detectCharset(inputStream);
-            detectedCharset = mapOrDefault(detectedCharset);
-            if (detectedCharset != null && Charset.isSupported(detectedCharset)) {
-                return Charset.forName(detectedCharset);
-            }
+            return format(UniversalDetector.detectCharset(inputStream));
         } catch (Throwable error) {
 
         }
@@ -2,18 +2,15 @@ package org.jaudiotagger.x;
 
 import org.jaudiotagger.audio.asf.data.AsfHeader;
 import org.jaudiotagger.audio.asf.io.AsfHeaderReader;
-import org.jaudiotagger.audio.asf.io.FullRequestInputStream;
-import org.jaudiotagger.audio.asf.util.Utils;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.mp3.MP3AudioHeader;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.TagNotFoundException;
+import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.id3.*;
-import org.jaudiotagger.x.stream.FileChannelFileInputStreamV2;
+import org.jaudiotagger.utils.ByteBufferAllocator;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.Arrays;
@@ -21,40 +18,44 @@ import java.util.Arrays;
 public class ID3V2TagUtil {
 
     public static long getV2TagSizeIfExists(FileChannel fc) throws IOException {
-        ByteBuffer bb = null;
         //Read possible Tag header  Byte Buffer
-        bb = ByteBuffer.allocate(AbstractID3v2Tag.TAG_HEADER_LENGTH);
-        fc.read(bb);
-        bb.flip();
-        if (bb.limit() < (AbstractID3v2Tag.TAG_HEADER_LENGTH)) {
-            return 0;
+        ByteBufferAllocator allocator = TagOptionSingleton.getInstance().getByteBufferAllocator();
+        ByteBuffer bb = allocator.acquire(AbstractID3v2Tag.TAG_HEADER_LENGTH, false);
+        try {
+            fc.read(bb);
+            bb.flip();
+            if (bb.limit() < (AbstractID3v2Tag.TAG_HEADER_LENGTH)) {
+                return 0;
+            }
+
+            //ID3 identifier
+            byte[] tagIdentifier = new byte[AbstractID3v2Tag.FIELD_TAGID_LENGTH];
+            bb.get(tagIdentifier, 0, AbstractID3v2Tag.FIELD_TAGID_LENGTH);
+            if (!(Arrays.equals(tagIdentifier, AbstractID3v2Tag.TAG_ID))) {
+                return 0;
+            }
+
+            //Is it valid Major Version
+            byte majorVersion = bb.get();
+            if ((majorVersion != ID3v22Tag.MAJOR_VERSION) && (majorVersion != ID3v23Tag.MAJOR_VERSION) && (majorVersion != ID3v24Tag.MAJOR_VERSION)) {
+                return 0;
+            }
+
+            //Skip Minor Version
+            bb.get();
+
+            //Skip Flags
+            bb.get();
+
+            //Get size as recorded in frame header
+            int frameSize = ID3SyncSafeInteger.bufferToValue(bb);
+
+            //addField header size to frame size
+            frameSize += AbstractID3v2Tag.TAG_HEADER_LENGTH;
+            return frameSize;
+        } finally {
+            allocator.release(bb);
         }
-
-        //ID3 identifier
-        byte[] tagIdentifier = new byte[AbstractID3v2Tag.FIELD_TAGID_LENGTH];
-        bb.get(tagIdentifier, 0, AbstractID3v2Tag.FIELD_TAGID_LENGTH);
-        if (!(Arrays.equals(tagIdentifier, AbstractID3v2Tag.TAG_ID))) {
-            return 0;
-        }
-
-        //Is it valid Major Version
-        byte majorVersion = bb.get();
-        if ((majorVersion != ID3v22Tag.MAJOR_VERSION) && (majorVersion != ID3v23Tag.MAJOR_VERSION) && (majorVersion != ID3v24Tag.MAJOR_VERSION)) {
-            return 0;
-        }
-
-        //Skip Minor Version
-        bb.get();
-
-        //Skip Flags
-        bb.get();
-
-        //Get size as recorded in frame header
-        int frameSize = ID3SyncSafeInteger.bufferToValue(bb);
-
-        //addField header size to frame size
-        frameSize += AbstractID3v2Tag.TAG_HEADER_LENGTH;
-        return frameSize;
     }
 
     protected static final int TAG_LENGTH = 128;
@@ -89,18 +90,12 @@ public class ID3V2TagUtil {
         return mp3AudioHeader;
     }
 
-    private static InputStream createStream(final FileChannel raf) {
-        return new FullRequestInputStream(new BufferedInputStream(new FileChannelFileInputStreamV2(raf)));
-    }
-
     public static AsfHeader readInfoHeader(final FileChannel file) throws IOException {
-        final InputStream stream = createStream(file);
-        return AsfHeaderReader.INFO_READER.read(Utils.readGUID(stream), stream, 0);
+        return AsfHeaderReader.readInfoHeader(file);
     }
 
     public static AsfHeader readTagHeader(final FileChannel file) throws IOException {
-        final InputStream stream = createStream(file);
-        return AsfHeaderReader.TAG_READER.read(Utils.readGUID(stream), stream, 0);
+        return AsfHeaderReader.readTagHeader(file);
     }
 
 }
@@ -1,11 +1,13 @@
 package org.jaudiotagger.x;
 
 
+import org.jaudiotagger.audio.AudioFileFingerprint;
 import org.jaudiotagger.audio.SupportedFileFormat;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.ParseTrace;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.x.ape.ApeFileReader;
 import org.jaudiotagger.x.asf.AsfFileReader;
@@ -17,18 +19,64 @@ import org.jaudiotagger.x.stream.ChannelCompat;
 import org.jaudiotagger.x.wav.WavFileReader;
 
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Reads audio files from a {@link ChannelCompat}
+ *
+ * Thread safety: the format readers keep state while reading so an instance must only be used by one thread at a
+ * time, this includes the instance returned by {@link #getDefaultAudioFileIO()}. The static {@link #read} and
+ * {@link #readAll} methods are safe to call from any number of threads because each thread reads with its own
+ * instance.
+ */
 public class XAudioFileIO {
 
+    /**
+     * Called with the result of each source read by {@link #readAll}, methods are called from the reading threads
+     * so implementations must be thread safe
+     */
+    public interface BatchReadListener {
+        /**
+         * @param source the source that was read
+         * @param audioFile the file read from the source
+         */
+        void onRead(ChannelCompat source, XAudioFile audioFile);
+
+        /**
+         * @param source the source that could not be read
+         * @param e why the source could not be read
+         */
+        void onError(ChannelCompat source, Exception e);
+    }
+
+    /**
+     * Provides the file extension, used to choose the reader, for each source read by {@link #readAll}
+     */
+    public interface ExtensionResolver {
+        String getExtension(ChannelCompat source);
+    }
+
+    private static final ThreadLocal<XAudioFileIO> threadInstance = new ThreadLocal<XAudioFileIO>() {
+        @Override
+        protected XAudioFileIO initialValue() {
+            return new XAudioFileIO();
+        }
+    };
+
     private Map<String, AudioFileReader> readers = new HashMap<String, AudioFileReader>();
 
     private static XAudioFileIO defaultInstance;
 
-    public static XAudioFileIO getDefaultAudioFileIO() {
+    public static synchronized XAudioFileIO getDefaultAudioFileIO() {
         if (defaultInstance == null) {
             defaultInstance = new XAudioFileIO();
         }
@@ -69,13 +117,134 @@ public class XAudioFileIO {
         if (afr == null) {
             throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
         }
-        XAudioFile tempFile = afr.read(f);
-        tempFile.setExt(ext);
-        return tempFile;
+        long start = ParseTrace.startFile(f.toString());
+        try {
+            XAudioFile tempFile = afr.read(f);
+            tempFile.setExt(ext);
+            return tempFile;
+        } finally {
+            if (ParseTrace.isTracing(start)) {
+                ParseTrace.endFile(ext, f.size(), start);
+            }
+        }
     }
 
     public static XAudioFile read(ChannelCompat f, String ext)
             throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException {
-        return getDefaultAudioFileIO().readAs(f, ext);
+        return threadInstance.get().readAs(f, ext);
+    }
+
+    /**
+     * @param ext extension of a format
+     * @return true if there is a reader for the format
+     */
+    public static boolean isSupported(String ext) {
+        return threadInstance.get().readers.containsKey(ext);
+    }
+
+    /**
+     * Compute the fingerprint of the metadata of the source, reading only the metadata and the headers leading to it
+     *
+     * @param f            the source
+     * @param ext          extension of the format of the source
+     * @param lastModified modification time of the source in milliseconds
+     * @return the fingerprint, to be stored and passed to {@link #hasChanged} later
+     * @see AudioFileFingerprint
+     */
+    public static AudioFileFingerprint getFingerprint(ChannelCompat f, String ext, long lastModified) throws IOException {
+        FileChannel fc = f.newFileChannel();
+        try {
+            return AudioFileFingerprint.compute(fc, ext, lastModified);
+        } finally {
+            fc.close();
+        }
+    }
+
+    /**
+     * Check whether the metadata of the source has changed since its fingerprint was computed, the source is not
+     * opened at all if its size and modification time are unchanged
+     *
+     * @param f            the source
+     * @param ext          extension of the format of the source
+     * @param lastModified current modification time of the source in milliseconds
+     * @param previous     the fingerprint computed by {@link #getFingerprint} when the source was last read
+     * @return true if the metadata has changed
+     */
+    public static boolean hasChanged(ChannelCompat f, String ext, long lastModified, AudioFileFingerprint previous)
+            throws IOException {
+        if (previous.isUnmodified(f.size(), lastModified)) {
+            return false;
+        }
+        return getFingerprint(f, ext, lastModified).hasChanged(previous);
+    }
+
+    /**
+     * Read all the sources using one thread per available processor
+     *
+     * @see #readAll(Iterable, ExtensionResolver, int, BatchReadListener)
+     */
+    public static void readAll(Iterable<? extends ChannelCompat> sources, ExtensionResolver resolver, BatchReadListener listener)
+            throws InterruptedException {
+        readAll(sources, resolver, Runtime.getRuntime().availableProcessors(), listener);
+    }
+
+    /**
+     * Read all the sources on a pool of threads, returning once every source has been read
+     *
+     * Each thread reads with its own readers. Sources are only taken from the iterable as threads become free (at
+     * most two per thread are waiting at any time) so the iterable can lazily produce a very large number of
+     * sources. The result of each source is passed to the listener as soon as it has been read, in no particular
+     * order, a source that cannot be read is passed to {@link BatchReadListener#onError} and does not stop the other
+     * sources being read.
+     *
+     * @param sources the sources to read
+     * @param resolver provides the extension of each source
+     * @param threads the number of threads to read with
+     * @param listener receives the result of each source
+     * @throws InterruptedException if interrupted while waiting, sources not yet read are not read
+     */
+    public static void readAll(Iterable<? extends ChannelCompat> sources, final ExtensionResolver resolver, int threads,
+                               final BatchReadListener listener) throws InterruptedException {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1:" + threads);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new BatchThreadFactory());
+        final Semaphore pending = new Semaphore(threads * 2);
+        try {
+            for (final ChannelCompat source : sources) {
+                pending.acquire();
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            listener.onRead(source, read(source, resolver.getExtension(source)));
+                        } catch (Exception e) {
+                            listener.onError(source, e);
+                        } finally {
+                            pending.release();
+                        }
+                    }
+                });
+            }
+            executor.shutdown();
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // Keep waiting, each source reports its own result
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class BatchThreadFactory implements ThreadFactory {
+        private static final AtomicInteger poolCount = new AtomicInteger();
+        private final AtomicInteger threadCount = new AtomicInteger();
+        private final int pool = poolCount.incrementAndGet();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "XAudioFileIO-" + pool + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 }
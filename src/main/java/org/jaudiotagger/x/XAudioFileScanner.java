@@ -0,0 +1,453 @@
+package org.jaudiotagger.x;
+
+import org.jaudiotagger.audio.SupportedFileFormat;
+import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.audio.io.MappedFileChannel;
+import org.jaudiotagger.audio.ogg.util.OggPageHeader;
+import org.jaudiotagger.audio.ogg.util.VorbisHeader;
+import org.jaudiotagger.audio.opus.OpusHeader;
+import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.utils.FileTypeUtil;
+import org.jaudiotagger.x.stream.ChannelCompat;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveAction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads every audio file below one or more directories on a work stealing pool
+ *
+ * Each directory is listed by its own task so large and deeply nested trees are spread across the threads of the
+ * pool. The format of each file is identified from its first bytes rather than its name, falling back to the
+ * extension only if the bytes are not recognised, and the channel the bytes were read from is then handed to the
+ * reader so the file is only opened once (and, with {@link org.jaudiotagger.tag.TagOptionSingleton#isUseMemoryMappedRead()},
+ * only mapped once).
+ *
+ * Each directory is only read once however many ways it is reached, so symbolic links that loop back to a directory
+ * being scanned do not make the scan recurse forever.
+ *
+ * Results are returned as they are read, in no particular order. At most {@code parallelism * 64} results are held
+ * waiting to be taken, once that many are waiting the scan pauses until the caller catches up.
+ */
+public class XAudioFileScanner {
+
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.x");
+
+    /**
+     * Number of bytes read from the start of each file to identify its format
+     */
+    private static final int SNIFF_SIZE = 64;
+
+    private static final int QUEUED_RESULTS_PER_THREAD = 64;
+
+    /**
+     * The outcome of reading one file
+     */
+    public static class Result {
+        private final File file;
+        private final String ext;
+        private final XAudioFile audioFile;
+        private final Exception error;
+        private final long durationNanos;
+
+        private Result(File file, String ext, XAudioFile audioFile, Exception error, long durationNanos) {
+            this.file = file;
+            this.ext = ext;
+            this.audioFile = audioFile;
+            this.error = error;
+            this.durationNanos = durationNanos;
+        }
+
+        public File getFile() {
+            return file;
+        }
+
+        /**
+         * @return the extension of the format the file was read as, identified from its content where possible, or
+         * null if the format could not be identified
+         */
+        public String getExt() {
+            return ext;
+        }
+
+        /**
+         * @return the file read, or null if it could not be read
+         */
+        public XAudioFile getAudioFile() {
+            return audioFile;
+        }
+
+        /**
+         * @return why the file could not be read, or null if it was read
+         */
+        public Exception getError() {
+            return error;
+        }
+
+        /**
+         * @return time taken to identify and read the file, in nanoseconds
+         */
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return file + ":" + ext + ":" + (error == null ? "ok" : error.toString()) + ":" + (durationNanos / 1000) + "us";
+        }
+    }
+
+    /**
+     * The results of a scan, {@link #hasNext()} waits until the next file has been read or the scan has finished
+     *
+     * Closing the results before they have all been taken stops the scan.
+     */
+    public static class Results implements Iterator<Result>, Closeable {
+        private final BlockingQueue<Object> queue;
+        private final ForkJoinPool pool;
+        private Object next;
+        private boolean finished;
+
+        private Results(BlockingQueue<Object> queue, ForkJoinPool pool) {
+            this.queue = queue;
+            this.pool = pool;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !finished) {
+                try {
+                    next = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    close();
+                    return false;
+                }
+                if (next == END) {
+                    next = null;
+                    finished = true;
+                    pool.shutdown();
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Result next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Result result = (Result) next;
+            next = null;
+            return result;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+            finished = true;
+            next = null;
+            pool.shutdownNow();
+            //Free any task waiting for room in the queue
+            queue.clear();
+        }
+    }
+
+    private static final Object END = new Object();
+
+    private final int parallelism;
+    private final FileFilter fileFilter;
+
+    /**
+     * Scan with one thread per available processor, reading every file
+     */
+    public XAudioFileScanner() {
+        this(Runtime.getRuntime().availableProcessors(), null);
+    }
+
+    /**
+     * @param parallelism number of threads to read with
+     * @param fileFilter  files it does not accept are not read, directories it does not accept are not entered, may be
+     *                    null to read every file
+     */
+    public XAudioFileScanner(int parallelism, FileFilter fileFilter) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1:" + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.fileFilter = fileFilter;
+    }
+
+    /**
+     * Start reading every file below the roots, a root may also be a single file
+     *
+     * @param roots the directories or files to read
+     * @return the results, which should be closed if they are not all taken
+     */
+    public Results scan(File... roots) {
+        final BlockingQueue<Object> queue = new LinkedBlockingQueue<Object>(parallelism * QUEUED_RESULTS_PER_THREAD);
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        final Set<String> visited = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        final List<RecursiveAction> tasks = new ArrayList<RecursiveAction>();
+        for (File root : roots) {
+            tasks.add(newTask(root, queue, visited));
+        }
+        pool.execute(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                try {
+                    invokeAll(tasks);
+                } finally {
+                    offer(queue, END);
+                }
+            }
+        });
+        return new Results(queue, pool);
+    }
+
+    private RecursiveAction newTask(File file, BlockingQueue<Object> queue, Set<String> visited) {
+        return file.isDirectory() ? new DirectoryTask(file, queue, visited) : new FileTask(file, queue);
+    }
+
+    private static void offer(BlockingQueue<Object> queue, Object result) {
+        try {
+            queue.put(result);
+        } catch (InterruptedException e) {
+            //The results have been closed
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class DirectoryTask extends RecursiveAction {
+        private static final long serialVersionUID = 4790123527601934566L;
+
+        private final File dir;
+        private final BlockingQueue<Object> queue;
+
+        /**
+         * Canonical paths of the directories already entered by the scan
+         */
+        private final Set<String> visited;
+
+        private DirectoryTask(File dir, BlockingQueue<Object> queue, Set<String> visited) {
+            this.dir = dir;
+            this.queue = queue;
+            this.visited = visited;
+        }
+
+        @Override
+        protected void compute() {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            //A symbolic link may lead back to a directory already entered, so compare the resolved paths
+            String canonicalPath;
+            try {
+                canonicalPath = dir.getCanonicalPath();
+            } catch (IOException e) {
+                logger.warning("Unable to resolve directory:" + dir);
+                return;
+            }
+            if (!visited.add(canonicalPath)) {
+                if (logger.isLoggable(Level.FINE)) {
+                    logger.fine("Directory already scanned:" + dir);
+                }
+                return;
+            }
+            File[] files = fileFilter != null ? dir.listFiles(fileFilter) : dir.listFiles();
+            if (files == null) {
+                logger.warning("Unable to list directory:" + dir);
+                return;
+            }
+            List<RecursiveAction> tasks = new ArrayList<RecursiveAction>(files.length);
+            for (File file : files) {
+                tasks.add(newTask(file, queue, visited));
+            }
+            invokeAll(tasks);
+        }
+    }
+
+    private static class FileTask extends RecursiveAction {
+        private static final long serialVersionUID = -2213680375316580713L;
+
+        private final File file;
+        private final BlockingQueue<Object> queue;
+
+        private FileTask(File file, BlockingQueue<Object> queue) {
+            this.file = file;
+            this.queue = queue;
+        }
+
+        @Override
+        protected void compute() {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            long start = System.nanoTime();
+            String ext = null;
+            XAudioFile audioFile = null;
+            Exception error = null;
+            FileChannel fc = null;
+            try {
+                fc = MappedFileChannel.open(file);
+                ext = sniff(fc);
+                if (ext == null) {
+                    throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(Utils.getExtension(file)));
+                }
+                audioFile = XAudioFileIO.read(new SniffedChannelCompat(file, fc), ext);
+            } catch (Exception e) {
+                logger.log(Level.FINE, "Unable to read:" + file, e);
+                error = e;
+            } finally {
+                if (fc != null) {
+                    try {
+                        fc.close();
+                    } catch (IOException e) {
+                        logger.log(Level.FINE, "Unable to close:" + file, e);
+                    }
+                }
+            }
+            offer(queue, new Result(file, ext, audioFile, error, System.nanoTime() - start));
+        }
+
+        /**
+         * An ID3v2 tag may precede any format, so the format is identified from what follows the tag, and an Ogg
+         * stream is identified from the codec of its first packet. If the start of the file only shows an ID3v2 tag or
+         * an Ogg stream of an unknown codec, a supported extension of the file name is preferred.
+         *
+         * @return the extension of the format identified from the start of the file, or from the file name if the start
+         * of the file is not recognised, or null if neither identify the format
+         */
+        private String sniff(FileChannel fc) throws IOException {
+            String fileExt = Utils.getExtension(file);
+            String fileType = getMagicFileType(readAt(fc, 0));
+            boolean ambiguous = false;
+            if (fileType.equals("MP3IDv2")) {
+                fc.position(0);
+                long tagSize = ID3V2TagUtil.getV2TagSizeIfExists(fc);
+                fc.position(0);
+                String afterTag = getMagicFileType(readAt(fc, tagSize));
+                if (afterTag.equals("UNKNOWN")) {
+                    ambiguous = true;
+                } else {
+                    fileType = afterTag;
+                }
+            }
+            String ext = FileTypeUtil.getMagicExt(fileType);
+            if (fileType.equals("OGG")) {
+                ext = sniffOggCodec(fc);
+                ambiguous = ext == null;
+                if (ambiguous) {
+                    ext = FileTypeUtil.getMagicExt(fileType);
+                }
+            }
+            if (ext.isEmpty() || (ambiguous && XAudioFileIO.isSupported(fileExt))) {
+                ext = fileExt;
+            }
+            return ext.isEmpty() ? null : ext;
+        }
+
+        /**
+         * @return the extension of the codec of the first packet of the Ogg stream, or null if it is not recognised
+         */
+        private String sniffOggCodec(FileChannel fc) throws IOException {
+            byte[] page = readAt(fc, 0).array();
+            int packetStart = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + (page[OggPageHeader.FIELD_PAGE_SEGMENTS_POS] & 0xff);
+            byte[] packet = readAt(fc, packetStart).array();
+            if (startsWith(packet, 0, OpusHeader.HEAD_CAPTURE_PATTERN_AS_BYTES)) {
+                return SupportedFileFormat.OPUS.getFilesuffix();
+            }
+            if (startsWith(packet, VorbisHeader.FIELD_CAPTURE_PATTERN_POS, VorbisHeader.CAPTURE_PATTERN_AS_BYTES)) {
+                return SupportedFileFormat.OGG.getFilesuffix();
+            }
+            return null;
+        }
+
+        /**
+         * @return a buffer whose position is the number of bytes read, up to SNIFF_SIZE, from position of the file,
+         * the rest of its array is zero
+         */
+        private ByteBuffer readAt(FileChannel fc, long position) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(SNIFF_SIZE);
+            while (buffer.hasRemaining() && fc.read(buffer, position + buffer.position()) > 0) {
+                //Keep reading until the buffer is full or the file ends
+            }
+            return buffer;
+        }
+
+        private static String getMagicFileType(ByteBuffer buffer) {
+            return FileTypeUtil.getMagicFileType(buffer.array(), buffer.position());
+        }
+
+        private static boolean startsWith(byte[] bytes, int offset, byte[] pattern) {
+            for (int i = 0; i < pattern.length; i++) {
+                if (bytes[offset + i] != pattern[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Reads a file whose first channel has already been opened to identify its format
+     */
+    private static class SniffedChannelCompat implements ChannelCompat {
+        private final File file;
+        private FileChannel sniffed;
+
+        private SniffedChannelCompat(File file, FileChannel sniffed) {
+            this.file = file;
+            this.sniffed = sniffed;
+        }
+
+        @Override
+        public FileChannel newFileChannel() {
+            FileChannel fc = sniffed;
+            if (fc != null && fc.isOpen()) {
+                sniffed = null;
+                try {
+                    fc.position(0);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                return fc;
+            }
+            try {
+                return MappedFileChannel.open(file);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public long size() {
+            return file.length();
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.x.AudioFileReader;
 import org.jaudiotagger.x.XAudioFile;
 import org.jaudiotagger.x.stream.ChannelCompat;
+import org.jaudiotagger.x.stream.ReadRanges;
 
 import java.io.IOException;
 import java.nio.channels.FileChannel;
@@ -26,9 +27,17 @@ public class ApeFileReader extends AudioFileReader {
         return null;
     }
 
+    /**
+     * The header at the start of the file and the APE tag at the end
+     */
+    @Override
+    protected ReadRanges getReadRanges() {
+        return new ReadRanges().head(HEAD_SIZE).tail(TAIL_SIZE);
+    }
+
     @Override
     public XAudioFile read(ChannelCompat f) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException {
-        FileChannel fileChannel = f.newFileChannel();
+        FileChannel fileChannel = newFileChannel(f);
         try {
             InputStreamFileCompat inputStreamFileCompat = new InputStreamFileCompat(fileChannel, f.size());
             APEInfo apeInfo = new APEInfo(inputStreamFileCompat);
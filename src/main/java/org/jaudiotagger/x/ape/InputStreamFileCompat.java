@@ -1,23 +1,28 @@
 package org.jaudiotagger.x.ape;
 
 import davaguine.jmac.tools.File;
+import org.jaudiotagger.x.stream.FileChannelFileInputStreamV2;
 
 import java.io.EOFException;
 import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 
 public class InputStreamFileCompat extends File {
 
     FileChannel source;
     long length;
-    private byte readBuffer[] = new byte[8];
+
+    /**
+     * Reads through a read ahead buffer so the many small reads made by the APE parser do not each hit the channel
+     */
+    private final FileChannelFileInputStreamV2 in;
 
     private long markPosition = -1;
 
     public InputStreamFileCompat(FileChannel source, long length) {
         this.source = source;
         this.length = length;
+        this.in = new FileChannelFileInputStreamV2(source);
     }
 
     public void mark(int readlimit) throws IOException {
@@ -30,32 +35,19 @@ public class InputStreamFileCompat extends File {
     }
 
     public int read() throws IOException {
-        ByteBuffer byteBuffer = ByteBuffer.allocate(1);
-        int bytesRead = source.read(byteBuffer); // 从通道读取数据到缓冲区
-        if (bytesRead == -1) {
-            return -1; // 表示已经读取到文件末尾
-        }
-        byteBuffer.flip(); // 反转缓冲区，以便从缓冲区读取数据
-        return byteBuffer.get() & 0xFF; // 返回缓冲区中的下一个字节数据（0-255之间的整数）
+        return in.read();
     }
 
     public short readShortBack() throws IOException {
-        return (short) (read() | (read() << 8));
+        return in.readShortLE();
     }
 
     public int readIntBack() throws IOException {
-        return read() | (read() << 8) | (read() << 16) | (read() << 24);
+        return in.readIntLE();
     }
 
     public long readLongBack() throws IOException {
-        return read() |
-                (read() << 8) |
-                (read() << 16) |
-                (read() << 24) |
-                (read() << 32) |
-                (read() << 40) |
-                (read() << 48) |
-                (read() << 56);
+        return in.readLongLE();
     }
 
     public int read(byte[] b) throws IOException {
@@ -63,14 +55,7 @@ public class InputStreamFileCompat extends File {
     }
 
     public int read(byte[] b, int offs, int len) throws IOException {
-        ByteBuffer byteBuffer = ByteBuffer.allocate(len);
-        int bytesRead = source.read(byteBuffer);
-        if (bytesRead == -1) {
-            return -1; // 表示已经读取到文件末尾
-        }
-        byteBuffer.flip();
-        byteBuffer.get(b, offs, len);
-        return bytesRead;
+        return in.read(b, offs, len);
     }
 
     public void readFully(byte[] b) throws IOException {
@@ -100,11 +85,7 @@ public class InputStreamFileCompat extends File {
     }
 
     public char readChar() throws IOException {
-        int ch1 = read();
-        int ch2 = read();
-        if ((ch1 | ch2) < 0)
-            throw new EOFException();
-        return (char)((ch1 << 8) + (ch2 << 0));
+        return (char) in.readShortBE();
     }
 
     public double readDouble() throws IOException {
@@ -116,13 +97,7 @@ public class InputStreamFileCompat extends File {
     }
 
     public int readInt() throws IOException {
-        int ch1 = read();
-        int ch2 = read();
-        int ch3 = read();
-        int ch4 = read();
-        if ((ch1 | ch2 | ch3 | ch4) < 0)
-            throw new EOFException();
-        return ((ch1 << 24) + (ch2 << 16) + (ch3 << 8) + (ch4 << 0));
+        return in.readIntBE();
     }
 
     public String readLine() throws IOException {
@@ -131,23 +106,11 @@ public class InputStreamFileCompat extends File {
     }
 
     public long readLong() throws IOException {
-        readFully(readBuffer, 0, 8);
-        return (((long)readBuffer[0] << 56) +
-                ((long)(readBuffer[1] & 255) << 48) +
-                ((long)(readBuffer[2] & 255) << 40) +
-                ((long)(readBuffer[3] & 255) << 32) +
-                ((long)(readBuffer[4] & 255) << 24) +
-                ((readBuffer[5] & 255) << 16) +
-                ((readBuffer[6] & 255) <<  8) +
-                ((readBuffer[7] & 255) <<  0));
+        return in.readLongBE();
     }
 
     public short readShort() throws IOException {
-        int ch1 = read();
-        int ch2 = read();
-        if ((ch1 | ch2) < 0)
-            throw new EOFException();
-        return (short)((ch1 << 8) + (ch2 << 0));
+        return in.readShortBE();
     }
 
     public int readUnsignedByte() throws IOException {
@@ -158,11 +121,7 @@ public class InputStreamFileCompat extends File {
     }
 
     public int readUnsignedShort() throws IOException {
-        int ch1 = read();
-        int ch2 = read();
-        if ((ch1 | ch2) < 0)
-            throw new EOFException();
-        return (ch1 << 8) + (ch2 << 0);
+        return in.readShortBE() & 0xFFFF;
     }
 
     public String readUTF() throws IOException {
@@ -24,7 +24,6 @@ import org.jaudiotagger.audio.asf.data.MetadataContainer;
 import org.jaudiotagger.audio.asf.data.MetadataDescriptor;
 import org.jaudiotagger.audio.asf.io.*;
 import org.jaudiotagger.audio.asf.util.TagConverter;
-import org.jaudiotagger.audio.asf.util.Utils;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
@@ -36,7 +35,7 @@ import org.jaudiotagger.x.AudioFileReader;
 import org.jaudiotagger.x.ID3V2TagUtil;
 import org.jaudiotagger.x.XAudioFile;
 import org.jaudiotagger.x.stream.ChannelCompat;
-import org.jaudiotagger.x.stream.FileChannelFileInputStreamV2;
+import org.jaudiotagger.x.stream.ReadRanges;
 
 import java.io.*;
 import java.nio.channels.FileChannel;
@@ -190,6 +189,14 @@ public class AsfFileReader extends AudioFileReader {
         return tag;
     }
 
+    /**
+     * The header object at the start of the file
+     */
+    @Override
+    protected ReadRanges getReadRanges() {
+        return new ReadRanges().head(HEAD_SIZE);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -197,9 +204,8 @@ public class AsfFileReader extends AudioFileReader {
     public XAudioFile read(final ChannelCompat f) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException {
         FileChannel fc = null;
         try {
-            fc = f.newFileChannel();
-            InputStream stream = new FullRequestInputStream(new BufferedInputStream(new FileChannelFileInputStreamV2(fc)));
-            final AsfHeader header = HEADER_READER.read(Utils.readGUID(stream), stream, 0);
+            fc = newFileChannel(f);
+            final AsfHeader header = HEADER_READER.read(fc, 0);
             if (header == null) {
                 throw new CannotReadException(ErrorMessage.ASF_HEADER_MISSING.getMsg(""));
             }
@@ -21,6 +21,9 @@ package org.jaudiotagger.x.flac;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.x.stream.ChannelCompat;
+import org.jaudiotagger.x.stream.ChannelCompatDataSource;
+import org.jaudiotagger.x.stream.ReadRanges;
 import org.jaudiotagger.x.stream.SlideBufferFileChannel;
 import org.jaudiotagger.x.wav.AudioFileReader2;
 
@@ -43,4 +46,17 @@ public class FlacFileReader extends AudioFileReader2 {
         return tr.read(channel);
     }
 
+    /**
+     * The metadata blocks at the start of the file
+     */
+    @Override
+    protected ReadRanges getReadRanges() {
+        return new ReadRanges().head(HEAD_SIZE);
+    }
+
+    @Override
+    protected Tag getTagV2(FileChannel channel, ChannelCompat f) throws CannotReadException, IOException {
+        return tr.read(channel, new ChannelCompatDataSource(f));
+    }
+
 }
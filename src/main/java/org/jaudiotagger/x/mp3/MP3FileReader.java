@@ -8,9 +8,12 @@ import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
+import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.x.AudioFileReader;
 import org.jaudiotagger.x.XAudioFile;
 import org.jaudiotagger.x.stream.ChannelCompat;
+import org.jaudiotagger.x.stream.ChannelCompatDataSource;
+import org.jaudiotagger.x.stream.ReadRanges;
 import org.jaudiotagger.x.stream.SlideBufferFileChannel;
 
 import java.io.IOException;
@@ -22,6 +25,20 @@ import java.nio.channels.FileChannel;
  */
 public class MP3FileReader extends AudioFileReader {
 
+    private final int loadOptions;
+
+    public MP3FileReader() {
+        this(MP3File.LOAD_IDV1TAG | MP3File.LOAD_IDV2TAG);
+    }
+
+    /**
+     * @param loadOptions the {@link XMP3File} load options to read files with, for example
+     *                    {@link XMP3File#LOAD_SKIP_AUDIO_HEADER} when only the tags are wanted
+     */
+    public MP3FileReader(int loadOptions) {
+        this.loadOptions = loadOptions;
+    }
+
     @Override
     protected GenericAudioHeader getEncodingInfo(FileChannel raf) {
         throw new RuntimeException("MP3FileReader.getEncodingInfo should be called");
@@ -32,6 +49,14 @@ public class MP3FileReader extends AudioFileReader {
         throw new RuntimeException("MP3FileReader.getEncodingInfo should be called");
     }
 
+    /**
+     * The ID3v2 tag and the first audio frames at the start of the file and the ID3v1 tag at the end
+     */
+    @Override
+    protected ReadRanges getReadRanges() {
+        return new ReadRanges().head(HEAD_SIZE).tail(4 * 1024);
+    }
+
     /**
      * @param f
      * @return
@@ -40,8 +65,11 @@ public class MP3FileReader extends AudioFileReader {
     public XAudioFile read(ChannelCompat f) throws IOException, TagException, ReadOnlyFileException, CannotReadException, InvalidAudioFrameException {
         FileChannel slideBufferFileChannel = null;
         try {
-            slideBufferFileChannel = f.newFileChannel();
-            XMP3File mp3File = new XMP3File(slideBufferFileChannel, MP3File.LOAD_IDV1TAG | MP3File.LOAD_IDV2TAG, true);
+            slideBufferFileChannel = newFileChannel(f);
+            XMP3File mp3File = new XMP3File(slideBufferFileChannel, loadOptions, true);
+            if (mp3File.getID3v2Tag() != null && TagOptionSingleton.getInstance().isLoadArtworkLazily()) {
+                mp3File.getID3v2Tag().setImageDataReferences(new ChannelCompatDataSource(f));
+            }
             return mp3File;
         } finally {
             if (slideBufferFileChannel != null) slideBufferFileChannel.close();
@@ -31,6 +31,7 @@ import org.jaudiotagger.tag.TagNotFoundException;
 import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.id3.*;
 import org.jaudiotagger.tag.lyrics3.AbstractLyrics3;
+import org.jaudiotagger.utils.ByteBufferAllocator;
 import org.jaudiotagger.x.ID3V2TagUtil;
 import org.jaudiotagger.x.XAudioFile;
 import org.jaudiotagger.x.stream.SlideBufferFileChannel;
@@ -94,6 +95,18 @@ public class XMP3File extends XAudioFile {
 
     public static final int LOAD_ALL = LOAD_IDV1TAG | LOAD_IDV2TAG | LOAD_LYRICS3;
 
+    /**
+     * Only read the first audio frame after the ID3v2 tag (and the Xing/VBRI/LAME frame within it), the start of
+     * audio is not cross checked by searching again from the start of file when it does not follow the tag
+     */
+    public static final int LOAD_QUICK_AUDIO_HEADER = 16;
+
+    /**
+     * Do not read the audio header at all, the ID3v2 tag is assumed to end where its header says and
+     * the audio header will be null
+     */
+    public static final int LOAD_SKIP_AUDIO_HEADER = 32;
+
 
     private void readV1Tag(FileChannel fc, int loadOptions) throws IOException {
         if ((loadOptions & LOAD_IDV1TAG) != 0) {
@@ -180,7 +193,9 @@ public class XMP3File extends XAudioFile {
                 }
             }
         } else {
-            logger.config("Not enough room for valid id3v2 tag:" + startByte);
+            if (logger.isLoggable(Level.CONFIG)) {
+                logger.config("Not enough room for valid id3v2 tag:" + startByte);
+            }
         }
     }
 
@@ -196,16 +211,23 @@ public class XMP3File extends XAudioFile {
      * otherwise
      */
     private boolean isFilePortionNull(FileChannel fc, int startByte, int endByte) throws IOException {
-        logger.config("Checking file portion:" + Hex.asHex(startByte) + ":" + Hex.asHex(endByte));
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Checking file portion:" + Hex.asHex(startByte) + ":" + Hex.asHex(endByte));
+        }
         fc.position(startByte);
-        ByteBuffer bb = ByteBuffer.allocateDirect(endByte - startByte);
-        fc.read(bb);
-        while (bb.hasRemaining()) {
-            if (bb.get() != 0) {
-                return false;
+        ByteBufferAllocator allocator = TagOptionSingleton.getInstance().getByteBufferAllocator();
+        ByteBuffer bb = allocator.acquire(endByte - startByte, true);
+        try {
+            fc.read(bb);
+            while (bb.hasRemaining()) {
+                if (bb.get() != 0) {
+                    return false;
+                }
             }
+            return true;
+        } finally {
+            allocator.release(bb);
         }
-        return true;
     }
 
     /**
@@ -226,7 +248,9 @@ public class XMP3File extends XAudioFile {
         //this way we cant overwrite the audio although we might overwrite part of the tag if we write this file
         //back later
         headerOne = ID3V2TagUtil.MP3AudioHeader(fileChannel, 0);
-        logger.config("Checking from start:" + headerOne);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Checking from start:" + headerOne);
+        }
 
         //Although the id3 tag size appears to be incorrect at least we have found the same location for the start
         //of audio whether we start searching from start of file or at the end of the alleged of file so no real
@@ -268,28 +292,58 @@ public class XMP3File extends XAudioFile {
         }
     }
 
+    /**
+     * Find the start of audio when saving a file that was loaded without its audio header
+     */
+    private long findMP3StartByte(File file) throws IOException {
+        try (FileChannel fc = new RandomAccessFile(file, "r").getChannel()) {
+            long startByte = ID3V2TagUtil.getV2TagSizeIfExists(fc);
+            fc.position(0);
+            MP3AudioHeader audioHeader = ID3V2TagUtil.MP3AudioHeader(fc, startByte);
+            if (startByte != audioHeader.getMp3StartByte()) {
+                audioHeader = checkAudioStart(fc, startByte, audioHeader);
+            }
+            return audioHeader.getMp3StartByte();
+        } catch (InvalidAudioFrameException iafe) {
+            throw new IOException(iafe.getMessage(), iafe);
+        }
+    }
+
     public XMP3File(FileChannel fc, int loadOptions, boolean readOnly) throws IOException, TagException, ReadOnlyFileException, CannotReadException, InvalidAudioFrameException {
         //Read ID3v2 tag size (if tag exists) to allow audioHeader parsing to skip over tag
         long tagSizeReportedByHeader = ID3V2TagUtil.getV2TagSizeIfExists(fc);
-        logger.config("TagHeaderSize:" + Hex.asHex(tagSizeReportedByHeader));
-        fc.position(0);
-        audioHeader =  ID3V2TagUtil.MP3AudioHeader(fc, tagSizeReportedByHeader);
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("TagHeaderSize:" + Hex.asHex(tagSizeReportedByHeader));
+        }
+        long audioStartByte = tagSizeReportedByHeader;
+        if ((loadOptions & LOAD_SKIP_AUDIO_HEADER) == 0) {
+            fc.position(0);
+            audioHeader = ID3V2TagUtil.MP3AudioHeader(fc, tagSizeReportedByHeader);
 
-        fc.position(0);
+            fc.position(0);
 
-        //If the audio header is not straight after the end of the tag then search from start of file
-        if (tagSizeReportedByHeader != ((MP3AudioHeader) audioHeader).getMp3StartByte()) {
-            logger.config("First header found after tag:" + audioHeader);
-            audioHeader = checkAudioStart(fc, tagSizeReportedByHeader, (MP3AudioHeader) audioHeader);
+            //If the audio header is not straight after the end of the tag then search from start of file
+            if (tagSizeReportedByHeader != ((MP3AudioHeader) audioHeader).getMp3StartByte()
+                    && (loadOptions & LOAD_QUICK_AUDIO_HEADER) == 0) {
+                if (logger.isLoggable(Level.CONFIG)) {
+                    logger.config("First header found after tag:" + audioHeader);
+                }
+                audioHeader = checkAudioStart(fc, tagSizeReportedByHeader, (MP3AudioHeader) audioHeader);
+            }
+            audioStartByte = ((MP3AudioHeader) audioHeader).getMp3StartByte();
         }
 
         //Read v1 tags (if any)
+        long traceStart = ParseTrace.start();
         readV1Tag(fc, loadOptions);
+        ParseTrace.event(ParseTrace.TAG, "id3v1", -1, -1, traceStart);
 
         fc.position(0);
 
         //Read v2 tags (if any)
-        readV2Tag(fc, loadOptions, (int) ((MP3AudioHeader) audioHeader).getMp3StartByte());
+        traceStart = ParseTrace.start();
+        readV2Tag(fc, loadOptions, (int) audioStartByte);
+        ParseTrace.event(ParseTrace.TAG, "id3v2", 0, audioStartByte, traceStart);
 
         //If we have a v2 tag use that, if we do not but have v1 tag use that
         //otherwise use nothing
@@ -306,7 +360,7 @@ public class XMP3File extends XAudioFile {
 
     /**
      * Return audio header
-     * @return
+     * @return the audio header, or null if the file was loaded with {@link #LOAD_SKIP_AUDIO_HEADER}
      */
     public MP3AudioHeader getMP3AudioHeader() {
         return (MP3AudioHeader) getAudioHeader();
@@ -404,7 +458,8 @@ public class XMP3File extends XAudioFile {
         if (id3v2tag instanceof ID3v24Tag) {
             this.id3v2Asv24tag = (ID3v24Tag) this.id3v2tag;
         } else {
-            this.id3v2Asv24tag = new ID3v24Tag(id3v2tag);
+            //Created on first use by getID3v2TagAsv24() because copying every frame is expensive
+            this.id3v2Asv24tag = null;
         }
     }
 
@@ -432,6 +487,9 @@ public class XMP3File extends XAudioFile {
      * @return a representation of tag as v24
      */
     public ID3v24Tag getID3v2TagAsv24() {
+        if (id3v2Asv24tag == null && id3v2tag != null) {
+            id3v2Asv24tag = new ID3v24Tag(id3v2tag);
+        }
         return id3v2Asv24tag;
     }
 
@@ -511,7 +569,9 @@ public class XMP3File extends XAudioFile {
         //Ensure we are dealing with absolute filepaths not relative ones
         File file = fileToSave.getAbsoluteFile();
 
-        logger.config("Saving  : " + file.getPath());
+        if (logger.isLoggable(Level.CONFIG)) {
+            logger.config("Saving  : " + file.getPath());
+        }
 
         //Checks before starting write
         precheck(file);
@@ -525,15 +585,21 @@ public class XMP3File extends XAudioFile {
                     (new ID3v24Tag()).delete(rfile);
                     (new ID3v23Tag()).delete(rfile);
                     (new ID3v22Tag()).delete(rfile);
-                    logger.config("Deleting ID3v2 tag:" + file.getName());
+                    if (logger.isLoggable(Level.CONFIG)) {
+                        logger.config("Deleting ID3v2 tag:" + file.getName());
+                    }
                     rfile.close();
                 } else {
-                    logger.config("Writing ID3v2 tag:" + file.getName());
+                    if (logger.isLoggable(Level.CONFIG)) {
+                        logger.config("Writing ID3v2 tag:" + file.getName());
+                    }
                     final MP3AudioHeader mp3AudioHeader = (MP3AudioHeader) this.getAudioHeader();
-                    final long mp3StartByte = mp3AudioHeader.getMp3StartByte();
+                    final long mp3StartByte = mp3AudioHeader != null ? mp3AudioHeader.getMp3StartByte() : findMP3StartByte(file);
                     final long newMp3StartByte = id3v2tag.write(file, mp3StartByte);
-                    if (mp3StartByte != newMp3StartByte) {
-                        logger.config("New mp3 start byte: " + newMp3StartByte);
+                    if (mp3AudioHeader != null && mp3StartByte != newMp3StartByte) {
+                        if (logger.isLoggable(Level.CONFIG)) {
+                            logger.config("New mp3 start byte: " + newMp3StartByte);
+                        }
                         mp3AudioHeader.setMp3StartByte(newMp3StartByte);
                     }
 
@@ -19,12 +19,14 @@
 package org.jaudiotagger.x.mp4;
 
 import org.jaudiotagger.x.stream.ChannelCompat;
+import org.jaudiotagger.x.stream.ReadRanges;
 import org.jaudiotagger.x.stream.SlideBufferFileChannel;
 import org.jaudiotagger.x.stream.SlideBufferInputStream;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.x.AudioFileReader;
+import org.jcodec.containers.mp4.MP4Util;
 
 import java.io.IOException;
 import java.nio.channels.FileChannel;
@@ -47,4 +49,33 @@ public class Mp4FileReader extends AudioFileReader {
     protected Tag getTag(FileChannel raf) throws CannotReadException, IOException {
         return tr.read(raf);
     }
+
+    /**
+     * The root atoms are walked from the start of the file, the header of the media data atom is read from the start
+     * and a movie header after the media data is read from the end
+     */
+    @Override
+    protected ReadRanges getReadRanges() {
+        return new ReadRanges().head(HEAD_SIZE).tail(2 * TAIL_SIZE);
+    }
+
+    /**
+     * Parses the moov box only once per read, the parsed movie is then shared by the info and tag readers
+     * rather than each of them walking the root atoms and parsing the moov box again. Only the metadata boxes
+     * are parsed, the sample tables are skipped.
+     */
+    @Override
+    protected Object parse(FileChannel raf) throws CannotReadException, IOException {
+        return MP4Util.parseMetadataMovieChannel(raf);
+    }
+
+    @Override
+    protected GenericAudioHeader getEncodingInfo(FileChannel raf, Object parsed) throws CannotReadException, IOException {
+        return ir.read((MP4Util.Movie) parsed, raf);
+    }
+
+    @Override
+    protected Tag getTag(FileChannel raf, Object parsed) throws CannotReadException, IOException {
+        return tr.read((MP4Util.Movie) parsed);
+    }
 }
@@ -77,7 +77,17 @@ public class Mp4TagReader {
     public static Logger logger = Logger.getLogger("org.jaudiotagger.tag.mp4");
 
     public Mp4Tag read(FileChannel fc) throws CannotReadException, IOException {
-        MP4Util.Movie mp4 = MP4Util.parseFullMovieChannel(fc);
+        return read(MP4Util.parseFullMovieChannel(fc));
+    }
+
+    /**
+     * Read the tag from an already parsed movie, so the moov box can be shared with the info reader
+     *
+     * @param mp4 the parsed movie, may be null if the file has no moov box
+     * @return the tag
+     * @throws CannotReadException if the movie has no moov box
+     */
+    public Mp4Tag read(MP4Util.Movie mp4) throws CannotReadException {
         Mp4Tag tag = new Mp4Tag();
 
         //Get to the facts everything we are interested in is within the moov box, so just load data from file
@@ -23,6 +23,7 @@ import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.x.AudioFileReader;
 import org.jaudiotagger.x.stream.ChannelCompat;
+import org.jaudiotagger.x.stream.ReadRanges;
 import org.jaudiotagger.x.stream.SlideBufferFileChannel;
 
 import java.io.File;
@@ -58,5 +59,13 @@ public class OggFileReader extends AudioFileReader {
         return vtr.read(raf);
     }
 
+    /**
+     * The header packets at the start of the file and the last page, used for the track length, at the end
+     */
+    @Override
+    protected ReadRanges getReadRanges() {
+        return new ReadRanges().head(HEAD_SIZE).tail(TAIL_SIZE);
+    }
+
 }
 
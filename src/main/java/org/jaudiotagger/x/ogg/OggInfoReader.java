@@ -23,6 +23,7 @@ import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
+import org.jaudiotagger.audio.ogg.util.OggPageScanner;
 import org.jaudiotagger.audio.ogg.util.VorbisIdentificationHeader;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
@@ -45,7 +46,6 @@ public class OggInfoReader {
         FileChannelFileInputStreamV2 fileChannelFileInputstreamV2 = new FileChannelFileInputStreamV2(fc);
         GenericAudioHeader info = new GenericAudioHeader();
         logger.fine("Started");
-        long oldPos;
 
         //Check start of file does it have Ogg pattern
         byte[] b = new byte[OggPageHeader.CAPTURE_PATTERN.length];
@@ -64,35 +64,13 @@ public class OggInfoReader {
 
         //Now work backwards from file looking for the last ogg page, it reads the granule position for this last page
         //which must be set.
-        //TODO should do buffering to cut down the number of file reads
         fc.position(start);
         long pcmSamplesNumber = -1;
-        fc.position(fc.size() - 2);
-        fileChannelFileInputstreamV2.holder();
-        while (fc.position() >= 4) {
-            if (fileChannelFileInputstreamV2.read() == OggPageHeader.CAPTURE_PATTERN[3]) {
-                fc.position(fc.position() - OggPageHeader.FIELD_CAPTURE_PATTERN_LENGTH);
-                byte[] ogg = new byte[3];
-                fileChannelFileInputstreamV2.readFully(ogg);
-                if (ogg[0] == OggPageHeader.CAPTURE_PATTERN[0] && ogg[1] == OggPageHeader.CAPTURE_PATTERN[1] && ogg[2] == OggPageHeader.CAPTURE_PATTERN[2]) {
-                    fc.position(fc.position() - 3);
-
-                    oldPos = fc.position();
-                    fc.position(fc.position() + OggPageHeader.FIELD_PAGE_SEGMENTS_POS);
-                    int pageSegments = fileChannelFileInputstreamV2.readByte() & 0xFF; //Unsigned
-                    fc.position(oldPos);
-
-                    b = new byte[OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageSegments];
-                    fileChannelFileInputstreamV2.readFully(b);
-
-                    OggPageHeader pageHeader = new OggPageHeader(b);
-                    fc.position(0);
-                    pcmSamplesNumber = pageHeader.getAbsoluteGranulePosition();
-                    break;
-                }
-            }
-            fc.position(fc.position() - 2);
+        OggPageHeader lastPageHeader = OggPageScanner.findLastPage(fc, start, false);
+        if (lastPageHeader != null) {
+            pcmSamplesNumber = lastPageHeader.getAbsoluteGranulePosition();
         }
+        fc.position(0);
 
         if (pcmSamplesNumber == -1) {
             //According to spec a value of -1 indicates no packet finished on this page, this should not occur
@@ -3,6 +3,7 @@ package org.jaudiotagger.x.ogg;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.ParseTrace;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
 import org.jaudiotagger.x.stream.FileChannelFileInputStreamV2;
 
@@ -13,6 +14,7 @@ public class OggPageHeaderUtil {
 
 
     public static OggPageHeader read(FileChannelFileInputStreamV2 raf) throws IOException, CannotReadException {
+        long traceStart = ParseTrace.start();
         long start = raf.position();
 
         byte[] b = new byte[OggPageHeader.CAPTURE_PATTERN.length];
@@ -40,6 +42,7 @@ public class OggPageHeaderUtil {
 
         OggPageHeader pageHeader = new OggPageHeader(b);
         pageHeader.setStartByte(start);
+        ParseTrace.event(ParseTrace.OGG_PAGE, null, start, b.length + pageHeader.getPageLength(), traceStart);
         //Now just after PageHeader, ready for Packet Data
         return pageHeader;
     }
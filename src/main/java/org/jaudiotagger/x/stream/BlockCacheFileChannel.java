@@ -0,0 +1,270 @@
+package org.jaudiotagger.x.stream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.*;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A read only channel over the streams of an {@link InputStreamFactory} that keeps the data read in a fixed number
+ * of fixed size blocks, least recently used blocks are reused once the limit is reached so memory use never exceeds
+ * blockSize * maxBlocks.
+ *
+ * Only one underlying stream is open at a time, blocks missing from the cache are read from it as long as they are
+ * ahead of it and not too far away, a new stream is only opened at the block when reading backwards or jumping far
+ * forward, for example to the tail of the file to read an ID3v1 tag or the last Ogg page.
+ *
+ * Can be used in place of {@link SlideBufferFileChannel}
+ */
+public class BlockCacheFileChannel extends FileChannel {
+
+    public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+    public static final int DEFAULT_MAX_BLOCKS = 32;
+
+    private final InputStreamFactory inputStreamFactory;
+    private final int blockSize;
+    private final int maxBlocks;
+
+    private final LinkedHashMap<Long, byte[]> blocks;
+    private final ArrayDeque<byte[]> freeBlocks = new ArrayDeque<>();
+
+    private SlideBufferInputStream in;
+    private long streamPosition;
+
+    private long position;
+
+    public BlockCacheFileChannel(InputStreamFactory inputStreamFactory) {
+        this(inputStreamFactory, DEFAULT_BLOCK_SIZE, DEFAULT_MAX_BLOCKS);
+    }
+
+    /**
+     * @param inputStreamFactory opens the underlying streams
+     * @param blockSize size in bytes of each cached block
+     * @param maxBlocks maximum number of blocks kept in memory
+     */
+    public BlockCacheFileChannel(InputStreamFactory inputStreamFactory, int blockSize, int maxBlocks) {
+        if (blockSize <= 0 || maxBlocks <= 0) {
+            throw new IllegalArgumentException("blockSize and maxBlocks must be positive");
+        }
+        this.inputStreamFactory = inputStreamFactory;
+        this.blockSize = blockSize;
+        this.maxBlocks = maxBlocks;
+        this.blocks = new LinkedHashMap<Long, byte[]>(maxBlocks, 0.75f, true);
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        int read = read(dst, position);
+        if (read > 0) {
+            position += read;
+        }
+        return read;
+    }
+
+    @Override
+    public int read(ByteBuffer dst, long position) throws IOException {
+        if (!isOpen()) {
+            throw new ClosedChannelException();
+        }
+        long size = size();
+        if (position >= size) {
+            return -1;
+        }
+        int n = 0;
+        try {
+            begin();
+            while (dst.hasRemaining() && position < size) {
+                long index = position / blockSize;
+                int offset = (int) (position - index * blockSize);
+                byte[] block = getBlock(index, size);
+                int length = (int) Math.min(Math.min(dst.remaining(), blockSize - offset), size - position);
+                dst.put(block, offset, length);
+                position += length;
+                n += length;
+            }
+        } finally {
+            end(n > 0);
+        }
+        return n;
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+        long n = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (!dsts[i].hasRemaining()) {
+                continue;
+            }
+            int read = read(dsts[i]);
+            if (read < 0) {
+                return n == 0 ? -1 : n;
+            }
+            n += read;
+            if (dsts[i].hasRemaining()) {
+                break;
+            }
+        }
+        return n;
+    }
+
+    private byte[] getBlock(long index, long size) throws IOException {
+        byte[] block = blocks.get(index);
+        if (block != null) {
+            return block;
+        }
+
+        long start = index * blockSize;
+        int length = (int) Math.min(blockSize, size - start);
+        seekStream(start);
+        block = newBlock();
+        int n = 0;
+        while (n < length) {
+            int count = in.readNext(block, n, length - n);
+            if (count < 0) {
+                break;
+            }
+            n += count;
+        }
+        streamPosition += n;
+        if (n < length) {
+            freeBlocks.add(block);
+            throw new IOException("Unexpected end of stream at " + streamPosition + " expected " + size);
+        }
+        blocks.put(index, block);
+        return block;
+    }
+
+    /**
+     * Move the stream to the start of the block, skipping forward in the current stream when the block is close
+     * ahead of it, otherwise replacing it with a new stream opened at the block
+     */
+    private void seekStream(long start) throws IOException {
+        if (in != null && start >= streamPosition && start - streamPosition <= inputStreamFactory.getMaxBufferLength()) {
+            skipStream(start);
+            if (streamPosition == start) {
+                return;
+            }
+        }
+        if (in != null) {
+            in.close();
+        }
+        in = inputStreamFactory.newInputStream(start);
+        streamPosition = in.getInitPosition();
+        skipStream(start);
+    }
+
+    private void skipStream(long start) throws IOException {
+        if (streamPosition >= start) {
+            return;
+        }
+        byte[] skipBuffer = newBlock();
+        while (streamPosition < start) {
+            int count = in.readNext(skipBuffer, 0, (int) Math.min(blockSize, start - streamPosition));
+            if (count < 0) {
+                break;
+            }
+            streamPosition += count;
+        }
+        freeBlocks.add(skipBuffer);
+    }
+
+    /**
+     * @return a buffer for a new block, reusing the least recently used block once the cache is full
+     */
+    private byte[] newBlock() {
+        byte[] block = freeBlocks.poll();
+        if (block != null) {
+            return block;
+        }
+        if (blocks.size() < maxBlocks) {
+            return new byte[blockSize];
+        }
+        Iterator<Map.Entry<Long, byte[]>> eldest = blocks.entrySet().iterator();
+        block = eldest.next().getValue();
+        eldest.remove();
+        return block;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public int write(ByteBuffer src, long position) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long position() throws IOException {
+        return position;
+    }
+
+    @Override
+    public FileChannel position(long newPosition) throws IOException {
+        if (newPosition < 0) {
+            throw new IllegalArgumentException();
+        }
+        position = newPosition;
+        return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+        return inputStreamFactory.size();
+    }
+
+    @Override
+    public FileChannel truncate(long size) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public void force(boolean metaData) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public FileLock lock(long position, long size, boolean shared) throws IOException {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    protected void implCloseChannel() throws IOException {
+        blocks.clear();
+        freeBlocks.clear();
+        if (in != null) {
+            in.close();
+            in = null;
+        }
+    }
+}
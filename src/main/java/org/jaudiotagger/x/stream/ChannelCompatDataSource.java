@@ -0,0 +1,36 @@
+package org.jaudiotagger.x.stream;
+
+import org.jaudiotagger.tag.images.ImageDataReference;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Reads the image data of lazily read artwork from a {@link ChannelCompat}, a new channel is opened for each read
+ * so the artwork does not keep the channel the tag was read from open
+ */
+public class ChannelCompatDataSource implements ImageDataReference.Source {
+
+    private final ChannelCompat channelCompat;
+
+    public ChannelCompatDataSource(ChannelCompat channelCompat) {
+        this.channelCompat = channelCompat;
+    }
+
+    @Override
+    public byte[] read(long offset, int length) throws IOException {
+        FileChannel fc = channelCompat.newFileChannel();
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (fc.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of file at:" + (offset + buffer.position()));
+                }
+            }
+            return buffer.array();
+        } finally {
+            fc.close();
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package org.jaudiotagger.x.stream;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.channels.FileChannel;
 
 /**
@@ -18,6 +20,18 @@ public final class FileChannelFileInputStreamV2 extends InputStream {
      */
     public final FileChannel source;
 
+    /**
+     * Size of the read ahead buffer used for small reads
+     */
+    private static final int READ_AHEAD_SIZE = 4096;
+
+    /**
+     * Bytes read from the channel starting at readAheadStart, the channel position is still kept up to date on
+     * every read and checked before using the buffer so callers can freely move the channel between reads
+     */
+    private final ByteBuffer readAhead = ByteBuffer.allocate(READ_AHEAD_SIZE);
+    private long readAheadStart = -1;
+
     /**
      * Creates an instance that will provide {@link InputStream} functionality
      * on the given {@link RandomAccessFile} by delegating calls.<br>
@@ -37,13 +51,13 @@ public final class FileChannelFileInputStreamV2 extends InputStream {
      */
     @Override
     public int read() throws IOException {
-        ByteBuffer byteBuffer = ByteBuffer.allocate(1);
-        int bytesRead = source.read(byteBuffer); // 从通道读取数据到缓冲区
-        if (bytesRead == -1) {
+        long position = source.position();
+        int index = fill(position, 1);
+        if (index < 0) {
             return -1; // 表示已经读取到文件末尾
         }
-        byteBuffer.flip(); // 反转缓冲区，以便从缓冲区读取数据
-        return byteBuffer.get() & 0xFF; // 返回缓冲区中的下一个字节数据（0-255之间的整数）
+        source.position(position + 1);
+        return readAhead.get(index) & 0xFF;
     }
 
     /**
@@ -51,14 +65,21 @@ public final class FileChannelFileInputStreamV2 extends InputStream {
      */
     @Override
     public int read(final byte[] buffer, final int off, final int len) throws IOException {
-        ByteBuffer byteBuffer = ByteBuffer.allocate(len);
-        int bytesRead = source.read(byteBuffer);
-        if (bytesRead == -1) {
-            return -1; // 表示已经读取到文件末尾
+        if (len == 0) {
+            return 0;
         }
-        byteBuffer.flip();
-        byteBuffer.get(buffer, off, len);
-        return bytesRead;
+        if (len <= READ_AHEAD_SIZE / 2) {
+            long position = source.position();
+            int index = fill(position, len);
+            if (index < 0) {
+                return -1; // 表示已经读取到文件末尾
+            }
+            int count = Math.min(len, readAhead.limit() - index);
+            System.arraycopy(readAhead.array(), index, buffer, off, count);
+            source.position(position + count);
+            return count;
+        }
+        return source.read(ByteBuffer.wrap(buffer, off, len));
     }
 
     /**
@@ -82,13 +103,13 @@ public final class FileChannelFileInputStreamV2 extends InputStream {
     }
 
     public int readByte() throws IOException {
-        ByteBuffer byteBuffer = ByteBuffer.allocate(1);
-        int bytesRead = source.read(byteBuffer); // 从通道读取数据到缓冲区
-        if (bytesRead == -1) {
+        long position = source.position();
+        int index = fill(position, 1);
+        if (index < 0) {
             return -1; // 表示已经读取到文件末尾
         }
-        byteBuffer.flip(); // 反转缓冲区，以便从缓冲区读取数据
-        return byteBuffer.get();
+        source.position(position + 1);
+        return readAhead.get(index);
     }
 
     public void position(long position) throws IOException {
@@ -100,12 +121,89 @@ public final class FileChannelFileInputStreamV2 extends InputStream {
     }
 
     public int readFully(byte[] buf) throws IOException {
-        ByteBuffer byteBuffer = ByteBuffer.wrap(buf);
-        int bytesRead = source.read(byteBuffer);
-        if (bytesRead == -1) {
-            return -1; // 表示已经读取到文件末尾
+        return read(buf, 0, buf.length);
+    }
+
+    public short readShortLE() throws IOException {
+        return readAhead.order(ByteOrder.LITTLE_ENDIAN).getShort(readPrimitive(2));
+    }
+
+    public short readShortBE() throws IOException {
+        return readAhead.order(ByteOrder.BIG_ENDIAN).getShort(readPrimitive(2));
+    }
+
+    public int readIntLE() throws IOException {
+        return readAhead.order(ByteOrder.LITTLE_ENDIAN).getInt(readPrimitive(4));
+    }
+
+    public int readIntBE() throws IOException {
+        return readAhead.order(ByteOrder.BIG_ENDIAN).getInt(readPrimitive(4));
+    }
+
+    public long readLongLE() throws IOException {
+        return readAhead.order(ByteOrder.LITTLE_ENDIAN).getLong(readPrimitive(8));
+    }
+
+    public long readLongBE() throws IOException {
+        return readAhead.order(ByteOrder.BIG_ENDIAN).getLong(readPrimitive(8));
+    }
+
+    /**
+     * Move past a primitive of the given size
+     *
+     * @return index of the primitive within the read ahead buffer
+     * @throws EOFException if the file ends before the primitive
+     */
+    private int readPrimitive(int size) throws IOException {
+        long position = source.position();
+        int index = fill(position, size);
+        if (index < 0 || readAhead.limit() - index < size) {
+            throw new EOFException();
+        }
+        source.position(position + size);
+        return index;
+    }
+
+    /**
+     * Make sure the read ahead buffer holds the bytes starting at position, reading them from the channel if not.
+     * When reading backwards just before the current buffer the buffer is filled so that it ends at the requested
+     * bytes, so a backwards scan also only reads each block once.
+     *
+     * @param position position in the channel
+     * @param length number of bytes wanted, at most half the buffer
+     * @return index of position within the buffer (fewer than length bytes may be available at the end of file) or
+     * -1 if position is at or after the end of file
+     */
+    private int fill(long position, int length) throws IOException {
+        if (readAheadStart >= 0 && position >= readAheadStart && position + length <= readAheadStart + readAhead.limit()) {
+            return (int) (position - readAheadStart);
+        }
+        long size = source.size();
+        if (position >= size) {
+            return -1;
+        }
+        long fillStart = position;
+        if (readAheadStart >= 0 && position < readAheadStart && position >= readAheadStart - READ_AHEAD_SIZE) {
+            fillStart = Math.max(0, position + length - READ_AHEAD_SIZE);
+        }
+        readAhead.clear();
+        if (size - fillStart < READ_AHEAD_SIZE) {
+            readAhead.limit((int) (size - fillStart));
+        }
+        long fillPosition = fillStart;
+        while (readAhead.hasRemaining()) {
+            int count = source.read(readAhead, fillPosition);
+            if (count <= 0) {
+                break;
+            }
+            fillPosition += count;
+        }
+        readAhead.flip();
+        readAheadStart = fillStart;
+        if (position >= readAheadStart + readAhead.limit()) {
+            return -1;
         }
-        return bytesRead;
+        return (int) (position - readAheadStart);
     }
 
 
@@ -0,0 +1,31 @@
+package org.jaudiotagger.x.stream;
+
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link RangedChannelCompat} reading the streams of an {@link InputStreamFactory}, the whole file is read with a
+ * {@link BlockCacheFileChannel} and the declared ranges with a {@link PrefetchFileChannel}
+ */
+public class InputStreamChannelCompat implements RangedChannelCompat {
+
+    private final InputStreamFactory inputStreamFactory;
+
+    public InputStreamChannelCompat(InputStreamFactory inputStreamFactory) {
+        this.inputStreamFactory = inputStreamFactory;
+    }
+
+    @Override
+    public FileChannel newFileChannel() {
+        return new BlockCacheFileChannel(inputStreamFactory);
+    }
+
+    @Override
+    public FileChannel newFileChannel(ReadRanges ranges) {
+        return new PrefetchFileChannel(inputStreamFactory, ranges);
+    }
+
+    @Override
+    public long size() {
+        return inputStreamFactory.size();
+    }
+}
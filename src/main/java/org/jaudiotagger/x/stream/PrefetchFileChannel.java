@@ -0,0 +1,281 @@
+package org.jaudiotagger.x.stream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A read only channel over the streams of an {@link InputStreamFactory} that fetches only the parts of the file
+ * given by a {@link ReadRanges}, so reading the metadata of a large file from a slow source does not read the audio
+ * data in between.
+ *
+ * The ranges are fetched when the channel is first read, ranges close to each other are joined and each joined range
+ * is read with one stream. Reads within the ranges are served from memory, a read outside them, for example a tag
+ * larger than expected, falls back to a {@link BlockCacheFileChannel} over the same streams so it still succeeds.
+ */
+public class PrefetchFileChannel extends FileChannel {
+
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.x.stream");
+
+    private final InputStreamFactory inputStreamFactory;
+    private final ReadRanges readRanges;
+
+    private long[] ranges;
+    private byte[][] data;
+    private BlockCacheFileChannel fallback;
+    private long fallbackBytes;
+
+    private long position;
+
+    /**
+     * @param inputStreamFactory opens the underlying streams
+     * @param readRanges the parts of the file to fetch
+     */
+    public PrefetchFileChannel(InputStreamFactory inputStreamFactory, ReadRanges readRanges) {
+        this.inputStreamFactory = inputStreamFactory;
+        this.readRanges = readRanges;
+    }
+
+    /**
+     * @return true if a read outside the ranges has needed the rest of the file to be read
+     */
+    public boolean isFallback() {
+        return fallback != null;
+    }
+
+    /**
+     * @return number of bytes read outside the ranges
+     */
+    public long getFallbackBytes() {
+        return fallbackBytes;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        int read = read(dst, position);
+        if (read > 0) {
+            position += read;
+        }
+        return read;
+    }
+
+    @Override
+    public int read(ByteBuffer dst, long position) throws IOException {
+        if (!isOpen()) {
+            throw new ClosedChannelException();
+        }
+        long size = size();
+        if (position >= size) {
+            return -1;
+        }
+        int n = 0;
+        try {
+            begin();
+            prefetch(size);
+            while (dst.hasRemaining() && position < size) {
+                int length = readRange(dst, position);
+                if (length == 0) {
+                    length = readFallback(dst, position);
+                    if (length <= 0) {
+                        break;
+                    }
+                }
+                position += length;
+                n += length;
+            }
+        } finally {
+            end(n > 0);
+        }
+        return n;
+    }
+
+    /**
+     * @return number of bytes copied from the range holding the position, zero if it is not in a range
+     */
+    private int readRange(ByteBuffer dst, long position) {
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (position >= ranges[i] && position < ranges[i + 1]) {
+                int offset = (int) (position - ranges[i]);
+                int length = (int) Math.min(dst.remaining(), ranges[i + 1] - position);
+                dst.put(data[i / 2], offset, length);
+                return length;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Read from the rest of the file up to the start of the next range
+     */
+    private int readFallback(ByteBuffer dst, long position) throws IOException {
+        if (fallback == null) {
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("Read at " + position + " is outside " + readRanges + ", reading rest of file");
+            }
+            fallback = new BlockCacheFileChannel(inputStreamFactory);
+        }
+        long end = position + dst.remaining();
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] > position) {
+                end = Math.min(end, ranges[i]);
+                break;
+            }
+        }
+        ByteBuffer part = dst.duplicate();
+        part.limit(part.position() + (int) (end - position));
+        int read = fallback.read(part, position);
+        if (read > 0) {
+            dst.position(dst.position() + read);
+            fallbackBytes += read;
+        }
+        return read;
+    }
+
+    /**
+     * Fetch all the ranges, once
+     */
+    private void prefetch(long size) throws IOException {
+        if (ranges != null) {
+            return;
+        }
+        long[] resolved = readRanges.resolve(size, inputStreamFactory.getMaxBufferLength());
+        byte[][] fetched = new byte[resolved.length / 2][];
+        for (int i = 0; i < resolved.length; i += 2) {
+            fetched[i / 2] = fetch(resolved[i], (int) (resolved[i + 1] - resolved[i]));
+        }
+        data = fetched;
+        ranges = resolved;
+    }
+
+    private byte[] fetch(long start, int length) throws IOException {
+        byte[] block = new byte[length];
+        SlideBufferInputStream in = inputStreamFactory.newInputStream(start);
+        try {
+            long streamPosition = in.getInitPosition();
+            while (streamPosition < start) {
+                int count = in.readNext(block, 0, (int) Math.min(length, start - streamPosition));
+                if (count < 0) {
+                    throw new IOException("Unexpected end of stream at " + streamPosition + " expected " + start);
+                }
+                streamPosition += count;
+            }
+            int n = 0;
+            while (n < length) {
+                int count = in.readNext(block, n, length - n);
+                if (count < 0) {
+                    throw new IOException("Unexpected end of stream at " + (start + n) + " expected " + (start + length));
+                }
+                n += count;
+            }
+        } finally {
+            in.close();
+        }
+        return block;
+    }
+
+    @Override
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+        long n = 0;
+        for (int i = offset; i < offset + length; i++) {
+            if (!dsts[i].hasRemaining()) {
+                continue;
+            }
+            int read = read(dsts[i]);
+            if (read < 0) {
+                return n == 0 ? -1 : n;
+            }
+            n += read;
+            if (dsts[i].hasRemaining()) {
+                break;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public int write(ByteBuffer src, long position) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long position() throws IOException {
+        return position;
+    }
+
+    @Override
+    public FileChannel position(long newPosition) throws IOException {
+        if (newPosition < 0) {
+            throw new IllegalArgumentException();
+        }
+        position = newPosition;
+        return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+        return inputStreamFactory.size();
+    }
+
+    @Override
+    public FileChannel truncate(long size) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public void force(boolean metaData) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+        throw new NonWritableChannelException();
+    }
+
+    @Override
+    public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public FileLock lock(long position, long size, boolean shared) throws IOException {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+        throw new IllegalStateException();
+    }
+
+    @Override
+    protected void implCloseChannel() throws IOException {
+        ranges = null;
+        data = null;
+        if (fallback != null) {
+            if (fallbackBytes > 0) {
+                if (logger.isLoggable(Level.FINE)) {
+                    logger.fine("Read " + fallbackBytes + " bytes outside " + readRanges);
+                }
+            }
+            fallback.close();
+            fallback = null;
+        }
+    }
+}
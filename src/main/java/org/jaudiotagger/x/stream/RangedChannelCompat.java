@@ -0,0 +1,16 @@
+package org.jaudiotagger.x.stream;
+
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link ChannelCompat} for a slow source, such as a network stream, that can fetch just the parts of the file a
+ * reader declares it needs rather than the whole file
+ */
+public interface RangedChannelCompat extends ChannelCompat {
+
+    /**
+     * @param ranges the parts of the file expected to be read
+     * @return a channel over the whole file, reads outside the ranges must still succeed even if slower
+     */
+    FileChannel newFileChannel(ReadRanges ranges);
+}
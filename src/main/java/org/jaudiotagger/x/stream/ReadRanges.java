@@ -0,0 +1,98 @@
+package org.jaudiotagger.x.stream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The parts of a file a reader expects to read, such as the start of the file holding the metadata and the end of
+ * the file holding an ID3v1 tag or the last Ogg page, so only those parts need to be fetched from a slow source.
+ *
+ * @see RangedChannelCompat
+ * @see PrefetchFileChannel
+ */
+public class ReadRanges {
+
+    private final List<long[]> ranges = new ArrayList<>();
+
+    /**
+     * @param length number of bytes at the start of the file
+     * @return this
+     */
+    public ReadRanges head(int length) {
+        return range(0, length);
+    }
+
+    /**
+     * @param length number of bytes at the end of the file
+     * @return this
+     */
+    public ReadRanges tail(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid length:" + length);
+        }
+        ranges.add(new long[]{-1, length});
+        return this;
+    }
+
+    /**
+     * @param start  position in the file
+     * @param length number of bytes from {@code start}
+     * @return this
+     */
+    public ReadRanges range(long start, int length) {
+        if (start < 0 || length < 0) {
+            throw new IllegalArgumentException("Invalid range:" + start + ":" + length);
+        }
+        ranges.add(new long[]{start, length});
+        return this;
+    }
+
+    /**
+     * Work out the ranges for a file of the given size, ranges that overlap or are separated by no more than
+     * {@code maxGap} bytes are joined so each can be fetched with one read
+     *
+     * @param size   size of the file
+     * @param maxGap largest number of unwanted bytes read to avoid a separate read
+     * @return the start and end of each range in order, as {@code start0, end0, start1, end1...}
+     */
+    public long[] resolve(long size, long maxGap) {
+        List<long[]> resolved = new ArrayList<>();
+        for (long[] range : ranges) {
+            long start = range[0] < 0 ? Math.max(0, size - range[1]) : Math.min(range[0], size);
+            long end = Math.min(size, start + range[1]);
+            if (end > start) {
+                resolved.add(new long[]{start, end});
+            }
+        }
+        Collections.sort(resolved, new Comparator<long[]>() {
+            @Override
+            public int compare(long[] o1, long[] o2) {
+                return Long.compare(o1[0], o2[0]);
+            }
+        });
+
+        long[] result = new long[resolved.size() * 2];
+        int n = 0;
+        for (long[] range : resolved) {
+            if (n > 0 && range[0] - result[n - 1] <= maxGap) {
+                result[n - 1] = Math.max(result[n - 1], range[1]);
+            } else {
+                result[n++] = range[0];
+                result[n++] = range[1];
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ReadRanges");
+        for (long[] range : ranges) {
+            sb.append(range[0] < 0 ? ":tail:" : ":" + range[0] + ":").append(range[1]);
+        }
+        return sb.toString();
+    }
+}
@@ -8,6 +8,10 @@ import java.nio.channels.*;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Keeps every stream opened and everything read from them in memory, prefer {@link BlockCacheFileChannel} which
+ * has a fixed memory limit and reuses its stream.
+ */
 public class SlideBufferFileChannel extends FileChannel {
 
     private byte[] buf = new byte[0];
@@ -57,7 +61,7 @@ public class SlideBufferFileChannel extends FileChannel {
 
     @Override
     public int read(ByteBuffer dst, long position) throws IOException {
-        long old = position;
+        long old = this.position;
         position(position);
         int read = read(dst);
         position(old);
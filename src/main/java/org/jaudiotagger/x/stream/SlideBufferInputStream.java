@@ -10,6 +10,7 @@ public class SlideBufferInputStream {
     private static final int TRANSFER_SIZE = 8192;
     private final long size;
     private final InputStream in;
+    private final int maxBufferLength;
     private byte[] data;
     private final byte[] skipBuffer = new byte[TRANSFER_SIZE];
 
@@ -20,7 +21,24 @@ public class SlideBufferInputStream {
         this.size = size;
         this.initPosition = initPosition;
         this.in = in;
-        this.data = new byte[maxBufferLength];
+        this.maxBufferLength = maxBufferLength;
+    }
+
+    /**
+     * @return the position in the file this stream starts at
+     */
+    public long getInitPosition() {
+        return initPosition;
+    }
+
+    /**
+     * Read the next bytes directly from the underlying stream, the bytes are not kept in the slide buffer so this
+     * must not be mixed with {@link #readProxy}
+     *
+     * @return the number of bytes read, or -1 at the end of the stream
+     */
+    public int readNext(byte b[], int off, int len) throws IOException {
+        return in.read(b, off, len);
     }
 
     public synchronized int readProxy(long currentPosition, byte b[], int off, int len) throws IOException {
@@ -46,6 +64,9 @@ public class SlideBufferInputStream {
     public void fill(long newPosition) throws IOException {
         long remaining = newPosition - position;
         int nr;
+        if (data == null) {
+            data = new byte[maxBufferLength];
+        }
         while (remaining > 0) {
             nr = in.read(skipBuffer, 0, (int)Math.min(TRANSFER_SIZE, remaining));
             if (nr < 0) {
@@ -6,6 +6,7 @@ import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.ParseTrace;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.x.AudioFileReader;
@@ -29,10 +30,14 @@ public abstract class AudioFileReader2 extends AudioFileReader {
     public XAudioFile read(ChannelCompat f) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException {
         FileChannel channel = null;
         try {
-            channel = f.newFileChannel();
+            channel = newFileChannel(f);
+            long start = ParseTrace.start();
             GenericAudioHeader info = getEncodingInfoV2(channel);
+            ParseTrace.event(ParseTrace.HEADER, null, -1, -1, start);
             channel.position(0);
-            Tag tag = getTagV2(channel);
+            start = ParseTrace.start();
+            Tag tag = getTagV2(channel, f);
+            ParseTrace.event(ParseTrace.TAG, null, -1, -1, start);
             return new XAudioFile(info, tag);
         } catch (IllegalArgumentException e) {
             logger.warning(ErrorMessage.GENERAL_READ_FAILED_DO_NOT_HAVE_PERMISSION_TO_READ_FILE.getMsg(f));
@@ -73,6 +78,20 @@ public abstract class AudioFileReader2 extends AudioFileReader {
      */
     protected abstract Tag getTagV2(FileChannel channel) throws CannotReadException, IOException;
 
+    /**
+     * Read tag Information, override when the tag needs to read from the file again later, for example to read
+     * artwork lazily
+     *
+     * @param channel
+     * @param f the file being read
+     * @return
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    protected Tag getTagV2(FileChannel channel, ChannelCompat f) throws CannotReadException, IOException {
+        return getTagV2(channel);
+    }
+
     @Override
     protected Tag getTag(FileChannel file) {
         throw new UnsupportedOperationException("Old method not used in version 2");
@@ -25,6 +25,7 @@ import org.jaudiotagger.audio.wav.WavTagReader;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.wav.WavTag;
+import org.jaudiotagger.x.stream.ReadRanges;
 import org.jaudiotagger.x.stream.SlideBufferFileChannel;
 
 import java.io.IOException;
@@ -39,6 +40,15 @@ public class WavFileReader extends AudioFileReader2 {
     }
 
 
+    /**
+     * The format and the start of the data chunk at the start of the file and metadata chunks after the data at the
+     * end
+     */
+    @Override
+    protected ReadRanges getReadRanges() {
+        return new ReadRanges().head(HEAD_SIZE).tail(TAIL_SIZE);
+    }
+
     @Override
     protected GenericAudioHeader getEncodingInfoV2(FileChannel channel) throws CannotReadException, IOException {
         return new WavInfoReader("").read(channel);
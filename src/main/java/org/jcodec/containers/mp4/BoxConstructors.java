@@ -0,0 +1,154 @@
+package org.jcodec.containers.mp4;
+
+import org.jaudiotagger.audio.generic.Utils;
+import org.jcodec.containers.mp4.boxes.AliasBox;
+import org.jcodec.containers.mp4.boxes.AudioSampleEntry;
+import org.jcodec.containers.mp4.boxes.Box;
+import org.jcodec.containers.mp4.boxes.ChannelBox;
+import org.jcodec.containers.mp4.boxes.ChunkOffsets64Box;
+import org.jcodec.containers.mp4.boxes.ChunkOffsetsBox;
+import org.jcodec.containers.mp4.boxes.ClearApertureBox;
+import org.jcodec.containers.mp4.boxes.ClipRegionBox;
+import org.jcodec.containers.mp4.boxes.CompositionOffsetsBox;
+import org.jcodec.containers.mp4.boxes.DataBox;
+import org.jcodec.containers.mp4.boxes.DataInfoBox;
+import org.jcodec.containers.mp4.boxes.DataRefBox;
+import org.jcodec.containers.mp4.boxes.EditListBox;
+import org.jcodec.containers.mp4.boxes.EncodedPixelBox;
+import org.jcodec.containers.mp4.boxes.EndianBox;
+import org.jcodec.containers.mp4.boxes.EsdsBox;
+import org.jcodec.containers.mp4.boxes.FileTypeBox;
+import org.jcodec.containers.mp4.boxes.FormatBox;
+import org.jcodec.containers.mp4.boxes.GenericMediaInfoBox;
+import org.jcodec.containers.mp4.boxes.HandlerBox;
+import org.jcodec.containers.mp4.boxes.IListBox;
+import org.jcodec.containers.mp4.boxes.KeysBox;
+import org.jcodec.containers.mp4.boxes.LoadSettingsBox;
+import org.jcodec.containers.mp4.boxes.MdtaBox;
+import org.jcodec.containers.mp4.boxes.MediaBox;
+import org.jcodec.containers.mp4.boxes.MediaHeaderBox;
+import org.jcodec.containers.mp4.boxes.MediaInfoBox;
+import org.jcodec.containers.mp4.boxes.MetaBox;
+import org.jcodec.containers.mp4.boxes.MovieBox;
+import org.jcodec.containers.mp4.boxes.MovieExtendsBox;
+import org.jcodec.containers.mp4.boxes.MovieExtendsHeaderBox;
+import org.jcodec.containers.mp4.boxes.MovieFragmentBox;
+import org.jcodec.containers.mp4.boxes.MovieFragmentHeaderBox;
+import org.jcodec.containers.mp4.boxes.MovieHeaderBox;
+import org.jcodec.containers.mp4.boxes.NameBox;
+import org.jcodec.containers.mp4.boxes.NodeBox;
+import org.jcodec.containers.mp4.boxes.PartialSyncSamplesBox;
+import org.jcodec.containers.mp4.boxes.ProductionApertureBox;
+import org.jcodec.containers.mp4.boxes.ReverseDnsBox;
+import org.jcodec.containers.mp4.boxes.SampleDescriptionBox;
+import org.jcodec.containers.mp4.boxes.SampleEntry;
+import org.jcodec.containers.mp4.boxes.SampleSizesBox;
+import org.jcodec.containers.mp4.boxes.SampleToChunkBox;
+import org.jcodec.containers.mp4.boxes.SegmentIndexBox;
+import org.jcodec.containers.mp4.boxes.SegmentTypeBox;
+import org.jcodec.containers.mp4.boxes.SoundMediaHeaderBox;
+import org.jcodec.containers.mp4.boxes.SyncSamplesBox;
+import org.jcodec.containers.mp4.boxes.TimeToSampleBox;
+import org.jcodec.containers.mp4.boxes.TimecodeMediaInfoBox;
+import org.jcodec.containers.mp4.boxes.TimecodeSampleEntry;
+import org.jcodec.containers.mp4.boxes.TrackExtendsBox;
+import org.jcodec.containers.mp4.boxes.TrackFragmentBaseMediaDecodeTimeBox;
+import org.jcodec.containers.mp4.boxes.TrackFragmentBox;
+import org.jcodec.containers.mp4.boxes.TrackFragmentHeaderBox;
+import org.jcodec.containers.mp4.boxes.TrackHeaderBox;
+import org.jcodec.containers.mp4.boxes.TrakBox;
+import org.jcodec.containers.mp4.boxes.TrunBox;
+import org.jcodec.containers.mp4.boxes.UdtaBox;
+import org.jcodec.containers.mp4.boxes.UrlBox;
+import org.jcodec.containers.mp4.boxes.VideoMediaHeaderBox;
+import org.jcodec.containers.mp4.boxes.WaveExtension;
+import org.jcodec.containers.mp4.boxes.Header;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class is part of JCodec ( www.jcodec.org ) This software is distributed
+ * under FreeBSD License
+ *
+ * Maps box classes directly to their constructors so box factories do not need reflection,
+ * any class not listed here is still created by reflection
+ *
+ */
+public class BoxConstructors {
+
+    private static final Map<Class<? extends Box>, IBoxFactory> constructors = new HashMap<Class<? extends Box>, IBoxFactory>();
+
+    static {
+        constructors.put(AliasBox.class, AliasBox::new);
+        constructors.put(AudioSampleEntry.class, AudioSampleEntry::new);
+        constructors.put(Box.LeafBox.class, Box.LeafBox::new);
+        constructors.put(ChannelBox.class, ChannelBox::new);
+        constructors.put(ChunkOffsets64Box.class, ChunkOffsets64Box::new);
+        constructors.put(ChunkOffsetsBox.class, ChunkOffsetsBox::new);
+        constructors.put(ClearApertureBox.class, ClearApertureBox::new);
+        constructors.put(ClipRegionBox.class, ClipRegionBox::new);
+        constructors.put(CompositionOffsetsBox.class, CompositionOffsetsBox::new);
+        constructors.put(DataBox.class, DataBox::new);
+        constructors.put(DataInfoBox.class, DataInfoBox::new);
+        constructors.put(DataRefBox.class, DataRefBox::new);
+        constructors.put(EditListBox.class, EditListBox::new);
+        constructors.put(EncodedPixelBox.class, EncodedPixelBox::new);
+        constructors.put(EndianBox.class, EndianBox::new);
+        constructors.put(EsdsBox.class, EsdsBox::new);
+        constructors.put(FileTypeBox.class, FileTypeBox::new);
+        constructors.put(FormatBox.class, FormatBox::new);
+        constructors.put(GenericMediaInfoBox.class, GenericMediaInfoBox::new);
+        constructors.put(HandlerBox.class, HandlerBox::new);
+        constructors.put(IListBox.class, IListBox::new);
+        constructors.put(KeysBox.class, KeysBox::new);
+        constructors.put(LoadSettingsBox.class, LoadSettingsBox::new);
+        constructors.put(MdtaBox.class, MdtaBox::new);
+        constructors.put(MediaBox.class, MediaBox::new);
+        constructors.put(MediaHeaderBox.class, MediaHeaderBox::new);
+        constructors.put(MediaInfoBox.class, MediaInfoBox::new);
+        constructors.put(MetaBox.class, MetaBox::new);
+        constructors.put(MovieBox.class, MovieBox::new);
+        constructors.put(MovieExtendsBox.class, MovieExtendsBox::new);
+        constructors.put(MovieExtendsHeaderBox.class, MovieExtendsHeaderBox::new);
+        constructors.put(MovieFragmentBox.class, MovieFragmentBox::new);
+        constructors.put(MovieFragmentHeaderBox.class, MovieFragmentHeaderBox::new);
+        constructors.put(MovieHeaderBox.class, MovieHeaderBox::new);
+        constructors.put(NameBox.class, NameBox::new);
+        constructors.put(NodeBox.class, NodeBox::new);
+        constructors.put(PartialSyncSamplesBox.class, PartialSyncSamplesBox::new);
+        constructors.put(ProductionApertureBox.class, ProductionApertureBox::new);
+        constructors.put(ReverseDnsBox.class, ReverseDnsBox::new);
+        constructors.put(ReverseDnsBox.RdnsMeanBox.class, ReverseDnsBox.RdnsMeanBox::new);
+        constructors.put(ReverseDnsBox.RdnsNameBox.class, ReverseDnsBox.RdnsNameBox::new);
+        constructors.put(SampleDescriptionBox.class, SampleDescriptionBox::new);
+        constructors.put(SampleEntry.class, SampleEntry::new);
+        constructors.put(SampleSizesBox.class, SampleSizesBox::new);
+        constructors.put(SampleToChunkBox.class, SampleToChunkBox::new);
+        constructors.put(SegmentIndexBox.class, SegmentIndexBox::new);
+        constructors.put(SegmentTypeBox.class, SegmentTypeBox::new);
+        constructors.put(SoundMediaHeaderBox.class, SoundMediaHeaderBox::new);
+        constructors.put(SyncSamplesBox.class, SyncSamplesBox::new);
+        constructors.put(TimeToSampleBox.class, TimeToSampleBox::new);
+        constructors.put(TimecodeMediaInfoBox.class, TimecodeMediaInfoBox::new);
+        constructors.put(TimecodeSampleEntry.class, TimecodeSampleEntry::new);
+        constructors.put(TrackExtendsBox.class, TrackExtendsBox::new);
+        constructors.put(TrackFragmentBaseMediaDecodeTimeBox.class, TrackFragmentBaseMediaDecodeTimeBox::new);
+        constructors.put(TrackFragmentBox.class, TrackFragmentBox::new);
+        constructors.put(TrackFragmentHeaderBox.class, TrackFragmentHeaderBox::new);
+        constructors.put(TrackHeaderBox.class, TrackHeaderBox::new);
+        constructors.put(TrakBox.class, TrakBox::new);
+        constructors.put(TrunBox.class, TrunBox::new);
+        constructors.put(UdtaBox.class, UdtaBox::new);
+        constructors.put(UrlBox.class, UrlBox::new);
+        constructors.put(VideoMediaHeaderBox.class, VideoMediaHeaderBox::new);
+        constructors.put(WaveExtension.class, WaveExtension::new);
+    }
+
+    public static Box newBox(Class<? extends Box> claz, Header header) {
+        IBoxFactory constructor = constructors.get(claz);
+        if (constructor != null)
+            return constructor.newBox(header);
+        return Utils.newInstance(claz, new Object[] { header });
+    }
+}
@@ -1,6 +1,5 @@
 package org.jcodec.containers.mp4;
 
-import org.jaudiotagger.audio.generic.Utils;
 import org.jcodec.containers.mp4.boxes.AudioSampleEntry;
 import org.jcodec.containers.mp4.boxes.Box;
 import org.jcodec.containers.mp4.boxes.DataRefBox;
@@ -43,7 +42,7 @@ public class BoxFactory implements IBoxFactory {
         Class<? extends Box> claz = boxes.toClass(header.getFourcc());
         if (claz == null)
             return new Box.LeafBox(header);
-        Box box = Utils.newInstance(claz, new Object[] { header });
+        Box box = BoxConstructors.newBox(claz, header);
         if (box instanceof NodeBox) {
             NodeBox nodebox = (NodeBox) box;
             if (nodebox instanceof SampleDescriptionBox) {
@@ -1,6 +1,7 @@
 package org.jcodec.containers.mp4;
 
 import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.logging.ParseTrace;
 import org.jcodec.containers.mp4.boxes.*;
 
 import java.io.File;
@@ -23,6 +24,18 @@ import java.util.logging.Logger;
 public class MP4Util {
 
     private static final Logger LOGGER = Logger.getLogger(MP4Util.class.getCanonicalName());
+
+    /**
+     * Boxes walked child by child straight from the file by the metadata only parse profile
+     */
+    private static final Set<String> METADATA_CONTAINERS = new HashSet<String>(Arrays.asList(
+            "moov", "trak", "mdia", "minf", "stbl"));
+
+    /**
+     * Boxes fully parsed by the metadata only parse profile, anything else is kept as a {@link SkippedBox}
+     */
+    private static final Set<String> METADATA_BOXES = new HashSet<String>(Arrays.asList(
+            "ftyp", "mvhd", "tkhd", "mdhd", "hdlr", "smhd", "vmhd", "stsd", "udta", "meta"));
     
     public static class Movie {
         private final FileTypeBox ftyp;
@@ -97,6 +110,35 @@ public class MP4Util {
         return null;
     }
 
+    /**
+     * Parse the movie using the metadata only profile, this walks the moov box from the file and only reads
+     * the boxes needed for tags and duration (mvhd, mdhd, hdlr, stsd, udta/meta/ilst ...). Others such as the
+     * sample tables are never read, they are kept as {@link SkippedBox} stubs holding their offset and size.
+     *
+     * <p>The returned movie is only suitable for reading, it cannot be written back.
+     *
+     * @param input
+     * @return the movie or null if no moov box was found
+     * @throws IOException
+     */
+    public static Movie parseMetadataMovieChannel(FileChannel input) throws IOException {
+        FileTypeBox ftyp = null;
+        List<Atom> rootAtoms = getRootAtoms(input);
+        Iterator<Atom> itr = rootAtoms.iterator();
+        while (itr.hasNext()) {
+            Atom atom = itr.next();
+            if ("ftyp".equals(atom.getHeader().getFourcc())) {
+                ftyp = (FileTypeBox) atom.parseBox(input);
+                itr.remove();
+            } else if ("moov".equals(atom.getHeader().getFourcc())) {
+                MovieBox moov = (MovieBox) atom.parseMetadataBox(input);
+                itr.remove();
+                return new Movie(ftyp, moov, rootAtoms);
+            }
+        }
+        return null;
+    }
+
     public static List<MovieFragmentBox> parseMovieFragments(FileChannel input) throws IOException {
         MovieBox moov = null;
         LinkedList<MovieFragmentBox> fragments = new LinkedList<MovieFragmentBox>();
@@ -120,9 +162,11 @@ public class MP4Util {
         Header atom;
         while (off < input.size()) {
             input.position(off);
+            long start = ParseTrace.start();
             atom = Header.read(Utils.fetchFromChannel(input, 16));
             if (atom == null)
                 break;
+            ParseTrace.event(ParseTrace.MP4_BOX, atom.getFourcc(), off, atom.getSize(), start);
             result.add(new Atom(atom, off));
             off += atom.getSize();
         }
@@ -140,8 +184,11 @@ public class MP4Util {
     }
 
     public static Atom findFirstAtom(String fourcc, FileChannel input) throws IOException {
-        List<Atom> rootAtoms = getRootAtoms(input);
-        for (Atom atom : rootAtoms) {
+        return findAtom(fourcc, getRootAtoms(input));
+    }
+
+    public static Atom findAtom(String fourcc, List<Atom> atoms) {
+        for (Atom atom : atoms) {
             if (fourcc.equals(atom.getHeader().getFourcc()))
                 return atom;
         }
@@ -177,6 +224,10 @@ public class MP4Util {
             return MP4Util.parseBox(Utils.fetchFromChannel(input, (int) header.getBodySize()), header, BoxFactory.getDefault());
         }
 
+        public Box parseMetadataBox(FileChannel input) throws IOException {
+            return MP4Util.parseMetadataBox(input, header, offset, BoxFactory.getDefault());
+        }
+
         public void copy(FileChannel input, WritableByteChannel out) throws IOException {
             input.position(offset);
             Utils.copy(input, out, header.getSize());
@@ -194,6 +245,37 @@ public class MP4Util {
         }
     }
     
+    private static Box parseMetadataBox(FileChannel input, Header header, long offset, IBoxFactory factory) throws IOException {
+        String fourcc = header.getFourcc();
+        if (METADATA_CONTAINERS.contains(fourcc)) {
+            Box box = factory.newBox(header);
+            if (box instanceof NodeBox) {
+                NodeBox node = (NodeBox) box;
+                long end = offset + header.getSize();
+                long off = offset + header.headerSize();
+                while (end - off >= 8) {
+                    input.position(off);
+                    ByteBuffer buf = Utils.fetchFromChannel(input, (int) Math.min(16, end - off));
+                    Header child = Header.read(buf);
+                    if (child == null)
+                        break;
+                    //Header.read() skips any zero padding before the header
+                    off += buf.position() - child.headerSize();
+                    if (off + child.getSize() > end)
+                        break;
+                    node.add(parseMetadataBox(input, child, off, node.getFactory()));
+                    off += child.getSize();
+                }
+                return node;
+            }
+        }
+        if (METADATA_BOXES.contains(fourcc) && header.getBodySize() < Box.MAX_BOX_SIZE) {
+            input.position(offset + header.headerSize());
+            return parseBox(Utils.fetchFromChannel(input, (int) header.getBodySize()), header, factory);
+        }
+        return new SkippedBox(header, offset);
+    }
+
     public static MovieBox parseMovie(File source) throws IOException {
         FileChannel input = null;
         try {
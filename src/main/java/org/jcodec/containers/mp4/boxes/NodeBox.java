@@ -42,6 +42,10 @@ public class NodeBox extends Box {
     public void setFactory(IBoxFactory factory) {
         this.factory = factory;
     }
+
+    public IBoxFactory getFactory() {
+        return factory;
+    }
     
     public void parse(ByteBuffer input) {
 
@@ -187,6 +191,9 @@ public class NodeBox extends Box {
             Box next = it.next();
             if (next == null) {
                 it.remove();
+            } else if (next instanceof SkippedBox && !class1.isAssignableFrom(next.getClass())) {
+                // Not parsed, there is nothing to reinterpret
+                it.remove();
             } else if (!class1.isAssignableFrom(next.getClass())) {
                 // Trying to reinterpret one box as the other
                 try {
@@ -0,0 +1,68 @@
+package org.jcodec.containers.mp4.boxes;
+
+import org.jaudiotagger.audio.generic.Utils;
+import org.jcodec.containers.mp4.IBoxFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * This class is part of JCodec ( www.jcodec.org ) This software is distributed
+ * under FreeBSD License
+ *
+ * A box that was not parsed, only its header and position within the file are kept
+ *
+ * Created by the metadata only parse profile for boxes such as the sample tables that
+ * are not needed to read tags or duration, the body can be loaded later from the file
+ *
+ */
+public class SkippedBox extends Box {
+    private final long offset;
+
+    public SkippedBox(Header header, long offset) {
+        super(header);
+        this.offset = offset;
+    }
+
+    /**
+     * @return offset of the start of this box (including header) within the file
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return offset of the start of the body of this box within the file
+     */
+    public long getBodyOffset() {
+        return offset + header.headerSize();
+    }
+
+    /**
+     * Read and parse the body of this box from the file it was found in
+     *
+     * @param input the file this box was found in
+     * @param factory the factory used to create the box
+     * @return the parsed box
+     * @throws IOException
+     */
+    public Box load(FileChannel input, IBoxFactory factory) throws IOException {
+        input.position(getBodyOffset());
+        return Box.parseBox(Utils.fetchFromChannel(input, (int) header.getBodySize()), header, factory);
+    }
+
+    @Override
+    public void parse(ByteBuffer buf) {
+    }
+
+    @Override
+    protected void doWrite(ByteBuffer out) {
+        throw new UnsupportedOperationException("Box " + header.getFourcc() + " was skipped and cannot be written");
+    }
+
+    @Override
+    public int estimateSize() {
+        return (int) header.getSize();
+    }
+}